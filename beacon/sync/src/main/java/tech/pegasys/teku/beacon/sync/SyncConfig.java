@@ -13,24 +13,29 @@
 
 package tech.pegasys.teku.beacon.sync;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class SyncConfig {
 
   public static final boolean DEFAULT_MULTI_PEER_SYNC_ENABLED = true;
   public static final boolean DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED = false;
+  public static final int DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES = 1;
 
   private final boolean isEnabled;
   private final boolean isMultiPeerSyncEnabled;
   private final boolean reconstructHistoricStatesEnabled;
+  private final int historicalSyncMaxConcurrentBatches;
 
   private SyncConfig(
       final boolean isEnabled,
       final boolean isMultiPeerSyncEnabled,
-      final boolean reconstructHistoricStatesEnabled) {
+      final boolean reconstructHistoricStatesEnabled,
+      final int historicalSyncMaxConcurrentBatches) {
     this.isEnabled = isEnabled;
     this.isMultiPeerSyncEnabled = isMultiPeerSyncEnabled;
     this.reconstructHistoricStatesEnabled = reconstructHistoricStatesEnabled;
+    this.historicalSyncMaxConcurrentBatches = historicalSyncMaxConcurrentBatches;
   }
 
   public static Builder builder() {
@@ -49,16 +54,25 @@ public class SyncConfig {
     return reconstructHistoricStatesEnabled;
   }
 
+  public int getHistoricalSyncMaxConcurrentBatches() {
+    return historicalSyncMaxConcurrentBatches;
+  }
+
   public static class Builder {
     private Boolean isEnabled;
     private Boolean isMultiPeerSyncEnabled = DEFAULT_MULTI_PEER_SYNC_ENABLED;
     private Boolean reconstructHistoricStatesEnabled = DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED;
+    private int historicalSyncMaxConcurrentBatches = DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES;
 
     private Builder() {}
 
     public SyncConfig build() {
       initMissingDefaults();
-      return new SyncConfig(isEnabled, isMultiPeerSyncEnabled, reconstructHistoricStatesEnabled);
+      return new SyncConfig(
+          isEnabled,
+          isMultiPeerSyncEnabled,
+          reconstructHistoricStatesEnabled,
+          historicalSyncMaxConcurrentBatches);
     }
 
     private void initMissingDefaults() {
@@ -92,5 +106,14 @@ public class SyncConfig {
       this.reconstructHistoricStatesEnabled = reconstructHistoricStatesEnabled;
       return this;
     }
+
+    public Builder historicalSyncMaxConcurrentBatches(
+        final int historicalSyncMaxConcurrentBatches) {
+      checkArgument(
+          historicalSyncMaxConcurrentBatches > 0,
+          "Historical sync max concurrent batches must be positive");
+      this.historicalSyncMaxConcurrentBatches = historicalSyncMaxConcurrentBatches;
+      return this;
+    }
   }
 }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beacon.sync;
 
 import java.time.Duration;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
 import tech.pegasys.teku.beacon.sync.events.SyncStateTracker;
@@ -37,6 +38,7 @@ import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerifica
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.store.KeyValueStore;
 
 public class SyncServiceFactory {
   private final SyncConfig syncConfig;
@@ -55,6 +57,7 @@ public class SyncServiceFactory {
   private final AsyncBLSSignatureVerifier signatureVerifier;
   private final Duration startupTimeout;
   private final Spec spec;
+  private final KeyValueStore<String, Bytes> keyValueStore;
 
   private SyncServiceFactory(
       final SyncConfig syncConfig,
@@ -72,7 +75,8 @@ public class SyncServiceFactory {
       final int getStartupTargetPeerCount,
       final SignatureVerificationService signatureVerifier,
       final Duration startupTimeout,
-      final Spec spec) {
+      final Spec spec,
+      final KeyValueStore<String, Bytes> keyValueStore) {
     this.syncConfig = syncConfig;
     this.genesisStateResource = genesisStateResource;
     this.metrics = metrics;
@@ -89,6 +93,7 @@ public class SyncServiceFactory {
     this.signatureVerifier = signatureVerifier;
     this.startupTimeout = startupTimeout;
     this.spec = spec;
+    this.keyValueStore = keyValueStore;
   }
 
   public static SyncService createSyncService(
@@ -107,7 +112,8 @@ public class SyncServiceFactory {
       final int getStartupTargetPeerCount,
       final SignatureVerificationService signatureVerificationService,
       final Duration startupTimeout,
-      final Spec spec) {
+      final Spec spec,
+      final KeyValueStore<String, Bytes> keyValueStore) {
     final SyncServiceFactory factory =
         new SyncServiceFactory(
             syncConfig,
@@ -125,7 +131,8 @@ public class SyncServiceFactory {
             getStartupTargetPeerCount,
             signatureVerificationService,
             startupTimeout,
-            spec);
+            spec,
+            keyValueStore);
     return factory.create();
   }
 
@@ -158,8 +165,12 @@ public class SyncServiceFactory {
         combinedChainDataClient,
         signatureVerifier,
         syncStateProvider,
+        syncConfig.getHistoricalSyncMaxConcurrentBatches(),
         syncConfig.isReconstructHistoricStatesEnabled(),
-        genesisStateResource);
+        genesisStateResource,
+        asyncRunnerFactory,
+        timeProvider,
+        keyValueStore);
   }
 
   private SyncStateTracker createSyncStateTracker(final ForwardSync forwardSync) {
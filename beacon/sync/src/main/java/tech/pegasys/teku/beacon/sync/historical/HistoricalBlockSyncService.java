@@ -18,20 +18,28 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
@@ -39,13 +47,25 @@ import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.storage.api.StorageUpdate;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.UpdateResult;
+import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.store.KeyValueStore;
 
 /**
  * Service responsible for syncing missing historical blocks. Blocks are pulled in order from the
  * newest unknown block back to genesis.
+ *
+ * <p>When configured with more than one concurrent batch, consecutive batches are requested from
+ * different peers at the same time, preferring the peers with the fewest outstanding requests, and
+ * saved together once linked. Blocks are only ever saved in order, so progress is resumed from the
+ * earliest stored block after a restart.
  */
 public class HistoricalBlockSyncService extends Service {
   private static final Logger LOG = LogManager.getLogger();
@@ -61,6 +81,9 @@ public class HistoricalBlockSyncService extends Service {
   private final CombinedChainDataClient chainData;
   private final SyncStateProvider syncStateProvider;
   private final UInt64 batchSize;
+  private final int maxConcurrentBatches;
+  private final Counter importedBlocksCounter;
+  private final Counter importedBytesCounter;
 
   private final AtomicLong syncStateSubscription = new AtomicLong(-1);
   private final AtomicBoolean requestInProgress = new AtomicBoolean(false);
@@ -82,15 +105,17 @@ public class HistoricalBlockSyncService extends Service {
       final SyncStateProvider syncStateProvider,
       final AsyncBLSSignatureVerifier signatureVerifier,
       final UInt64 batchSize,
+      final int maxConcurrentBatches,
       final Optional<ReconstructHistoricalStatesService> reconstructHistoricalStatesService) {
     this.spec = spec;
-    this.storageUpdateChannel = storageUpdateChannel;
+    this.storageUpdateChannel = new MeteredStorageUpdateChannel(storageUpdateChannel);
 
     this.asyncRunner = asyncRunner;
     this.network = network;
     this.chainData = chainData;
     this.syncStateProvider = syncStateProvider;
     this.batchSize = batchSize;
+    this.maxConcurrentBatches = maxConcurrentBatches;
     this.signatureVerifier = signatureVerifier;
     this.reconstructHistoricalStatesService = reconstructHistoricalStatesService;
 
@@ -109,6 +134,16 @@ public class HistoricalBlockSyncService extends Service {
             TekuMetricCategory.BEACON,
             "historical_block_sync_earliest_block",
             "The slot of the earliest block retrieved by the historical block sync service");
+    this.importedBlocksCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "historical_block_sync_imported_blocks_total",
+            "The number of blocks saved by the historical block sync service");
+    this.importedBytesCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "historical_block_sync_imported_bytes_total",
+            "The SSZ encoded size of blocks saved by the historical block sync service");
   }
 
   public static HistoricalBlockSyncService create(
@@ -120,12 +155,25 @@ public class HistoricalBlockSyncService extends Service {
       final CombinedChainDataClient chainData,
       final AsyncBLSSignatureVerifier signatureVerifier,
       final SyncStateProvider syncStateProvider,
+      final int maxConcurrentBatches,
       final boolean reconstructHistoricStatesEnabled,
-      final Optional<String> genesisStateResource) {
+      final Optional<String> genesisStateResource,
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final TimeProvider timeProvider,
+      final KeyValueStore<String, Bytes> keyValueStore) {
     ReconstructHistoricalStatesService reconstructHistoricalStatesService =
         reconstructHistoricStatesEnabled
             ? new ReconstructHistoricalStatesService(
-                storageUpdateChannel, chainData, spec, genesisStateResource)
+                storageUpdateChannel,
+                chainData,
+                spec,
+                genesisStateResource,
+                asyncRunnerFactory.create(
+                    ReconstructHistoricalStatesService.class.getSimpleName(),
+                    ReconstructHistoricalStatesService.MAX_CONCURRENT_SEGMENTS),
+                metricsSystem,
+                timeProvider,
+                keyValueStore)
             : null;
 
     return new HistoricalBlockSyncService(
@@ -138,6 +186,7 @@ public class HistoricalBlockSyncService extends Service {
         syncStateProvider,
         signatureVerifier,
         BATCH_SIZE,
+        maxConcurrentBatches,
         Optional.ofNullable(reconstructHistoricalStatesService));
   }
 
@@ -200,11 +249,16 @@ public class HistoricalBlockSyncService extends Service {
   private SafeFuture<Boolean> findPeerAndRequestBlocks() {
     final Optional<MaxMissingBlockParams> blockParams = getMaxMissingBlockParams();
     if (blockParams.isPresent() && isActive() && requestInProgress.compareAndSet(false, true)) {
-      return findPeer()
-          .map(peer -> requestBlocks(peer, blockParams.get()))
-          .orElseGet(this::waitToRetry)
-          .alwaysRun(() -> requestInProgress.set(false))
-          .thenApply(__ -> true);
+      final List<Eth2Peer> peers = findPeers();
+      final SafeFuture<Void> request;
+      if (peers.isEmpty()) {
+        request = waitToRetry();
+      } else if (peers.size() == 1) {
+        request = requestBlocks(peers.get(0), blockParams.get());
+      } else {
+        request = requestBlocksInParallel(peers, blockParams.get());
+      }
+      return request.alwaysRun(() -> requestInProgress.set(false)).thenApply(__ -> true);
     } else {
       return SafeFuture.completedFuture(false);
     }
@@ -222,27 +276,52 @@ public class HistoricalBlockSyncService extends Service {
               // We ran into trouble with this peer - ignore it for a while
               LOG.debug(
                   "Encountered a problem requesting historical blocks from peer: " + peer, err);
-              if (peer.isConnected()) {
-                // If we didn't disconnect the peer altogether, avoid making new requests for a
-                // while
-                badPeerCache.add(peer.getId());
-                logBadPeerCacheSize(true);
-              }
+              markPeerBad(peer);
               return null;
             })
-        .thenAccept(
+        .thenAccept(newValue -> updateEarliestBlock(newValue, params));
+  }
+
+  private SafeFuture<Void> requestBlocksInParallel(
+      final List<Eth2Peer> peers, final MaxMissingBlockParams params) {
+    return createParallelFetcher(peers, params)
+        .run()
+        .thenCompose(
             newValue -> {
-              if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
-                LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
-                earliestBlock = newValue;
-                updateSyncMetrics();
-                if (isSyncDone()) {
-                  LOG.info("Historical block sync is complete");
-                }
+              if (newValue.isEmpty()) {
+                // Nothing could be linked, fall back to a single peer which can look up by root
+                return requestBlocks(peers.get(0), params);
               }
+              updateEarliestBlock(newValue.get(), params);
+              return SafeFuture.COMPLETE;
+            })
+        .exceptionally(
+            err -> {
+              LOG.debug("Encountered a problem saving historical blocks", err);
+              return null;
             });
   }
 
+  private void updateEarliestBlock(
+      final BeaconBlockSummary newValue, final MaxMissingBlockParams params) {
+    if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
+      LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
+      earliestBlock = newValue;
+      updateSyncMetrics();
+      if (isSyncDone()) {
+        LOG.info("Historical block sync is complete");
+      }
+    }
+  }
+
+  private void markPeerBad(final Eth2Peer peer) {
+    if (peer.isConnected()) {
+      // If we didn't disconnect the peer altogether, avoid making new requests for a while
+      badPeerCache.add(peer.getId());
+      logBadPeerCacheSize(true);
+    }
+  }
+
   private HistoricalBatchFetcher createFetcher(
       final Eth2Peer peer, final MaxMissingBlockParams params) {
     return new HistoricalBatchFetcher(
@@ -256,6 +335,20 @@ public class HistoricalBlockSyncService extends Service {
         batchSize);
   }
 
+  private ParallelHistoricalBatchFetcher createParallelFetcher(
+      final List<Eth2Peer> peers, final MaxMissingBlockParams params) {
+    return new ParallelHistoricalBatchFetcher(
+        storageUpdateChannel,
+        signatureVerifier,
+        chainData,
+        spec,
+        peers,
+        params.getMaxSlot(),
+        params.getBlockRoot(),
+        batchSize,
+        this::markPeerBad);
+  }
+
   private boolean isSyncDone() {
     return earliestBlock.getBeaconBlock().map(b -> b.getSlot().equals(UInt64.ZERO)).orElse(false);
   }
@@ -282,7 +375,7 @@ public class HistoricalBlockSyncService extends Service {
     return asyncRunner.getDelayedFuture(RETRY_TIMEOUT);
   }
 
-  private Optional<Eth2Peer> findPeer() {
+  private List<Eth2Peer> findPeers() {
     return network
         .streamPeers()
         .filter(p -> !badPeerCache.contains(p.getId()))
@@ -292,7 +385,9 @@ public class HistoricalBlockSyncService extends Service {
                     .getFinalizedCheckpoint()
                     .getEpochStartSlot(spec)
                     .isGreaterThan(earliestBlock.getSlot()))
-        .findAny();
+        .sorted(Comparator.comparingInt(Eth2Peer::getOutstandingRequests))
+        .limit(maxConcurrentBatches)
+        .collect(Collectors.toList());
   }
 
   private void logBadPeerCacheSize(final boolean peerAdded) {
@@ -303,6 +398,56 @@ public class HistoricalBlockSyncService extends Service {
     }
   }
 
+  private void recordImportedBlocks(final Collection<SignedBeaconBlock> blocks) {
+    importedBlocksCounter.inc(blocks.size());
+    importedBytesCounter.inc(
+        blocks.stream()
+            .mapToLong(block -> block.getSchema().getSszSize(block.getBackingNode()))
+            .sum());
+  }
+
+  /** Records the throughput of the blocks saved by the batch fetchers. */
+  private class MeteredStorageUpdateChannel implements StorageUpdateChannel {
+    private final StorageUpdateChannel delegate;
+
+    private MeteredStorageUpdateChannel(final StorageUpdateChannel delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public SafeFuture<UpdateResult> onStorageUpdate(final StorageUpdate event) {
+      return delegate.onStorageUpdate(event);
+    }
+
+    @Override
+    public SafeFuture<Void> onFinalizedBlocks(final Collection<SignedBeaconBlock> finalizedBlocks) {
+      return delegate
+          .onFinalizedBlocks(finalizedBlocks)
+          .thenRun(() -> recordImportedBlocks(finalizedBlocks));
+    }
+
+    @Override
+    public SafeFuture<Void> onFinalizedState(final BeaconState finalizedState) {
+      return delegate.onFinalizedState(finalizedState);
+    }
+
+    @Override
+    public SafeFuture<Void> onFinalizedStates(final Collection<BeaconState> finalizedStates) {
+      return delegate.onFinalizedStates(finalizedStates);
+    }
+
+    @Override
+    public SafeFuture<Void> onWeakSubjectivityUpdate(
+        final WeakSubjectivityUpdate weakSubjectivityUpdate) {
+      return delegate.onWeakSubjectivityUpdate(weakSubjectivityUpdate);
+    }
+
+    @Override
+    public void onChainInitialized(final AnchorPoint initialAnchor) {
+      delegate.onChainInitialized(initialAnchor);
+    }
+  }
+
   private static class MaxMissingBlockParams {
     private final Bytes32 blockRoot;
     private final UInt64 maxSlot;
@@ -0,0 +1,193 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.InvalidResponseException;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+/**
+ * Fetches several consecutive batches of blocks concurrently, each from a different peer.
+ *
+ * <p>Only the newest batch is anchored to a known block root, so every other batch is requested
+ * purely by slot range. As each batch arrives its blocks are checked to form a chain and their
+ * signatures are verified, without waiting for the other batches. Once all batches have completed
+ * they are linked from newest to oldest, each batch's latest block having to be the parent of the
+ * batch after it, and every linked block is saved in a single ordered update. Batches after the
+ * first one that fails or doesn't link are discarded, so the stored blocks always extend the
+ * existing chain without gaps.
+ */
+public class ParallelHistoricalBatchFetcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final StorageUpdateChannel storageUpdateChannel;
+  private final HistoricalBlockSignatureVerifier signatureVerifier;
+  private final List<Eth2Peer> peers;
+  private final UInt64 maxSlot;
+  private final Bytes32 lastBlockRoot;
+  private final UInt64 batchSize;
+  private final Consumer<Eth2Peer> badPeerHandler;
+
+  /**
+   * @param storageUpdateChannel The storage channel where finalized blocks will be imported
+   * @param peers The peers to request blocks from, one batch per peer
+   * @param maxSlot The maxSlot to pull
+   * @param lastBlockRoot The block root that defines the last block in the newest batch
+   * @param batchSize The number of slots covered by each batch
+   * @param badPeerHandler Called with any peer that failed to deliver a valid batch
+   */
+  public ParallelHistoricalBatchFetcher(
+      final StorageUpdateChannel storageUpdateChannel,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final CombinedChainDataClient chainDataClient,
+      final Spec spec,
+      final List<Eth2Peer> peers,
+      final UInt64 maxSlot,
+      final Bytes32 lastBlockRoot,
+      final UInt64 batchSize,
+      final Consumer<Eth2Peer> badPeerHandler) {
+    checkArgument(!peers.isEmpty(), "At least one peer is required");
+    this.storageUpdateChannel = storageUpdateChannel;
+    this.signatureVerifier =
+        new HistoricalBlockSignatureVerifier(spec, chainDataClient, signatureVerifier);
+    this.peers = peers;
+    this.maxSlot = maxSlot;
+    this.lastBlockRoot = lastBlockRoot;
+    this.batchSize = batchSize;
+    this.badPeerHandler = badPeerHandler;
+  }
+
+  /**
+   * Fetch the batches of blocks up to {@link #maxSlot}, save the blocks which can be linked to
+   * {@link #lastBlockRoot} to the database, and return the new value for the earliest block.
+   *
+   * @return A future that resolves with the earliest block saved, or empty if no blocks could be
+   *     linked and the range should be fetched with a {@link HistoricalBatchFetcher} instead.
+   */
+  public SafeFuture<Optional<BeaconBlockSummary>> run() {
+    final List<SafeFuture<Optional<List<SignedBeaconBlock>>>> batches = new ArrayList<>();
+    UInt64 batchMaxSlot = maxSlot;
+    for (Eth2Peer peer : peers) {
+      final UInt64 startSlot = batchMaxSlot.plus(1).safeMinus(batchSize).orElse(UInt64.ZERO);
+      batches.add(fetchBatch(peer, startSlot, batchMaxSlot.plus(1).minus(startSlot)));
+      if (startSlot.equals(UInt64.ZERO)) {
+        break;
+      }
+      batchMaxSlot = startSlot.minus(1);
+    }
+
+    return SafeFuture.collectAll(batches.stream()).thenCompose(this::importLinkedBlocks);
+  }
+
+  private SafeFuture<Optional<List<SignedBeaconBlock>>> fetchBatch(
+      final Eth2Peer peer, final UInt64 startSlot, final UInt64 count) {
+    LOG.trace("Request {} blocks from slot {} from {}", count, startSlot, peer);
+    final UInt64 endSlot = startSlot.plus(count).minus(1);
+    final List<SignedBeaconBlock> blocks = Collections.synchronizedList(new ArrayList<>());
+    return peer.requestBlocksByRange(
+            startSlot,
+            count,
+            block -> SafeFuture.fromRunnable(() -> processBlock(blocks, endSlot, block)))
+        .thenCompose(__ -> signatureVerifier.verify(blocks))
+        .<Optional<List<SignedBeaconBlock>>>thenApply(__ -> Optional.of(blocks))
+        .exceptionally(
+            error -> {
+              LOG.debug(
+                  "Encountered a problem requesting historical blocks from peer: " + peer, error);
+              badPeerHandler.accept(peer);
+              return Optional.empty();
+            });
+  }
+
+  private void processBlock(
+      final List<SignedBeaconBlock> blocks, final UInt64 endSlot, final SignedBeaconBlock block) {
+    // Only process blocks in the requested range - ignore any extra blocks
+    if (block.getSlot().isGreaterThan(endSlot)) {
+      return;
+    }
+    if (!blocks.isEmpty()) {
+      final SignedBeaconBlock previousBlock = blocks.get(blocks.size() - 1);
+      if (!block.getParentRoot().equals(previousBlock.getRoot())) {
+        throw new InvalidResponseException(
+            "Expected each block to descend from the previous block.");
+      }
+    }
+    blocks.add(block);
+  }
+
+  private SafeFuture<Optional<BeaconBlockSummary>> importLinkedBlocks(
+      final List<Optional<List<SignedBeaconBlock>>> batches) {
+    final List<List<SignedBeaconBlock>> linkedBatches = new ArrayList<>();
+    Bytes32 expectedRoot = lastBlockRoot;
+    for (int i = 0; i < batches.size(); i++) {
+      final Optional<List<SignedBeaconBlock>> maybeBatch = batches.get(i);
+      if (maybeBatch.isEmpty()) {
+        break;
+      }
+      final List<SignedBeaconBlock> batch = maybeBatch.get();
+      if (batch.isEmpty()) {
+        if (linkedBatches.isEmpty()) {
+          // The anchor block may be from an earlier slot, which is only checked by root
+          break;
+        }
+        // A range of empty slots, the next batch must link to the same root
+        continue;
+      }
+      if (!batch.get(batch.size() - 1).getRoot().equals(expectedRoot)) {
+        LOG.debug("Historical batch {} does not link to block root {}", i, expectedRoot);
+        if (!linkedBatches.isEmpty()) {
+          badPeerHandler.accept(peers.get(i));
+        }
+        break;
+      }
+      linkedBatches.add(batch);
+      expectedRoot = batch.get(0).getParentRoot();
+    }
+
+    if (linkedBatches.isEmpty()) {
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+
+    Collections.reverse(linkedBatches);
+    final List<SignedBeaconBlock> blocksToImport =
+        linkedBatches.stream().flatMap(List::stream).collect(Collectors.toList());
+    final SignedBeaconBlock newEarliestBlock = blocksToImport.get(0);
+    LOG.trace(
+        "Import {} blocks from {} batches, earliest block is now from slot {}",
+        blocksToImport.size(),
+        linkedBatches.size(),
+        newEarliestBlock.getSlot());
+    return storageUpdateChannel
+        .onFinalizedBlocks(blocksToImport)
+        .thenApply(__ -> Optional.<BeaconBlockSummary>of(newEarliestBlock));
+  }
+}
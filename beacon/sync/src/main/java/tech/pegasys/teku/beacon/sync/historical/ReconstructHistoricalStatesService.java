@@ -16,37 +16,146 @@ package tech.pegasys.teku.beacon.sync.historical;
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.ChainDataLoader;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.server.ShuttingDownException;
+import tech.pegasys.teku.storage.store.KeyValueStore;
 
+/**
+ * Regenerates the finalized states from genesis up to the initial anchor by replaying the stored
+ * blocks.
+ *
+ * <p>The slots are split into fixed size segments. Within a segment, the next batch of blocks is
+ * loaded from storage while the current one is replayed, and the states from each batch are stored
+ * in a single transaction while the following batch is replayed. Once a batch is stored, the last
+ * slot it covers is recorded in the key value store so that after a restart the segment resumes
+ * from the stored state at that slot rather than from genesis.
+ *
+ * <p>A segment can only start once the state before its first slot is available. Segments which
+ * can resume from a previous run, or which follow a segment that is already complete, load that
+ * state from storage and are reconstructed in parallel. Other segments continue from the state the
+ * previous segment finished with.
+ *
+ * <p>The recorded progress is kept separately from the states, so a segment recorded as complete is
+ * only skipped if the state it finished with can be loaded when a following segment or the end of
+ * the reconstruction needs it. Otherwise the segment is reconstructed again.
+ */
 public class ReconstructHistoricalStatesService extends Service {
   private static final Logger LOG = LogManager.getLogger();
 
+  public static final int MAX_CONCURRENT_SEGMENTS = 4;
+  static final String PROGRESS_KEY_PREFIX = "reconstruct-historical-states-";
+  private static final int DEFAULT_SLOTS_PER_SEGMENT = 8192;
+  private static final int DEFAULT_SLOTS_PER_BATCH = 64;
+
   private final CombinedChainDataClient chainDataClient;
   private final Spec spec;
   private final Optional<String> genesisStateResource;
   private final StorageUpdateChannel storageUpdateChannel;
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final KeyValueStore<String, Bytes> keyValueStore;
+  private final UInt64 slotsPerSegment;
+  private final UInt64 slotsPerBatch;
+  private final ThrottlingTaskQueue segmentQueue;
+  private final Counter reconstructedSlotsCounter;
+  private final SettableGauge slotsPerSecondGauge;
+  private final SettableGauge estimatedSecondsRemainingGauge;
+
+  private volatile boolean stopped = false;
 
   public ReconstructHistoricalStatesService(
       final StorageUpdateChannel storageUpdateChannel,
       final CombinedChainDataClient chainDataClient,
       final Spec spec,
-      final Optional<String> genesisStateResource) {
+      final Optional<String> genesisStateResource,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final KeyValueStore<String, Bytes> keyValueStore) {
+    this(
+        storageUpdateChannel,
+        chainDataClient,
+        spec,
+        genesisStateResource,
+        asyncRunner,
+        metricsSystem,
+        timeProvider,
+        keyValueStore,
+        DEFAULT_SLOTS_PER_SEGMENT,
+        DEFAULT_SLOTS_PER_BATCH);
+  }
+
+  ReconstructHistoricalStatesService(
+      final StorageUpdateChannel storageUpdateChannel,
+      final CombinedChainDataClient chainDataClient,
+      final Spec spec,
+      final Optional<String> genesisStateResource,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final KeyValueStore<String, Bytes> keyValueStore,
+      final int slotsPerSegment,
+      final int slotsPerBatch) {
     this.storageUpdateChannel = storageUpdateChannel;
     this.chainDataClient = chainDataClient;
     this.spec = spec;
     this.genesisStateResource = genesisStateResource;
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.keyValueStore = keyValueStore;
+    this.slotsPerSegment = UInt64.valueOf(slotsPerSegment);
+    this.slotsPerBatch = UInt64.valueOf(slotsPerBatch);
+    this.segmentQueue =
+        new ThrottlingTaskQueue(
+            MAX_CONCURRENT_SEGMENTS,
+            metricsSystem,
+            TekuMetricCategory.BEACON,
+            "reconstruct_historical_states_queued_segments");
+    this.reconstructedSlotsCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "reconstruct_historical_states_reconstructed_slots_total",
+            "The number of slots processed by the historical state reconstruction");
+    this.slotsPerSecondGauge =
+        SettableGauge.create(
+            metricsSystem,
+            TekuMetricCategory.BEACON,
+            "reconstruct_historical_states_slots_per_second",
+            "Slots processed per second by the historical state reconstruction");
+    this.estimatedSecondsRemainingGauge =
+        SettableGauge.create(
+            metricsSystem,
+            TekuMetricCategory.BEACON,
+            "reconstruct_historical_states_estimated_seconds_remaining",
+            "The estimated time until the historical state reconstruction completes");
   }
 
   @Override
@@ -74,58 +183,336 @@ public class ReconstructHistoricalStatesService extends Service {
               if (checkpoint.isEmpty()) {
                 return;
               }
-              applyBlocks(genesisState, checkpoint.get().getEpochStartSlot(spec));
+              reconstruct(genesisState, checkpoint.get().getEpochStartSlot(spec))
+                  .finish(STATUS_LOG::reconstructHistoricalStatesServiceComplete, this::onFailure);
             });
   }
 
-  public void applyBlocks(final BeaconState genesisState, final UInt64 anchorSlot) {
-    Context context = new Context(genesisState, SpecConfig.GENESIS_SLOT.plus(1), anchorSlot);
-    applyNextBlock(context).finish(STATUS_LOG::reconstructHistoricalStatesServiceFailedProcess);
+  private void onFailure(final Throwable error) {
+    if (ExceptionUtil.hasCause(error, ShuttingDownException.class)) {
+      // Progress has been recorded so reconstruction resumes after the next restart
+      LOG.debug("Historical state reconstruction stopped by shutdown");
+    } else {
+      STATUS_LOG.reconstructHistoricalStatesServiceFailedProcess(error);
+    }
   }
 
-  private SafeFuture<Void> applyNextBlock(Context context) {
-    if (context.checkStopApplyBlock()) {
-      STATUS_LOG.reconstructHistoricalStatesServiceComplete();
-      return SafeFuture.COMPLETE;
+  /**
+   * Reconstructs and stores the states for every slot before the anchor slot which has a block.
+   *
+   * @param genesisState the state to replay the blocks from
+   * @param anchorSlot the first slot which doesn't need to be reconstructed
+   * @return a future which completes once all states are stored
+   */
+  public SafeFuture<Void> reconstruct(final BeaconState genesisState, final UInt64 anchorSlot) {
+    final List<Segment> segments = new ArrayList<>();
+    for (UInt64 startSlot = UInt64.ZERO;
+        startSlot.isLessThan(anchorSlot);
+        startSlot = startSlot.plus(slotsPerSegment)) {
+      segments.add(new Segment(startSlot, startSlot.plus(slotsPerSegment).min(anchorSlot)));
+    }
+    final List<Optional<UInt64>> recordedProgress =
+        segments.stream().map(this::getRecordedProgress).collect(Collectors.toList());
+    final Map<Segment, BeaconState> completedSegmentStates = new HashMap<>();
+
+    // Load the states that later segments start from, which also checks the completed segments
+    // those states come from before they are skipped
+    SafeFuture<Void> completedSegmentsChecked = SafeFuture.COMPLETE;
+    for (int i = 0; i < segments.size(); i++) {
+      final boolean nextSegmentComplete =
+          i + 1 < segments.size() && isComplete(segments.get(i + 1), recordedProgress.get(i + 1));
+      if (isComplete(segments.get(i), recordedProgress.get(i)) && !nextSegmentComplete) {
+        final int segmentIndex = i;
+        completedSegmentsChecked =
+            completedSegmentsChecked.thenCompose(
+                __ ->
+                    loadCompletedSegmentState(
+                        segments, segmentIndex, recordedProgress, completedSegmentStates));
+      }
     }
+    return completedSegmentsChecked.thenCompose(
+        __ ->
+            reconstructSegments(
+                genesisState, segments, recordedProgress, completedSegmentStates));
+  }
 
+  /**
+   * Loads the state a completed segment finished with. If it isn't available, the recorded progress
+   * was lost from storage so the segment is reconstructed again, from the state the previous
+   * segment finished with.
+   */
+  private SafeFuture<Void> loadCompletedSegmentState(
+      final List<Segment> segments,
+      final int segmentIndex,
+      final List<Optional<UInt64>> recordedProgress,
+      final Map<Segment, BeaconState> completedSegmentStates) {
+    final Segment segment = segments.get(segmentIndex);
+    if (completedSegmentStates.containsKey(segment)) {
+      return SafeFuture.COMPLETE;
+    }
+    final UInt64 lastSlot = segment.endSlot.decrement();
     return chainDataClient
-        .getBlockAtSlotExact(context.slot)
-        .thenComposeChecked(
-            block -> {
-              if (block.isEmpty()) {
+        .getLatestStateAtSlot(lastSlot)
+        .thenCompose(
+            maybeState -> {
+              if (maybeState.isPresent()) {
+                completedSegmentStates.put(segment, maybeState.get());
                 return SafeFuture.COMPLETE;
               }
+              LOG.warn(
+                  "Reconstructed state at slot {} is missing, reconstructing from slot {} again",
+                  lastSlot,
+                  segment.firstSlot);
+              recordedProgress.set(segmentIndex, Optional.empty());
+              final int previousIndex = segmentIndex - 1;
+              if (previousIndex >= 0
+                  && isComplete(segments.get(previousIndex), recordedProgress.get(previousIndex))) {
+                return loadCompletedSegmentState(
+                    segments, previousIndex, recordedProgress, completedSegmentStates);
+              }
+              return SafeFuture.COMPLETE;
+            });
+  }
+
+  private SafeFuture<Void> reconstructSegments(
+      final BeaconState genesisState,
+      final List<Segment> segments,
+      final List<Optional<UInt64>> recordedProgress,
+      final Map<Segment, BeaconState> completedSegmentStates) {
+    final ReconstructionProgress progress =
+        new ReconstructionProgress(getTotalSlots(segments, recordedProgress));
 
-              context.currentState = spec.replayValidatedBlock(context.currentState, block.get());
-              return storageUpdateChannel.onFinalizedState(context.currentState);
+    final List<SafeFuture<Optional<BeaconState>>> results = new ArrayList<>();
+    SafeFuture<Optional<BeaconState>> previousResult =
+        SafeFuture.completedFuture(Optional.of(genesisState));
+    for (int i = 0; i < segments.size(); i++) {
+      final Segment segment = segments.get(i);
+      final Optional<UInt64> lastReconstructedSlot = recordedProgress.get(i);
+      if (isComplete(segment, lastReconstructedSlot)) {
+        LOG.debug("Historical states from slot {} already reconstructed", segment.startSlot);
+        previousResult =
+            SafeFuture.completedFuture(Optional.ofNullable(completedSegmentStates.get(segment)));
+      } else {
+        previousResult =
+            reconstructSegment(segment, lastReconstructedSlot, previousResult, progress);
+      }
+      results.add(previousResult);
+    }
+    return SafeFuture.allOf(results.toArray(SafeFuture[]::new));
+  }
+
+  private UInt64 getTotalSlots(
+      final List<Segment> segments, final List<Optional<UInt64>> recordedProgress) {
+    UInt64 totalSlots = UInt64.ZERO;
+    for (int i = 0; i < segments.size(); i++) {
+      totalSlots = totalSlots.plus(segments.get(i).getRemainingSlots(recordedProgress.get(i)));
+    }
+    return totalSlots;
+  }
+
+  private boolean isComplete(final Segment segment, final Optional<UInt64> lastReconstructedSlot) {
+    return lastReconstructedSlot.map(segment::isCompleteAt).orElse(false);
+  }
+
+  private SafeFuture<Optional<BeaconState>> reconstructSegment(
+      final Segment segment,
+      final Optional<UInt64> lastReconstructedSlot,
+      final SafeFuture<Optional<BeaconState>> previousResult,
+      final ReconstructionProgress progress) {
+    final SafeFuture<Optional<BeaconState>> resumeState =
+        lastReconstructedSlot.isPresent()
+            ? chainDataClient.getLatestStateAtSlot(lastReconstructedSlot.get())
+            : SafeFuture.completedFuture(Optional.empty());
+    return resumeState
+        .thenCompose(
+            maybeResumeState -> {
+              if (maybeResumeState.isPresent()) {
+                return queueSegment(
+                    segment,
+                    lastReconstructedSlot.orElseThrow().increment(),
+                    maybeResumeState.get(),
+                    progress);
+              }
+              if (lastReconstructedSlot.isPresent()) {
+                LOG.warn(
+                    "Unable to resume state reconstruction at slot {}, restarting from slot {}",
+                    lastReconstructedSlot.get(),
+                    segment.firstSlot);
+              }
+              return previousResult
+                  .thenApply(Optional::orElseThrow)
+                  .thenCompose(
+                      startState -> queueSegment(segment, segment.firstSlot, startState, progress));
             })
-        .thenRun(context::incrementSlot)
-        .thenCompose(__ -> applyNextBlock(context));
+        .thenApply(Optional::of);
+  }
+
+  private SafeFuture<BeaconState> queueSegment(
+      final Segment segment,
+      final UInt64 fromSlot,
+      final BeaconState startState,
+      final ReconstructionProgress progress) {
+    return segmentQueue.queueTask(
+        () -> new SegmentReconstruction(segment, fromSlot, startState, progress).run());
+  }
+
+  private Optional<UInt64> getRecordedProgress(final Segment segment) {
+    return keyValueStore
+        .get(getProgressKey(segment))
+        .map(value -> UInt64.fromLongBits(value.toLong()));
+  }
+
+  private void recordProgress(final Segment segment, final UInt64 lastReconstructedSlot) {
+    keyValueStore.put(
+        getProgressKey(segment), Bytes.ofUnsignedLong(lastReconstructedSlot.longValue()));
+  }
+
+  static String getProgressKey(final Segment segment) {
+    return PROGRESS_KEY_PREFIX + segment.startSlot;
   }
 
   @Override
   protected SafeFuture<?> doStop() {
+    stopped = true;
     return SafeFuture.COMPLETE;
   }
 
-  private static class Context {
-    private BeaconState currentState;
-    private UInt64 slot;
-    private final UInt64 anchorSlot;
+  private class SegmentReconstruction {
+    private final Segment segment;
+    private final ReconstructionProgress progress;
+    private BeaconState state;
+    private UInt64 nextSlot;
+    private SafeFuture<List<SignedBeaconBlock>> nextBlocks;
+    private SafeFuture<Void> pendingWrite = SafeFuture.COMPLETE;
+
+    private SegmentReconstruction(
+        final Segment segment,
+        final UInt64 fromSlot,
+        final BeaconState startState,
+        final ReconstructionProgress progress) {
+      this.segment = segment;
+      this.progress = progress;
+      this.state = startState;
+      this.nextSlot = fromSlot;
+    }
+
+    private SafeFuture<BeaconState> run() {
+      LOG.debug(
+          "Reconstructing historical states from slot {} to {}",
+          nextSlot,
+          segment.endSlot.decrement());
+      if (nextSlot.isLessThan(segment.endSlot)) {
+        nextBlocks = fetchBlocks(nextSlot);
+      }
+      return SafeFuture.asyncDoWhile(this::processNextBatch)
+          .thenCompose(__ -> pendingWrite)
+          .thenApply(__ -> state);
+    }
+
+    private SafeFuture<Boolean> processNextBatch() {
+      if (stopped) {
+        return SafeFuture.failedFuture(new ShuttingDownException());
+      }
+      if (nextSlot.isGreaterThanOrEqualTo(segment.endSlot)) {
+        return SafeFuture.completedFuture(false);
+      }
+      final UInt64 batchStartSlot = nextSlot;
+      final UInt64 batchEndSlot = getBatchEndSlot(batchStartSlot);
+      final SafeFuture<List<SignedBeaconBlock>> blocks = nextBlocks;
+      nextSlot = batchEndSlot;
+      if (nextSlot.isLessThan(segment.endSlot)) {
+        // Load the following batch while this one is replayed
+        nextBlocks = fetchBlocks(nextSlot);
+      }
+      return blocks
+          .thenCompose(batch -> asyncRunner.runAsync(() -> replayBlocks(batch)))
+          .thenCompose(
+              states -> {
+                // Write this batch while the next one is replayed but no further ahead
+                final SafeFuture<Void> previousWrite = pendingWrite;
+                pendingWrite =
+                    previousWrite.thenCompose(
+                        __ -> storeStates(states, batchStartSlot, batchEndSlot));
+                return previousWrite;
+              })
+          .thenApply(__ -> nextSlot.isLessThan(segment.endSlot));
+    }
+
+    private SafeFuture<List<SignedBeaconBlock>> fetchBlocks(final UInt64 fromSlot) {
+      return chainDataClient.getFinalizedBlocksInRange(
+          fromSlot, getBatchEndSlot(fromSlot).decrement());
+    }
+
+    private UInt64 getBatchEndSlot(final UInt64 batchStartSlot) {
+      return batchStartSlot.plus(slotsPerBatch).min(segment.endSlot);
+    }
+
+    private List<BeaconState> replayBlocks(final List<SignedBeaconBlock> blocks)
+        throws StateTransitionException {
+      final List<BeaconState> states = new ArrayList<>(blocks.size());
+      for (SignedBeaconBlock block : blocks) {
+        state = spec.replayValidatedBlock(state, block);
+        states.add(state);
+      }
+      return states;
+    }
+
+    private SafeFuture<Void> storeStates(
+        final List<BeaconState> states, final UInt64 batchStartSlot, final UInt64 batchEndSlot) {
+      final SafeFuture<Void> stored =
+          states.isEmpty() ? SafeFuture.COMPLETE : storageUpdateChannel.onFinalizedStates(states);
+      return stored.thenRun(
+          () -> {
+            recordProgress(segment, batchEndSlot.decrement());
+            progress.onSlotsReconstructed(batchEndSlot.minus(batchStartSlot));
+          });
+    }
+  }
+
+  private class ReconstructionProgress {
+    private final UInt64 startTimeMillis = timeProvider.getTimeInMillis();
+    private final UInt64 totalSlots;
+    private UInt64 reconstructedSlots = UInt64.ZERO;
+
+    private ReconstructionProgress(final UInt64 totalSlots) {
+      this.totalSlots = totalSlots;
+    }
+
+    private synchronized void onSlotsReconstructed(final UInt64 slotCount) {
+      reconstructedSlotsCounter.inc(slotCount.longValue());
+      reconstructedSlots = reconstructedSlots.plus(slotCount);
+      final UInt64 elapsedMillis = timeProvider.getTimeInMillis().minusMinZero(startTimeMillis);
+      if (elapsedMillis.isZero()) {
+        return;
+      }
+      final double slotsPerSecond =
+          reconstructedSlots.longValue() * 1000.0 / elapsedMillis.longValue();
+      slotsPerSecondGauge.set(slotsPerSecond);
+      estimatedSecondsRemainingGauge.set(
+          totalSlots.minusMinZero(reconstructedSlots).longValue() / slotsPerSecond);
+    }
+  }
+
+  static class Segment {
+    private final UInt64 startSlot;
+    private final UInt64 firstSlot;
+    private final UInt64 endSlot;
 
-    Context(BeaconState currentState, UInt64 slot, UInt64 anchorSlot) {
-      this.currentState = currentState;
-      this.slot = slot;
-      this.anchorSlot = anchorSlot;
+    Segment(final UInt64 startSlot, final UInt64 endSlot) {
+      this.startSlot = startSlot;
+      // There is no block to replay at the genesis slot
+      this.firstSlot = startSlot.max(SpecConfig.GENESIS_SLOT.plus(1));
+      this.endSlot = endSlot;
     }
 
-    private boolean checkStopApplyBlock() {
-      return slot.isGreaterThanOrEqualTo(anchorSlot);
+    private boolean isCompleteAt(final UInt64 lastReconstructedSlot) {
+      return lastReconstructedSlot.increment().isGreaterThanOrEqualTo(endSlot);
     }
 
-    private void incrementSlot() {
-      slot = slot.increment();
+    private UInt64 getRemainingSlots(final Optional<UInt64> lastReconstructedSlot) {
+      final UInt64 resumeSlot =
+          lastReconstructedSlot.map(UInt64::increment).orElse(firstSlot).max(firstSlot);
+      return endSlot.minusMinZero(resumeSlot);
     }
   }
 }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beacon.sync.forward.multipeer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -60,14 +61,10 @@ class BatchImporterTest {
     final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
     final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
     final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
-    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult3 = new SafeFuture<>();
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
     final List<SignedBeaconBlock> blocks = new ArrayList<>(List.of(block1, block2, block3));
     when(batch.getBlocks()).thenReturn(blocks);
-    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
-    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
-    when(blockImporter.importBlock(block3)).thenReturn(importResult3);
+    when(blockImporter.importBlocks(any(), anyInt())).thenReturn(importResult);
 
     final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
 
@@ -81,11 +78,12 @@ class BatchImporterTest {
 
     asyncRunner.executeQueuedActions();
 
-    blockImportedSuccessfully(block1, importResult1);
+    ignoreFuture(
+        verify(blockImporter)
+            .importBlocks(List.of(block1, block2, block3), BatchImporter.MAX_BLOCKS_IN_FLIGHT));
     assertThat(result).isNotDone();
-    blockImportedSuccessfully(block2, importResult2);
-    assertThat(result).isNotDone();
-    blockImportedSuccessfully(block3, importResult3);
+
+    importResult.complete(BlockImportResult.successful(block3));
     assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
 
     // And check we didn't touch the batch from a different thread
@@ -93,82 +91,47 @@ class BatchImporterTest {
   }
 
   @Test
-  void shouldStopImportingAfterFailure() {
-    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
-    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
-    final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
-    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult3 = new SafeFuture<>();
-    when(batch.getBlocks()).thenReturn(List.of(block1, block2, block3));
-    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
-    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
-    when(blockImporter.importBlock(block3)).thenReturn(importResult3);
-
-    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
-
-    // Should not be started on the calling thread
-    verifyNoInteractions(blockImporter);
-
-    asyncRunner.executeQueuedActions();
+  void shouldReportFailureWhenBlockFailsToImport() {
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
+    final SafeFuture<BatchImportResult> result = startImport(importResult);
 
-    blockImportedSuccessfully(block1, importResult1);
-    assertThat(result).isNotDone();
-
-    ignoreFuture(verify(blockImporter).importBlock(block2));
-    verifyNoMoreInteractions(blockImporter);
-
-    importResult2.complete(
+    importResult.complete(
         BlockImportResult.failedStateTransition(new Exception("Naughty block!")));
     assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
-    verifyNoMoreInteractions(blockImporter);
+    verify(syncSource, never()).disconnectCleanly(any());
   }
 
   @Test
   void shouldDisconnectPeersForWeakSubjectivityViolation() {
     when(syncSource.disconnectCleanly(any())).thenReturn(SafeFuture.COMPLETE);
-
-    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
-    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
-    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
-    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
-    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
-    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
-
-    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
-
-    // Should not be started on the calling thread
-    verifyNoInteractions(blockImporter);
-
-    asyncRunner.executeQueuedActions();
-
-    blockImportedSuccessfully(block1, importResult1);
-    assertThat(result).isNotDone();
-
-    ignoreFuture(verify(blockImporter).importBlock(block2));
-    verifyNoMoreInteractions(blockImporter);
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
+    final SafeFuture<BatchImportResult> result = startImport(importResult);
 
     // Import bad block
-    importResult2.complete(BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS);
+    importResult.complete(BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS);
     assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
-    verify(batch).getSource();
     verify(syncSource).disconnectCleanly(DisconnectReason.REMOTE_FAULT);
-
-    verifyNoMoreInteractions(blockImporter);
   }
 
   @Test
   void shouldNotDisconnectPeersWhenServiceOffline() {
     when(syncSource.disconnectCleanly(any())).thenReturn(SafeFuture.COMPLETE);
+    final SafeFuture<BlockImportResult> importResult = new SafeFuture<>();
+    final SafeFuture<BatchImportResult> result = startImport(importResult);
+
+    // Import failed due to service being offline
+    importResult.complete(BlockImportResult.failedExecutionPayloadExecution(new Error()));
+    assertThat(result).isCompletedWithValue(BatchImportResult.SERVICE_OFFLINE);
+    verify(syncSource, never()).disconnectCleanly(any());
+  }
 
+  private SafeFuture<BatchImportResult> startImport(
+      final SafeFuture<BlockImportResult> importResult) {
     final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
     final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
-    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
-    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
     when(batch.getBlocks()).thenReturn(List.of(block1, block2));
-    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
-    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
+    when(blockImporter.importBlocks(List.of(block1, block2), BatchImporter.MAX_BLOCKS_IN_FLIGHT))
+        .thenReturn(importResult);
 
     final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
 
@@ -176,27 +139,7 @@ class BatchImporterTest {
     verifyNoInteractions(blockImporter);
 
     asyncRunner.executeQueuedActions();
-
-    blockImportedSuccessfully(block1, importResult1);
     assertThat(result).isNotDone();
-
-    ignoreFuture(verify(blockImporter).importBlock(block2));
-    verifyNoMoreInteractions(blockImporter);
-
-    // Import failed due to service being offline
-    importResult2.complete(BlockImportResult.failedExecutionPayloadExecution(new Error()));
-    assertThat(result).isCompletedWithValue(BatchImportResult.SERVICE_OFFLINE);
-    verify(batch).getSource();
-    verify(syncSource, never()).disconnectCleanly(any());
-
-    verifyNoMoreInteractions(blockImporter);
-  }
-
-  private void blockImportedSuccessfully(
-      final SignedBeaconBlock block, final SafeFuture<BlockImportResult> importResult1) {
-    ignoreFuture(verify(blockImporter).importBlock(block));
-    verifyNoMoreInteractions(blockImporter);
-
-    importResult1.complete(BlockImportResult.successful(block));
+    return result;
   }
 }
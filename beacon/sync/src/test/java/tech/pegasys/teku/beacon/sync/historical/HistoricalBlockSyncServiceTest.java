@@ -40,6 +40,7 @@ import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RespondingEth2Peer;
@@ -55,6 +56,7 @@ import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
 import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+import tech.pegasys.teku.storage.store.MemKeyValueStore;
 
 public class HistoricalBlockSyncServiceTest {
   private final Spec spec = TestSpecFactory.createDefault();
@@ -76,21 +78,17 @@ public class HistoricalBlockSyncServiceTest {
       Optional.of("https://example.com/state.ssz");
   private final ReconstructHistoricalStatesService reconstructHistoricalStatesService =
       new ReconstructHistoricalStatesService(
-          storageUpdateChannel, chainData, spec, genesisStateResource);
-
-  private final UInt64 batchSize = UInt64.valueOf(5);
-  private final HistoricalBlockSyncService service =
-      new HistoricalBlockSyncService(
-          spec,
-          metricsSystem,
           storageUpdateChannel,
+          chainData,
+          spec,
+          genesisStateResource,
           asyncRunner,
-          network,
-          storageSystem.combinedChainDataClient(),
-          syncStateProvider,
-          signatureVerificationService,
-          batchSize,
-          Optional.of(reconstructHistoricalStatesService));
+          metricsSystem,
+          StubTimeProvider.withTimeInSeconds(1000),
+          new MemKeyValueStore<>());
+
+  private final UInt64 batchSize = UInt64.valueOf(5);
+  private HistoricalBlockSyncService service = createService(1);
   private final Subscribers<SyncStateProvider.SyncStateSubscriber> syncStateSubscribers =
       Subscribers.create(false);
 
@@ -320,6 +318,68 @@ public class HistoricalBlockSyncServiceTest {
     assertBlocksSaved(expectedBlocks);
   }
 
+  @Test
+  public void shouldRequestBatchesFromMultiplePeersConcurrently() {
+    service = createService(3);
+    currentSyncState.set(SyncState.IN_SYNC);
+
+    // Setup chain
+    final long epochHeight = 10;
+    storageSystem.chainBuilder().generateGenesis();
+    storageSystem.chainBuilder().generateBlocksUpToSlot(slotsPerEpoch * epochHeight + 3);
+    final AnchorPoint anchor =
+        initializeChainAtEpoch(storageSystem.chainBuilder().getLatestEpoch());
+    final List<SignedBeaconBlock> expectedBlocks =
+        storageSystem
+            .chainBuilder()
+            .streamBlocksAndStates(0, anchor.getBlockSlot().longValue())
+            .map(SignedBlockAndState::getBlock)
+            .collect(Collectors.toList());
+
+    // Set up peers to respond
+    final RespondingEth2Peer peer1 = RespondingEth2Peer.create(spec, storageSystem.chainBuilder());
+    final RespondingEth2Peer peer2 = RespondingEth2Peer.create(spec, storageSystem.chainBuilder());
+    for (RespondingEth2Peer peer : List.of(peer1, peer2)) {
+      peer.updateStatus(
+          new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO),
+          new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO));
+    }
+    when(network.streamPeers()).thenAnswer(i -> Stream.of(peer1, peer2));
+
+    startService();
+
+    // Each peer should be serving a batch at the same time
+    assertThat(peer1.getOutstandingRequests()).isEqualTo(1);
+    assertThat(peer2.getOutstandingRequests()).isEqualTo(1);
+
+    final int maxRequests =
+        storageSystem.chainBuilder().getLatestSlot().dividedBy(batchSize).plus(1).intValue();
+    int requestCount = 0;
+    while (peer1.getOutstandingRequests() == 1 && requestCount <= maxRequests) {
+      peer1.completePendingRequests();
+      peer2.completePendingRequests();
+      requestCount++;
+    }
+
+    assertServiceFinished();
+    assertBlocksSaved(expectedBlocks);
+  }
+
+  private HistoricalBlockSyncService createService(final int maxConcurrentBatches) {
+    return new HistoricalBlockSyncService(
+        spec,
+        metricsSystem,
+        storageUpdateChannel,
+        asyncRunner,
+        network,
+        storageSystem.combinedChainDataClient(),
+        syncStateProvider,
+        signatureVerificationService,
+        batchSize,
+        maxConcurrentBatches,
+        Optional.of(reconstructHistoricalStatesService));
+  }
+
   private void finishSyncing(
       final RespondingEth2Peer peer, final List<SignedBeaconBlock> expectedBlocks) {
     final int maxRequests =
@@ -0,0 +1,208 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.peers.RespondingEth2Peer;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.storage.api.StorageQueryChannel;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+public class ParallelHistoricalBatchFetcherTest {
+  private static final UInt64 BATCH_SIZE = UInt64.valueOf(10);
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+  private final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault();
+  private final AsyncBLSSignatureVerifier signatureVerifier = mock(AsyncBLSSignatureVerifier.class);
+  private final StorageUpdateChannel storageUpdateChannel = mock(StorageUpdateChannel.class);
+  private final List<Eth2Peer> badPeers = new ArrayList<>();
+  private ChainBuilder forkBuilder;
+
+  @SuppressWarnings("unchecked")
+  private final ArgumentCaptor<Collection<SignedBeaconBlock>> blockCaptor =
+      ArgumentCaptor.forClass(Collection.class);
+
+  private CombinedChainDataClient chainDataClient;
+
+  @BeforeEach
+  public void setup() {
+    storageSystem.chainUpdater().initializeGenesis();
+    when(storageUpdateChannel.onFinalizedBlocks(any())).thenReturn(SafeFuture.COMPLETE);
+    when(signatureVerifier.verify(any(), any(), anyList()))
+        .thenReturn(SafeFuture.completedFuture(true));
+
+    chainBuilder.generateGenesis();
+    forkBuilder = chainBuilder.fork();
+    // Fork skips one block then creates a chain of the same size
+    forkBuilder.generateBlockAtSlot(2);
+    forkBuilder.generateBlocksUpToSlot(30);
+
+    chainDataClient =
+        new CombinedChainDataClient(
+            storageSystem.recentChainData(), mock(StorageQueryChannel.class), spec);
+  }
+
+  @Test
+  public void run_importsAllBatchesInSingleOrderedUpdate() {
+    chainBuilder.generateBlocksUpToSlot(30);
+    final List<RespondingEth2Peer> peers = createPeers(chainBuilder, chainBuilder, chainBuilder);
+
+    final SafeFuture<Optional<BeaconBlockSummary>> future = createFetcher(peers).run();
+
+    // Each batch is requested from a different peer at the same time
+    peers.forEach(peer -> assertThat(peer.getOutstandingRequests()).isEqualTo(1));
+    peers.forEach(RespondingEth2Peer::completePendingRequests);
+
+    assertThat(future).isCompletedWithValue(Optional.of(chainBuilder.getBlockAtSlot(1)));
+    assertBlocksImported(getBlocks(1, 30));
+    assertThat(badPeers).isEmpty();
+  }
+
+  @Test
+  public void run_skipsBatchesWithNoBlocks() {
+    chainBuilder.generateBlocksUpToSlot(10);
+    chainBuilder.generateBlockAtSlot(21);
+    chainBuilder.generateBlocksUpToSlot(30);
+    final List<RespondingEth2Peer> peers = createPeers(chainBuilder, chainBuilder, chainBuilder);
+
+    final SafeFuture<Optional<BeaconBlockSummary>> future = createFetcher(peers).run();
+    peers.forEach(RespondingEth2Peer::completePendingRequests);
+
+    assertThat(future).isCompletedWithValue(Optional.of(chainBuilder.getBlockAtSlot(1)));
+    assertBlocksImported(getBlocks(1, 30));
+  }
+
+  @Test
+  public void run_discardsBatchesFromDifferentChain() {
+    chainBuilder.generateBlocksUpToSlot(30);
+    final List<RespondingEth2Peer> peers = createPeers(chainBuilder, chainBuilder, forkBuilder);
+
+    final SafeFuture<Optional<BeaconBlockSummary>> future = createFetcher(peers).run();
+    peers.forEach(RespondingEth2Peer::completePendingRequests);
+
+    assertThat(future).isCompletedWithValue(Optional.of(chainBuilder.getBlockAtSlot(11)));
+    assertBlocksImported(getBlocks(11, 30));
+    assertThat(badPeers).containsExactly(peers.get(2));
+  }
+
+  @Test
+  public void run_discardsBatchesAfterInvalidResponse() {
+    chainBuilder.generateBlocksUpToSlot(30);
+    final List<RespondingEth2Peer> peers = createPeers(chainBuilder, chainBuilder, chainBuilder);
+    // Drop a block from the middle of the batch so it doesn't form a chain
+    peers
+        .get(1)
+        .setBlockRequestFilter(
+            blocks ->
+                blocks.stream()
+                    .filter(block -> !block.getSlot().equals(UInt64.valueOf(15)))
+                    .collect(Collectors.toList()));
+
+    final SafeFuture<Optional<BeaconBlockSummary>> future = createFetcher(peers).run();
+    peers.forEach(RespondingEth2Peer::completePendingRequests);
+
+    assertThat(future).isCompletedWithValue(Optional.of(chainBuilder.getBlockAtSlot(21)));
+    assertBlocksImported(getBlocks(21, 30));
+    assertThat(badPeers).containsExactly(peers.get(1));
+  }
+
+  @Test
+  public void run_returnsEmptyWhenNewestBatchDoesNotLink() {
+    chainBuilder.generateBlocksUpToSlot(30);
+    final List<RespondingEth2Peer> peers = createPeers(forkBuilder, chainBuilder, chainBuilder);
+
+    final SafeFuture<Optional<BeaconBlockSummary>> future = createFetcher(peers).run();
+    peers.forEach(RespondingEth2Peer::completePendingRequests);
+
+    assertThat(future).isCompletedWithValue(Optional.empty());
+    verify(storageUpdateChannel, never()).onFinalizedBlocks(any());
+  }
+
+  @Test
+  public void run_rejectsBatchWithInvalidSignature() {
+    chainBuilder.generateBlocksUpToSlot(30);
+    when(signatureVerifier.verify(any(), any(), anyList()))
+        .thenReturn(SafeFuture.completedFuture(false));
+    final List<RespondingEth2Peer> peers = createPeers(chainBuilder, chainBuilder);
+
+    final SafeFuture<Optional<BeaconBlockSummary>> future = createFetcher(peers).run();
+    peers.forEach(RespondingEth2Peer::completePendingRequests);
+
+    assertThat(future).isCompletedWithValue(Optional.empty());
+    verify(storageUpdateChannel, never()).onFinalizedBlocks(any());
+    assertThat(badPeers).containsExactlyInAnyOrderElementsOf(peers);
+  }
+
+  private List<RespondingEth2Peer> createPeers(final ChainBuilder... chains) {
+    final List<RespondingEth2Peer> peers = new ArrayList<>();
+    for (ChainBuilder chain : chains) {
+      peers.add(RespondingEth2Peer.create(spec, chain));
+    }
+    return peers;
+  }
+
+  private ParallelHistoricalBatchFetcher createFetcher(final List<RespondingEth2Peer> peers) {
+    final SignedBeaconBlock lastBlock = chainBuilder.getBlockAtSlot(30);
+    return new ParallelHistoricalBatchFetcher(
+        storageUpdateChannel,
+        signatureVerifier,
+        chainDataClient,
+        spec,
+        new ArrayList<>(peers),
+        lastBlock.getSlot(),
+        lastBlock.getRoot(),
+        BATCH_SIZE,
+        badPeers::add);
+  }
+
+  private List<SignedBeaconBlock> getBlocks(final long fromSlot, final long toSlot) {
+    return chainBuilder
+        .streamBlocksAndStates(fromSlot, toSlot)
+        .map(SignedBlockAndState::getBlock)
+        .collect(Collectors.toList());
+  }
+
+  private void assertBlocksImported(final List<SignedBeaconBlock> expectedBlocks) {
+    verify(storageUpdateChannel).onFinalizedBlocks(blockCaptor.capture());
+    assertThat(blockCaptor.getValue()).containsExactlyElementsOf(expectedBlocks);
+  }
+}
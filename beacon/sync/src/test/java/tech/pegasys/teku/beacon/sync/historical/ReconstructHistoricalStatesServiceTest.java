@@ -0,0 +1,236 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.client.ChainUpdater;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.server.ShuttingDownException;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+import tech.pegasys.teku.storage.store.KeyValueStore;
+import tech.pegasys.teku.storage.store.MemKeyValueStore;
+
+class ReconstructHistoricalStatesServiceTest {
+  private static final int SLOTS_PER_SEGMENT = 16;
+  private static final int SLOTS_PER_BATCH = 5;
+  private static final UInt64 ANCHOR_SLOT = UInt64.valueOf(40);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
+  private final ChainBuilder chainBuilder = storageSystem.chainBuilder();
+  private final ChainUpdater chainUpdater = storageSystem.chainUpdater();
+  private final CombinedChainDataClient chainDataClient =
+      spy(storageSystem.combinedChainDataClient());
+  private final StorageUpdateChannel storageUpdateChannel = mock(StorageUpdateChannel.class);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final KeyValueStore<String, Bytes> keyValueStore = new MemKeyValueStore<>();
+  private final List<BeaconState> storedStates = new ArrayList<>();
+
+  private final ReconstructHistoricalStatesService service = createService(Optional.empty());
+
+  private BeaconState genesisState;
+
+  @BeforeEach
+  void setUp() {
+    genesisState = chainUpdater.initializeGenesis().getState();
+    // Leave some empty slots, including at the end of a batch and of a segment
+    for (int slot = 1; slot <= 48; slot++) {
+      if (slot % 5 != 0 && slot != 31) {
+        chainUpdater.advanceChain(slot);
+      }
+    }
+    chainUpdater.finalizeEpoch(6);
+
+    when(storageUpdateChannel.onFinalizedStates(any()))
+        .thenAnswer(
+            invocation -> {
+              final Collection<BeaconState> states = invocation.getArgument(0);
+              storedStates.addAll(states);
+              timeProvider.advanceTimeBySeconds(1);
+              return SafeFuture.COMPLETE;
+            });
+  }
+
+  @Test
+  void shouldReconstructStatesForAllSlotsBeforeAnchor() {
+    assertThat(service.reconstruct(genesisState, ANCHOR_SLOT)).isCompleted();
+
+    assertThat(getRoots(storedStates)).containsExactlyElementsOf(getExpectedRoots(1, 39));
+    assertThat(keyValueStore.get(getProgressKey(0))).contains(Bytes.ofUnsignedLong(15));
+    assertThat(keyValueStore.get(getProgressKey(16))).contains(Bytes.ofUnsignedLong(31));
+    assertThat(keyValueStore.get(getProgressKey(32))).contains(Bytes.ofUnsignedLong(39));
+  }
+
+  @Test
+  void shouldResumeFromRecordedProgress() {
+    keyValueStore.put(getProgressKey(0), Bytes.ofUnsignedLong(12));
+
+    assertThat(service.reconstruct(genesisState, ANCHOR_SLOT)).isCompleted();
+
+    assertThat(getRoots(storedStates)).containsExactlyElementsOf(getExpectedRoots(13, 39));
+  }
+
+  @Test
+  void shouldSkipCompletedSegments() {
+    keyValueStore.put(getProgressKey(16), Bytes.ofUnsignedLong(31));
+
+    assertThat(service.reconstruct(genesisState, ANCHOR_SLOT)).isCompleted();
+
+    final List<Bytes32> expectedRoots = new ArrayList<>(getExpectedRoots(1, 15));
+    expectedRoots.addAll(getExpectedRoots(32, 39));
+    assertThat(getRoots(storedStates)).containsExactlyInAnyOrderElementsOf(expectedRoots);
+  }
+
+  @Test
+  void shouldDoNothingWhenAllSegmentsComplete() {
+    keyValueStore.put(getProgressKey(0), Bytes.ofUnsignedLong(15));
+    keyValueStore.put(getProgressKey(16), Bytes.ofUnsignedLong(31));
+    keyValueStore.put(getProgressKey(32), Bytes.ofUnsignedLong(39));
+
+    assertThat(service.reconstruct(genesisState, ANCHOR_SLOT)).isCompleted();
+
+    assertThat(storedStates).isEmpty();
+  }
+
+  @Test
+  void shouldReconstructCompletedSegmentAgainWhenItsStateIsMissing() {
+    keyValueStore.put(getProgressKey(0), Bytes.ofUnsignedLong(15));
+    removeStoredState(15);
+
+    assertThat(service.reconstruct(genesisState, ANCHOR_SLOT)).isCompleted();
+
+    assertThat(getRoots(storedStates)).containsExactlyElementsOf(getExpectedRoots(1, 39));
+    assertThat(keyValueStore.get(getProgressKey(0))).contains(Bytes.ofUnsignedLong(15));
+  }
+
+  @Test
+  void shouldResumeFromEarlierCompletedSegmentWhenLaterStateIsMissing() {
+    keyValueStore.put(getProgressKey(0), Bytes.ofUnsignedLong(15));
+    keyValueStore.put(getProgressKey(16), Bytes.ofUnsignedLong(31));
+    removeStoredState(31);
+
+    assertThat(service.reconstruct(genesisState, ANCHOR_SLOT)).isCompleted();
+
+    assertThat(getRoots(storedStates)).containsExactlyElementsOf(getExpectedRoots(16, 39));
+  }
+
+  @Test
+  void shouldCancelReconstructionWhenStopped(@TempDir final Path tempDir) throws Exception {
+    final Path genesisFile = tempDir.resolve("genesis.ssz");
+    Files.write(genesisFile, genesisState.sszSerialize().toArrayUnsafe());
+    final ReconstructHistoricalStatesService stoppedService =
+        createService(Optional.of(genesisFile.toString()));
+    assertThat(stoppedService.start()).isCompleted();
+    assertThat(stoppedService.stop()).isCompleted();
+
+    final SafeFuture<Void> result = stoppedService.reconstruct(genesisState, ANCHOR_SLOT);
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(ShuttingDownException.class);
+    assertThat(storedStates).isEmpty();
+  }
+
+  @Test
+  void shouldReportProgressMetrics() {
+    assertThat(service.reconstruct(genesisState, ANCHOR_SLOT)).isCompleted();
+
+    assertThat(
+            metricsSystem
+                .getCounter(
+                    TekuMetricCategory.BEACON,
+                    "reconstruct_historical_states_reconstructed_slots_total")
+                .getValue())
+        .isEqualTo(39);
+    assertThat(
+            metricsSystem
+                .getGauge(
+                    TekuMetricCategory.BEACON, "reconstruct_historical_states_slots_per_second")
+                .getValue())
+        .isPositive();
+    assertThat(
+            metricsSystem
+                .getGauge(
+                    TekuMetricCategory.BEACON,
+                    "reconstruct_historical_states_estimated_seconds_remaining")
+                .getValue())
+        .isZero();
+  }
+
+  private ReconstructHistoricalStatesService createService(
+      final Optional<String> genesisStateResource) {
+    return new ReconstructHistoricalStatesService(
+        storageUpdateChannel,
+        chainDataClient,
+        spec,
+        genesisStateResource,
+        SyncAsyncRunner.SYNC_RUNNER,
+        metricsSystem,
+        timeProvider,
+        keyValueStore,
+        SLOTS_PER_SEGMENT,
+        SLOTS_PER_BATCH);
+  }
+
+  private void removeStoredState(final long slot) {
+    doReturn(SafeFuture.completedFuture(Optional.empty()))
+        .when(chainDataClient)
+        .getLatestStateAtSlot(UInt64.valueOf(slot));
+  }
+
+  private List<Bytes32> getExpectedRoots(final long fromSlot, final long toSlot) {
+    return chainBuilder
+        .streamBlocksAndStates(fromSlot, toSlot)
+        .map(blockAndState -> blockAndState.getState().hashTreeRoot())
+        .collect(Collectors.toList());
+  }
+
+  private List<Bytes32> getRoots(final List<BeaconState> states) {
+    return states.stream().map(BeaconState::hashTreeRoot).collect(Collectors.toList());
+  }
+
+  private String getProgressKey(final long segmentStartSlot) {
+    return ReconstructHistoricalStatesService.PROGRESS_KEY_PREFIX + segmentStartSlot;
+  }
+}
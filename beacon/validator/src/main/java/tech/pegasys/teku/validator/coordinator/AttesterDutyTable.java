@@ -0,0 +1,125 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Arrays;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.validator.api.AttesterDuty;
+
+/**
+ * An immutable table of the committee assignment of every validator for a single epoch.
+ *
+ * <p>The table is built with a single pass over the epoch's committees, so looking up the duty of
+ * a validator doesn't require searching every committee for it. Committees only depend on the
+ * epoch and the duty dependent root, so a table can be shared by all requests for the same pair.
+ */
+public class AttesterDutyTable {
+  private static final int UNASSIGNED = -1;
+  // Committee ids and positions are both below 2^16 as at most 2048 committees of 2048 validators
+  private static final int POSITION_BITS = 16;
+  private static final int POSITION_MASK = (1 << POSITION_BITS) - 1;
+
+  private final Bytes32 dependentRoot;
+  private final UInt64 epochStartSlot;
+  private final int committeeCountPerSlot;
+  // Committee sizes indexed by slotOffset * committeeCountPerSlot + committeeIndex
+  private final int[] committeeSizes;
+  // Committee id and position within the committee of each validator, packed in a single int
+  private final int[] validatorAssignments;
+
+  private AttesterDutyTable(
+      final Bytes32 dependentRoot,
+      final UInt64 epochStartSlot,
+      final int committeeCountPerSlot,
+      final int[] committeeSizes,
+      final int[] validatorAssignments) {
+    this.dependentRoot = dependentRoot;
+    this.epochStartSlot = epochStartSlot;
+    this.committeeCountPerSlot = committeeCountPerSlot;
+    this.committeeSizes = committeeSizes;
+    this.validatorAssignments = validatorAssignments;
+  }
+
+  /**
+   * Builds the table for an epoch.
+   *
+   * @param spec the spec
+   * @param state a state from which committees for the epoch can be calculated
+   * @param epoch the epoch to build the table for
+   * @param dependentRoot the duty dependent root of the epoch
+   * @return the new table
+   */
+  public static AttesterDutyTable create(
+      final Spec spec, final BeaconState state, final UInt64 epoch, final Bytes32 dependentRoot) {
+    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epoch);
+    final int slotsPerEpoch = spec.slotsPerEpoch(epoch);
+    final int committeeCountPerSlot = spec.getCommitteeCountPerSlot(state, epoch).intValue();
+    final int[] committeeSizes = new int[slotsPerEpoch * committeeCountPerSlot];
+    final int[] validatorAssignments = new int[state.getValidators().size()];
+    Arrays.fill(validatorAssignments, UNASSIGNED);
+
+    for (int slotOffset = 0; slotOffset < slotsPerEpoch; slotOffset++) {
+      final UInt64 slot = epochStartSlot.plus(slotOffset);
+      for (int committeeIndex = 0; committeeIndex < committeeCountPerSlot; committeeIndex++) {
+        final IntList committee =
+            spec.getBeaconCommittee(state, slot, UInt64.valueOf(committeeIndex));
+        final int committeeId = slotOffset * committeeCountPerSlot + committeeIndex;
+        committeeSizes[committeeId] = committee.size();
+        for (int position = 0; position < committee.size(); position++) {
+          validatorAssignments[committee.getInt(position)] =
+              (committeeId << POSITION_BITS) | position;
+        }
+      }
+    }
+    return new AttesterDutyTable(
+        dependentRoot, epochStartSlot, committeeCountPerSlot, committeeSizes, validatorAssignments);
+  }
+
+  public Bytes32 getDependentRoot() {
+    return dependentRoot;
+  }
+
+  /**
+   * Returns the duty of a validator, if it is assigned to a committee in this epoch.
+   *
+   * @param publicKey the public key of the validator
+   * @param validatorIndex the index of the validator
+   * @return the duty or empty if the validator isn't assigned to a committee
+   */
+  public Optional<AttesterDuty> getAttesterDuty(
+      final BLSPublicKey publicKey, final int validatorIndex) {
+    if (validatorIndex < 0
+        || validatorIndex >= validatorAssignments.length
+        || validatorAssignments[validatorIndex] == UNASSIGNED) {
+      return Optional.empty();
+    }
+    final int assignment = validatorAssignments[validatorIndex];
+    final int committeeId = assignment >>> POSITION_BITS;
+    return Optional.of(
+        new AttesterDuty(
+            publicKey,
+            validatorIndex,
+            committeeSizes[committeeId],
+            committeeId % committeeCountPerSlot,
+            committeeCountPerSlot,
+            assignment & POSITION_MASK,
+            epochStartSlot.plus(committeeId / committeeCountPerSlot)));
+  }
+}
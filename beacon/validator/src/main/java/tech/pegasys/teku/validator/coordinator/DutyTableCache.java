@@ -0,0 +1,267 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.validator.api.ProposerDuty;
+
+/**
+ * Caches the attester and proposer duties of each epoch, keyed by the epoch and its duty dependent
+ * root, so that repeated duty requests from validator clients don't recalculate them.
+ *
+ * <p>Tables for the current and next epoch are built as soon as the head moves into a new epoch,
+ * ahead of validator clients requesting them. When the head is reorged, tables for the head epoch
+ * or later whose dependent root is no longer canonical are discarded.
+ */
+public class DutyTableCache implements ChainHeadChannel {
+  private static final Logger LOG = LogManager.getLogger();
+
+  // Enough for the previous, current and next epoch on a couple of competing forks
+  static final int MAX_CACHED_EPOCHS = 8;
+
+  private final Spec spec;
+  private final CombinedChainDataClient combinedChainDataClient;
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+
+  private final Map<DutyTableKey, AttesterDutyTable> attesterDutyTables =
+      LimitedMap.createIterable(MAX_CACHED_EPOCHS);
+  private final Map<DutyTableKey, List<ProposerDuty>> proposerDutyTables =
+      LimitedMap.createIterable(MAX_CACHED_EPOCHS);
+
+  private final MetricsHistogram buildTime;
+  private final Counter attesterHits;
+  private final Counter attesterMisses;
+  private final Counter proposerHits;
+  private final Counter proposerMisses;
+
+  public DutyTableCache(
+      final Spec spec,
+      final CombinedChainDataClient combinedChainDataClient,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem) {
+    this.spec = spec;
+    this.combinedChainDataClient = combinedChainDataClient;
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.buildTime =
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "duty_table_build_time",
+            "Milliseconds taken to calculate the duties of all validators for an epoch",
+            1,
+            List.of("type"));
+    final LabelledMetric<Counter> requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            "duty_table_requests",
+            "Number of duty requests served from a cached duty table or requiring a new one",
+            "type",
+            "result");
+    attesterHits = requestCounter.labels("attester", "hit");
+    attesterMisses = requestCounter.labels("attester", "miss");
+    proposerHits = requestCounter.labels("proposer", "hit");
+    proposerMisses = requestCounter.labels("proposer", "miss");
+  }
+
+  /**
+   * Returns the attester duty table for an epoch, building it if required.
+   *
+   * @param state a state from which committees for the epoch can be calculated
+   * @param epoch the epoch to get duties for
+   * @return the duty table
+   */
+  public AttesterDutyTable getAttesterDutyTable(final BeaconState state, final UInt64 epoch) {
+    final Bytes32 dependentRoot =
+        epoch.isGreaterThan(spec.getCurrentEpoch(state))
+            ? spec.atEpoch(epoch).getBeaconStateUtil().getCurrentDutyDependentRoot(state)
+            : spec.atEpoch(epoch).getBeaconStateUtil().getPreviousDutyDependentRoot(state);
+    return getOrBuild(
+        attesterDutyTables,
+        new DutyTableKey(epoch, dependentRoot),
+        attesterHits,
+        attesterMisses,
+        "attester",
+        () -> AttesterDutyTable.create(spec, state, epoch, dependentRoot));
+  }
+
+  /**
+   * Returns the proposer of each slot in an epoch, calculating them if required.
+   *
+   * @param state a state in the epoch
+   * @param epoch the epoch to get duties for
+   * @return the proposer duties in slot order
+   */
+  public List<ProposerDuty> getProposerDuties(final BeaconState state, final UInt64 epoch) {
+    final Bytes32 dependentRoot = getProposerDependentRoot(state, epoch);
+    return getOrBuild(
+        proposerDutyTables,
+        new DutyTableKey(epoch, dependentRoot),
+        proposerHits,
+        proposerMisses,
+        "proposer",
+        () -> calculateProposerDuties(state, epoch));
+  }
+
+  public Bytes32 getProposerDependentRoot(final BeaconState state, final UInt64 epoch) {
+    return spec.atEpoch(epoch).getBeaconStateUtil().getCurrentDutyDependentRoot(state);
+  }
+
+  @Override
+  public void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final boolean executionOptimistic,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    final UInt64 headEpoch = spec.computeEpochAtSlot(slot);
+    if (optionalReorgContext.isPresent()) {
+      attesterDutyTables
+          .keySet()
+          .removeIf(
+              key ->
+                  key.isStale(
+                      headEpoch,
+                      key.epoch.equals(headEpoch)
+                          ? previousDutyDependentRoot
+                          : currentDutyDependentRoot));
+      proposerDutyTables.keySet().removeIf(key -> key.isStale(headEpoch, currentDutyDependentRoot));
+    }
+    if (epochTransition) {
+      combinedChainDataClient
+          .getBestState()
+          .ifPresent(
+              stateFuture ->
+                  stateFuture
+                      .thenCompose(
+                          state -> asyncRunner.runAsync(() -> precomputeDuties(state, headEpoch)))
+                      .finish(
+                          error ->
+                              LOG.debug(
+                                  "Failed to precompute duties for epoch {}", headEpoch, error)));
+    }
+  }
+
+  private void precomputeDuties(final BeaconState state, final UInt64 headEpoch) {
+    if (!spec.getCurrentEpoch(state).equals(headEpoch)) {
+      // Head has moved on since the update was published
+      return;
+    }
+    getProposerDuties(state, headEpoch);
+    getAttesterDutyTable(state, headEpoch);
+    getAttesterDutyTable(state, headEpoch.increment());
+  }
+
+  private <T> T getOrBuild(
+      final Map<DutyTableKey, T> tables,
+      final DutyTableKey key,
+      final Counter hits,
+      final Counter misses,
+      final String type,
+      final Supplier<T> builder) {
+    final T existingTable = tables.get(key);
+    if (existingTable != null) {
+      hits.inc();
+      return existingTable;
+    }
+    // Concurrent requests for the same table wait for a single build to complete
+    return tables.computeIfAbsent(
+        key,
+        __ -> {
+          misses.inc();
+          final UInt64 startTime = timeProvider.getTimeInMillis();
+          final T table = builder.get();
+          buildTime.recordValue(
+              timeProvider.getTimeInMillis().minusMinZero(startTime).longValue(), type);
+          return table;
+        });
+  }
+
+  private List<ProposerDuty> calculateProposerDuties(final BeaconState state, final UInt64 epoch) {
+    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epoch);
+    final UInt64 startSlot = epochStartSlot.max(GENESIS_SLOT.increment());
+    final UInt64 endSlot = epochStartSlot.plus(spec.slotsPerEpoch(epoch));
+    final List<ProposerDuty> proposerSlots = new ArrayList<>();
+    for (UInt64 slot = startSlot; slot.compareTo(endSlot) < 0; slot = slot.plus(UInt64.ONE)) {
+      final int proposerIndex = spec.getBeaconProposerIndex(state, slot);
+      final BLSPublicKey publicKey =
+          spec.getValidatorPubKey(state, UInt64.valueOf(proposerIndex)).orElseThrow();
+      proposerSlots.add(new ProposerDuty(publicKey, proposerIndex, slot));
+    }
+    return Collections.unmodifiableList(proposerSlots);
+  }
+
+  private static class DutyTableKey {
+    private final UInt64 epoch;
+    private final Bytes32 dependentRoot;
+
+    private DutyTableKey(final UInt64 epoch, final Bytes32 dependentRoot) {
+      this.epoch = epoch;
+      this.dependentRoot = dependentRoot;
+    }
+
+    private boolean isStale(final UInt64 headEpoch, final Bytes32 canonicalDependentRoot) {
+      return epoch.isGreaterThanOrEqualTo(headEpoch)
+          && !dependentRoot.equals(canonicalDependentRoot);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final DutyTableKey that = (DutyTableKey) o;
+      return Objects.equals(epoch, that.epoch) && Objects.equals(dependentRoot, that.dependentRoot);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(epoch, dependentRoot);
+    }
+  }
+}
@@ -17,7 +17,6 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static tech.pegasys.teku.infrastructure.logging.LogFormatter.formatBlock;
 import static tech.pegasys.teku.infrastructure.logging.ValidatorLogger.VALIDATOR_LOGGER;
-import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
 import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.ints.IntCollection;
@@ -31,7 +30,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -82,7 +80,6 @@ import tech.pegasys.teku.validator.api.AttesterDuty;
 import tech.pegasys.teku.validator.api.CommitteeSubscriptionRequest;
 import tech.pegasys.teku.validator.api.NodeSyncingException;
 import tech.pegasys.teku.validator.api.ProposerDuties;
-import tech.pegasys.teku.validator.api.ProposerDuty;
 import tech.pegasys.teku.validator.api.SendSignedBlockResult;
 import tech.pegasys.teku.validator.api.SubmitDataError;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuties;
@@ -112,6 +109,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
   private final AttestationTopicSubscriber attestationTopicSubscriber;
   private final ActiveValidatorTracker activeValidatorTracker;
   private final DutyMetrics dutyMetrics;
+  private final DutyTableCache dutyTableCache;
   private final PerformanceTracker performanceTracker;
   private final Spec spec;
   private final ForkChoiceTrigger forkChoiceTrigger;
@@ -132,6 +130,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
       final AttestationTopicSubscriber attestationTopicSubscriber,
       final ActiveValidatorTracker activeValidatorTracker,
       final DutyMetrics dutyMetrics,
+      final DutyTableCache dutyTableCache,
       final PerformanceTracker performanceTracker,
       final Spec spec,
       final ForkChoiceTrigger forkChoiceTrigger,
@@ -150,6 +149,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
     this.attestationTopicSubscriber = attestationTopicSubscriber;
     this.activeValidatorTracker = activeValidatorTracker;
     this.dutyMetrics = dutyMetrics;
+    this.dutyTableCache = dutyTableCache;
     this.performanceTracker = performanceTracker;
     this.spec = spec;
     this.forkChoiceTrigger = forkChoiceTrigger;
@@ -665,47 +665,30 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
 
   private ProposerDuties getProposerDutiesFromIndicesAndState(
       final BeaconState state, final UInt64 epoch) {
-    final List<ProposerDuty> result = getProposalSlotsForEpoch(state, epoch);
     return new ProposerDuties(
-        spec.atEpoch(epoch).getBeaconStateUtil().getCurrentDutyDependentRoot(state),
-        result,
+        dutyTableCache.getProposerDependentRoot(state, epoch),
+        dutyTableCache.getProposerDuties(state, epoch),
         combinedChainDataClient.isChainHeadOptimistic());
   }
 
   private AttesterDuties getAttesterDutiesFromIndicesAndState(
       final BeaconState state, final UInt64 epoch, final IntCollection validatorIndices) {
-    final Bytes32 dependentRoot =
-        epoch.isGreaterThan(spec.getCurrentEpoch(state))
-            ? spec.atEpoch(epoch).getBeaconStateUtil().getCurrentDutyDependentRoot(state)
-            : spec.atEpoch(epoch).getBeaconStateUtil().getPreviousDutyDependentRoot(state);
+    final AttesterDutyTable dutyTable = dutyTableCache.getAttesterDutyTable(state, epoch);
     return new AttesterDuties(
         combinedChainDataClient.isChainHeadOptimistic(),
-        dependentRoot,
+        dutyTable.getDependentRoot(),
         validatorIndices
             .intStream()
-            .mapToObj(index -> createAttesterDuties(state, epoch, index))
+            .mapToObj(index -> createAttesterDuties(state, dutyTable, index))
             .filter(Optional::isPresent)
             .map(Optional::get)
             .collect(toList()));
   }
 
   private Optional<AttesterDuty> createAttesterDuties(
-      final BeaconState state, final UInt64 epoch, final int validatorIndex) {
-
-    return combine(
-        spec.getValidatorPubKey(state, UInt64.valueOf(validatorIndex)),
-        spec.getCommitteeAssignment(state, epoch, validatorIndex),
-        (pkey, committeeAssignment) -> {
-          final UInt64 committeeCountPerSlot = spec.getCommitteeCountPerSlot(state, epoch);
-          return new AttesterDuty(
-              pkey,
-              validatorIndex,
-              committeeAssignment.getCommittee().size(),
-              committeeAssignment.getCommitteeIndex().intValue(),
-              committeeCountPerSlot.intValue(),
-              committeeAssignment.getCommittee().indexOf(validatorIndex),
-              committeeAssignment.getSlot());
-        });
+      final BeaconState state, final AttesterDutyTable dutyTable, final int validatorIndex) {
+    return spec.getValidatorPubKey(state, UInt64.valueOf(validatorIndex))
+        .flatMap(publicKey -> dutyTable.getAttesterDuty(publicKey, validatorIndex));
   }
 
   private SafeFuture<Optional<BeaconState>> getStateForCommitteeDuties(
@@ -788,25 +771,4 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
             state.getValidators().get(validatorIndex).getPublicKey(), validatorIndex, duties));
   }
 
-  private static <A, B, R> Optional<R> combine(
-      Optional<A> a, Optional<B> b, BiFunction<A, B, R> fun) {
-    if (a.isEmpty() || b.isEmpty()) {
-      return Optional.empty();
-    }
-    return Optional.ofNullable(fun.apply(a.get(), b.get()));
-  }
-
-  private List<ProposerDuty> getProposalSlotsForEpoch(final BeaconState state, final UInt64 epoch) {
-    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epoch);
-    final UInt64 startSlot = epochStartSlot.max(GENESIS_SLOT.increment());
-    final UInt64 endSlot = epochStartSlot.plus(spec.slotsPerEpoch(epoch));
-    final List<ProposerDuty> proposerSlots = new ArrayList<>();
-    for (UInt64 slot = startSlot; slot.compareTo(endSlot) < 0; slot = slot.plus(UInt64.ONE)) {
-      final int proposerIndex = spec.getBeaconProposerIndex(state, slot);
-      final BLSPublicKey publicKey =
-          spec.getValidatorPubKey(state, UInt64.valueOf(proposerIndex)).orElseThrow();
-      proposerSlots.add(new ProposerDuty(publicKey, proposerIndex, slot));
-    }
-    return proposerSlots;
-  }
 }
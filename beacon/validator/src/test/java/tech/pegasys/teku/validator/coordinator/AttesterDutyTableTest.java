@@ -0,0 +1,99 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.api.AttesterDuty;
+
+class AttesterDutyTableTest {
+  private static final int VALIDATOR_COUNT = 256;
+  private static final int INACTIVE_VALIDATOR = 7;
+  private static final UInt64 EPOCH = UInt64.valueOf(5);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final Bytes32 dependentRoot = dataStructureUtil.randomBytes32();
+
+  private final BeaconState state =
+      dataStructureUtil
+          .randomBeaconState(VALIDATOR_COUNT)
+          .updated(
+              mutableState -> {
+                mutableState.setSlot(spec.computeStartSlotAtEpoch(EPOCH));
+                final SszMutableList<Validator> validators = mutableState.getValidators();
+                for (int i = 0; i < validators.size(); i++) {
+                  final UInt64 exitEpoch =
+                      i == INACTIVE_VALIDATOR ? UInt64.ZERO : SpecConfig.FAR_FUTURE_EPOCH;
+                  validators.update(
+                      i,
+                      validator ->
+                          validator
+                              .withActivationEligibilityEpoch(UInt64.ZERO)
+                              .withActivationEpoch(UInt64.ZERO)
+                              .withExitEpoch(exitEpoch)
+                              .withWithdrawableEpoch(SpecConfig.FAR_FUTURE_EPOCH));
+                }
+              });
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1})
+  void getAttesterDuty_shouldMatchCommitteeAssignment(final int epochOffset) {
+    final UInt64 epoch = EPOCH.plus(epochOffset);
+    final AttesterDutyTable table = AttesterDutyTable.create(spec, state, epoch, dependentRoot);
+    final int committeeCountPerSlot = spec.getCommitteeCountPerSlot(state, epoch).intValue();
+    assertThat(committeeCountPerSlot).isGreaterThan(1);
+
+    for (int validatorIndex = 0; validatorIndex < VALIDATOR_COUNT; validatorIndex++) {
+      final int index = validatorIndex;
+      final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+      final Optional<AttesterDuty> expected =
+          spec.getCommitteeAssignment(state, epoch, index)
+              .map(
+                  assignment ->
+                      new AttesterDuty(
+                          publicKey,
+                          index,
+                          assignment.getCommittee().size(),
+                          assignment.getCommitteeIndex().intValue(),
+                          committeeCountPerSlot,
+                          assignment.getCommittee().indexOf(index),
+                          assignment.getSlot()));
+      assertThat(table.getAttesterDuty(publicKey, index)).isEqualTo(expected);
+    }
+    assertThat(table.getDependentRoot()).isEqualTo(dependentRoot);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {INACTIVE_VALIDATOR, -1, VALIDATOR_COUNT})
+  void getAttesterDuty_shouldBeEmptyWhenValidatorHasNoAssignment(final int validatorIndex) {
+    final AttesterDutyTable table = AttesterDutyTable.create(spec, state, EPOCH, dependentRoot);
+
+    assertThat(table.getAttesterDuty(dataStructureUtil.randomPublicKey(), validatorIndex))
+        .isEmpty();
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.ReorgContext;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.validator.api.ProposerDuty;
+
+class DutyTableCacheTest {
+  private static final UInt64 EPOCH = UInt64.valueOf(5);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final CombinedChainDataClient combinedChainDataClient =
+      mock(CombinedChainDataClient.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+
+  private final DutyTableCache dutyTableCache =
+      new DutyTableCache(
+          spec,
+          combinedChainDataClient,
+          asyncRunner,
+          StubTimeProvider.withTimeInMillis(0),
+          metricsSystem);
+
+  private final BeaconState state = createStateWithActiveValidators();
+
+  @Test
+  void getAttesterDutyTable_shouldReuseTableForSameDependentRoot() {
+    final AttesterDutyTable table = dutyTableCache.getAttesterDutyTable(state, EPOCH);
+
+    assertThat(dutyTableCache.getAttesterDutyTable(state, EPOCH)).isSameAs(table);
+    assertThat(table.getDependentRoot()).isEqualTo(spec.getPreviousDutyDependentRoot(state));
+    assertThat(getRequestCount("attester", "miss")).isEqualTo(1);
+    assertThat(getRequestCount("attester", "hit")).isEqualTo(1);
+  }
+
+  @Test
+  void getAttesterDutyTable_shouldBuildNewTableForDifferentDependentRoot() {
+    final BeaconState forkState = createStateWithActiveValidators();
+    final AttesterDutyTable table = dutyTableCache.getAttesterDutyTable(state, EPOCH);
+    final AttesterDutyTable forkTable = dutyTableCache.getAttesterDutyTable(forkState, EPOCH);
+
+    assertThat(forkTable).isNotSameAs(table);
+    assertThat(forkTable.getDependentRoot())
+        .isEqualTo(spec.getPreviousDutyDependentRoot(forkState));
+    assertThat(getRequestCount("attester", "miss")).isEqualTo(2);
+  }
+
+  @Test
+  void getAttesterDutyTable_shouldUseCurrentDependentRootForNextEpoch() {
+    final AttesterDutyTable table = dutyTableCache.getAttesterDutyTable(state, EPOCH.increment());
+
+    assertThat(table.getDependentRoot()).isEqualTo(spec.getCurrentDutyDependentRoot(state));
+  }
+
+  @Test
+  void getProposerDuties_shouldCalculateAndReuseDuties() {
+    final List<ProposerDuty> duties = dutyTableCache.getProposerDuties(state, EPOCH);
+
+    assertThat(duties).hasSize(spec.slotsPerEpoch(EPOCH));
+    for (ProposerDuty duty : duties) {
+      assertThat(duty.getValidatorIndex())
+          .isEqualTo(spec.getBeaconProposerIndex(state, duty.getSlot()));
+    }
+    assertThat(dutyTableCache.getProposerDuties(state, EPOCH)).isSameAs(duties);
+    assertThat(getRequestCount("proposer", "miss")).isEqualTo(1);
+    assertThat(getRequestCount("proposer", "hit")).isEqualTo(1);
+  }
+
+  @Test
+  void chainHeadUpdated_shouldDiscardTablesWithNonCanonicalDependentRootOnReorg() {
+    final AttesterDutyTable attesterTable = dutyTableCache.getAttesterDutyTable(state, EPOCH);
+    final List<ProposerDuty> proposerDuties = dutyTableCache.getProposerDuties(state, EPOCH);
+
+    notifyChainHeadUpdated(
+        false,
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        ReorgContext.of(
+            dataStructureUtil.randomBytes32(),
+            state.getSlot(),
+            dataStructureUtil.randomBytes32(),
+            state.getSlot().minus(1),
+            dataStructureUtil.randomBytes32()));
+
+    assertThat(dutyTableCache.getAttesterDutyTable(state, EPOCH)).isNotSameAs(attesterTable);
+    assertThat(dutyTableCache.getProposerDuties(state, EPOCH)).isNotSameAs(proposerDuties);
+  }
+
+  @Test
+  void chainHeadUpdated_shouldKeepTablesWithCanonicalDependentRootOnReorg() {
+    final AttesterDutyTable attesterTable = dutyTableCache.getAttesterDutyTable(state, EPOCH);
+    final List<ProposerDuty> proposerDuties = dutyTableCache.getProposerDuties(state, EPOCH);
+
+    notifyChainHeadUpdated(
+        false,
+        spec.getPreviousDutyDependentRoot(state),
+        spec.getCurrentDutyDependentRoot(state),
+        ReorgContext.of(
+            dataStructureUtil.randomBytes32(),
+            state.getSlot(),
+            dataStructureUtil.randomBytes32(),
+            state.getSlot().minus(1),
+            dataStructureUtil.randomBytes32()));
+
+    assertThat(dutyTableCache.getAttesterDutyTable(state, EPOCH)).isSameAs(attesterTable);
+    assertThat(dutyTableCache.getProposerDuties(state, EPOCH)).isSameAs(proposerDuties);
+  }
+
+  @Test
+  void chainHeadUpdated_shouldKeepTablesWhenNotReorg() {
+    final AttesterDutyTable attesterTable = dutyTableCache.getAttesterDutyTable(state, EPOCH);
+
+    notifyChainHeadUpdated(
+        false,
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        ReorgContext.empty());
+
+    assertThat(dutyTableCache.getAttesterDutyTable(state, EPOCH)).isSameAs(attesterTable);
+  }
+
+  @Test
+  void chainHeadUpdated_shouldPrecomputeDutiesOnEpochTransition() {
+    when(combinedChainDataClient.getBestState())
+        .thenReturn(Optional.of(SafeFuture.completedFuture(state)));
+
+    notifyChainHeadUpdated(
+        true,
+        spec.getPreviousDutyDependentRoot(state),
+        spec.getCurrentDutyDependentRoot(state),
+        ReorgContext.empty());
+    asyncRunner.executeQueuedActions();
+
+    assertThat(getRequestCount("attester", "miss")).isEqualTo(2);
+    assertThat(getRequestCount("proposer", "miss")).isEqualTo(1);
+
+    dutyTableCache.getAttesterDutyTable(state, EPOCH);
+    dutyTableCache.getAttesterDutyTable(state, EPOCH.increment());
+    dutyTableCache.getProposerDuties(state, EPOCH);
+
+    assertThat(getRequestCount("attester", "miss")).isEqualTo(2);
+    assertThat(getRequestCount("attester", "hit")).isEqualTo(2);
+    assertThat(getRequestCount("proposer", "hit")).isEqualTo(1);
+  }
+
+  private void notifyChainHeadUpdated(
+      final boolean epochTransition,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> reorgContext) {
+    dutyTableCache.chainHeadUpdated(
+        state.getSlot(),
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        epochTransition,
+        false,
+        previousDutyDependentRoot,
+        currentDutyDependentRoot,
+        reorgContext);
+  }
+
+  private long getRequestCount(final String type, final String result) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.VALIDATOR, "duty_table_requests")
+        .getValue(type, result);
+  }
+
+  private BeaconState createStateWithActiveValidators() {
+    return dataStructureUtil
+        .randomBeaconState(64)
+        .updated(
+            mutableState -> {
+              mutableState.setSlot(spec.computeStartSlotAtEpoch(EPOCH));
+              final SszMutableList<Validator> validators = mutableState.getValidators();
+              for (int i = 0; i < validators.size(); i++) {
+                validators.update(
+                    i,
+                    validator ->
+                        validator
+                            .withActivationEligibilityEpoch(UInt64.ZERO)
+                            .withActivationEpoch(UInt64.ZERO)
+                            .withExitEpoch(SpecConfig.FAR_FUTURE_EPOCH)
+                            .withWithdrawableEpoch(SpecConfig.FAR_FUTURE_EPOCH));
+              }
+            });
+  }
+}
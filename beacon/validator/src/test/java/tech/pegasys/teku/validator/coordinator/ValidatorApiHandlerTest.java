@@ -50,7 +50,10 @@ import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.BlockGossipChannel;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationTopicSubscriber;
@@ -121,6 +124,13 @@ class ValidatorApiHandlerTest {
       mock(DefaultPerformanceTracker.class);
   private final ChainDataProvider chainDataProvider = mock(ChainDataProvider.class);
   private final DutyMetrics dutyMetrics = mock(DutyMetrics.class);
+  private final DutyTableCache dutyTableCache =
+      new DutyTableCache(
+          spec,
+          chainDataClient,
+          new StubAsyncRunner(),
+          StubTimeProvider.withTimeInMillis(0),
+          new StubMetricsSystem());
   private final ForkChoiceTrigger forkChoiceTrigger = mock(ForkChoiceTrigger.class);
   private final ProposersDataManager proposersDataManager = mock(ProposersDataManager.class);
   private final SyncCommitteeMessagePool syncCommitteeMessagePool =
@@ -143,6 +153,7 @@ class ValidatorApiHandlerTest {
           attestationTopicSubscriptions,
           activeValidatorTracker,
           dutyMetrics,
+          dutyTableCache,
           performanceTracker,
           spec,
           forkChoiceTrigger,
@@ -393,6 +404,12 @@ class ValidatorApiHandlerTest {
             attestationTopicSubscriptions,
             activeValidatorTracker,
             dutyMetrics,
+            new DutyTableCache(
+                spec,
+                chainDataClient,
+                new StubAsyncRunner(),
+                StubTimeProvider.withTimeInMillis(0),
+                new StubMetricsSystem()),
             performanceTracker,
             spec,
             forkChoiceTrigger,
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static tech.pegasys.teku.api.ValidatorDataProvider.PARTIAL_PUBLISH_FAILURE_MESSAGE;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_INTERNAL_ERROR;
@@ -43,6 +44,7 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 import tech.pegasys.teku.validator.api.SubmitDataError;
 
 public class PostAttestation extends MigratingEndpointAdapter {
@@ -56,6 +58,11 @@ public class PostAttestation extends MigratingEndpointAdapter {
 
   public PostAttestation(
       final ValidatorDataProvider provider, final SchemaDefinitionCache schemaDefinitionCache) {
+    this(provider, schemaDefinitionCache.getSchemaDefinition(SpecMilestone.PHASE0));
+  }
+
+  private PostAttestation(
+      final ValidatorDataProvider provider, final SchemaDefinitions schemaDefinitions) {
     super(
         EndpointMetadata.post(ROUTE)
             .operationId("postAttestation")
@@ -66,10 +73,9 @@ public class PostAttestation extends MigratingEndpointAdapter {
             .tags(TAG_BEACON, TAG_VALIDATOR_REQUIRED)
             .requestBodyType(
                 DeserializableTypeDefinition.listOf(
-                    schemaDefinitionCache
-                        .getSchemaDefinition(SpecMilestone.PHASE0)
-                        .getAttestationSchema()
-                        .getJsonTypeDefinition()))
+                    schemaDefinitions.getAttestationSchema().getJsonTypeDefinition()),
+                bytes ->
+                    schemaDefinitions.getAttestationListSchema().sszDeserialize(bytes).asList())
             .response(SC_OK, "Attestations are stored in pool and broadcast on appropriate subnet")
             .response(
                 SC_BAD_REQUEST,
@@ -89,7 +95,8 @@ public class PostAttestation extends MigratingEndpointAdapter {
               content = {
                 @OpenApiContent(
                     from = tech.pegasys.teku.api.schema.Attestation.class,
-                    isArray = true)
+                    isArray = true),
+                @OpenApiContent(type = OCTET_STREAM)
               }),
       description =
           "Submit signed attestations to the beacon node to be validated and submitted if valid.\n\n"
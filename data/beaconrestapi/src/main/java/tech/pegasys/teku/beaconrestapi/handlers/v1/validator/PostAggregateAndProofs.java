@@ -14,6 +14,7 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v1.validator;
 
 import static tech.pegasys.teku.api.ValidatorDataProvider.PARTIAL_PUBLISH_FAILURE_MESSAGE;
+import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_BAD_REQUEST;
@@ -62,7 +63,12 @@ public class PostAggregateAndProofs extends MigratingEndpointAdapter {
             .tags(TAG_VALIDATOR, TAG_VALIDATOR_REQUIRED)
             .requestBodyType(
                 DeserializableTypeDefinition.listOf(
-                    schemaDefinitions.getSignedAggregateAndProofSchema().getJsonTypeDefinition()))
+                    schemaDefinitions.getSignedAggregateAndProofSchema().getJsonTypeDefinition()),
+                bytes ->
+                    schemaDefinitions
+                        .getSignedAggregateAndProofListSchema()
+                        .sszDeserialize(bytes)
+                        .asList())
             .response(SC_OK, "Successfully published aggregate.")
             .build());
     this.provider = provider;
@@ -78,7 +84,8 @@ public class PostAggregateAndProofs extends MigratingEndpointAdapter {
               content = {
                 @OpenApiContent(
                     from = tech.pegasys.teku.api.schema.SignedAggregateAndProof.class,
-                    isArray = true)
+                    isArray = true),
+                @OpenApiContent(type = OCTET_STREAM)
               }),
       description =
           "Verifies given aggregate and proofs and publishes it on appropriate gossipsub topic.",
@@ -27,15 +27,19 @@ import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.verifyMe
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.io.Resources;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerTest;
 import tech.pegasys.teku.beaconrestapi.schema.ErrorListBadRequest;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.http.ContentTypes;
 import tech.pegasys.teku.infrastructure.http.HttpStatusCodes;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.validator.api.SubmitDataError;
@@ -87,6 +91,22 @@ public class PostAttestationTest extends AbstractMigratedBeaconHandlerTest {
     assertThat(((List<?>) requestBody).get(0)).isInstanceOf(Attestation.class);
   }
 
+  @Test
+  void shouldReadRequestBodyAsSsz() throws IOException {
+    final List<Attestation> attestations =
+        List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+    final SszListSchema<Attestation, ?> schema =
+        spec.getGenesisSchemaDefinitions().getAttestationListSchema();
+    final Object requestBody =
+        handler
+            .getMetadata()
+            .getRequestBody(
+                new ByteArrayInputStream(
+                    schema.createFromElements(attestations).sszSerialize().toArrayUnsafe()),
+                Optional.of(ContentTypes.OCTET_STREAM));
+    assertThat(requestBody).isEqualTo(attestations);
+  }
+
   @Test
   void metadata_shouldHandle400() throws IOException {
     final List<SubmitDataError> errors =
@@ -39,6 +39,7 @@ import tech.pegasys.teku.data.slashinginterchange.SlashingProtectionInterchangeF
 import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.spec.signatures.SigningRecordJournal;
 
 public class SlashingProtectionExporter {
   private final JsonProvider jsonProvider = new JsonProvider();
@@ -56,8 +57,13 @@ public class SlashingProtectionExporter {
   public Map<BLSPublicKey, String> initialise(final Consumer<String> infoLogger) {
     File slashingProtectionRecords = slashProtectionPath.toFile();
     final Map<BLSPublicKey, String> importErrors = new HashMap<>();
+    final Map<Bytes, ValidatorSigningRecord> journalRecords = readJournalRecords();
     for (File currentFile : slashingProtectionRecords.listFiles()) {
-      final Optional<String> maybeError = readSlashProtectionFile(currentFile, infoLogger);
+      if (!currentFile.getName().endsWith(".yml")) {
+        continue;
+      }
+      final Optional<String> maybeError =
+          readSlashProtectionFile(currentFile, journalRecords, infoLogger);
       maybeError.ifPresent(
           error -> {
             final BLSPublicKey key =
@@ -66,19 +72,63 @@ public class SlashingProtectionExporter {
             importErrors.put(key, error);
           });
     }
+    // Validators which have only signed since the journal was last compacted have no file yet.
+    journalRecords.forEach(
+        (publicKey, record) -> {
+          final String pubkey = publicKey.toUnprefixedHexString();
+          addSigningHistory(pubkey, record, pubkey + ".yml", infoLogger)
+              .ifPresent(
+                  error ->
+                      importErrors.put(
+                          BLSPublicKey.fromBytesCompressed(Bytes48.wrap(publicKey)), error));
+        });
     return importErrors;
   }
 
+  protected Map<Bytes, ValidatorSigningRecord> readJournalRecords() {
+    try {
+      return SigningRecordJournal.readRecordsIfPresent(slashProtectionPath);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   // returns an error if there was one
   Optional<String> readSlashProtectionFile(final File file, final Consumer<String> infoLogger) {
+    return readSlashProtectionFile(file, new HashMap<>(), infoLogger);
+  }
+
+  protected Optional<String> readSlashProtectionFile(
+      final File file,
+      final Map<Bytes, ValidatorSigningRecord> journalRecords,
+      final Consumer<String> infoLogger) {
     try {
       Optional<ValidatorSigningRecord> maybeRecord =
           syncDataAccessor.read(file.toPath()).map(ValidatorSigningRecord::fromBytes);
       if (maybeRecord.isEmpty()) {
         return Optional.of("Failed to read from file " + file.getName());
       }
-      ValidatorSigningRecord validatorSigningRecord = maybeRecord.get();
+      final String pubkey = file.getName().substring(0, file.getName().length() - ".yml".length());
+      final ValidatorSigningRecord journalRecord =
+          journalRecords.remove(Bytes.fromHexString(pubkey));
+      return addSigningHistory(
+          pubkey,
+          SigningRecordJournal.mostRestrictive(maybeRecord.get(), journalRecord),
+          file.getName(),
+          infoLogger);
+    } catch (UncheckedIOException | IOException e) {
+      return Optional.of("Failed to read from file " + file);
+    } catch (IllegalArgumentException e) {
+      return Optional.of("Public key in file " + file.getName() + " does not appear valid.");
+    }
+  }
 
+  protected Optional<String> addSigningHistory(
+      final String pubkey,
+      final ValidatorSigningRecord validatorSigningRecord,
+      final String fileName,
+      final Consumer<String> infoLogger) {
+    try {
       if (validatorSigningRecord.getGenesisValidatorsRoot() != null) {
         if (genesisValidatorsRoot == null) {
           this.genesisValidatorsRoot = validatorSigningRecord.getGenesisValidatorsRoot();
@@ -86,21 +136,18 @@ public class SlashingProtectionExporter {
             validatorSigningRecord.getGenesisValidatorsRoot())) {
           return Optional.of(
               "The genesisValidatorsRoot of "
-                  + file.getName()
+                  + fileName
                   + " does not match the expected "
                   + genesisValidatorsRoot.toHexString());
         }
       }
 
-      final String pubkey = file.getName().substring(0, file.getName().length() - ".yml".length());
       infoLogger.accept("Exporting " + pubkey);
       signingHistoryList.add(
           new SigningHistory(BLSPubKey.fromHexString(pubkey), validatorSigningRecord));
       return Optional.empty();
-    } catch (UncheckedIOException | IOException e) {
-      return Optional.of("Failed to read from file " + file);
     } catch (PublicKeyException e) {
-      return Optional.of("Public key in file " + file.getName() + " does not appear valid.");
+      return Optional.of("Public key in file " + fileName + " does not appear valid.");
     }
   }
 
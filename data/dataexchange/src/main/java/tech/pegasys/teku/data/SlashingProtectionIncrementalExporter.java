@@ -15,10 +15,14 @@ package tech.pegasys.teku.data;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.File;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
 
 public class SlashingProtectionIncrementalExporter extends SlashingProtectionExporter {
   public SlashingProtectionIncrementalExporter(final Path slashProtectionPath) {
@@ -26,15 +30,39 @@ public class SlashingProtectionIncrementalExporter extends SlashingProtectionExp
   }
 
   public boolean haveSlashingProtectionData(final BLSPublicKey publicKey) {
-    return getSlashingProtectionFileForKey(publicKey).exists();
+    if (getSlashingProtectionFileForKey(publicKey).exists()) {
+      return true;
+    }
+    try {
+      return readJournalRecords().containsKey(publicKey.toBytesCompressed());
+    } catch (UncheckedIOException e) {
+      // Let the export report the failure rather than claiming there is no data.
+      return true;
+    }
   }
 
   // returns an error on failure to read, otherwise empty string.
   public Optional<String> addPublicKeyToExport(
       final BLSPublicKey publicKey, final Consumer<String> infoLogger) {
+    // The journal must be read before the .yml file. Compaction only drops journal entries once
+    // they have been written to the file, so reading in this order can't miss a record.
+    final Map<Bytes, ValidatorSigningRecord> journalRecords;
+    try {
+      journalRecords = readJournalRecords();
+    } catch (UncheckedIOException e) {
+      return Optional.of("Failed to read slashing protection journal: " + e.getMessage());
+    }
     final File slashingProtectionFile = getSlashingProtectionFileForKey(publicKey);
     if (slashingProtectionFile.exists()) {
-      return readSlashProtectionFile(slashingProtectionFile, infoLogger);
+      return readSlashProtectionFile(slashingProtectionFile, journalRecords, infoLogger);
+    }
+    final ValidatorSigningRecord journalRecord = journalRecords.get(publicKey.toBytesCompressed());
+    if (journalRecord != null) {
+      return addSigningHistory(
+          publicKey.toBytesCompressed().toUnprefixedHexString(),
+          journalRecord,
+          slashingProtectionFile.getName(),
+          infoLogger);
     }
     return Optional.empty();
   }
@@ -29,6 +29,7 @@ import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.logging.SubCommandLogger;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.signatures.SigningRecordJournal;
 
 public class SlashingProtectionRepairer {
   private final List<SigningHistory> signingHistoryList = new ArrayList<>();
@@ -58,6 +59,11 @@ public class SlashingProtectionRepairer {
 
   private void initialise(final Path slashProtectionPath) {
     this.slashingProtectionPath = slashProtectionPath;
+    try {
+      SigningRecordJournal.compactIfPresent(slashProtectionPath, syncDataAccessor);
+    } catch (IOException e) {
+      log.error("Failed to apply slashing protection journal", e);
+    }
     File slashingProtectionRecords = slashProtectionPath.toFile();
     Arrays.stream(slashingProtectionRecords.listFiles())
         .filter(file -> file.isFile() && file.getName().endsWith(".yml"))
@@ -28,9 +28,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -43,6 +43,7 @@ import tech.pegasys.teku.api.migrated.BlockHeadersResponse;
 import tech.pegasys.teku.api.migrated.StateSyncCommitteesData;
 import tech.pegasys.teku.api.migrated.StateValidatorBalanceData;
 import tech.pegasys.teku.api.migrated.StateValidatorData;
+import tech.pegasys.teku.api.migrated.ValidatorDataList;
 import tech.pegasys.teku.api.response.SszResponse;
 import tech.pegasys.teku.api.response.v1.beacon.GenesisData;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
@@ -66,6 +67,7 @@ import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistrySnapshot;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -267,10 +269,13 @@ public class ChainDataProvider {
   List<StateValidatorBalanceData> getValidatorBalancesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators) {
-    return getValidatorSelector(state, validators)
-        .mapToObj(index -> StateValidatorBalanceData.fromState(state, index))
-        .flatMap(Optional::stream)
-        .collect(Collectors.toList());
+    return getValidatorDataList(
+        state,
+        validators,
+        Set.of(),
+        index ->
+            new StateValidatorBalanceData(
+                UInt64.valueOf(index), state.getBalances().getElement(index)));
   }
 
   public Optional<Bytes32> getStateRootFromBlockRoot(final Bytes32 blockRoot) {
@@ -314,11 +319,33 @@ public class ChainDataProvider {
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return getValidatorSelector(state, validators)
-        .filter(getStatusPredicate(state, statusFilter))
-        .mapToObj(index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
-        .flatMap(Optional::stream)
-        .collect(toList());
+    return getValidatorDataList(
+        state,
+        validators,
+        statusFilter,
+        index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH).orElseThrow());
+  }
+
+  /**
+   * Selects validators by the given identifiers and status filter, then returns a list which
+   * creates the data for each selected validator as it is read. Only the selected indices are held
+   * in memory so large responses can be serialized without building a data object per validator.
+   */
+  private <T> List<T> getValidatorDataList(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators,
+      final Set<ValidatorStatus> statusFilter,
+      final IntFunction<T> dataFactory) {
+    final int validatorCount = state.getValidators().size();
+    if (validators.isEmpty() && statusFilter.isEmpty()) {
+      return ValidatorDataList.forAllValidators(validatorCount, dataFactory);
+    }
+    final int[] validatorIndices =
+        getValidatorSelector(state, validators)
+            .filter(index -> index < validatorCount)
+            .filter(getStatusPredicate(state, statusFilter))
+            .toArray();
+    return ValidatorDataList.forValidators(validatorIndices, dataFactory);
   }
 
   public Optional<ObjectAndMetaData<StateValidatorData>> getStateValidator(
@@ -407,9 +434,15 @@ public class ChainDataProvider {
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return statusFilter.isEmpty()
-        ? i -> true
-        : i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
+    if (statusFilter.isEmpty()) {
+      return i -> true;
+    }
+    final Optional<ValidatorRegistrySnapshot> snapshot = spec.getValidatorRegistrySnapshot(state);
+    if (snapshot.isPresent()) {
+      final ValidatorRegistrySnapshot validators = snapshot.get();
+      return i -> statusFilter.contains(getValidatorStatus(epoch, validators, i, FAR_FUTURE_EPOCH));
+    }
+    return i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
   }
 
   private IntStream getValidatorSelector(
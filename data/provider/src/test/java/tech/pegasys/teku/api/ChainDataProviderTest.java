@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.Bytes48;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +42,7 @@ import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
 import tech.pegasys.teku.api.migrated.BlockHeaderData;
 import tech.pegasys.teku.api.migrated.BlockHeadersResponse;
 import tech.pegasys.teku.api.migrated.StateSyncCommitteesData;
+import tech.pegasys.teku.api.migrated.StateValidatorData;
 import tech.pegasys.teku.api.response.v1.beacon.GenesisData;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.schema.BeaconState;
@@ -279,6 +281,39 @@ public class ChainDataProviderTest {
         .hasSize(0);
   }
 
+  @Test
+  public void filteredValidatorsList_shouldIgnoreIndicesOutOfRangeWhenFilteringByStatus() {
+    final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState internalState =
+        data.randomBeaconState(11);
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+
+    assertThat(
+            provider.getFilteredValidatorList(
+                internalState, List.of("1", "11"), Set.of(ValidatorStatus.pending_initialized)))
+        .extracting(validator -> validator.getIndex().intValue())
+        .containsExactly(1);
+  }
+
+  @Test
+  public void filteredValidatorsList_shouldContainAllValidatorsWhenNotFiltered() {
+    final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState internalState =
+        data.randomBeaconState(64);
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+    final UInt64 epoch = spec.getCurrentEpoch(internalState);
+
+    assertThat(provider.getFilteredValidatorList(internalState, emptyList(), emptySet()))
+        .containsExactlyElementsOf(
+            IntStream.range(0, 64)
+                .mapToObj(
+                    index ->
+                        StateValidatorData.fromState(
+                                internalState, index, epoch, SpecConfig.FAR_FUTURE_EPOCH)
+                            .orElseThrow())
+                .collect(toList()));
+  }
+
   @Test
   public void getStateCommittees_shouldReturnEmptyIfStateNotFound()
       throws ExecutionException, InterruptedException {
@@ -0,0 +1,68 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.migrated;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * A read-only list of data for a selection of validators, which creates the data for each validator
+ * as it is read rather than up front.
+ *
+ * <p>Responses covering every validator are serialized by iterating this list, so only the
+ * selected validator indices need to be held in memory rather than a data object per validator.
+ * Elements are created again each time they are read.
+ *
+ * @param <T> the type of data for each validator
+ */
+public class ValidatorDataList<T> extends AbstractList<T> implements RandomAccess {
+  private final int[] validatorIndices;
+  private final int size;
+  private final IntFunction<T> dataFactory;
+
+  private ValidatorDataList(
+      final int[] validatorIndices, final int size, final IntFunction<T> dataFactory) {
+    this.validatorIndices = validatorIndices;
+    this.size = size;
+    this.dataFactory = dataFactory;
+  }
+
+  /**
+   * Creates a list with data for each validator from index 0 up to but not including the validator
+   * count.
+   */
+  public static <T> ValidatorDataList<T> forAllValidators(
+      final int validatorCount, final IntFunction<T> dataFactory) {
+    return new ValidatorDataList<>(null, validatorCount, dataFactory);
+  }
+
+  /** Creates a list with data for each of the given validator indices, in order. */
+  public static <T> ValidatorDataList<T> forValidators(
+      final int[] validatorIndices, final IntFunction<T> dataFactory) {
+    return new ValidatorDataList<>(validatorIndices, validatorIndices.length, dataFactory);
+  }
+
+  @Override
+  public T get(final int index) {
+    Objects.checkIndex(index, size);
+    return dataFactory.apply(validatorIndices == null ? index : validatorIndices[index]);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.DEFAULT_MAXIMUM_ATTESTATION_COUNT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.statetransition.attestation.AttestationWorthinessChecker;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
+import tech.pegasys.teku.statetransition.attestation.AttestationForkChecker;
+
+/**
+ * Measures selecting the attestations for a block from a full pool, both on its own and while
+ * other threads are adding attestations received from gossip.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class AggregatingAttestationPoolBenchmark {
+  private static final int COMMITTEE_SIZE = 128;
+  private static final UInt64 BLOCK_SLOT = UInt64.valueOf(100);
+
+  @Param({"40000"})
+  int attestationCount;
+
+  /** Number of distinct attestation data per slot, as produced by validators on different heads. */
+  @Param({"16"})
+  int dataPerSlot;
+
+  private final Spec spec = TestSpecFactory.createMainnetPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttestationSchema attestationSchema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  private final AtomicInteger nextAttestation = new AtomicInteger();
+
+  private BeaconState state;
+  private AttestationForkChecker forkChecker;
+  private AttestationWorthinessChecker worthinessChecker;
+  private List<ValidateableAttestation> attestations;
+  private AggregatingAttestationPool pool;
+
+  @Setup(Level.Trial)
+  public void createAttestations() {
+    state = dataStructureUtil.randomBeaconState(1024).updated(s -> s.setSlot(BLOCK_SLOT));
+    forkChecker = new AttestationForkChecker(spec, state);
+    worthinessChecker = spec.createAttestationWorthinessChecker(state);
+
+    final List<AttestationData> attestationData = new ArrayList<>();
+    for (int slotsAgo = spec.getSlotsPerEpoch(BLOCK_SLOT); slotsAgo > 0; slotsAgo--) {
+      final UInt64 slot = BLOCK_SLOT.minus(slotsAgo);
+      final UInt64 epoch = spec.computeEpochAtSlot(slot);
+      final Checkpoint source =
+          epoch.equals(spec.getCurrentEpoch(state))
+              ? state.getCurrentJustifiedCheckpoint()
+              : state.getPreviousJustifiedCheckpoint();
+      for (int i = 0; i < dataPerSlot; i++) {
+        attestationData.add(
+            new AttestationData(
+                slot,
+                UInt64.ZERO,
+                dataStructureUtil.randomBytes32(),
+                source,
+                new Checkpoint(epoch, Bytes32.ZERO)));
+      }
+    }
+
+    final Random random = new Random(1);
+    attestations = new ArrayList<>(attestationCount);
+    for (int i = 0; i < attestationCount; i++) {
+      final int[] validators =
+          i % 8 == 0
+              ? IntStream.generate(() -> random.nextInt(COMMITTEE_SIZE)).limit(16).toArray()
+              : new int[] {random.nextInt(COMMITTEE_SIZE)};
+      final SszBitlist aggregationBits =
+          attestationSchema.getAggregationBitsSchema().ofBits(COMMITTEE_SIZE, validators);
+      final ValidateableAttestation attestation =
+          ValidateableAttestation.from(
+              spec,
+              attestationSchema.create(
+                  aggregationBits,
+                  attestationData.get(random.nextInt(attestationData.size())),
+                  dataStructureUtil.randomSignature()));
+      attestation.saveCommitteeShufflingSeed(state);
+      attestations.add(attestation);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void createPool() {
+    pool =
+        new AggregatingAttestationPool(
+            spec, new NoOpMetricsSystem(), DEFAULT_MAXIMUM_ATTESTATION_COUNT);
+    attestations.forEach(pool::add);
+    nextAttestation.set(0);
+  }
+
+  @Benchmark
+  public void getAttestationsForBlock(final Blackhole bh) {
+    bh.consume(pool.getAttestationsForBlock(state, forkChecker, worthinessChecker));
+  }
+
+  @Benchmark
+  @Group("contended")
+  @GroupThreads(1)
+  public void getAttestationsForBlockWhileAdding(final Blackhole bh) {
+    bh.consume(pool.getAttestationsForBlock(state, forkChecker, worthinessChecker));
+  }
+
+  @Benchmark
+  @Group("contended")
+  @GroupThreads(3)
+  public void add() {
+    // Re-adding existing attestations still has to find their group and check for duplicates
+    pool.add(attestations.get(Math.floorMod(nextAttestation.getAndIncrement(), attestationCount)));
+  }
+}
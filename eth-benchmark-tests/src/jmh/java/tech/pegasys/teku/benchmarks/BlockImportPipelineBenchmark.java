@@ -0,0 +1,157 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.benchmarks.gen.BlockIO;
+import tech.pegasys.teku.benchmarks.gen.BlsKeyPairIO;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
+import tech.pegasys.teku.infrastructure.async.eventthread.AsyncRunnerEventThread;
+import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
+import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.statetransition.BeaconChainUtil;
+import tech.pegasys.teku.statetransition.block.BlockImportNotifications;
+import tech.pegasys.teku.statetransition.block.BlockImporter;
+import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
+import tech.pegasys.teku.statetransition.forkchoice.MergeTransitionBlockValidator;
+import tech.pegasys.teku.statetransition.forkchoice.PandaPrinter;
+import tech.pegasys.teku.statetransition.forkchoice.StubForkChoiceNotifier;
+import tech.pegasys.teku.statetransition.forkchoice.TickProcessor;
+import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.weaksubjectivity.WeakSubjectivityFactory;
+
+/**
+ * JMH benchmark for the throughput of importing blocks during sync, with a full epoch of blocks
+ * imported as a single batch. A single block in flight matches importing the blocks sequentially.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@State(Scope.Thread)
+@Threads(1)
+public class BlockImportPipelineBenchmark {
+  private AsyncRunnerEventThread signatureVerificationExecutor;
+  private BeaconChainUtil localChain;
+  private BlockImporter blockImporter;
+  private Iterator<SignedBeaconBlock> blockIterator;
+  private List<SignedBeaconBlock> epochBlocks;
+  private int slotsPerEpoch;
+
+  @Param({"400000"})
+  int validatorsCount;
+
+  @Param({"1", "4"})
+  int maxBlocksInFlight;
+
+  @Setup(Level.Trial)
+  public void init() throws Exception {
+    final Spec spec = TestSpecFactory.createMainnetAltair();
+    AbstractBlockProcessor.blsVerifyDeposit = false;
+    slotsPerEpoch = spec.getSlotsPerEpoch(UInt64.ZERO);
+
+    final String blocksFile =
+        "/blocks/blocks_epoch_"
+            + slotsPerEpoch
+            + "_validators_"
+            + validatorsCount
+            + ".ssz.gz";
+    final String keysFile = "/bls-key-pairs/bls-key-pairs-400k-seed-0.txt.gz";
+
+    System.out.println("Generating keypairs from " + keysFile);
+    final List<BLSKeyPair> validatorKeys =
+        BlsKeyPairIO.createReaderForResource(keysFile).readAll(validatorsCount);
+
+    final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(spec);
+    signatureVerificationExecutor =
+        new AsyncRunnerEventThread(
+            "signatures",
+            AsyncRunnerFactory.createDefault(
+                new MetricTrackingExecutorFactory(new NoOpMetricsSystem())));
+    signatureVerificationExecutor.start();
+    final ForkChoice forkChoice =
+        new ForkChoice(
+            spec,
+            new InlineEventThread(),
+            signatureVerificationExecutor,
+            recentChainData,
+            new StubForkChoiceNotifier(),
+            new TickProcessor(spec, recentChainData),
+            new MergeTransitionBlockValidator(spec, recentChainData, ExecutionLayerChannel.NOOP),
+            PandaPrinter.NOOP,
+            false,
+            false);
+    localChain = BeaconChainUtil.create(spec, recentChainData, validatorKeys, false);
+    localChain.initializeStorage();
+
+    blockImporter =
+        new BlockImporter(
+            spec,
+            mock(BlockImportNotifications.class),
+            recentChainData,
+            forkChoice,
+            WeakSubjectivityFactory.lenientValidator(),
+            ExecutionLayerChannel.NOOP);
+    blockIterator = BlockIO.createResourceReader(spec, blocksFile).iterator();
+    System.out.println("Importing blocks from " + blocksFile);
+  }
+
+  @TearDown
+  public void dispose() {
+    signatureVerificationExecutor.stop();
+  }
+
+  @Setup(Level.Iteration)
+  public void prefetchEpoch() {
+    epochBlocks = new ArrayList<>();
+    while (blockIterator.hasNext() && epochBlocks.size() < slotsPerEpoch) {
+      epochBlocks.add(blockIterator.next());
+    }
+    localChain.setSlot(epochBlocks.get(epochBlocks.size() - 1).getSlot());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 10)
+  public void importEpoch() {
+    final BlockImportResult result =
+        blockImporter.importBlocks(epochBlocks, maxBlocksInFlight).join();
+    if (!result.isSuccessful()) {
+      throw new RuntimeException("Unable to import blocks: " + result);
+    }
+  }
+}
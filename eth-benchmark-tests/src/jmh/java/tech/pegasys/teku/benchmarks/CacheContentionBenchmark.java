@@ -0,0 +1,79 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.ConcurrentCache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+
+/**
+ * Compares cache implementations when many threads look up committees at once and some of those
+ * lookups miss and have to run an expensive computation, as during attestation validation.
+ */
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class CacheContentionBenchmark {
+  private static final int CAPACITY = 64 * 64;
+
+  @Param({"lru", "concurrent"})
+  String cacheType;
+
+  /** Percentage of lookups which go to a key outside the cached working set. */
+  @Param({"0", "1", "10"})
+  int missPercent;
+
+  @Param({"10000"})
+  int loadCostTokens;
+
+  private Cache<Integer, Integer> cache;
+
+  @Setup
+  public void setup() {
+    cache = cacheType.equals("lru") ? LRUCache.create(CAPACITY) : ConcurrentCache.create(CAPACITY);
+    for (int i = 0; i < CAPACITY; i++) {
+      cache.get(i, key -> key);
+    }
+  }
+
+  @Benchmark
+  public void get(final Blackhole bh) {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int key =
+        random.nextInt(100) < missPercent
+            ? CAPACITY + random.nextInt(CAPACITY * 16)
+            : random.nextInt(CAPACITY / 2);
+    bh.consume(
+        cache.get(
+            key,
+            k -> {
+              Blackhole.consumeCPU(loadCostTokens);
+              return k;
+            }));
+  }
+}
@@ -38,6 +38,7 @@ import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -50,6 +51,7 @@ import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalt
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.block.BlockImportNotifications;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
@@ -85,11 +87,19 @@ public class EpochTransitionBenchmark {
   @Param({"400000"})
   int validatorsCount = 400000;
 
+  /** Threads used to process validators in parallel during the epoch transition. */
+  @Param({"1", "4"})
+  int epochProcessingThreads = 1;
+
   @Setup(Level.Trial)
   public void init() throws Exception {
     AbstractBlockProcessor.blsVerifyDeposit = false;
 
-    spec = TestSpecFactory.createMainnetAltair();
+    spec =
+        TestSpecFactory.create(
+            SpecMilestone.ALTAIR,
+            Eth2Network.MAINNET,
+            builder -> builder.epochProcessingThreads(epochProcessingThreads));
     String blocksFile =
         "/blocks/blocks_epoch_"
             + spec.getSlotsPerEpoch(UInt64.ZERO)
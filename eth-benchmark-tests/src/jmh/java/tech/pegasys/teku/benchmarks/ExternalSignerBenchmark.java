@@ -0,0 +1,123 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.benchmarks.util.StubExternalSignerServer;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ScheduledExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.client.signer.ExternalSigner;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerClient;
+
+/**
+ * Measures how long it takes to get an attestation signature for every validator from an external
+ * signer, as happens at the start of each slot, using a local stub signer.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExternalSignerBenchmark {
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  @Param({"1000", "5000"})
+  int validatorCount;
+
+  @Param({"unlimited", "adaptive", "batch"})
+  String clientMode;
+
+  @Param({"50"})
+  long signingLatencyMicros;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final NoOpMetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private final ForkInfo forkInfo = dataStructureUtil.randomForkInfo();
+  private final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+  private final List<ExternalSigner> signers = new ArrayList<>();
+  private StubExternalSignerServer signerServer;
+  private AsyncRunner asyncRunner;
+
+  @Setup
+  public void setup() throws Exception {
+    signerServer =
+        StubExternalSignerServer.start(dataStructureUtil.randomSignature(), signingLatencyMicros);
+    asyncRunner =
+        ScheduledExecutorAsyncRunner.create(
+            "signer", 2, 1000, new MetricTrackingExecutorFactory(metricsSystem));
+    final ExternalSignerClient client =
+        new ExternalSignerClient(
+            HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+            TIMEOUT,
+            clientMode.equals("unlimited") ? 0 : 64,
+            clientMode.equals("batch"),
+            asyncRunner,
+            metricsSystem);
+    final ThrottlingTaskQueue taskQueue =
+        new ThrottlingTaskQueue(32, metricsSystem, TekuMetricCategory.VALIDATOR, "queue");
+    for (int i = 0; i < validatorCount; i++) {
+      signers.add(
+          new ExternalSigner(
+              spec,
+              client,
+              signerServer.getUrl(),
+              dataStructureUtil.randomPublicKey(),
+              taskQueue,
+              metricsSystem));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    signerServer.close();
+    asyncRunner.shutdown();
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 10)
+  public void signAttestationForEveryValidator() {
+    final List<SafeFuture<?>> results = new ArrayList<>(validatorCount);
+    for (ExternalSigner signer : signers) {
+      results.add(signer.signAttestationData(attestationData, forkInfo));
+    }
+    SafeFuture.allOf(results.toArray(SafeFuture[]::new)).join();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateTreeStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedTreeState;
+
+/**
+ * Measures storing a sequence of finalized states in tree mode where each state differs from the
+ * previous one by a small number of balances, as consecutive epochs do.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class FinalizedStateTreeStorageBenchmark {
+
+  @Param({"16384"})
+  int validatorsCount;
+
+  @Param({"128"})
+  int changedBalancesPerState;
+
+  @Param({"false", "true"})
+  boolean incrementalStorageEnabled;
+
+  private final Spec spec = TestSpecFactory.createMainnetAltair();
+  private final V6SchemaCombinedTreeState schema = new V6SchemaCombinedTreeState(spec, false);
+  private KvStoreAccessor db;
+  private V4FinalizedStateTreeStorageLogic logic;
+  private BeaconState state;
+  private int nextChangedIndex;
+
+  @Setup(Level.Trial)
+  public void init() {
+    db = MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+    // Use a cache too small to hold the whole tree so skipping can't rely on known roots alone
+    logic =
+        new V4FinalizedStateTreeStorageLogic(
+            new NoOpMetricsSystem(), spec, 1000, incrementalStorageEnabled);
+    state = new DataStructureUtil(1, spec).randomBeaconState(validatorsCount);
+    storeState(state);
+  }
+
+  @Benchmark
+  public void storeNextState() {
+    state =
+        state.updated(
+            mutableState -> {
+              mutableState.setSlot(mutableState.getSlot().plus(spec.getSlotsPerEpoch(UInt64.ZERO)));
+              for (int i = 0; i < changedBalancesPerState; i++) {
+                final int index = nextChangedIndex;
+                nextChangedIndex = (nextChangedIndex + 97) % validatorsCount;
+                mutableState.getBalances().setElement(index, UInt64.valueOf(32_000_000_000L + i));
+              }
+            });
+    storeState(state);
+  }
+
+  private void storeState(final BeaconState state) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedTreeState> updater = logic.updater();
+      updater.addFinalizedState(db, transaction, schema, state);
+      transaction.commit();
+      updater.commit();
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.beacon.sync.historical.ReconstructHistoricalStatesService;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.client.ChainUpdater;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+import tech.pegasys.teku.storage.store.MemKeyValueStore;
+
+/**
+ * Measures reconstructing the historical states of a generated chain from genesis, loading the
+ * blocks from and writing the states to an in-memory database.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ReconstructHistoricalStatesBenchmark {
+
+  @Param({"256"})
+  int chainLength;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private StorageSystem storageSystem;
+  private BeaconState genesisState;
+  private UInt64 anchorSlot;
+
+  @Setup(Level.Trial)
+  public void init() {
+    storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
+    final ChainUpdater chainUpdater = storageSystem.chainUpdater();
+    genesisState = chainUpdater.initializeGenesis().getState();
+    chainUpdater.advanceChainUntil(chainLength);
+    final UInt64 finalizedEpoch = spec.computeEpochAtSlot(UInt64.valueOf(chainLength));
+    chainUpdater.finalizeEpoch(finalizedEpoch);
+    anchorSlot = spec.computeStartSlotAtEpoch(finalizedEpoch);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    storageSystem.close();
+  }
+
+  @Benchmark
+  public void reconstructStates() {
+    new ReconstructHistoricalStatesService(
+            storageSystem.chainStorage(),
+            storageSystem.combinedChainDataClient(),
+            spec,
+            Optional.empty(),
+            DelayedExecutorAsyncRunner.create(),
+            new NoOpMetricsSystem(),
+            new SystemTimeProvider(),
+            new MemKeyValueStore<>())
+        .reconstruct(genesisState, anchorSlot)
+        .join();
+  }
+}
@@ -24,12 +24,17 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
 
 @State(Scope.Thread)
 public class Sha256Benchmark {
+  private static final int BLOCK_COUNT = 1024;
 
   private MutableBytes data = Bytes.wrap(new byte[33]).mutableCopy();
   private byte[] dataArray = new byte[33];
+  private final byte[] output = new byte[Sha256.DIGEST_SIZE];
+  private final byte[] blocks = new byte[BLOCK_COUNT * Sha256.BLOCK_INPUT_SIZE];
+  private final byte[] blockOutput = new byte[BLOCK_COUNT * Sha256.DIGEST_SIZE];
   private int cnt = 0;
 
   @Benchmark
@@ -51,4 +56,24 @@ public class Sha256Benchmark {
     byte[] hash = Hash.sha256(dataArray).toArrayUnsafe();
     bh.consume(hash);
   }
+
+  @Benchmark
+  @Warmup(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  public void sha256of33byteArrayIntoBuffer(Blackhole bh) {
+    int idx = cnt++ % dataArray.length;
+    dataArray[idx]++;
+    Sha256.hash(dataArray, 0, dataArray.length, output, 0);
+    bh.consume(output);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  public void sha256of1024x64byteBlocks(Blackhole bh) {
+    int idx = cnt++ % blocks.length;
+    blocks[idx]++;
+    Sha256.hash64ByteBlocks(blocks, 0, blockOutput, 0, BLOCK_COUNT);
+    bh.consume(blockOutput);
+  }
 }
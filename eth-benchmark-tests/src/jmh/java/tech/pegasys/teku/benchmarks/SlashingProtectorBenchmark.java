@@ -0,0 +1,126 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ScheduledExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.signatures.JournaledSlashingProtector;
+import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
+import tech.pegasys.teku.spec.signatures.SlashingProtector;
+
+/**
+ * Measures how long it takes to clear slashing protection for one attestation from every validator,
+ * as happens at the start of each epoch.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SlashingProtectorBenchmark {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x1234");
+  private static final int SIGNING_THREADS = 8;
+
+  @Param({"1000", "5000", "10000"})
+  int validatorCount;
+
+  @Param({"local", "journaled"})
+  String protectorType;
+
+  private final MetricTrackingExecutorFactory executorFactory =
+      new MetricTrackingExecutorFactory(new NoOpMetricsSystem());
+  private final List<BLSPublicKey> validators = new ArrayList<>();
+  private AsyncRunner signingRunner;
+  private AsyncRunner journalRunner;
+  private SlashingProtector slashingProtector;
+  private Path tempDirectory;
+  private UInt64 targetEpoch = UInt64.ONE;
+
+  @Setup
+  public void setup() throws Exception {
+    tempDirectory = Files.createTempDirectory(getClass().getSimpleName());
+    for (int i = 0; i < validatorCount; i++) {
+      validators.add(BLSPublicKey.fromBytesCompressed(Bytes48.leftPad(Bytes.ofUnsignedInt(i))));
+    }
+    signingRunner =
+        ScheduledExecutorAsyncRunner.create(
+            "signing", SIGNING_THREADS, validatorCount, executorFactory);
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(tempDirectory);
+    if (protectorType.equals("journaled")) {
+      journalRunner = ScheduledExecutorAsyncRunner.create("journal", 2, 1000, executorFactory);
+      slashingProtector =
+          JournaledSlashingProtector.create(dataAccessor, tempDirectory, journalRunner);
+    } else {
+      slashingProtector = new LocalSlashingProtector(dataAccessor, tempDirectory);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    if (slashingProtector instanceof JournaledSlashingProtector) {
+      ((JournaledSlashingProtector) slashingProtector).close();
+      journalRunner.shutdown();
+    }
+    signingRunner.shutdown();
+    try (Stream<Path> files = Files.walk(tempDirectory)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 10)
+  public void signAttestationForEveryValidator() {
+    final UInt64 sourceEpoch = targetEpoch;
+    targetEpoch = targetEpoch.increment();
+    final UInt64 target = targetEpoch;
+    final List<SafeFuture<Boolean>> results = new ArrayList<>(validatorCount);
+    for (BLSPublicKey validator : validators) {
+      results.add(
+          signingRunner.runAsync(
+              () ->
+                  slashingProtector.maySignAttestation(
+                      validator, GENESIS_VALIDATORS_ROOT, sourceEpoch, target)));
+    }
+    SafeFuture.allOf(results.toArray(SafeFuture[]::new)).join();
+  }
+}
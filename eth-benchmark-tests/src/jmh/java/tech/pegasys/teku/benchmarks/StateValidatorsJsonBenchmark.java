@@ -0,0 +1,90 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.GetStateValidator.STATE_VALIDATOR_DATA_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition.listOf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.api.migrated.StateValidatorData;
+import tech.pegasys.teku.api.migrated.ValidatorDataList;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Compares serializing the validators of a mainnet sized state to JSON from a list built up front
+ * with serializing from a list which creates each element as it is written.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation as well as latency.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+public class StateValidatorsJsonBenchmark {
+  private static final SerializableTypeDefinition<List<StateValidatorData>> LIST_TYPE =
+      listOf(STATE_VALIDATOR_DATA_TYPE);
+
+  @Param({"500000"})
+  int validatorCount;
+
+  private BeaconState state;
+  private UInt64 epoch;
+
+  @Setup(Level.Trial)
+  public void init() {
+    final Spec spec = TestSpecFactory.createMainnetPhase0();
+    state = new DataStructureUtil(spec).randomBeaconState(validatorCount);
+    epoch = spec.getCurrentEpoch(state);
+  }
+
+  @Benchmark
+  public void serializeCollectedList() throws JsonProcessingException {
+    final List<StateValidatorData> data =
+        IntStream.range(0, validatorCount).mapToObj(this::createData).collect(Collectors.toList());
+    JsonUtil.serializeToBytes(data, LIST_TYPE, OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void serializeValidatorDataList() throws JsonProcessingException {
+    final List<StateValidatorData> data =
+        ValidatorDataList.forAllValidators(validatorCount, this::createData);
+    JsonUtil.serializeToBytes(data, LIST_TYPE, OutputStream.nullOutputStream());
+  }
+
+  private StateValidatorData createData(final int index) {
+    return StateValidatorData.fromState(state, index, epoch, SpecConfig.FAR_FUTURE_EPOCH)
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockSchema;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Compares the cost of encoding and decoding the payloads exchanged between the validator client
+ * and beacon node as JSON and as SSZ. The encoded size of each payload is printed during setup.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+public class ValidatorApiEncodingBenchmark {
+
+  @Param({"64"})
+  int attestationCount;
+
+  private SignedBeaconBlockSchema blockSchema;
+  private SszListSchema<Attestation, ?> attestationListSchema;
+
+  private SignedBeaconBlock block;
+  private String blockJson;
+  private Bytes blockSsz;
+
+  private SszList<Attestation> attestations;
+  private String attestationsJson;
+  private Bytes attestationsSsz;
+
+  @Setup(Level.Trial)
+  public void init() throws JsonProcessingException {
+    final Spec spec = TestSpecFactory.createMainnetAltair();
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+    blockSchema = spec.getGenesisSchemaDefinitions().getSignedBeaconBlockSchema();
+    attestationListSchema = spec.getGenesisSchemaDefinitions().getAttestationListSchema();
+
+    block = dataStructureUtil.randomSignedBeaconBlock(1);
+    blockJson = JsonUtil.serialize(block, blockSchema.getJsonTypeDefinition());
+    blockSsz = block.sszSerialize();
+
+    attestations =
+        dataStructureUtil.randomSszList(
+            attestationListSchema, attestationCount, dataStructureUtil::randomAttestation);
+    attestationsJson =
+        JsonUtil.serialize(attestations, attestationListSchema.getJsonTypeDefinition());
+    attestationsSsz = attestations.sszSerialize();
+
+    System.out.printf(
+        "%nBlock: %d bytes JSON, %d bytes SSZ%n%d attestations: %d bytes JSON, %d bytes SSZ%n",
+        blockJson.getBytes(StandardCharsets.UTF_8).length,
+        blockSsz.size(),
+        attestationCount,
+        attestationsJson.getBytes(StandardCharsets.UTF_8).length,
+        attestationsSsz.size());
+  }
+
+  @Benchmark
+  public String serializeBlockJson() throws JsonProcessingException {
+    return JsonUtil.serialize(block, blockSchema.getJsonTypeDefinition());
+  }
+
+  @Benchmark
+  public Bytes serializeBlockSsz() {
+    return blockSchema.sszSerialize(block);
+  }
+
+  @Benchmark
+  public SignedBeaconBlock deserializeBlockJson() throws JsonProcessingException {
+    return JsonUtil.parse(blockJson, blockSchema.getJsonTypeDefinition());
+  }
+
+  @Benchmark
+  public SignedBeaconBlock deserializeBlockSsz() {
+    return blockSchema.sszDeserialize(blockSsz);
+  }
+
+  @Benchmark
+  public String serializeAttestationsJson() throws JsonProcessingException {
+    return JsonUtil.serialize(attestations, attestationListSchema.getJsonTypeDefinition());
+  }
+
+  @Benchmark
+  public Bytes serializeAttestationsSsz() {
+    return attestations.sszSerialize();
+  }
+
+  @Benchmark
+  public SszList<Attestation> deserializeAttestationsJson() throws JsonProcessingException {
+    return JsonUtil.parse(attestationsJson, attestationListSchema.getJsonTypeDefinition());
+  }
+
+  @Benchmark
+  public SszList<Attestation> deserializeAttestationsSsz() {
+    return attestationListSchema.sszDeserialize(attestationsSsz);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.FlatAttestationView;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Compares reading the fields needed to filter an unaggregated gossip attestation by fully
+ * deserializing it with reading them from a {@link FlatAttestationView} of the serialized bytes.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GossipAttestationDecodingBenchmark {
+  private static final int COMMITTEE_SIZE = 128;
+
+  private final Spec spec = TestSpecFactory.createMainnetAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(1, spec);
+  private final AttestationSchema schema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  private final Bytes attestationSsz =
+      schema
+          .create(
+              schema.getAggregationBitsSchema().ofBits(COMMITTEE_SIZE, 42),
+              dataStructureUtil.randomAttestationData(),
+              dataStructureUtil.randomSignature())
+          .sszSerialize();
+
+  @Benchmark
+  public void deserialize(final Blackhole bh) {
+    final Attestation attestation = schema.sszDeserialize(attestationSsz);
+    final AttestationData data = attestation.getData();
+    final SszBitlist aggregationBits = attestation.getAggregationBits();
+    bh.consume(data.getSlot());
+    bh.consume(data.getIndex());
+    bh.consume(data.getTarget().getEpoch());
+    bh.consume(data.getTarget().getRoot());
+    bh.consume(aggregationBits.getBitCount());
+    bh.consume(aggregationBits.streamAllSetBits().findFirst());
+  }
+
+  @Benchmark
+  public void flatView(final Blackhole bh) {
+    final FlatAttestationView attestation =
+        FlatAttestationView.wrap(schema, attestationSsz).orElseThrow();
+    bh.consume(attestation.getSlot());
+    bh.consume(attestation.getCommitteeIndex());
+    bh.consume(attestation.getTargetEpoch());
+    bh.consume(attestation.getTargetRoot());
+    bh.consume(attestation.getAggregationBitCount());
+    bh.consume(attestation.getFirstSetAggregationBit());
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import tech.pegasys.teku.bls.BLSSignature;
+
+/**
+ * A local stand in for an external signer which returns a fixed signature after a simulated
+ * signing latency, so the cost of the signer client can be measured without a real signer.
+ *
+ * <p>Supports both the standard signing endpoint and the batch signing endpoint, where each request
+ * in the batch is charged the signing latency in turn.
+ */
+public class StubExternalSignerServer implements AutoCloseable {
+  private static final String SIGN_PATH = "/api/v1/eth2/sign/";
+  private static final String BATCH_SIGN_PATH = "/api/v1/eth2/batch_sign";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final HttpServer server;
+  private final String signatureHex;
+  private final long signingLatencyMicros;
+
+  private StubExternalSignerServer(
+      final HttpServer server, final BLSSignature signature, final long signingLatencyMicros) {
+    this.server = server;
+    this.signatureHex = signature.toBytesCompressed().toHexString();
+    this.signingLatencyMicros = signingLatencyMicros;
+  }
+
+  public static StubExternalSignerServer start(
+      final BLSSignature signature, final long signingLatencyMicros) throws IOException {
+    final HttpServer server =
+        HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    final StubExternalSignerServer signerServer =
+        new StubExternalSignerServer(server, signature, signingLatencyMicros);
+    server.createContext(SIGN_PATH, signerServer::handleSign);
+    server.createContext(BATCH_SIGN_PATH, signerServer::handleBatchSign);
+    server.setExecutor(signerServer.executor);
+    server.start();
+    return signerServer;
+  }
+
+  public URL getUrl() {
+    try {
+      return new URL("http://127.0.0.1:" + server.getAddress().getPort());
+    } catch (final MalformedURLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void handleSign(final HttpExchange exchange) throws IOException {
+    readBody(exchange);
+    simulateSigning(1);
+    respond(exchange, signatureHex);
+  }
+
+  private void handleBatchSign(final HttpExchange exchange) throws IOException {
+    final int requestCount = objectMapper.readTree(readBody(exchange)).size();
+    simulateSigning(requestCount);
+    final StringBuilder response = new StringBuilder("[");
+    for (int i = 0; i < requestCount; i++) {
+      if (i > 0) {
+        response.append(',');
+      }
+      response.append("{\"status\":200,\"signature\":\"").append(signatureHex).append("\"}");
+    }
+    response.append(']');
+    respond(exchange, response.toString());
+  }
+
+  private byte[] readBody(final HttpExchange exchange) throws IOException {
+    try (InputStream body = exchange.getRequestBody()) {
+      return body.readAllBytes();
+    }
+  }
+
+  private void simulateSigning(final int requestCount) {
+    final long latencyNanos = signingLatencyMicros * 1000 * requestCount;
+    final long endTime = System.nanoTime() + latencyNanos;
+    while (System.nanoTime() < endTime) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private void respond(final HttpExchange exchange, final String body) throws IOException {
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(bytes);
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
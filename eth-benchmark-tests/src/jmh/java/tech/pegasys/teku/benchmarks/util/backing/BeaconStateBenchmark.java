@@ -13,19 +13,27 @@
 
 package tech.pegasys.teku.benchmarks.util.backing;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 @State(Scope.Thread)
@@ -84,4 +92,42 @@ public class BeaconStateBenchmark {
             });
     bh.consume(stateW.hashTreeRoot());
   }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void hashStateAfterEpochTransition(final EpochTransitionState epochTransitionState) {
+    epochTransitionState.state.hashTreeRoot();
+  }
+
+  /**
+   * Provides a state with the fields an epoch transition rewrites for every validator updated but
+   * not yet hashed, so only the state root calculation is measured.
+   */
+  @State(Scope.Thread)
+  public static class EpochTransitionState {
+    private BeaconState state;
+
+    @Setup(Level.Invocation)
+    public void updateState() {
+      state =
+          beaconState.updated(
+              mutableState -> {
+                final MutableBeaconStateAltair altairState =
+                    MutableBeaconStateAltair.required(mutableState);
+                altairState.setPreviousEpochParticipation(
+                    BeaconStateAltair.required(beaconState).getCurrentEpochParticipation());
+                final SszMutableList<SszByte> participation =
+                    altairState.getCurrentEpochParticipation();
+                final SszMutableUInt64List balances = altairState.getBalances();
+                final SszMutableUInt64List inactivityScores = altairState.getInactivityScores();
+                final UInt64 balance = UInt64.valueOf(ThreadLocalRandom.current().nextLong());
+                for (int i = 0; i < balances.size(); i++) {
+                  participation.set(i, SszByte.ZERO);
+                  balances.setElement(i, balance.plus(i));
+                  inactivityScores.setElement(i, UInt64.valueOf(i));
+                }
+              });
+    }
+  }
 }
@@ -20,6 +20,7 @@ import static tech.pegasys.teku.reference.TestDataUtils.loadStateFromSsz;
 import com.google.common.collect.ImmutableMap;
 import tech.pegasys.teku.ethtests.finder.TestDefinition;
 import tech.pegasys.teku.reference.TestExecutor;
+import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochProcessor;
@@ -85,10 +86,15 @@ public class EpochProcessingTestExecutor implements TestExecutor {
 
   @Override
   public void runTest(final TestDefinition testDefinition) throws Exception {
+    runTest(testDefinition, testDefinition.getSpec());
+    runTest(testDefinition, testDefinition.getParallelEpochProcessingSpec());
+  }
+
+  private void runTest(final TestDefinition testDefinition, final Spec spec) throws Exception {
     final BeaconState preState = loadStateFromSsz(testDefinition, "pre.ssz_snappy");
     final String postStateFileName = "post.ssz_snappy";
 
-    final SpecVersion genesisSpec = testDefinition.getSpec().getGenesisSpec();
+    final SpecVersion genesisSpec = spec.getGenesisSpec();
     final EpochProcessor epochProcessor = genesisSpec.getEpochProcessor();
     final ValidatorStatusFactory validatorStatusFactory = genesisSpec.getValidatorStatusFactory();
     final EpochProcessingExecutor processor =
@@ -110,6 +110,7 @@ public class ForkChoiceTestExecutor implements TestExecutor {
         new ForkChoice(
             spec,
             new InlineEventThread(),
+            new InlineEventThread(),
             recentChainData,
             new StubForkChoiceNotifier(),
             new TickProcessor(spec, recentChainData),
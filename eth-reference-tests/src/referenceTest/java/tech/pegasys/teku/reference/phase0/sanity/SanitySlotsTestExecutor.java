@@ -37,6 +37,10 @@ public class SanitySlotsTestExecutor implements TestExecutor {
 
     final BeaconState result = processSlots(testDefinition.getSpec(), preState, endSlot);
     assertThat(result).isEqualTo(expectedState);
+
+    final BeaconState parallelResult =
+        processSlots(testDefinition.getParallelEpochProcessingSpec(), preState, endSlot);
+    assertThat(parallelResult).isEqualTo(expectedState);
   }
 
   private BeaconState processSlots(
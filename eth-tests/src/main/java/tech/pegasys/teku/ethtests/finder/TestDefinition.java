@@ -23,12 +23,16 @@ import tech.pegasys.teku.spec.config.ProgressiveBalancesMode;
 import tech.pegasys.teku.spec.networks.Eth2Network;
 
 public class TestDefinition {
+  // Thread count used when epoch processing is also checked against the spec in parallel
+  private static final int PARALLEL_EPOCH_PROCESSING_THREADS = 4;
+
   private final String fork;
   private final String configName;
   private final String testType;
   private final String testName;
   private final Path pathFromPhaseTestDir;
   private Spec spec;
+  private Spec parallelEpochProcessingSpec;
 
   public TestDefinition(
       final String fork,
@@ -53,13 +57,25 @@ public class TestDefinition {
 
   public Spec getSpec() {
     if (spec == null) {
-      createSpec();
+      spec = createSpec(1);
     }
 
     return spec;
   }
 
-  private void createSpec() {
+  /**
+   * Returns a spec which shards per-validator epoch processing work across several threads, so
+   * tests which process epochs can check the parallel path matches the spec as well.
+   */
+  public Spec getParallelEpochProcessingSpec() {
+    if (parallelEpochProcessingSpec == null) {
+      parallelEpochProcessingSpec = createSpec(PARALLEL_EPOCH_PROCESSING_THREADS);
+    }
+
+    return parallelEpochProcessingSpec;
+  }
+
+  private Spec createSpec(final int epochProcessingThreads) {
     final Eth2Network network;
     final SpecMilestone highestSupportedMilestone;
     switch (configName) {
@@ -85,11 +101,13 @@ public class TestDefinition {
       default:
         throw new IllegalArgumentException("Unknown fork: " + fork);
     }
-    spec =
-        TestSpecFactory.create(
-            highestSupportedMilestone,
-            network,
-            builder -> builder.progressiveBalancesMode(ProgressiveBalancesMode.CHECKED));
+    return TestSpecFactory.create(
+        highestSupportedMilestone,
+        network,
+        builder ->
+            builder
+                .progressiveBalancesMode(ProgressiveBalancesMode.CHECKED)
+                .epochProcessingThreads(epochProcessingThreads));
   }
 
   public String getTestType() {
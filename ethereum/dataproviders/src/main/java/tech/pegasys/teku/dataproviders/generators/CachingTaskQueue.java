@@ -21,8 +21,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -32,6 +34,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 
 public class CachingTaskQueue<K, V> {
 
@@ -56,11 +59,25 @@ public class CachingTaskQueue<K, V> {
       final String metricsPrefix,
       final IntSupplier activeTaskLimit,
       final int maxCacheSize) {
+    this(
+        asyncRunner,
+        metricsSystem,
+        metricsPrefix,
+        activeTaskLimit,
+        LimitedMap.<K, V>createSoft(maxCacheSize));
+  }
+
+  CachingTaskQueue(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final IntSupplier activeTaskLimit,
+      final Map<K, V> cache) {
     this.asyncRunner = asyncRunner;
     this.metricsSystem = metricsSystem;
     this.metricsPrefix = metricsPrefix;
     this.activeTaskLimit = activeTaskLimit;
-    this.cache = LimitedMap.createSoft(maxCacheSize);
+    this.cache = cache;
 
     final LabelledMetric<Counter> labelledCounter =
         metricsSystem.createLabelledCounter(
@@ -87,6 +104,38 @@ public class CachingTaskQueue<K, V> {
         maxCacheSize);
   }
 
+  /**
+   * Creates a queue which caches results within a limit on the estimated memory they retain, as
+   * well as a limit on the number of results. See {@link RetainedSizeLimitedMap}.
+   */
+  public static <K, V> CachingTaskQueue<K, V> createRetainedSizeLimited(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final int maxCacheSize,
+      final long maxRetainedBytes,
+      final Function<V, TreeNode> backingNodeFunction,
+      final ToLongFunction<V> regenerationCostFunction) {
+    final LabelledMetric<Counter> cacheUsageCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            metricsPrefix + "_cache_usage_total",
+            "Total number of cached values used instead of being regenerated, and evicted",
+            "type");
+    return new CachingTaskQueue<>(
+        asyncRunner,
+        metricsSystem,
+        metricsPrefix,
+        () -> Math.max(2, Runtime.getRuntime().availableProcessors()),
+        new RetainedSizeLimitedMap<>(
+            maxCacheSize,
+            maxRetainedBytes,
+            backingNodeFunction,
+            regenerationCostFunction,
+            cacheUsageCounter.labels("regeneration_avoided"),
+            cacheUsageCounter.labels("evicted")));
+  }
+
   public void startMetrics() {
     final LabelledGauge taskQueueMetrics =
         metricsSystem.createLabelledGauge(
@@ -102,6 +151,15 @@ public class CachingTaskQueue<K, V> {
         metricsPrefix + "_cache_size",
         "Number of checkpoint states held in the in-memory store",
         cache::size);
+    if (cache instanceof RetainedSizeLimitedMap) {
+      final RetainedSizeLimitedMap<K, V> retainedSizeLimitedCache =
+          (RetainedSizeLimitedMap<K, V>) cache;
+      metricsSystem.createGauge(
+          TekuMetricCategory.STORAGE,
+          metricsPrefix + "_cache_retained_bytes",
+          "Estimated memory retained by the values held in the in-memory cache",
+          retainedSizeLimitedCache::getRetainedBytes);
+    }
   }
 
   public synchronized SafeFuture<Optional<V>> perform(final CacheableTask<K, V> task) {
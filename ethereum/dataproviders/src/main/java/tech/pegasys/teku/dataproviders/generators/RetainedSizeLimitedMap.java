@@ -0,0 +1,383 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.dataproviders.generators;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSizeEstimator;
+
+/**
+ * A map of states which is limited by the estimated memory the states retain, as well as by the
+ * number of entries. Values are held by soft references, so they can still be reclaimed when the
+ * heap is under pressure, in which case their entries are dropped.
+ *
+ * <p>States commonly share most of their tree nodes, so each state is charged only for the nodes it
+ * doesn't share with the most recently added state still in the map, its reference. When a state is
+ * removed, any state that used it as a reference is also charged for the removed state's unshared
+ * nodes and uses the removed state's own reference instead. That is an upper bound on the nodes it
+ * no longer shares, which avoids walking the trees again.
+ *
+ * <p>When over either limit, entries are evicted using the GreedyDual-Size policy: each entry has
+ * a priority of its regeneration cost divided by its size, plus an inflation value that is raised
+ * to the priority of each evicted entry so entries which haven't been used recently age out. The
+ * entry with the lowest priority is evicted first, preferring large states which are cheap to
+ * regenerate.
+ *
+ * <p>All methods are synchronized, but the size of a new entry is estimated before the lock is
+ * taken. Iterating the key or entry set uses a snapshot of the map.
+ */
+public class RetainedSizeLimitedMap<K, V> extends AbstractMap<K, V> {
+  private static final Counter NO_OP_COUNTER =
+      new Counter() {
+        @Override
+        public void inc() {}
+
+        @Override
+        public void inc(final long amount) {}
+      };
+
+  private final Map<K, CacheEntry<K, V>> entries = new LinkedHashMap<>();
+  private final ReferenceQueue<V> collectedValues = new ReferenceQueue<>();
+  private final int maxEntries;
+  private final long maxRetainedBytes;
+  private final Function<V, TreeNode> backingNodeFunction;
+  private final ToLongFunction<V> regenerationCostFunction;
+  private final Counter hitCounter;
+  private final Counter evictionCounter;
+
+  private CacheEntry<K, V> lastAddedEntry;
+  private long retainedBytes = 0;
+  private double inflation = 0;
+
+  /**
+   * @param maxEntries the maximum number of entries to hold
+   * @param maxRetainedBytes the maximum estimated memory to retain
+   * @param backingNodeFunction function to get the root of the backing tree for a value
+   * @param regenerationCostFunction function to get the relative cost of regenerating a value if
+   *     it is evicted, which must be positive
+   */
+  public RetainedSizeLimitedMap(
+      final int maxEntries,
+      final long maxRetainedBytes,
+      final Function<V, TreeNode> backingNodeFunction,
+      final ToLongFunction<V> regenerationCostFunction) {
+    this(
+        maxEntries,
+        maxRetainedBytes,
+        backingNodeFunction,
+        regenerationCostFunction,
+        NO_OP_COUNTER,
+        NO_OP_COUNTER);
+  }
+
+  /**
+   * @param maxEntries the maximum number of entries to hold
+   * @param maxRetainedBytes the maximum estimated memory to retain
+   * @param backingNodeFunction function to get the root of the backing tree for a value
+   * @param regenerationCostFunction function to get the relative cost of regenerating a value if
+   *     it is evicted, which must be positive
+   * @param hitCounter counter incremented each time a requested value is found, avoiding its
+   *     regeneration
+   * @param evictionCounter counter incremented for each entry evicted to stay within the limits
+   */
+  public RetainedSizeLimitedMap(
+      final int maxEntries,
+      final long maxRetainedBytes,
+      final Function<V, TreeNode> backingNodeFunction,
+      final ToLongFunction<V> regenerationCostFunction,
+      final Counter hitCounter,
+      final Counter evictionCounter) {
+    checkArgument(maxEntries >= 0, "Max entries must not be negative");
+    checkArgument(maxRetainedBytes > 0, "Max retained bytes must be positive");
+    this.maxEntries = maxEntries;
+    this.maxRetainedBytes = maxRetainedBytes;
+    this.backingNodeFunction = backingNodeFunction;
+    this.regenerationCostFunction = regenerationCostFunction;
+    this.hitCounter = hitCounter;
+    this.evictionCounter = evictionCounter;
+  }
+
+  @Override
+  public synchronized V get(final Object key) {
+    removeCollectedEntries();
+    final CacheEntry<K, V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    final V value = entry.value.get();
+    if (value == null) {
+      removeEntry(entry);
+      return null;
+    }
+    hitCounter.inc();
+    entry.priority = calculatePriority(entry);
+    return value;
+  }
+
+  @Override
+  public synchronized boolean containsKey(final Object key) {
+    removeCollectedEntries();
+    return entries.containsKey(key);
+  }
+
+  @Override
+  public V put(final K key, final V value) {
+    final CacheEntry<K, V> reference;
+    final V referenceValue;
+    synchronized (this) {
+      removeCollectedEntries();
+      reference = lastAddedEntry;
+      referenceValue = reference == null ? null : reference.value.get();
+    }
+    // Walking the trees is the expensive part so is done without holding the lock
+    final long size =
+        estimateSize(
+            backingNodeFunction.apply(value),
+            referenceValue == null ? null : backingNodeFunction.apply(referenceValue));
+    final long regenerationCost = Math.max(1, regenerationCostFunction.applyAsLong(value));
+
+    synchronized (this) {
+      final V previousValue = remove(key);
+      final CacheEntry<K, V> entry =
+          new CacheEntry<>(key, value, collectedValues, regenerationCost);
+      if (referenceValue == null) {
+        entry.size = size;
+      } else {
+        // The reference may have been removed while the size was being estimated
+        linkToReference(entry, reference, size);
+      }
+      entry.priority = calculatePriority(entry);
+      entries.put(key, entry);
+      retainedBytes += entry.size;
+      lastAddedEntry = entry;
+      evictIfRequired();
+      return previousValue;
+    }
+  }
+
+  @Override
+  public synchronized V remove(final Object key) {
+    final CacheEntry<K, V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    removeEntry(entry);
+    return entry.value.get();
+  }
+
+  @Override
+  public synchronized int size() {
+    removeCollectedEntries();
+    return entries.size();
+  }
+
+  @Override
+  public synchronized void clear() {
+    entries.clear();
+    lastAddedEntry = null;
+    retainedBytes = 0;
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return new SnapshotSet<>(this, () -> new ArrayList<>(entries.keySet()), Function.identity());
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new SnapshotSet<>(
+        this,
+        () -> {
+          final List<Entry<K, V>> snapshot = new ArrayList<>();
+          for (CacheEntry<K, V> entry : entries.values()) {
+            final V value = entry.value.get();
+            if (value != null) {
+              snapshot.add(new SimpleImmutableEntry<>(entry.key, value));
+            }
+          }
+          return snapshot;
+        },
+        Entry::getKey);
+  }
+
+  /** Returns the estimated memory retained by the values in this map. */
+  public synchronized long getRetainedBytes() {
+    removeCollectedEntries();
+    return retainedBytes;
+  }
+
+  private void removeEntry(final CacheEntry<K, V> entry) {
+    entries.remove(entry.key);
+    retainedBytes -= entry.size;
+    for (CacheEntry<K, V> other : entries.values()) {
+      if (other.reference == entry) {
+        final double oldPriorityFromSize = (double) other.regenerationCost / other.size;
+        retainedBytes -= other.size;
+        other.reference = entry.reference;
+        other.size += entry.size;
+        other.priority += (double) other.regenerationCost / other.size - oldPriorityFromSize;
+        retainedBytes += other.size;
+      }
+    }
+    if (entry == lastAddedEntry) {
+      lastAddedEntry = null;
+    }
+  }
+
+  private void linkToReference(
+      final CacheEntry<K, V> entry, final CacheEntry<K, V> reference, final long size) {
+    CacheEntry<K, V> current = reference;
+    long unsharedSize = size;
+    // Apply the same charge removed references would have applied when they were removed.
+    while (current != null && entries.get(current.key) != current) {
+      unsharedSize += current.size;
+      current = current.reference;
+    }
+    entry.reference = current;
+    entry.size = unsharedSize;
+  }
+
+  private void removeCollectedEntries() {
+    Reference<? extends V> collected;
+    while ((collected = collectedValues.poll()) != null) {
+      final CacheEntry<K, V> entry = entries.get(((ValueReference<?>) collected).key);
+      if (entry != null && entry.value == collected) {
+        removeEntry(entry);
+      }
+    }
+  }
+
+  private long estimateSize(final TreeNode backingNode, final TreeNode referenceNode) {
+    final long size =
+        referenceNode == null
+            ? TreeNodeSizeEstimator.estimateSize(backingNode)
+            : TreeNodeSizeEstimator.estimateUnsharedSize(backingNode, referenceNode);
+    // Ensure a zero size entry still has a finite priority
+    return Math.max(1, size);
+  }
+
+  private double calculatePriority(final CacheEntry<K, V> entry) {
+    return inflation + (double) entry.regenerationCost / entry.size;
+  }
+
+  private void evictIfRequired() {
+    while (!entries.isEmpty()
+        && (entries.size() > maxEntries || retainedBytes > maxRetainedBytes)) {
+      CacheEntry<K, V> lowestPriorityEntry = null;
+      for (CacheEntry<K, V> entry : entries.values()) {
+        if (lowestPriorityEntry == null || entry.priority < lowestPriorityEntry.priority) {
+          lowestPriorityEntry = entry;
+        }
+      }
+      inflation = lowestPriorityEntry.priority;
+      removeEntry(lowestPriorityEntry);
+      evictionCounter.inc();
+    }
+  }
+
+  private static class CacheEntry<K, V> {
+    private final K key;
+    private final ValueReference<V> value;
+    private final long regenerationCost;
+    private long size;
+    private CacheEntry<K, V> reference;
+    private double priority;
+
+    private CacheEntry(
+        final K key,
+        final V value,
+        final ReferenceQueue<V> collectedValues,
+        final long regenerationCost) {
+      this.key = key;
+      this.value = new ValueReference<>(value, collectedValues, key);
+      this.regenerationCost = regenerationCost;
+    }
+  }
+
+  private static class ValueReference<V> extends SoftReference<V> {
+    private final Object key;
+
+    private ValueReference(final V value, final ReferenceQueue<V> queue, final Object key) {
+      super(value, queue);
+      this.key = key;
+    }
+  }
+
+  private static class SnapshotSet<K, T> extends AbstractSet<T> {
+    private final RetainedSizeLimitedMap<K, ?> map;
+    private final Supplier<List<T>> snapshotSupplier;
+    private final Function<T, K> keyFunction;
+
+    private SnapshotSet(
+        final RetainedSizeLimitedMap<K, ?> map,
+        final Supplier<List<T>> snapshotSupplier,
+        final Function<T, K> keyFunction) {
+      this.map = map;
+      this.snapshotSupplier = snapshotSupplier;
+      this.keyFunction = keyFunction;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      final List<T> snapshot;
+      synchronized (map) {
+        snapshot = snapshotSupplier.get();
+      }
+      final Iterator<T> delegate = snapshot.iterator();
+      return new Iterator<>() {
+        private T current;
+
+        @Override
+        public boolean hasNext() {
+          return delegate.hasNext();
+        }
+
+        @Override
+        public T next() {
+          current = delegate.next();
+          return current;
+        }
+
+        @Override
+        public void remove() {
+          checkState(current != null, "No current element to remove");
+          map.remove(keyFunction.apply(current));
+          current = null;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+  }
+}
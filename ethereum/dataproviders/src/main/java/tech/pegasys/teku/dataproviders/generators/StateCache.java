@@ -25,7 +25,24 @@ class StateCache {
   private final Map<Bytes32, BeaconState> knownStates;
 
   public StateCache(final int maxCachedStates, final Map<Bytes32, BeaconState> knownStates) {
-    this.cache = LimitedMap.createSynchronized(maxCachedStates);
+    this(maxCachedStates, 0, knownStates);
+  }
+
+  /**
+   * @param maxCachedStates the maximum number of states to cache
+   * @param maxRetainedBytes the maximum estimated memory retained by cached states or 0 to only
+   *     limit the number of states
+   * @param knownStates states which are always available and not counted towards the limits
+   */
+  public StateCache(
+      final int maxCachedStates,
+      final long maxRetainedBytes,
+      final Map<Bytes32, BeaconState> knownStates) {
+    this.cache =
+        maxRetainedBytes > 0
+            ? new RetainedSizeLimitedMap<>(
+                maxCachedStates, maxRetainedBytes, BeaconState::getBackingNode, state -> 1)
+            : LimitedMap.createSynchronized(maxCachedStates);
     this.knownStates = knownStates;
   }
 
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.dataproviders.generators;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
@@ -32,6 +33,7 @@ public class StateGenerationTask implements CacheableTask<Bytes32, StateAndBlock
   private final BlockProvider blockProvider;
   private final Bytes32 blockRoot;
   private final StateRegenerationBaseSelector baseSelector;
+  private final long stateCacheMaxRetainedBytes;
 
   public StateGenerationTask(
       final Spec spec,
@@ -39,11 +41,22 @@ public class StateGenerationTask implements CacheableTask<Bytes32, StateAndBlock
       final HashTree tree,
       final BlockProvider blockProvider,
       final StateRegenerationBaseSelector baseSelector) {
+    this(spec, blockRoot, tree, blockProvider, baseSelector, 0);
+  }
+
+  public StateGenerationTask(
+      final Spec spec,
+      final Bytes32 blockRoot,
+      final HashTree tree,
+      final BlockProvider blockProvider,
+      final StateRegenerationBaseSelector baseSelector,
+      final long stateCacheMaxRetainedBytes) {
     this.spec = spec;
     this.tree = tree;
     this.blockProvider = blockProvider;
     this.blockRoot = blockRoot;
     this.baseSelector = baseSelector;
+    this.stateCacheMaxRetainedBytes = stateCacheMaxRetainedBytes;
   }
 
   @Override
@@ -79,7 +92,8 @@ public class StateGenerationTask implements CacheableTask<Bytes32, StateAndBlock
         blockRoot,
         tree,
         blockProvider,
-        baseSelector.withRebasedStartingPoint(newBaseBlockAndState));
+        baseSelector.withRebasedStartingPoint(newBaseBlockAndState),
+        stateCacheMaxRetainedBytes);
   }
 
   @Override
@@ -94,7 +108,13 @@ public class StateGenerationTask implements CacheableTask<Bytes32, StateAndBlock
     }
     final StateAndBlockSummary base = maybeBase.get();
     return StateGenerator.create(
-            spec, tree.withRoot(base.getRoot()).block(base).build(), base, blockProvider)
+            spec,
+            tree.withRoot(base.getRoot()).block(base).build(),
+            base,
+            blockProvider,
+            Collections.emptyMap(),
+            StateGenerator.DEFAULT_STATE_CACHE_SIZE,
+            stateCacheMaxRetainedBytes)
         .regenerateStateForBlock(blockRoot)
         .thenApply(Optional::of);
   }
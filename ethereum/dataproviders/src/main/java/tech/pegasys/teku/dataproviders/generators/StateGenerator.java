@@ -71,13 +71,26 @@ public class StateGenerator {
       final BlockProvider blockProvider,
       final Map<Bytes32, BeaconState> knownStates,
       final int stateCacheSize) {
+    return create(
+        spec, blockTree, rootBlockAndState, blockProvider, knownStates, stateCacheSize, 0);
+  }
+
+  public static StateGenerator create(
+      final Spec spec,
+      final HashTree blockTree,
+      final StateAndBlockSummary rootBlockAndState,
+      final BlockProvider blockProvider,
+      final Map<Bytes32, BeaconState> knownStates,
+      final int stateCacheSize,
+      final long stateCacheMaxRetainedBytes) {
     checkArgument(
         rootBlockAndState.getRoot().equals(blockTree.getRootHash()),
         "Provided root block must match the root of the provided block tree");
 
     final Map<Bytes32, BeaconState> availableStates = new HashMap<>(knownStates);
     availableStates.put(rootBlockAndState.getRoot(), rootBlockAndState.getState());
-    final StateCache stateCache = new StateCache(stateCacheSize, availableStates);
+    final StateCache stateCache =
+        new StateCache(stateCacheSize, stateCacheMaxRetainedBytes, availableStates);
 
     final AsyncChainStateGenerator chainStateGenerator =
         AsyncChainStateGenerator.create(spec, blockTree, blockProvider, stateCache::get);
@@ -25,8 +25,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.CacheableTask;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubCounter;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
 
 class CachingTaskQueueTest {
   private static final int MAX_CONCURRENT_TASKS = 2;
@@ -262,6 +264,28 @@ class CachingTaskQueueTest {
     assertThat(taskQueue.getIfAvailable(task.getKey())).isEqualTo(task.getExpectedValue());
   }
 
+  @Test
+  void retainedSizeLimited_shouldCountCacheUsage() {
+    final CachingTaskQueue<Integer, String> retainedSizeLimitedQueue =
+        CachingTaskQueue.createRetainedSizeLimited(
+            SYNC_RUNNER,
+            metricsSystem,
+            "retained",
+            1,
+            Long.MAX_VALUE,
+            __ -> LeafNode.EMPTY_LEAF,
+            __ -> 1);
+    retainedSizeLimitedQueue.cache(1, "1");
+    retainedSizeLimitedQueue.cache(2, "2");
+
+    assertThat(retainedSizeLimitedQueue.getIfAvailable(1)).isEmpty();
+    assertThat(retainedSizeLimitedQueue.getIfAvailable(2)).contains("2");
+    final StubCounter cacheUsage =
+        metricsSystem.getCounter(TekuMetricCategory.STORAGE, "retained_cache_usage_total");
+    assertThat(cacheUsage.getValue("regeneration_avoided")).isEqualTo(1);
+    assertThat(cacheUsage.getValue("evicted")).isEqualTo(1);
+  }
+
   private void assertCacheSizeMetric(final int expectedSize) {
     final double value =
         metricsSystem
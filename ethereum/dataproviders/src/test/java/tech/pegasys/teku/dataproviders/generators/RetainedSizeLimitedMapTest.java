@@ -0,0 +1,178 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.dataproviders.generators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubCounter;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSizeEstimator;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+
+class RetainedSizeLimitedMapTest {
+
+  private final TreeNode tree = createTree(0);
+  private final long treeSize = TreeNodeSizeEstimator.estimateSize(tree);
+  private final Map<TreeNode, Long> regenerationCosts = new HashMap<>();
+  private final StubCounter hitCounter = new StubCounter();
+  private final StubCounter evictionCounter = new StubCounter();
+
+  @Test
+  void put_shouldOnlyChargeForNodesNotSharedWithLastAddedState() {
+    final RetainedSizeLimitedMap<String, TreeNode> map = createMap(10, treeSize * 10);
+    final TreeNode updatedTree = updateFirstLeaf(tree, 1);
+
+    map.put("a", tree);
+    map.put("b", updatedTree);
+
+    assertThat(map.getRetainedBytes())
+        .isEqualTo(treeSize + TreeNodeSizeEstimator.estimateUnsharedSize(updatedTree, tree));
+  }
+
+  @Test
+  void remove_shouldRechargeStatesWhichSharedNodesWithRemovedState() {
+    final RetainedSizeLimitedMap<String, TreeNode> map = createMap(10, treeSize * 10);
+    final TreeNode updatedTree = updateFirstLeaf(tree, 1);
+    map.put("a", tree);
+    map.put("b", updatedTree);
+
+    map.remove("a");
+
+    // Charged for the nodes of the removed state as well, an upper bound on what it retains
+    assertThat(map.getRetainedBytes())
+        .isEqualTo(treeSize + TreeNodeSizeEstimator.estimateUnsharedSize(updatedTree, tree))
+        .isGreaterThanOrEqualTo(TreeNodeSizeEstimator.estimateSize(updatedTree));
+
+    map.remove("b");
+    assertThat(map.getRetainedBytes()).isZero();
+    assertThat(map).isEmpty();
+  }
+
+  @Test
+  void put_shouldReplaceExistingValueForKey() {
+    final RetainedSizeLimitedMap<String, TreeNode> map = createMap(10, treeSize * 10);
+    final TreeNode updatedTree = updateFirstLeaf(tree, 1);
+    map.put("a", tree);
+
+    assertThat(map.put("a", updatedTree)).isSameAs(tree);
+
+    assertThat(map.get("a")).isSameAs(updatedTree);
+    assertThat(map).hasSize(1);
+    assertThat(map.getRetainedBytes())
+        .isGreaterThanOrEqualTo(TreeNodeSizeEstimator.estimateSize(updatedTree));
+  }
+
+  @Test
+  void put_shouldEvictWhenOverRetainedBytesLimit() {
+    final RetainedSizeLimitedMap<String, TreeNode> map = createMap(10, treeSize * 2);
+
+    map.put("a", createTree(1));
+    map.put("b", createTree(2));
+    assertThat(map.keySet()).containsExactlyInAnyOrder("a", "b");
+
+    map.put("c", createTree(3));
+    assertThat(map).hasSize(2);
+    assertThat(map.getRetainedBytes()).isLessThanOrEqualTo(treeSize * 2);
+    assertThat(evictionCounter.getValue()).isEqualTo(1);
+  }
+
+  @Test
+  void put_shouldEvictWhenOverEntryLimit() {
+    final RetainedSizeLimitedMap<String, TreeNode> map = createMap(2, treeSize * 10);
+
+    map.put("a", createTree(1));
+    map.put("b", createTree(2));
+    map.put("c", createTree(3));
+
+    assertThat(map).hasSize(2);
+  }
+
+  @Test
+  void put_shouldEvictStatesThatAreCheapToRegenerateFirst() {
+    final RetainedSizeLimitedMap<String, TreeNode> map = createMap(10, treeSize * 2);
+    final TreeNode expensiveTree = createTree(1);
+    final TreeNode cheapTree = createTree(2);
+    regenerationCosts.put(expensiveTree, 100L);
+    regenerationCosts.put(cheapTree, 1L);
+
+    map.put("expensive", expensiveTree);
+    map.put("cheap", cheapTree);
+    map.put("new", createTree(3));
+
+    assertThat(map.keySet()).containsExactlyInAnyOrder("expensive", "new");
+  }
+
+  @Test
+  void put_shouldEvictLeastRecentlyUsedWhenCostsAreEqual() {
+    final RetainedSizeLimitedMap<String, TreeNode> map = createMap(10, treeSize * 2);
+    map.put("a", createTree(1));
+    map.put("b", createTree(2));
+    map.put("c", createTree(3));
+    assertThat(map.keySet()).containsExactlyInAnyOrder("b", "c");
+
+    // Accessing b after c was added raises its priority above c
+    assertThat(map.get("b")).isNotNull();
+    map.put("d", createTree(4));
+
+    assertThat(map.keySet()).containsExactlyInAnyOrder("b", "d");
+    assertThat(hitCounter.getValue()).isEqualTo(1);
+  }
+
+  @Test
+  void keySet_shouldSupportRemoveIf() {
+    final RetainedSizeLimitedMap<String, TreeNode> map = createMap(10, treeSize * 10);
+    map.put("a", createTree(1));
+    map.put("b", createTree(2));
+
+    map.keySet().removeIf(key -> key.equals("a"));
+
+    assertThat(map.keySet()).containsExactlyInAnyOrder("b");
+    assertThat(map.getRetainedBytes()).isEqualTo(treeSize);
+  }
+
+  private RetainedSizeLimitedMap<String, TreeNode> createMap(
+      final int maxEntries, final long maxRetainedBytes) {
+    return new RetainedSizeLimitedMap<>(
+        maxEntries,
+        maxRetainedBytes,
+        Function.identity(),
+        node -> regenerationCosts.getOrDefault(node, 1L),
+        hitCounter.labels(),
+        evictionCounter.labels());
+  }
+
+  private static TreeNode createTree(final int seed) {
+    return TreeUtil.createTree(
+        IntStream.range(0, 8)
+            .mapToObj(i -> createLeaf(seed * 8 + i + 1))
+            .collect(Collectors.toList()));
+  }
+
+  private static TreeNode updateFirstLeaf(final TreeNode tree, final int value) {
+    return tree.updated(8L, createLeaf(value));
+  }
+
+  private static LeafNode createLeaf(final int value) {
+    return LeafNode.create(Bytes32.leftPad(Bytes.ofUnsignedInt(value)));
+  }
+}
@@ -49,6 +49,8 @@ public class Eth2NetworkConfiguration {
   public static final boolean DEFAULT_FORK_CHOICE_BEFORE_PROPOSING_ENABLED = true;
   public static final ProgressiveBalancesMode DEFAULT_PROGRESSIVE_BALANCES_MODE =
       ProgressiveBalancesMode.USED;
+  public static final int DEFAULT_EPOCH_PROCESSING_THREADS = 1;
+  public static final boolean DEFAULT_EVENT_RING_BUFFER_ENABLED = false;
 
   private final Spec spec;
   private final String constants;
@@ -65,6 +67,7 @@ public class Eth2NetworkConfiguration {
   private final boolean proposerBoostEnabled;
   private final boolean equivocatingIndicesEnabled;
   private final boolean forkChoiceBeforeProposingEnabled;
+  private final boolean eventRingBufferEnabled;
   private final Optional<Bytes32> terminalBlockHashOverride;
   private final Optional<UInt256> totalTerminalDifficultyOverride;
   private final Optional<UInt64> terminalBlockHashEpochOverride;
@@ -83,6 +86,7 @@ public class Eth2NetworkConfiguration {
       final boolean proposerBoostEnabled,
       final boolean equivocatingIndicesEnabled,
       final boolean forkChoiceBeforeProposingEnabled,
+      final boolean eventRingBufferEnabled,
       final Optional<UInt64> altairForkEpoch,
       final Optional<UInt64> bellatrixForkEpoch,
       final Optional<Bytes32> terminalBlockHashOverride,
@@ -97,6 +101,7 @@ public class Eth2NetworkConfiguration {
     this.startupTimeoutSeconds = startupTimeoutSeconds;
     this.discoveryBootnodes = discoveryBootnodes;
     this.forkChoiceBeforeProposingEnabled = forkChoiceBeforeProposingEnabled;
+    this.eventRingBufferEnabled = eventRingBufferEnabled;
     this.altairForkEpoch = altairForkEpoch;
     this.bellatrixForkEpoch = bellatrixForkEpoch;
     this.eth1DepositContractAddress =
@@ -180,6 +185,10 @@ public class Eth2NetworkConfiguration {
     return forkChoiceBeforeProposingEnabled;
   }
 
+  public boolean isEventRingBufferEnabled() {
+    return eventRingBufferEnabled;
+  }
+
   public Optional<UInt64> getAltairForkEpoch() {
     return altairForkEpoch;
   }
@@ -219,6 +228,8 @@ public class Eth2NetworkConfiguration {
     private boolean equivocatingIndicesEnabled = DEFAULT_EQUIVOCATING_INDICES_ENABLED;
     private boolean forkChoiceBeforeProposingEnabled = DEFAULT_FORK_CHOICE_BEFORE_PROPOSING_ENABLED;
     private ProgressiveBalancesMode progressiveBalancesMode = DEFAULT_PROGRESSIVE_BALANCES_MODE;
+    private int epochProcessingThreads = DEFAULT_EPOCH_PROCESSING_THREADS;
+    private boolean eventRingBufferEnabled = DEFAULT_EVENT_RING_BUFFER_ENABLED;
     private Optional<UInt64> altairForkEpoch = Optional.empty();
     private Optional<UInt64> bellatrixForkEpoch = Optional.empty();
     private Optional<Bytes32> terminalBlockHashOverride = Optional.empty();
@@ -241,6 +252,7 @@ public class Eth2NetworkConfiguration {
                 constants,
                 builder -> {
                   builder.progressiveBalancesMode(progressiveBalancesMode);
+                  builder.epochProcessingThreads(epochProcessingThreads);
                   altairForkEpoch.ifPresent(
                       forkEpoch ->
                           builder.altairBuilder(
@@ -276,6 +288,7 @@ public class Eth2NetworkConfiguration {
           proposerBoostEnabled,
           equivocatingIndicesEnabled,
           forkChoiceBeforeProposingEnabled,
+          eventRingBufferEnabled,
           altairForkEpoch,
           bellatrixForkEpoch,
           terminalBlockHashOverride,
@@ -368,6 +381,12 @@ public class Eth2NetworkConfiguration {
       return this;
     }
 
+    public Builder epochProcessingThreads(final int epochProcessingThreads) {
+      checkArgument(epochProcessingThreads > 0, "Epoch processing threads must be positive");
+      this.epochProcessingThreads = epochProcessingThreads;
+      return this;
+    }
+
     public Builder equivocatingIndicesEnabled(final boolean equivocatingIndicesEnabled) {
       this.equivocatingIndicesEnabled = equivocatingIndicesEnabled;
       return this;
@@ -379,6 +398,11 @@ public class Eth2NetworkConfiguration {
       return this;
     }
 
+    public Builder eventRingBufferEnabled(final boolean eventRingBufferEnabled) {
+      this.eventRingBufferEnabled = eventRingBufferEnabled;
+      return this;
+    }
+
     public Builder altairForkEpoch(final UInt64 altairForkEpoch) {
       this.altairForkEpoch = Optional.of(altairForkEpoch);
       return this;
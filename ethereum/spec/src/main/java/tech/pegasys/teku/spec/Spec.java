@@ -70,6 +70,7 @@ import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateInvariants;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistrySnapshot;
 import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.spec.datastructures.util.ForkAndSpecMilestone;
 import tech.pegasys.teku.spec.genesis.GenesisGenerator;
@@ -682,6 +683,10 @@ public class Spec {
     return atEpoch(epoch).beaconStateAccessors().getActiveValidatorIndices(state, epoch);
   }
 
+  public Optional<ValidatorRegistrySnapshot> getValidatorRegistrySnapshot(final BeaconState state) {
+    return atState(state).beaconStateAccessors().getValidatorRegistrySnapshot(state);
+  }
+
   public UInt64 getTotalActiveBalance(BeaconState state) {
     return atState(state).beaconStateAccessors().getTotalActiveBalance(state);
   }
@@ -301,6 +301,11 @@ public class DelegatingSpecConfig implements SpecConfig {
     return specConfig.getProgressiveBalancesMode();
   }
 
+  @Override
+  public int getEpochProcessingThreads() {
+    return specConfig.getEpochProcessingThreads();
+  }
+
   @Override
   public int getProposerScoreBoost() {
     return specConfig.getProposerScoreBoost();
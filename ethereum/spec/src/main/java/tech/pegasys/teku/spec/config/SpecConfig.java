@@ -143,6 +143,12 @@ public interface SpecConfig {
 
   ProgressiveBalancesMode getProgressiveBalancesMode();
 
+  /**
+   * Number of threads used to process validators in parallel during epoch processing. A value of 1
+   * processes the whole registry sequentially on the calling thread.
+   */
+  int getEpochProcessingThreads();
+
   default Optional<SpecConfigAltair> toVersionAltair() {
     return Optional.empty();
   }
@@ -103,6 +103,7 @@ public class SpecConfigBuilder {
   private Eth1Address depositContractAddress;
 
   private ProgressiveBalancesMode progressiveBalancesMode = ProgressiveBalancesMode.DISABLED;
+  private int epochProcessingThreads = 1;
 
   // Altair
   private Optional<AltairBuilder> altairBuilder = Optional.empty();
@@ -164,7 +165,8 @@ public class SpecConfigBuilder {
             depositChainId,
             depositNetworkId,
             depositContractAddress,
-            progressiveBalancesMode);
+            progressiveBalancesMode,
+            epochProcessingThreads);
 
     if (altairBuilder.isPresent()) {
       final SpecConfigAltair altairConfig = altairBuilder.get().build(config);
@@ -561,6 +563,12 @@ public class SpecConfigBuilder {
     return this;
   }
 
+  public SpecConfigBuilder epochProcessingThreads(final int epochProcessingThreads) {
+    checkArgument(epochProcessingThreads > 0, "Epoch processing threads must be positive");
+    this.epochProcessingThreads = epochProcessingThreads;
+    return this;
+  }
+
   // Altair
   public SpecConfigBuilder altairBuilder(final Consumer<AltairBuilder> consumer) {
     if (altairBuilder.isEmpty()) {
@@ -0,0 +1,131 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.operations;
+
+import java.nio.ByteOrder;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+
+/**
+ * A read-only view of an SSZ serialized {@link Attestation} which reads fields directly from the
+ * serialized bytes instead of building the backing tree.
+ *
+ * <p>Most attestations received via gossip are ignored as duplicates or for being outside the
+ * propagation window, so this allows those checks to be made before paying the cost of
+ * deserializing the attestation. Only the structure needed to read the fields is validated, so an
+ * attestation which passes the checks must still be fully deserialized before it is used.
+ */
+public class FlatAttestationView {
+  // Attestation is serialized as the offset of the variable size aggregation bits, followed by the
+  // fixed size data and signature and finally the aggregation bits
+  private static final int SLOT_POSITION = 4;
+  private static final int INDEX_POSITION = 12;
+  private static final int BEACON_BLOCK_ROOT_POSITION = 20;
+  private static final int TARGET_EPOCH_POSITION = 92;
+  private static final int TARGET_ROOT_POSITION = 100;
+  static final int FIXED_PART_SIZE = 228;
+
+  private final Bytes ssz;
+  private final int aggregationBitsSize;
+
+  private FlatAttestationView(final Bytes ssz, final int aggregationBitsSize) {
+    this.ssz = ssz;
+    this.aggregationBitsSize = aggregationBitsSize;
+  }
+
+  /**
+   * Creates a view of the serialized attestation.
+   *
+   * @param schema the schema the attestation will be deserialized with
+   * @param ssz the SSZ serialized attestation
+   * @return the view or empty if the bytes are not a well-formed attestation
+   */
+  public static Optional<FlatAttestationView> wrap(
+      final AttestationSchema schema, final Bytes ssz) {
+    if (ssz.size() <= FIXED_PART_SIZE
+        || ssz.getInt(0, ByteOrder.LITTLE_ENDIAN) != FIXED_PART_SIZE) {
+      return Optional.empty();
+    }
+    // The last set bit of a bitlist marks its length
+    final int lastByte = ssz.get(ssz.size() - 1) & 0xFF;
+    if (lastByte == 0) {
+      return Optional.empty();
+    }
+    final int lengthBit = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(lastByte);
+    final long aggregationBitsSize = (ssz.size() - FIXED_PART_SIZE - 1) * 8L + lengthBit;
+    if (aggregationBitsSize > schema.getAggregationBitsSchema().getMaxLength()) {
+      return Optional.empty();
+    }
+    return Optional.of(new FlatAttestationView(ssz, (int) aggregationBitsSize));
+  }
+
+  public UInt64 getSlot() {
+    return getUInt64(SLOT_POSITION);
+  }
+
+  public UInt64 getCommitteeIndex() {
+    return getUInt64(INDEX_POSITION);
+  }
+
+  public Bytes32 getBeaconBlockRoot() {
+    return Bytes32.wrap(ssz.slice(BEACON_BLOCK_ROOT_POSITION, Bytes32.SIZE));
+  }
+
+  public UInt64 getTargetEpoch() {
+    return getUInt64(TARGET_EPOCH_POSITION);
+  }
+
+  public Bytes32 getTargetRoot() {
+    return Bytes32.wrap(ssz.slice(TARGET_ROOT_POSITION, Bytes32.SIZE));
+  }
+
+  /** Equivalent to {@link AttestationData#getEarliestSlotForForkChoice(Spec)}. */
+  public UInt64 getEarliestSlotForForkChoice(final Spec spec) {
+    return getSlot().plus(UInt64.ONE).max(spec.computeStartSlotAtEpoch(getTargetEpoch()));
+  }
+
+  public int getAggregationBitsSize() {
+    return aggregationBitsSize;
+  }
+
+  public int getAggregationBitCount() {
+    int bitCount = 0;
+    for (int i = FIXED_PART_SIZE; i < ssz.size(); i++) {
+      bitCount += Integer.bitCount(ssz.get(i) & 0xFF);
+    }
+    // Exclude the bit marking the length
+    return bitCount - 1;
+  }
+
+  /** Returns the index of the lowest set aggregation bit or empty if no bits are set. */
+  public OptionalInt getFirstSetAggregationBit() {
+    for (int i = FIXED_PART_SIZE; i < ssz.size(); i++) {
+      final int value = ssz.get(i) & 0xFF;
+      if (value != 0) {
+        final int bitIndex = (i - FIXED_PART_SIZE) * 8 + Integer.numberOfTrailingZeros(value);
+        return bitIndex < aggregationBitsSize ? OptionalInt.of(bitIndex) : OptionalInt.empty();
+      }
+    }
+    return OptionalInt.empty();
+  }
+
+  private UInt64 getUInt64(final int position) {
+    return UInt64.fromLongBits(ssz.getLong(position, ByteOrder.LITTLE_ENDIAN));
+  }
+}
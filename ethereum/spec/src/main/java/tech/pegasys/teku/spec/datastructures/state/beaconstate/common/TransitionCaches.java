@@ -21,9 +21,13 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.CacheStats;
+import tech.pegasys.teku.infrastructure.collections.cache.ConcurrentCache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesUpdates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -40,6 +44,23 @@ public class TransitionCaches {
   private static final int MAX_SYNC_COMMITTEE_CACHE = 2;
   public static final int MAX_BASE_REWARD_PER_INCREMENT_CACHE = 1;
 
+  private static final CacheStats ACTIVE_VALIDATORS_STATS = new CacheStats("active_validators");
+  private static final CacheStats BEACON_PROPOSER_INDEX_STATS =
+      new CacheStats("beacon_proposer_index");
+  private static final CacheStats BEACON_COMMITTEE_STATS = new CacheStats("beacon_committee");
+  private static final CacheStats ATTESTERS_TOTAL_BALANCE_STATS =
+      new CacheStats("attesters_total_balance");
+  private static final CacheStats TOTAL_ACTIVE_BALANCE_STATS =
+      new CacheStats("total_active_balance");
+  private static final CacheStats VALIDATORS_PUB_KEYS_STATS = new CacheStats("validators_pub_keys");
+  private static final CacheStats COMMITTEE_SHUFFLE_STATS = new CacheStats("committee_shuffle");
+  private static final CacheStats EFFECTIVE_BALANCES_STATS = new CacheStats("effective_balances");
+  private static final CacheStats SYNC_COMMITTEE_STATS = new CacheStats("sync_committee");
+  private static final CacheStats BASE_REWARD_PER_INCREMENT_STATS =
+      new CacheStats("base_reward_per_increment");
+
+  private static volatile boolean concurrentCachesEnabled = false;
+
   private static final TransitionCaches NO_OP_INSTANCE =
       new TransitionCaches(
           NoOpCache.getNoOpCache(),
@@ -53,7 +74,14 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          ProgressiveTotalBalancesUpdates.NOOP) {
+          ProgressiveTotalBalancesUpdates.NOOP,
+          ValidatorRegistrySnapshot.EMPTY) {
+
+        @Override
+        public ValidatorRegistrySnapshot getValidatorRegistrySnapshot(
+            final SszList<Validator> validators) {
+          return ValidatorRegistrySnapshot.create(validators);
+        }
 
         @Override
         public TransitionCaches copy() {
@@ -71,6 +99,36 @@ public class TransitionCaches {
     return NO_OP_INSTANCE;
   }
 
+  /**
+   * Selects the cache implementation used by instances created after this call. When enabled
+   * {@link ConcurrentCache} is used so an expensive computation for one key doesn't block lookups
+   * of other keys, otherwise the synchronized {@link LRUCache}.
+   */
+  public static void setConcurrentCachesEnabled(final boolean enabled) {
+    concurrentCachesEnabled = enabled;
+  }
+
+  /** Hit, miss and load statistics for each cache. Only updated when concurrent caches are used. */
+  public static List<CacheStats> getCacheStats() {
+    return List.of(
+        ACTIVE_VALIDATORS_STATS,
+        BEACON_PROPOSER_INDEX_STATS,
+        BEACON_COMMITTEE_STATS,
+        ATTESTERS_TOTAL_BALANCE_STATS,
+        TOTAL_ACTIVE_BALANCE_STATS,
+        VALIDATORS_PUB_KEYS_STATS,
+        COMMITTEE_SHUFFLE_STATS,
+        EFFECTIVE_BALANCES_STATS,
+        SYNC_COMMITTEE_STATS,
+        BASE_REWARD_PER_INCREMENT_STATS);
+  }
+
+  private static <K, V> Cache<K, V> createCache(final int capacity, final CacheStats stats) {
+    return concurrentCachesEnabled
+        ? ConcurrentCache.create(capacity, stats)
+        : LRUCache.create(capacity);
+  }
+
   private final Cache<UInt64, IntList> activeValidators;
   private final Cache<UInt64, Integer> beaconProposerIndex;
   private final Cache<TekuPair<UInt64, UInt64>, IntList> beaconCommittee;
@@ -86,20 +144,23 @@ public class TransitionCaches {
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
   private volatile ProgressiveTotalBalancesUpdates progressiveTotalBalances;
+  private volatile ValidatorRegistrySnapshot validatorRegistrySnapshot;
 
   private TransitionCaches() {
-    activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
-    beaconProposerIndex = LRUCache.create(MAX_BEACON_PROPOSER_INDEX_CACHE);
-    beaconCommittee = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
-    attestersTotalBalance = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
-    totalActiveBalance = LRUCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
-    validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
+    activeValidators = createCache(MAX_ACTIVE_VALIDATORS_CACHE, ACTIVE_VALIDATORS_STATS);
+    beaconProposerIndex = createCache(MAX_BEACON_PROPOSER_INDEX_CACHE, BEACON_PROPOSER_INDEX_STATS);
+    beaconCommittee = createCache(MAX_BEACON_COMMITTEE_CACHE, BEACON_COMMITTEE_STATS);
+    attestersTotalBalance = createCache(MAX_BEACON_COMMITTEE_CACHE, ATTESTERS_TOTAL_BALANCE_STATS);
+    totalActiveBalance = createCache(MAX_TOTAL_ACTIVE_BALANCE_CACHE, TOTAL_ACTIVE_BALANCE_STATS);
+    validatorsPubKeys = createCache(Integer.MAX_VALUE - 1, VALIDATORS_PUB_KEYS_STATS);
     validatorIndexCache = new ValidatorIndexCache();
-    committeeShuffle = LRUCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
-    effectiveBalances = LRUCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
-    syncCommitteeCache = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
-    baseRewardPerIncrement = LRUCache.create(MAX_BASE_REWARD_PER_INCREMENT_CACHE);
+    committeeShuffle = createCache(MAX_COMMITTEE_SHUFFLE_CACHE, COMMITTEE_SHUFFLE_STATS);
+    effectiveBalances = createCache(MAX_EFFECTIVE_BALANCE_CACHE, EFFECTIVE_BALANCES_STATS);
+    syncCommitteeCache = createCache(MAX_SYNC_COMMITTEE_CACHE, SYNC_COMMITTEE_STATS);
+    baseRewardPerIncrement =
+        createCache(MAX_BASE_REWARD_PER_INCREMENT_CACHE, BASE_REWARD_PER_INCREMENT_STATS);
     progressiveTotalBalances = ProgressiveTotalBalancesUpdates.NOOP;
+    validatorRegistrySnapshot = ValidatorRegistrySnapshot.EMPTY;
   }
 
   private TransitionCaches(
@@ -114,7 +175,8 @@ public class TransitionCaches {
       Cache<UInt64, List<UInt64>> effectiveBalances,
       Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
       Cache<UInt64, UInt64> baseRewardPerIncrement,
-      ProgressiveTotalBalancesUpdates progressiveTotalBalances) {
+      ProgressiveTotalBalancesUpdates progressiveTotalBalances,
+      ValidatorRegistrySnapshot validatorRegistrySnapshot) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
@@ -127,6 +189,7 @@ public class TransitionCaches {
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
     this.progressiveTotalBalances = progressiveTotalBalances;
+    this.validatorRegistrySnapshot = validatorRegistrySnapshot;
   }
 
   public void setLatestTotalBalances(TotalBalances totalBalances) {
@@ -211,6 +274,21 @@ public class TransitionCaches {
     return baseRewardPerIncrement;
   }
 
+  /**
+   * Returns a columnar snapshot of the given validator registry. The snapshot is updated
+   * incrementally from the one held by these caches, which is normally the snapshot of the parent
+   * state as it is carried over by {@link #copy()}.
+   *
+   * @param validators the immutable validator registry of the state these caches belong to
+   * @return the validator registry snapshot
+   */
+  public ValidatorRegistrySnapshot getValidatorRegistrySnapshot(
+      final SszList<Validator> validators) {
+    final ValidatorRegistrySnapshot snapshot = validatorRegistrySnapshot.update(validators);
+    validatorRegistrySnapshot = snapshot;
+    return snapshot;
+  }
+
   /**
    * Makes an independent copy which contains all the data in this instance Modifications to
    * returned caches shouldn't affect caches from this instance
@@ -228,6 +306,7 @@ public class TransitionCaches {
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
         baseRewardPerIncrement.copy(),
-        progressiveTotalBalances.copy());
+        progressiveTotalBalances.copy(),
+        validatorRegistrySnapshot);
   }
 }
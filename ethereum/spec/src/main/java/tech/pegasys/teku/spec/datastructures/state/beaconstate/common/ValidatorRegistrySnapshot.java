@@ -0,0 +1,280 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+
+/**
+ * An immutable, columnar copy of the fields of every validator in a registry which are needed to
+ * scan for active validators and their balances, held in primitive arrays so that scans don't have
+ * to create a {@link Validator} view for each entry.
+ *
+ * <p>Values are stored in fixed size chunks. {@link #update(SszList)} walks the backing tree of
+ * the new registry alongside the one this snapshot was created from, skipping any subtree which
+ * is shared between them, so only validators that actually changed are read. Chunks which contain
+ * no changes are shared with the new snapshot rather than copied.
+ */
+public class ValidatorRegistrySnapshot {
+  static final ValidatorRegistrySnapshot EMPTY =
+      new ValidatorRegistrySnapshot(null, -1, 0, new Chunk[0]);
+
+  private static final int CHUNK_BITS = 10;
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private final TreeNode validatorsNode;
+  private final int treeDepth;
+  private final int size;
+  private final Chunk[] chunks;
+
+  private ValidatorRegistrySnapshot(
+      final TreeNode validatorsNode, final int treeDepth, final int size, final Chunk[] chunks) {
+    this.validatorsNode = validatorsNode;
+    this.treeDepth = treeDepth;
+    this.size = size;
+    this.chunks = chunks;
+  }
+
+  public static ValidatorRegistrySnapshot create(final SszList<Validator> validators) {
+    return EMPTY.update(validators);
+  }
+
+  /**
+   * Returns a snapshot of the given registry, reusing everything from this snapshot which is
+   * unchanged.
+   *
+   * <p>The registry must be immutable, as getting the backing tree of a mutable list commits its
+   * pending changes.
+   *
+   * @param validators the registry to create a snapshot of
+   * @return this instance if the registry is unchanged otherwise a new snapshot
+   */
+  public ValidatorRegistrySnapshot update(final SszList<Validator> validators) {
+    final TreeNode newValidatorsNode = validators.getBackingNode();
+    if (newValidatorsNode == validatorsNode) {
+      return this;
+    }
+    final int newTreeDepth = validators.getSchema().treeDepth();
+    final int newSize = validators.size();
+    final Updater updater =
+        new Updater(
+            Arrays.copyOf(chunks, getChunkCount(newSize)),
+            validators.getSchema().getElementSchema());
+    final TreeNode oldVectorNode =
+        validatorsNode == null || treeDepth != newTreeDepth
+            ? null
+            : validatorsNode.get(GIndexUtil.LEFT_CHILD_G_INDEX);
+    updater.collectChanges(
+        oldVectorNode,
+        newValidatorsNode.get(GIndexUtil.LEFT_CHILD_G_INDEX),
+        newTreeDepth,
+        0,
+        newSize);
+    return new ValidatorRegistrySnapshot(newValidatorsNode, newTreeDepth, newSize, updater.chunks);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public UInt64 getEffectiveBalance(final int index) {
+    return UInt64.fromLongBits(getChunk(index).effectiveBalances[index & CHUNK_MASK]);
+  }
+
+  public boolean isSlashed(final int index) {
+    return getChunk(index).slashed[index & CHUNK_MASK];
+  }
+
+  public UInt64 getActivationEligibilityEpoch(final int index) {
+    return UInt64.fromLongBits(getChunk(index).activationEligibilityEpochs[index & CHUNK_MASK]);
+  }
+
+  public UInt64 getActivationEpoch(final int index) {
+    return UInt64.fromLongBits(getChunk(index).activationEpochs[index & CHUNK_MASK]);
+  }
+
+  public UInt64 getExitEpoch(final int index) {
+    return UInt64.fromLongBits(getChunk(index).exitEpochs[index & CHUNK_MASK]);
+  }
+
+  public UInt64 getWithdrawableEpoch(final int index) {
+    return UInt64.fromLongBits(getChunk(index).withdrawableEpochs[index & CHUNK_MASK]);
+  }
+
+  /** Equivalent to {@code Predicates.isActiveValidator} for the validator at index. */
+  public boolean isActiveValidator(final int index, final UInt64 epoch) {
+    final Chunk chunk = getChunk(index);
+    return isActive(chunk, index & CHUNK_MASK, epoch.longValue());
+  }
+
+  public IntList getActiveValidatorIndices(final UInt64 epoch) {
+    final long epochBits = epoch.longValue();
+    final int[] activeIndices = new int[size];
+    int activeCount = 0;
+    for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+      final Chunk chunk = chunks[chunkIndex];
+      final int chunkStart = chunkIndex << CHUNK_BITS;
+      final int chunkSize = Math.min(CHUNK_SIZE, size - chunkStart);
+      for (int i = 0; i < chunkSize; i++) {
+        if (isActive(chunk, i, epochBits)) {
+          activeIndices[activeCount++] = chunkStart + i;
+        }
+      }
+    }
+    return IntList.of(Arrays.copyOf(activeIndices, activeCount));
+  }
+
+  /**
+   * Sums the effective balances of the validators at the given indices.
+   *
+   * @throws ArithmeticException if the total overflows an unsigned 64-bit value
+   */
+  public UInt64 getTotalEffectiveBalance(final Collection<Integer> indices) {
+    long total = 0;
+    for (final Integer index : indices) {
+      final long newTotal = total + getChunk(index).effectiveBalances[index & CHUNK_MASK];
+      if (Long.compareUnsigned(newTotal, total) < 0) {
+        throw new ArithmeticException("uint64 overflow");
+      }
+      total = newTotal;
+    }
+    return UInt64.fromLongBits(total);
+  }
+
+  private Chunk getChunk(final int index) {
+    Objects.checkIndex(index, size);
+    return chunks[index >>> CHUNK_BITS];
+  }
+
+  private static boolean isActive(final Chunk chunk, final int offset, final long epoch) {
+    return Long.compareUnsigned(chunk.activationEpochs[offset], epoch) <= 0
+        && Long.compareUnsigned(epoch, chunk.exitEpochs[offset]) < 0;
+  }
+
+  private static int getChunkCount(final int size) {
+    return (size + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+  }
+
+  private static class Updater {
+    private final Chunk[] chunks;
+    private final boolean[] copiedChunks;
+    private final SszSchema<Validator> validatorSchema;
+
+    private Updater(final Chunk[] chunks, final SszSchema<Validator> validatorSchema) {
+      this.chunks = chunks;
+      this.copiedChunks = new boolean[chunks.length];
+      this.validatorSchema = validatorSchema;
+    }
+
+    private void collectChanges(
+        final TreeNode oldNode,
+        final TreeNode newNode,
+        final int depth,
+        final long startIndex,
+        final int size) {
+      if (startIndex >= size || oldNode == newNode) {
+        return;
+      }
+      if (depth == 0) {
+        set((int) startIndex, validatorSchema.createFromBackingNode(newNode));
+        return;
+      }
+      final long rightStartIndex = startIndex + (1L << (depth - 1));
+      collectChanges(
+          oldNode == null ? null : oldNode.get(GIndexUtil.LEFT_CHILD_G_INDEX),
+          newNode.get(GIndexUtil.LEFT_CHILD_G_INDEX),
+          depth - 1,
+          startIndex,
+          size);
+      collectChanges(
+          oldNode == null ? null : oldNode.get(GIndexUtil.RIGHT_CHILD_G_INDEX),
+          newNode.get(GIndexUtil.RIGHT_CHILD_G_INDEX),
+          depth - 1,
+          rightStartIndex,
+          size);
+    }
+
+    private void set(final int index, final Validator validator) {
+      final int chunkIndex = index >>> CHUNK_BITS;
+      if (!copiedChunks[chunkIndex]) {
+        final Chunk existing = chunks[chunkIndex];
+        chunks[chunkIndex] = existing == null ? new Chunk() : existing.copy();
+        copiedChunks[chunkIndex] = true;
+      }
+      chunks[chunkIndex].set(index & CHUNK_MASK, validator);
+    }
+  }
+
+  private static class Chunk {
+    private final long[] effectiveBalances;
+    private final long[] activationEligibilityEpochs;
+    private final long[] activationEpochs;
+    private final long[] exitEpochs;
+    private final long[] withdrawableEpochs;
+    private final boolean[] slashed;
+
+    private Chunk() {
+      this(
+          new long[CHUNK_SIZE],
+          new long[CHUNK_SIZE],
+          new long[CHUNK_SIZE],
+          new long[CHUNK_SIZE],
+          new long[CHUNK_SIZE],
+          new boolean[CHUNK_SIZE]);
+    }
+
+    private Chunk(
+        final long[] effectiveBalances,
+        final long[] activationEligibilityEpochs,
+        final long[] activationEpochs,
+        final long[] exitEpochs,
+        final long[] withdrawableEpochs,
+        final boolean[] slashed) {
+      this.effectiveBalances = effectiveBalances;
+      this.activationEligibilityEpochs = activationEligibilityEpochs;
+      this.activationEpochs = activationEpochs;
+      this.exitEpochs = exitEpochs;
+      this.withdrawableEpochs = withdrawableEpochs;
+      this.slashed = slashed;
+    }
+
+    private Chunk copy() {
+      return new Chunk(
+          effectiveBalances.clone(),
+          activationEligibilityEpochs.clone(),
+          activationEpochs.clone(),
+          exitEpochs.clone(),
+          withdrawableEpochs.clone(),
+          slashed.clone());
+    }
+
+    private void set(final int offset, final Validator validator) {
+      effectiveBalances[offset] = validator.getEffectiveBalance().longValue();
+      activationEligibilityEpochs[offset] = validator.getActivationEligibilityEpoch().longValue();
+      activationEpochs[offset] = validator.getActivationEpoch().longValue();
+      exitEpochs[offset] = validator.getExitEpoch().longValue();
+      withdrawableEpochs[offset] = validator.getWithdrawableEpoch().longValue();
+      slashed[offset] = validator.isSlashed();
+    }
+  }
+}
@@ -36,6 +36,8 @@ import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistrySnapshot;
 
 public abstract class BeaconStateAccessors {
   protected final SpecConfig config;
@@ -110,6 +112,11 @@ public abstract class BeaconStateAccessors {
         .get(
             epoch,
             e -> {
+              final Optional<ValidatorRegistrySnapshot> snapshot =
+                  getValidatorRegistrySnapshot(state);
+              if (snapshot.isPresent()) {
+                return snapshot.get().getActiveValidatorIndices(epoch);
+              }
               SszList<Validator> validators = state.getValidators();
               return IntList.of(
                   IntStream.range(0, validators.size())
@@ -118,6 +125,25 @@ public abstract class BeaconStateAccessors {
             });
   }
 
+  /**
+   * Get a columnar snapshot of the validator registry which can be scanned without creating a view
+   * for each validator.
+   *
+   * <p>Snapshots are only available for immutable states as they are updated incrementally by
+   * comparing backing trees, which would require committing the changes of a mutable state.
+   *
+   * @param state - Current BeaconState
+   * @return the snapshot or empty if the state is mutable
+   */
+  public Optional<ValidatorRegistrySnapshot> getValidatorRegistrySnapshot(final BeaconState state) {
+    if (state instanceof MutableBeaconState) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        BeaconStateCache.getTransitionCaches(state)
+            .getValidatorRegistrySnapshot(state.getValidators()));
+  }
+
   public UInt64 getMaxLookaheadEpoch(final BeaconState state) {
     return getMaxLookaheadEpoch(getCurrentEpoch(state));
   }
@@ -140,7 +166,13 @@ public abstract class BeaconStateAccessors {
         .getTotalActiveBalance()
         .get(
             getCurrentEpoch(state),
-            epoch -> getTotalBalance(state, getActiveValidatorIndices(state, epoch)));
+            epoch -> {
+              final IntList activeValidatorIndices = getActiveValidatorIndices(state, epoch);
+              return getValidatorRegistrySnapshot(state)
+                  .map(snapshot -> snapshot.getTotalEffectiveBalance(activeValidatorIndices))
+                  .map(total -> total.max(config.getEffectiveBalanceIncrement()))
+                  .orElseGet(() -> getTotalBalance(state, activeValidatorIndices));
+            });
   }
 
   public UInt64 getProposerBoostAmount(final BeaconState state) {
@@ -16,7 +16,6 @@ package tech.pegasys.teku.spec.logic.common.helpers;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.bytesToUInt64;
 import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.uint64ToBytes;
-import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.uintToBytes;
 
 import com.google.common.primitives.UnsignedBytes;
 import it.unimi.dsi.fastutil.ints.IntList;
@@ -24,6 +23,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
 import tech.pegasys.teku.infrastructure.ssz.Merkleizable;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszByteVector;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
@@ -50,6 +50,8 @@ public class MiscHelpers {
 
     int indexRet = index;
     final int shuffleRoundCount = specConfig.getShuffleRoundCount();
+    final byte[] hashInput = createShuffleHashInput(seed);
+    final byte[] hashOutput = new byte[Sha256.DIGEST_SIZE];
 
     for (int round = 0; round < shuffleRoundCount; round++) {
 
@@ -63,11 +65,10 @@ public class MiscHelpers {
       int flip = Math.floorMod(pivot + indexCount - indexRet, indexCount);
       int position = Math.max(indexRet, flip);
 
-      Bytes positionDiv256 = uintToBytes(Math.floorDiv(position, 256L), 4);
-      Bytes hashBytes = Hash.sha256(seed, roundAsByte, positionDiv256);
+      hashSeedRoundAndPosition(hashInput, round, position / 256, hashOutput);
 
       int bitIndex = position & 0xff;
-      int theByte = hashBytes.get(bitIndex / 8);
+      int theByte = hashOutput[bitIndex / 8];
       int theBit = (theByte >> (bitIndex & 0x07)) & 1;
       if (theBit != 0) {
         indexRet = flip;
@@ -165,6 +166,8 @@ public class MiscHelpers {
     if (listSize == 0) {
       return;
     }
+    final byte[] hashInput = createShuffleHashInput(seed);
+    final byte[] hashOutput = new byte[Sha256.DIGEST_SIZE];
 
     for (int round = specConfig.getShuffleRoundCount() - 1; round >= 0; round--) {
 
@@ -176,7 +179,6 @@ public class MiscHelpers {
               .mod(listSize)
               .intValue();
 
-      Bytes hashBytes = Bytes.EMPTY;
       int mirror1 = (pivot + 2) / 2;
       int mirror2 = (pivot + listSize) / 2;
       for (int i = mirror1; i <= mirror2; i++) {
@@ -186,17 +188,17 @@ public class MiscHelpers {
           flip = pivot - i;
           bitIndex = i & 0xff;
           if (bitIndex == 0 || i == mirror1) {
-            hashBytes = Hash.sha256(seed, roundAsByte, uintToBytes(i / 256, 4));
+            hashSeedRoundAndPosition(hashInput, round, i / 256, hashOutput);
           }
         } else {
           flip = pivot + listSize - i;
           bitIndex = flip & 0xff;
           if (bitIndex == 0xff || i == pivot + 1) {
-            hashBytes = Hash.sha256(seed, roundAsByte, uintToBytes(flip / 256, 4));
+            hashSeedRoundAndPosition(hashInput, round, flip / 256, hashOutput);
           }
         }
 
-        int theByte = hashBytes.get(bitIndex / 8);
+        int theByte = hashOutput[bitIndex / 8];
         int theBit = (theByte >> (bitIndex & 0x07)) & 1;
         if (theBit != 0) {
           int tmp = input[i];
@@ -207,6 +209,27 @@ public class MiscHelpers {
     }
   }
 
+  private static byte[] createShuffleHashInput(final Bytes32 seed) {
+    final byte[] hashInput = new byte[Bytes32.SIZE + 1 + 4];
+    System.arraycopy(seed.toArrayUnsafe(), 0, hashInput, 0, Bytes32.SIZE);
+    return hashInput;
+  }
+
+  /**
+   * Calculates {@code hash(seed + uint_to_bytes(round) + uint_to_bytes(position / 256))} into a
+   * reused output buffer as shuffling performs this hash for every 256 positions in every round.
+   */
+  private static void hashSeedRoundAndPosition(
+      final byte[] hashInput, final int round, final int positionDiv256, final byte[] hashOutput) {
+    int offset = Bytes32.SIZE;
+    hashInput[offset++] = (byte) round;
+    hashInput[offset++] = (byte) positionDiv256;
+    hashInput[offset++] = (byte) (positionDiv256 >>> 8);
+    hashInput[offset++] = (byte) (positionDiv256 >>> 16);
+    hashInput[offset] = (byte) (positionDiv256 >>> 24);
+    Sha256.hash(hashInput, 0, hashInput.length, hashOutput, 0);
+  }
+
   public Bytes computeSigningRoot(Merkleizable object, Bytes32 domain) {
     return new SigningData(object.hashTreeRoot(), domain).hashTreeRoot();
   }
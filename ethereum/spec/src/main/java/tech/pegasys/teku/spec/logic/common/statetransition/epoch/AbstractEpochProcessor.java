@@ -57,6 +57,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   private final SchemaDefinitions schemaDefinitions;
   protected final BeaconStateAccessors beaconStateAccessors;
   protected final BeaconStateMutators beaconStateMutators;
+  protected final ValidatorShards validatorShards;
 
   protected AbstractEpochProcessor(
       final SpecConfig specConfig,
@@ -75,6 +76,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     this.beaconStateUtil = beaconStateUtil;
     this.validatorStatusFactory = validatorStatusFactory;
     this.schemaDefinitions = schemaDefinitions;
+    this.validatorShards = ValidatorShards.create(specConfig.getEpochProcessingThreads());
   }
 
   /**
@@ -289,6 +291,10 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     final SszMutableUInt64List balances = state.getBalances();
     // To optimize performance, calculate validator size once outside of the loop
     int validatorsCount = state.getValidators().size();
+    if (validatorShards.isParallel()) {
+      applyDeltasInParallel(balances, validatorsCount, attestationDeltas);
+      return;
+    }
     for (int i = 0; i < validatorsCount; i++) {
       final RewardAndPenalty delta = attestationDeltas.getDelta(i);
       balances.setElement(
@@ -296,6 +302,36 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     }
   }
 
+  private void applyDeltasInParallel(
+      final SszMutableUInt64List balances,
+      final int validatorsCount,
+      final RewardAndPenaltyDeltas attestationDeltas) {
+    // Balances are held as unsigned long bits so the shards don't allocate per validator
+    final long[] oldBalances = new long[validatorsCount];
+    for (int i = 0; i < validatorsCount; i++) {
+      oldBalances[i] = balances.getElement(i).longValue();
+    }
+    final long[] newBalances = new long[validatorsCount];
+    validatorShards.forEach(
+        validatorsCount,
+        (startIndex, endIndex) -> {
+          for (int i = startIndex; i < endIndex; i++) {
+            final long rewarded = oldBalances[i] + attestationDeltas.getRewardLongBits(i);
+            if (Long.compareUnsigned(rewarded, oldBalances[i]) < 0) {
+              throw new ArithmeticException("uint64 overflow");
+            }
+            final long penalty = attestationDeltas.getPenaltyLongBits(i);
+            newBalances[i] = Long.compareUnsigned(rewarded, penalty) > 0 ? rewarded - penalty : 0;
+          }
+        });
+    // Only touch the SSZ list where the balance actually changed
+    for (int i = 0; i < validatorsCount; i++) {
+      if (newBalances[i] != oldBalances[i]) {
+        balances.setElement(i, UInt64.fromLongBits(newBalances[i]));
+      }
+    }
+  }
+
   /** Processes validator registry updates */
   @Override
   public void processRegistryUpdates(MutableBeaconState state, List<ValidatorStatus> statuses)
@@ -306,7 +342,12 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
       SszMutableList<Validator> validators = state.getValidators();
       final UInt64 currentEpoch = beaconStateAccessors.getCurrentEpoch(state);
       final UInt64 finalizedEpoch = state.getFinalizedCheckpoint().getEpoch();
+      final boolean[] registryUpdateCandidates =
+          findRegistryUpdateCandidates(validators.size(), statuses);
       for (int index = 0; index < validators.size(); index++) {
+        if (registryUpdateCandidates != null && !registryUpdateCandidates[index]) {
+          continue;
+        }
         final ValidatorStatus status = statuses.get(index);
 
         // Slightly optimised form of isEligibleForActivationQueue to avoid accessing the
@@ -376,6 +417,34 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     }
   }
 
+  /**
+   * Identifies the validators which may need activation eligibility or ejection processing, using
+   * only their status so the checks can be spread across validator shards.
+   *
+   * @return flags for each validator which may need updating or null when running sequentially and
+   *     every validator should be checked
+   */
+  private boolean[] findRegistryUpdateCandidates(
+      final int validatorCount, final List<ValidatorStatus> statuses) {
+    if (!validatorShards.isParallel()) {
+      return null;
+    }
+    final boolean[] candidates = new boolean[validatorCount];
+    validatorShards.forEach(
+        validatorCount,
+        (startIndex, endIndex) -> {
+          for (int index = startIndex; index < endIndex; index++) {
+            final ValidatorStatus status = statuses.get(index);
+            final UInt64 effectiveBalance = status.getCurrentEpochEffectiveBalance();
+            candidates[index] =
+                status.isActiveInCurrentEpoch()
+                    ? effectiveBalance.isLessThanOrEqualTo(specConfig.getEjectionBalance())
+                    : effectiveBalance.equals(specConfig.getMaxEffectiveBalance());
+          }
+        });
+    return candidates;
+  }
+
   /** Processes slashings */
   @Override
   public void processSlashings(
@@ -428,6 +497,10 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     // Update effective balances with hysteresis
     SszMutableList<Validator> validators = state.getValidators();
     SszUInt64List balances = state.getBalances();
+    if (validatorShards.isParallel()) {
+      processEffectiveBalanceUpdatesInParallel(state, validators, balances, statuses);
+      return;
+    }
     for (int index = 0; index < validators.size(); index++) {
       ValidatorStatus status = statuses.get(index);
       UInt64 balance = balances.getElement(index);
@@ -451,6 +524,51 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     }
   }
 
+  private void processEffectiveBalanceUpdatesInParallel(
+      final MutableBeaconState state,
+      final SszMutableList<Validator> validators,
+      final SszUInt64List balances,
+      final List<ValidatorStatus> statuses) {
+    final int validatorCount = validators.size();
+    final UInt64[] balanceValues = new UInt64[validatorCount];
+    for (int index = 0; index < validatorCount; index++) {
+      balanceValues[index] = balances.getElement(index);
+    }
+
+    // Null for validators whose effective balance is unchanged
+    final UInt64[] newEffectiveBalances = new UInt64[validatorCount];
+    final UInt64 hysteresisIncrement =
+        specConfig.getEffectiveBalanceIncrement().dividedBy(specConfig.getHysteresisQuotient());
+    validatorShards.forEach(
+        validatorCount,
+        (startIndex, endIndex) -> {
+          for (int index = startIndex; index < endIndex; index++) {
+            final UInt64 balance = balanceValues[index];
+            final UInt64 currentEffectiveBalance =
+                statuses.get(index).getCurrentEpochEffectiveBalance();
+            if (shouldDecreaseEffectiveBalance(
+                    balance, hysteresisIncrement, currentEffectiveBalance)
+                || shouldIncreaseEffectiveBalance(
+                    balance, hysteresisIncrement, currentEffectiveBalance)) {
+              newEffectiveBalances[index] =
+                  balance
+                      .minus(balance.mod(specConfig.getEffectiveBalanceIncrement()))
+                      .min(specConfig.getMaxEffectiveBalance());
+            }
+          }
+        });
+
+    final ProgressiveTotalBalancesUpdates progressiveTotalBalances =
+        BeaconStateCache.getTransitionCaches(state).getProgressiveTotalBalances();
+    for (int index = 0; index < validatorCount; index++) {
+      final UInt64 newEffectiveBalance = newEffectiveBalances[index];
+      if (newEffectiveBalance != null) {
+        progressiveTotalBalances.onEffectiveBalanceChange(statuses.get(index), newEffectiveBalance);
+        validators.set(index, validators.get(index).withEffectiveBalance(newEffectiveBalance));
+      }
+    }
+  }
+
   private boolean shouldIncreaseEffectiveBalance(
       final UInt64 balance,
       final UInt64 hysteresisIncrement,
@@ -14,53 +14,82 @@
 package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
 
 import com.google.common.base.MoreObjects;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * Reward and penalty totals for each validator.
+ *
+ * <p>Values are held in primitive arrays rather than an object per validator. Different threads
+ * may update the deltas for different validators concurrently, but updates to a single validator
+ * must all come from one thread.
+ */
 public class RewardAndPenaltyDeltas {
-  private final List<RewardAndPenalty> deltas;
+  private final long[] rewards;
+  private final long[] penalties;
 
   public RewardAndPenaltyDeltas(final int validatorCount) {
-    this.deltas = new ArrayList<>(validatorCount);
-    for (int i = 0; i < validatorCount; i++) {
-      deltas.add(new RewardAndPenalty());
-    }
+    this.rewards = new long[validatorCount];
+    this.penalties = new long[validatorCount];
   }
 
   public RewardAndPenalty getDelta(final int validatorIndex) {
-    return deltas.get(validatorIndex);
+    Objects.checkIndex(validatorIndex, rewards.length);
+    return new RewardAndPenalty(this, validatorIndex);
+  }
+
+  /** Returns the reward for a validator as unsigned long bits, without allocating. */
+  long getRewardLongBits(final int validatorIndex) {
+    return rewards[validatorIndex];
+  }
+
+  /** Returns the penalty for a validator as unsigned long bits, without allocating. */
+  long getPenaltyLongBits(final int validatorIndex) {
+    return penalties[validatorIndex];
   }
 
   @Override
   public String toString() {
-    return MoreObjects.toStringHelper(this).add("deltas", deltas).toString();
+    return MoreObjects.toStringHelper(this)
+        .add(
+            "deltas",
+            IntStream.range(0, rewards.length)
+                .mapToObj(this::getDelta)
+                .collect(Collectors.toList()))
+        .toString();
   }
 
+  /** View of the reward and penalty for a single validator. */
   public static class RewardAndPenalty {
-    private UInt64 reward = UInt64.ZERO;
-    private UInt64 penalty = UInt64.ZERO;
+    private final RewardAndPenaltyDeltas deltas;
+    private final int index;
+
+    private RewardAndPenalty(final RewardAndPenaltyDeltas deltas, final int index) {
+      this.deltas = deltas;
+      this.index = index;
+    }
 
     public void reward(final UInt64 amount) {
-      reward = reward.plus(amount);
+      deltas.rewards[index] = getReward().plus(amount).longValue();
     }
 
     public void penalize(final UInt64 amount) {
-      penalty = penalty.plus(amount);
+      deltas.penalties[index] = getPenalty().plus(amount).longValue();
     }
 
     public void add(final RewardAndPenalty other) {
-      reward(other.reward);
-      penalize(other.penalty);
+      reward(other.getReward());
+      penalize(other.getPenalty());
     }
 
     public UInt64 getReward() {
-      return reward;
+      return UInt64.fromLongBits(deltas.rewards[index]);
     }
 
     public UInt64 getPenalty() {
-      return penalty;
+      return UInt64.fromLongBits(deltas.penalties[index]);
     }
 
     @Override
@@ -72,19 +101,20 @@ public class RewardAndPenaltyDeltas {
         return false;
       }
       final RewardAndPenalty delta = (RewardAndPenalty) o;
-      return Objects.equals(reward, delta.reward) && Objects.equals(penalty, delta.penalty);
+      return deltas.rewards[index] == delta.deltas.rewards[delta.index]
+          && deltas.penalties[index] == delta.deltas.penalties[delta.index];
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(reward, penalty);
+      return Objects.hash(getReward(), getPenalty());
     }
 
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
-          .add("reward", reward)
-          .add("penalty", penalty)
+          .add("reward", getReward())
+          .add("penalty", getPenalty())
           .toString();
     }
   }
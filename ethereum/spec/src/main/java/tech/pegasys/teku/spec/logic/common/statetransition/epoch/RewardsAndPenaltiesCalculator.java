@@ -46,6 +46,17 @@ public abstract class RewardsAndPenaltiesCalculator {
 
   public abstract RewardAndPenaltyDeltas getDeltas() throws IllegalArgumentException;
 
+  /**
+   * Return attestation reward/penalty deltas for each validator, splitting the work across shards
+   * of the validator registry where possible. The result is identical to {@link #getDeltas()}.
+   *
+   * @param validatorShards the shards to split the work across
+   */
+  public RewardAndPenaltyDeltas getDeltas(final ValidatorShards validatorShards)
+      throws IllegalArgumentException {
+    return getDeltas();
+  }
+
   protected UInt64 getFinalityDelay() {
     return finalityDelay;
   }
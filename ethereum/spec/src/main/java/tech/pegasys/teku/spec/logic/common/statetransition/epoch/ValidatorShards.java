@@ -0,0 +1,118 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Splits per-validator epoch processing work into contiguous ranges of validator indices and runs
+ * them in parallel on a shared {@link ForkJoinPool}.
+ *
+ * <p>Work for a shard may only read data which is not modified while the shards run and may only
+ * write to the entries it owns in arrays indexed by validator. SSZ state must be read before or
+ * updated after the sharded work, on the calling thread, as views are not thread safe.
+ */
+public class ValidatorShards {
+  public static final ValidatorShards SEQUENTIAL = new ValidatorShards(1);
+
+  private static final int SHARDS_PER_THREAD = 4;
+  private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+  private final int threads;
+
+  private ValidatorShards(final int threads) {
+    this.threads = threads;
+  }
+
+  public static ValidatorShards create(final int threads) {
+    return threads > 1 ? new ValidatorShards(threads) : SEQUENTIAL;
+  }
+
+  public boolean isParallel() {
+    return threads > 1;
+  }
+
+  /**
+   * Processes all validator indices from 0 (inclusive) to validatorCount (exclusive), returning
+   * once every shard is complete.
+   *
+   * @param validatorCount the number of validators to process
+   * @param shardProcessor the work to perform for each range of validator indices
+   */
+  public void forEach(final int validatorCount, final ShardProcessor shardProcessor) {
+    final int shardCount = Math.min(validatorCount, threads * SHARDS_PER_THREAD);
+    if (!isParallel() || shardCount <= 1) {
+      shardProcessor.process(0, validatorCount);
+      return;
+    }
+
+    final ForkJoinPool pool = POOLS.computeIfAbsent(threads, ValidatorShards::createPool);
+    final List<ForkJoinTask<?>> tasks = new ArrayList<>(shardCount - 1);
+    for (int shard = 1; shard < shardCount; shard++) {
+      final int startIndex = getShardStart(shard, shardCount, validatorCount);
+      final int endIndex = getShardStart(shard + 1, shardCount, validatorCount);
+      tasks.add(pool.submit(() -> shardProcessor.process(startIndex, endIndex)));
+    }
+
+    // Process the first shard on the calling thread rather than leaving it idle
+    RuntimeException failure = null;
+    try {
+      shardProcessor.process(0, getShardStart(1, shardCount, validatorCount));
+    } catch (final RuntimeException e) {
+      failure = e;
+    }
+    // Always wait for every shard so none are still writing to the results once we return
+    for (ForkJoinTask<?> task : tasks) {
+      try {
+        task.join();
+      } catch (final RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static int getShardStart(final int shard, final int shardCount, final int count) {
+    return (int) ((long) count * shard / shardCount);
+  }
+
+  private static ForkJoinPool createPool(final int threads) {
+    // The calling thread processes one shard itself so needs one less worker
+    return new ForkJoinPool(
+        threads - 1,
+        pool -> {
+          final ForkJoinWorkerThread thread =
+              ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+          thread.setName("epoch-processing-" + thread.getPoolIndex());
+          return thread;
+        },
+        null,
+        false);
+  }
+
+  @FunctionalInterface
+  public interface ShardProcessor {
+    void process(int startIndex, int endIndex);
+  }
+}
@@ -18,6 +18,7 @@ import static tech.pegasys.teku.spec.config.Constants.ATTESTATION_SUBNET_COUNT;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,6 +34,7 @@ import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistrySnapshot;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
@@ -144,13 +146,29 @@ public class BeaconStateUtil {
         .get(
             beaconStateAccessors.getCurrentEpoch(state),
             epoch ->
-                state.getValidators().stream()
-                    .map(
-                        validator ->
-                            predicates.isActiveValidator(validator, epoch)
-                                ? validator.getEffectiveBalance()
-                                : UInt64.ZERO)
-                    .collect(toUnmodifiableList()));
+                beaconStateAccessors
+                    .getValidatorRegistrySnapshot(state)
+                    .map(snapshot -> getEffectiveBalances(snapshot, epoch))
+                    .orElseGet(
+                        () ->
+                            state.getValidators().stream()
+                                .map(
+                                    validator ->
+                                        predicates.isActiveValidator(validator, epoch)
+                                            ? validator.getEffectiveBalance()
+                                            : UInt64.ZERO)
+                                .collect(toUnmodifiableList())));
+  }
+
+  private List<UInt64> getEffectiveBalances(
+      final ValidatorRegistrySnapshot snapshot, final UInt64 epoch) {
+    return IntStream.range(0, snapshot.size())
+        .mapToObj(
+            index ->
+                snapshot.isActiveValidator(index, epoch)
+                    ? snapshot.getEffectiveBalance(index)
+                    : UInt64.ZERO)
+        .collect(toUnmodifiableList());
   }
 
   public boolean all(SszBitvector bitvector, int start, int end) {
@@ -86,7 +86,7 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
             miscHelpersAltair,
             beaconStateAccessorsAltair);
 
-    return calculator.getDeltas();
+    return calculator.getDeltas(validatorShards);
   }
 
   /**
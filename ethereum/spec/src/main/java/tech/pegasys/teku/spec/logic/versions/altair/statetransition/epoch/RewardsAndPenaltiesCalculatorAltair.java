@@ -17,6 +17,7 @@ import static tech.pegasys.teku.spec.constants.IncentivizationWeights.WEIGHT_DEN
 import static tech.pegasys.teku.spec.constants.ParticipationFlags.TIMELY_HEAD_FLAG_INDEX;
 import static tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS;
 
+import java.util.ArrayList;
 import java.util.List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
@@ -26,6 +27,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.B
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas.RewardAndPenalty;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorShards;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
@@ -54,13 +56,30 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
   /** Return attestation reward/penalty deltas for each validator */
   @Override
   public RewardAndPenaltyDeltas getDeltas() throws IllegalArgumentException {
-    final RewardAndPenaltyDeltas deltas =
-        new RewardAndPenaltyDeltas(validatorStatuses.getValidatorCount());
+    return getDeltas(ValidatorShards.SEQUENTIAL);
+  }
 
-    for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
-      processFlagIndexDeltas(deltas, flagIndex);
-    }
-    processInactivityPenaltyDeltas(deltas);
+  @Override
+  public RewardAndPenaltyDeltas getDeltas(final ValidatorShards validatorShards)
+      throws IllegalArgumentException {
+    final int validatorCount = validatorStatuses.getValidatorCount();
+    final RewardAndPenaltyDeltas deltas = new RewardAndPenaltyDeltas(validatorCount);
+    // Read everything needed from the state up front as shards can't safely access it
+    final UInt64 baseRewardPerIncrement =
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
+    final List<UInt64> inactivityScores =
+        validatorShards.isParallel()
+            ? new ArrayList<>(stateAltair.getInactivityScores().asListUnboxed())
+            : stateAltair.getInactivityScores().asListUnboxed();
+
+    validatorShards.forEach(
+        validatorCount,
+        (startIndex, endIndex) -> {
+          for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
+            processFlagIndexDeltas(deltas, flagIndex, baseRewardPerIncrement, startIndex, endIndex);
+          }
+          processInactivityPenaltyDeltas(deltas, inactivityScores, startIndex, endIndex);
+        });
 
     return deltas;
   }
@@ -75,6 +94,20 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
    * @param flagIndex The flag index to process
    */
   public void processFlagIndexDeltas(final RewardAndPenaltyDeltas deltas, final int flagIndex) {
+    processFlagIndexDeltas(
+        deltas,
+        flagIndex,
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair),
+        0,
+        validatorStatuses.getValidatorCount());
+  }
+
+  private void processFlagIndexDeltas(
+      final RewardAndPenaltyDeltas deltas,
+      final int flagIndex,
+      final UInt64 baseRewardPerIncrement,
+      final int startIndex,
+      final int endIndex) {
     final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
     final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
 
@@ -85,11 +118,9 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     final UInt64 activeIncrements =
         totalBalances.getCurrentEpochActiveValidators().dividedBy(effectiveBalanceIncrement);
 
-    // Cache baseRewardPerIncrement - while it is also cached in transition caches,
+    // baseRewardPerIncrement is passed in - while it is also cached in transition caches,
     // looking it up from there for every single validator is quite expensive.
-    final UInt64 baseRewardPerIncrement =
-        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
-    for (int i = 0; i < statusList.size(); i++) {
+    for (int i = startIndex; i < endIndex; i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
         continue;
@@ -138,8 +169,20 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
    * @param deltas The deltas accumulator (holding deltas for all validators) to be updated
    */
   public void processInactivityPenaltyDeltas(final RewardAndPenaltyDeltas deltas) {
+    processInactivityPenaltyDeltas(
+        deltas,
+        stateAltair.getInactivityScores().asListUnboxed(),
+        0,
+        validatorStatuses.getValidatorCount());
+  }
+
+  private void processInactivityPenaltyDeltas(
+      final RewardAndPenaltyDeltas deltas,
+      final List<UInt64> inactivityScores,
+      final int startIndex,
+      final int endIndex) {
     final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
-    for (int i = 0; i < statusList.size(); i++) {
+    for (int i = startIndex; i < endIndex; i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
         continue;
@@ -151,7 +194,7 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
       final UInt64 penaltyNumerator =
           validator
               .getCurrentEpochEffectiveBalance()
-              .times(stateAltair.getInactivityScores().get(i).get());
+              .times(inactivityScores.get(i));
       final UInt64 penaltyDenominator =
           specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient());
       final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
@@ -64,7 +64,7 @@ public class EpochProcessorBellatrix extends EpochProcessorAltair {
             miscHelpersAltair,
             beaconStateAccessorsAltair);
 
-    return calculator.getDeltas();
+    return calculator.getDeltas(validatorShards);
   }
 
   @Override
@@ -14,12 +14,15 @@
 package tech.pegasys.teku.spec.schemas;
 
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitvectorSchema;
 import tech.pegasys.teku.spec.config.Constants;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.NetworkConstants;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttesterSlashing.AttesterSlashingSchema;
 import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation.IndexedAttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof.SignedAggregateAndProofSchema;
 import tech.pegasys.teku.spec.datastructures.state.HistoricalBatch.HistoricalBatchSchema;
 
@@ -31,12 +34,21 @@ public abstract class AbstractSchemaDefinitions implements SchemaDefinitions {
       SszBitvectorSchema.create(NetworkConstants.SYNC_COMMITTEE_SUBNET_COUNT);
   private final HistoricalBatchSchema historicalBatchSchema;
   private final SignedAggregateAndProofSchema signedAggregateAndProofSchema;
+  private final SszListSchema<Attestation, ?> attestationListSchema;
+  private final SszListSchema<SignedAggregateAndProof, ?> signedAggregateAndProofListSchema;
   private final IndexedAttestationSchema indexedAttestationSchema;
   private final AttesterSlashingSchema attesterSlashingSchema;
 
   public AbstractSchemaDefinitions(final SpecConfig specConfig) {
     this.historicalBatchSchema = new HistoricalBatchSchema(specConfig.getSlotsPerHistoricalRoot());
     this.signedAggregateAndProofSchema = new SignedAggregateAndProofSchema(specConfig);
+    // API lists hold at most one message per validator, so are bounded by VALIDATOR_REGISTRY_LIMIT
+    this.attestationListSchema =
+        SszListSchema.create(
+            signedAggregateAndProofSchema.getAggregateAndProofSchema().getAttestationSchema(),
+            specConfig.getValidatorRegistryLimit());
+    this.signedAggregateAndProofListSchema =
+        SszListSchema.create(signedAggregateAndProofSchema, specConfig.getValidatorRegistryLimit());
     this.indexedAttestationSchema = new IndexedAttestationSchema(specConfig);
     this.attesterSlashingSchema = new AttesterSlashingSchema(indexedAttestationSchema);
   }
@@ -61,6 +73,16 @@ public abstract class AbstractSchemaDefinitions implements SchemaDefinitions {
     return signedAggregateAndProofSchema;
   }
 
+  @Override
+  public SszListSchema<Attestation, ?> getAttestationListSchema() {
+    return attestationListSchema;
+  }
+
+  @Override
+  public SszListSchema<SignedAggregateAndProof, ?> getSignedAggregateAndProofListSchema() {
+    return signedAggregateAndProofListSchema;
+  }
+
   @Override
   public IndexedAttestationSchema getIndexedAttestationSchema() {
     return indexedAttestationSchema;
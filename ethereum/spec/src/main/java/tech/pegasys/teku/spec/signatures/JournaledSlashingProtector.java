@@ -0,0 +1,197 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * A {@link SlashingProtector} which keeps signing records in memory and persists each decision to
+ * a group-committed {@link SigningRecordJournal} instead of fsyncing a file per signature.
+ *
+ * <p>Decisions for different validators only contend on a striped lock, so they can be made in
+ * parallel. The journal is compacted back into the per-validator {@code .yml} files on startup and
+ * whenever it grows beyond {@code compactionThresholdBytes}, keeping the files used by {@link
+ * LocalSlashingProtector} and the interchange export up to date.
+ */
+public class JournaledSlashingProtector implements SlashingProtector, AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 16 * 1024 * 1024;
+  private static final int LOCK_STRIPES = 256;
+
+  private final Map<BLSPublicKey, ValidatorSigningRecord> signingRecords =
+      new ConcurrentHashMap<>();
+  private final Object[] locks = new Object[LOCK_STRIPES];
+
+  private final SyncDataAccessor dataAccessor;
+  private final Path slashingProtectionBaseDir;
+  private final SigningRecordJournal journal;
+  private final long compactionThresholdBytes;
+
+  JournaledSlashingProtector(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final SigningRecordJournal journal,
+      final long compactionThresholdBytes) {
+    this.dataAccessor = dataAccessor;
+    this.slashingProtectionBaseDir = slashingProtectionBaseDir;
+    this.journal = journal;
+    this.compactionThresholdBytes = compactionThresholdBytes;
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
+  }
+
+  public static JournaledSlashingProtector create(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final AsyncRunner asyncRunner)
+      throws IOException {
+    return create(
+        dataAccessor, slashingProtectionBaseDir, asyncRunner, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+  }
+
+  public static JournaledSlashingProtector create(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final AsyncRunner asyncRunner,
+      final long compactionThresholdBytes)
+      throws IOException {
+    // Fold any entries left over from the last run back into the .yml files before starting.
+    SigningRecordJournal.compactIfPresent(slashingProtectionBaseDir, dataAccessor);
+    return new JournaledSlashingProtector(
+        dataAccessor,
+        slashingProtectionBaseDir,
+        SigningRecordJournal.open(slashingProtectionBaseDir, asyncRunner),
+        compactionThresholdBytes);
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignBlock(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot, final UInt64 slot) {
+    return SafeFuture.of(
+            () -> {
+              synchronized (lockFor(validator)) {
+                final Optional<ValidatorSigningRecord> newRecord =
+                    loadOrCreateSigningRecord(validator, genesisValidatorsRoot)
+                        .maySignBlock(genesisValidatorsRoot, slot);
+                newRecord.ifPresent(record -> signingRecords.put(validator, record));
+                return newRecord;
+              }
+            })
+        .thenCompose(newRecord -> handleResult(validator, newRecord));
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignAttestation(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final UInt64 sourceEpoch,
+      final UInt64 targetEpoch) {
+    return SafeFuture.of(
+            () -> {
+              synchronized (lockFor(validator)) {
+                final Optional<ValidatorSigningRecord> newRecord =
+                    loadOrCreateSigningRecord(validator, genesisValidatorsRoot)
+                        .maySignAttestation(genesisValidatorsRoot, sourceEpoch, targetEpoch);
+                newRecord.ifPresent(record -> signingRecords.put(validator, record));
+                return newRecord;
+              }
+            })
+        .thenCompose(newRecord -> handleResult(validator, newRecord));
+  }
+
+  private SafeFuture<Boolean> handleResult(
+      final BLSPublicKey validator, final Optional<ValidatorSigningRecord> newRecord) {
+    if (newRecord.isEmpty()) {
+      return SafeFuture.completedFuture(false);
+    }
+    // The in-memory record has already been updated so any later request for this validator is
+    // checked against it, but signing is only allowed once the decision is durable.
+    return journal
+        .append(validator.toBytesCompressed(), newRecord.get())
+        .thenApply(
+            __ -> {
+              maybeCompact();
+              return true;
+            });
+  }
+
+  private void maybeCompact() {
+    if (journal.getLength() < compactionThresholdBytes) {
+      return;
+    }
+    journal
+        .compact(this::writeSigningRecord)
+        .finish(error -> LOG.error("Failed to compact slashing protection journal", error));
+  }
+
+  private void writeSigningRecord(final Bytes publicKey, final ValidatorSigningRecord record)
+      throws IOException {
+    final BLSPublicKey validator = BLSPublicKey.fromBytesCompressed(Bytes48.wrap(publicKey));
+    // The in-memory record may be ahead of the journal but is never behind it.
+    final ValidatorSigningRecord latestRecord =
+        SigningRecordJournal.mostRestrictive(signingRecords.get(validator), record);
+    dataAccessor.syncedWrite(
+        SigningRecordJournal.recordPath(slashingProtectionBaseDir, publicKey),
+        latestRecord.toBytes());
+  }
+
+  @Override
+  public Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
+      throws IOException {
+    final ValidatorSigningRecord record = signingRecords.get(validator);
+    if (record != null) {
+      return Optional.of(record);
+    }
+    final Optional<ValidatorSigningRecord> loaded =
+        dataAccessor
+            .read(
+                SigningRecordJournal.recordPath(
+                    slashingProtectionBaseDir, validator.toBytesCompressed()))
+            .map(ValidatorSigningRecord::fromBytes);
+    loaded.ifPresent(signingRecord -> signingRecords.putIfAbsent(validator, signingRecord));
+    return loaded;
+  }
+
+  private ValidatorSigningRecord loadOrCreateSigningRecord(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot) throws IOException {
+    return getSigningRecord(validator)
+        .orElseGet(() -> new ValidatorSigningRecord(genesisValidatorsRoot));
+  }
+
+  private Object lockFor(final BLSPublicKey validator) {
+    return locks[Math.floorMod(validator.hashCode(), LOCK_STRIPES)];
+  }
+
+  @Override
+  public void close() throws IOException {
+    journal.close();
+  }
+}
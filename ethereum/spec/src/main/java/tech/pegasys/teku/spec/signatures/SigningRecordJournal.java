@@ -0,0 +1,449 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Append-only journal of {@link ValidatorSigningRecord} updates.
+ *
+ * <p>Entries are fixed size and checksummed. Appends are group committed: every entry queued while
+ * a previous flush is in progress is written and fsync'd together by the next flush, so a burst of
+ * signing decisions costs a handful of fsyncs rather than one per validator.
+ *
+ * <p>The journal is periodically compacted back into the per-validator {@code .yml} files used by
+ * {@link LocalSlashingProtector} and the slashing protection interchange tools.
+ */
+public class SigningRecordJournal implements AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String JOURNAL_FILE_NAME = "signing-records.journal";
+
+  private static final int PUBLIC_KEY_SIZE = 48;
+  private static final byte GENESIS_VALIDATORS_ROOT_PRESENT = 1;
+  private static final byte SOURCE_EPOCH_PRESENT = 1 << 1;
+  private static final byte TARGET_EPOCH_PRESENT = 1 << 2;
+  private static final int CHECKSUMMED_SIZE =
+      PUBLIC_KEY_SIZE + Byte.BYTES + Bytes32.SIZE + 3 * Long.BYTES;
+  static final int ENTRY_SIZE = CHECKSUMMED_SIZE + Integer.BYTES;
+
+  private final Path journalPath;
+  private final AsyncRunner asyncRunner;
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final AtomicBoolean compactionInProgress = new AtomicBoolean(false);
+
+  private FileChannel channel;
+  private volatile long journalLength;
+
+  private List<PendingEntry> pendingEntries = new ArrayList<>();
+  private boolean flushScheduled = false;
+
+  private SigningRecordJournal(
+      final Path journalPath,
+      final FileChannel channel,
+      final long journalLength,
+      final AsyncRunner asyncRunner) {
+    this.journalPath = journalPath;
+    this.channel = channel;
+    this.journalLength = journalLength;
+    this.asyncRunner = asyncRunner;
+  }
+
+  /**
+   * Opens (or creates) the journal in the specified directory, discarding any partially written
+   * entries at the end of the file.
+   */
+  public static SigningRecordJournal open(
+      final Path slashingProtectionPath, final AsyncRunner asyncRunner) throws IOException {
+    final Path journalPath = slashingProtectionPath.resolve(JOURNAL_FILE_NAME);
+    Files.createDirectories(slashingProtectionPath);
+    final FileChannel channel =
+        FileChannel.open(
+            journalPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    final long validLength = findValidLength(channel);
+    if (validLength != channel.size()) {
+      LOG.warn(
+          "Discarding {} bytes of incomplete slashing protection journal entries from {}",
+          channel.size() - validLength,
+          journalPath);
+      channel.truncate(validLength);
+      channel.force(true);
+    }
+    channel.position(validLength);
+    return new SigningRecordJournal(journalPath, channel, validLength, asyncRunner);
+  }
+
+  /**
+   * Merges any journal in the specified directory into the per-validator {@code .yml} files and
+   * removes it. Used by tooling that reads or writes the signing records while the validator client
+   * is not running.
+   */
+  public static void compactIfPresent(
+      final Path slashingProtectionPath, final SyncDataAccessor dataAccessor) throws IOException {
+    final Path journalPath = slashingProtectionPath.resolve(JOURNAL_FILE_NAME);
+    if (!Files.exists(journalPath)) {
+      return;
+    }
+    final Map<Bytes, ValidatorSigningRecord> records =
+        readRecordsIfPresent(slashingProtectionPath);
+    for (Map.Entry<Bytes, ValidatorSigningRecord> entry : records.entrySet()) {
+      final Path recordPath = recordPath(slashingProtectionPath, entry.getKey());
+      final ValidatorSigningRecord existingRecord =
+          dataAccessor.read(recordPath).map(ValidatorSigningRecord::fromBytes).orElse(null);
+      dataAccessor.syncedWrite(
+          recordPath, mostRestrictive(existingRecord, entry.getValue()).toBytes());
+    }
+    Files.delete(journalPath);
+  }
+
+  /**
+   * Reads the records from any journal in the specified directory without modifying it.
+   *
+   * @return map of compressed public key to signing record, empty if there is no journal
+   */
+  public static Map<Bytes, ValidatorSigningRecord> readRecordsIfPresent(
+      final Path slashingProtectionPath) throws IOException {
+    final Path journalPath = slashingProtectionPath.resolve(JOURNAL_FILE_NAME);
+    if (!Files.exists(journalPath)) {
+      return new LinkedHashMap<>();
+    }
+    try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+      return readRecords(channel, findValidLength(channel));
+    }
+  }
+
+  static Path recordPath(final Path slashingProtectionPath, final Bytes publicKey) {
+    return slashingProtectionPath.resolve(publicKey.toUnprefixedHexString() + ".yml");
+  }
+
+  /**
+   * Combines two signing records for the same validator into one which is at least as restrictive
+   * as both. Either record may be null.
+   */
+  public static ValidatorSigningRecord mostRestrictive(
+      final ValidatorSigningRecord a, final ValidatorSigningRecord b) {
+    if (a == null) {
+      return b;
+    }
+    if (b == null) {
+      return a;
+    }
+    return new ValidatorSigningRecord(
+        a.getGenesisValidatorsRoot() != null
+            ? a.getGenesisValidatorsRoot()
+            : b.getGenesisValidatorsRoot(),
+        a.getBlockSlot().max(b.getBlockSlot()),
+        maxSigned(a.getAttestationSourceEpoch(), b.getAttestationSourceEpoch()),
+        maxSigned(a.getAttestationTargetEpoch(), b.getAttestationTargetEpoch()));
+  }
+
+  private static UInt64 maxSigned(final UInt64 a, final UInt64 b) {
+    if (ValidatorSigningRecord.isNeverSigned(a)) {
+      return b;
+    }
+    if (ValidatorSigningRecord.isNeverSigned(b)) {
+      return a;
+    }
+    return a.max(b);
+  }
+
+  /**
+   * Reads the latest record for each validator from the durable part of the journal.
+   *
+   * @return map of compressed public key to signing record
+   */
+  public Map<Bytes, ValidatorSigningRecord> readRecords() throws IOException {
+    return readRecords(channel, journalLength);
+  }
+
+  /**
+   * Queues a record to be appended to the journal.
+   *
+   * @return a future which completes once the record has been flushed to disk
+   */
+  public SafeFuture<Void> append(final Bytes publicKey, final ValidatorSigningRecord record) {
+    final PendingEntry entry = new PendingEntry(encode(publicKey, record));
+    final boolean scheduleFlush;
+    synchronized (this) {
+      pendingEntries.add(entry);
+      scheduleFlush = !flushScheduled;
+      flushScheduled = true;
+    }
+    if (scheduleFlush) {
+      asyncRunner
+          .runAsync(this::flush)
+          .finish(error -> LOG.error("Failed to flush slashing protection journal", error));
+    }
+    return entry.result;
+  }
+
+  public long getLength() {
+    return journalLength;
+  }
+
+  private void flush() {
+    writeLock.lock();
+    try {
+      final List<PendingEntry> batch;
+      synchronized (this) {
+        batch = pendingEntries;
+        pendingEntries = new ArrayList<>();
+        flushScheduled = false;
+      }
+      if (batch.isEmpty()) {
+        return;
+      }
+      final ByteBuffer buffer = ByteBuffer.allocate(batch.size() * ENTRY_SIZE);
+      batch.forEach(entry -> buffer.put(entry.data));
+      buffer.flip();
+      try {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(false);
+        journalLength += batch.size() * (long) ENTRY_SIZE;
+      } catch (final IOException e) {
+        discardPartialWrite();
+        batch.forEach(entry -> entry.result.completeExceptionally(e));
+        return;
+      }
+      batch.forEach(entry -> entry.result.complete(null));
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private void discardPartialWrite() {
+    try {
+      channel.truncate(journalLength);
+      channel.position(journalLength);
+    } catch (final IOException e) {
+      LOG.error("Failed to discard partially written slashing protection journal entries", e);
+    }
+  }
+
+  /**
+   * Writes the records currently in the journal out via {@code recordWriter}, then drops them from
+   * the journal. Entries appended while the records are being written are retained.
+   *
+   * <p>Only the final step of swapping in the shortened journal holds up appends.
+   */
+  public SafeFuture<Void> compact(final RecordWriter recordWriter) {
+    if (!compactionInProgress.compareAndSet(false, true)) {
+      return SafeFuture.COMPLETE;
+    }
+    return asyncRunner
+        .runAsync(
+            () -> {
+              final long compactedLength = journalLength;
+              for (Map.Entry<Bytes, ValidatorSigningRecord> entry :
+                  readRecords(channel, compactedLength).entrySet()) {
+                recordWriter.write(entry.getKey(), entry.getValue());
+              }
+              dropHead(compactedLength);
+            })
+        .alwaysRun(() -> compactionInProgress.set(false));
+  }
+
+  private void dropHead(final long length) throws IOException {
+    writeLock.lock();
+    try {
+      final Path compactedPath = journalPath.resolveSibling(JOURNAL_FILE_NAME + ".tmp");
+      try (FileChannel compactedChannel =
+          FileChannel.open(
+              compactedPath,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        long position = length;
+        while (position < journalLength) {
+          position += channel.transferTo(position, journalLength - position, compactedChannel);
+        }
+        compactedChannel.force(true);
+      }
+      channel.close();
+      Files.move(
+          compactedPath,
+          journalPath,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      channel = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      journalLength = channel.size();
+      channel.position(journalLength);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    flush();
+    writeLock.lock();
+    try {
+      channel.close();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private static long findValidLength(final FileChannel channel) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE);
+    long position = 0;
+    while (position + ENTRY_SIZE <= channel.size()) {
+      buffer.clear();
+      readFully(channel, buffer, position);
+      if (decode(buffer).isEmpty()) {
+        break;
+      }
+      position += ENTRY_SIZE;
+    }
+    return position;
+  }
+
+  private static Map<Bytes, ValidatorSigningRecord> readRecords(
+      final FileChannel channel, final long length) throws IOException {
+    final Map<Bytes, ValidatorSigningRecord> records = new LinkedHashMap<>();
+    final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE);
+    for (long position = 0; position < length; position += ENTRY_SIZE) {
+      buffer.clear();
+      readFully(channel, buffer, position);
+      final JournalEntry entry =
+          decode(buffer)
+              .orElseThrow(() -> new IOException("Corrupt slashing protection journal entry"));
+      records.merge(entry.publicKey, entry.record, SigningRecordJournal::mostRestrictive);
+    }
+    return records;
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of slashing protection journal");
+      }
+      position += read;
+    }
+    buffer.flip();
+  }
+
+  static byte[] encode(final Bytes publicKey, final ValidatorSigningRecord record) {
+    final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE);
+    buffer.put(publicKey.toArrayUnsafe(), 0, PUBLIC_KEY_SIZE);
+    byte flags = 0;
+    if (record.getGenesisValidatorsRoot() != null) {
+      flags |= GENESIS_VALIDATORS_ROOT_PRESENT;
+    }
+    if (!ValidatorSigningRecord.isNeverSigned(record.getAttestationSourceEpoch())) {
+      flags |= SOURCE_EPOCH_PRESENT;
+    }
+    if (!ValidatorSigningRecord.isNeverSigned(record.getAttestationTargetEpoch())) {
+      flags |= TARGET_EPOCH_PRESENT;
+    }
+    buffer.put(flags);
+    buffer.put(
+        record.getGenesisValidatorsRoot() != null
+            ? record.getGenesisValidatorsRoot().toArrayUnsafe()
+            : new byte[Bytes32.SIZE]);
+    buffer.putLong(record.getBlockSlot().longValue());
+    buffer.putLong(
+        (flags & SOURCE_EPOCH_PRESENT) != 0 ? record.getAttestationSourceEpoch().longValue() : 0);
+    buffer.putLong(
+        (flags & TARGET_EPOCH_PRESENT) != 0 ? record.getAttestationTargetEpoch().longValue() : 0);
+    final CRC32 crc = new CRC32();
+    crc.update(buffer.array(), 0, CHECKSUMMED_SIZE);
+    buffer.putInt((int) crc.getValue());
+    return buffer.array();
+  }
+
+  static Optional<JournalEntry> decode(final ByteBuffer buffer) {
+    final CRC32 crc = new CRC32();
+    crc.update(buffer.array(), 0, CHECKSUMMED_SIZE);
+    if (buffer.getInt(CHECKSUMMED_SIZE) != (int) crc.getValue()) {
+      return Optional.empty();
+    }
+    final byte[] publicKey = new byte[PUBLIC_KEY_SIZE];
+    buffer.get(publicKey);
+    final byte flags = buffer.get();
+    final byte[] genesisValidatorsRoot = new byte[Bytes32.SIZE];
+    buffer.get(genesisValidatorsRoot);
+    final UInt64 blockSlot = UInt64.fromLongBits(buffer.getLong());
+    final long sourceEpoch = buffer.getLong();
+    final long targetEpoch = buffer.getLong();
+    return Optional.of(
+        new JournalEntry(
+            Bytes.wrap(publicKey),
+            new ValidatorSigningRecord(
+                (flags & GENESIS_VALIDATORS_ROOT_PRESENT) != 0
+                    ? Bytes32.wrap(genesisValidatorsRoot)
+                    : null,
+                blockSlot,
+                (flags & SOURCE_EPOCH_PRESENT) != 0
+                    ? UInt64.fromLongBits(sourceEpoch)
+                    : ValidatorSigningRecord.NEVER_SIGNED,
+                (flags & TARGET_EPOCH_PRESENT) != 0
+                    ? UInt64.fromLongBits(targetEpoch)
+                    : ValidatorSigningRecord.NEVER_SIGNED)));
+  }
+
+  @FunctionalInterface
+  public interface RecordWriter {
+    void write(Bytes publicKey, ValidatorSigningRecord record) throws IOException;
+  }
+
+  static class JournalEntry {
+    private final Bytes publicKey;
+    private final ValidatorSigningRecord record;
+
+    private JournalEntry(final Bytes publicKey, final ValidatorSigningRecord record) {
+      this.publicKey = publicKey;
+      this.record = record;
+    }
+  }
+
+  private static class PendingEntry {
+    private final byte[] data;
+    private final SafeFuture<Void> result = new SafeFuture<>();
+
+    private PendingEntry(final byte[] data) {
+      this.data = data;
+    }
+  }
+}
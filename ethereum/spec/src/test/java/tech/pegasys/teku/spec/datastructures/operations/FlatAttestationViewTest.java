@@ -0,0 +1,107 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class FlatAttestationViewTest {
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttestationSchema schema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+
+  @Test
+  void shouldMatchFixedPartSizeOfSchema() {
+    assertThat(FlatAttestationView.FIXED_PART_SIZE).isEqualTo(schema.getSszFixedPartSize());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 7, 8, 9, 64, 2048})
+  void shouldReadFieldsMatchingDeserializedAttestation(final int aggregationBitsSize) {
+    final Attestation attestation =
+        schema.create(
+            randomAggregationBits(aggregationBitsSize),
+            dataStructureUtil.randomAttestationData(),
+            dataStructureUtil.randomSignature());
+
+    final FlatAttestationView view =
+        FlatAttestationView.wrap(schema, attestation.sszSerialize()).orElseThrow();
+
+    final AttestationData data = attestation.getData();
+    final SszBitlist aggregationBits = attestation.getAggregationBits();
+    assertThat(view.getSlot()).isEqualTo(data.getSlot());
+    assertThat(view.getCommitteeIndex()).isEqualTo(data.getIndex());
+    assertThat(view.getBeaconBlockRoot()).isEqualTo(data.getBeaconBlockRoot());
+    assertThat(view.getTargetEpoch()).isEqualTo(data.getTarget().getEpoch());
+    assertThat(view.getTargetRoot()).isEqualTo(data.getTarget().getRoot());
+    assertThat(view.getEarliestSlotForForkChoice(spec))
+        .isEqualTo(data.getEarliestSlotForForkChoice(spec));
+    assertThat(view.getAggregationBitsSize()).isEqualTo(aggregationBits.size());
+    assertThat(view.getAggregationBitCount()).isEqualTo(aggregationBits.getBitCount());
+    final OptionalInt expectedFirstBit = aggregationBits.streamAllSetBits().findFirst();
+    assertThat(view.getFirstSetAggregationBit()).isEqualTo(expectedFirstBit);
+  }
+
+  @Test
+  void shouldRejectTruncatedAttestation() {
+    final Bytes ssz = dataStructureUtil.randomAttestation().sszSerialize();
+    assertThat(FlatAttestationView.wrap(schema, ssz.slice(0, FlatAttestationView.FIXED_PART_SIZE)))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldRejectInvalidAggregationBitsOffset() {
+    final Bytes ssz = dataStructureUtil.randomAttestation().sszSerialize();
+    final Bytes invalidOffset = Bytes.concatenate(Bytes.of(0, 0, 0, 1), ssz.slice(4));
+    assertThat(FlatAttestationView.wrap(schema, invalidOffset)).isEmpty();
+  }
+
+  @Test
+  void shouldRejectAggregationBitsWithoutLengthBit() {
+    final Bytes ssz = dataStructureUtil.randomAttestation().sszSerialize();
+    final Bytes withoutLengthBit = Bytes.concatenate(ssz, Bytes.of(0));
+    assertThat(FlatAttestationView.wrap(schema, withoutLengthBit)).isEmpty();
+  }
+
+  @Test
+  void shouldRejectAggregationBitsLongerThanMaximum() {
+    final int maxLength = (int) schema.getAggregationBitsSchema().getMaxLength();
+    final Bytes ssz = dataStructureUtil.randomAttestation().sszSerialize();
+    final Bytes tooLong =
+        Bytes.concatenate(
+            ssz.slice(0, FlatAttestationView.FIXED_PART_SIZE),
+            Bytes.wrap(new byte[maxLength / 8]),
+            Bytes.of(0b10));
+    assertThat(FlatAttestationView.wrap(schema, tooLong)).isEmpty();
+  }
+
+  private SszBitlist randomAggregationBits(final int size) {
+    final Random random = new Random(size);
+    final int[] setBits = IntStream.range(0, size).filter(__ -> random.nextBoolean()).toArray();
+    return schema.getAggregationBitsSchema().ofBits(size, setBits);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorRegistrySnapshotTest {
+  private static final int VALIDATOR_COUNT = 2500;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final Predicates predicates = spec.getGenesisSpec().predicates();
+
+  private final BeaconState state =
+      dataStructureUtil
+          .randomBeaconState(VALIDATOR_COUNT)
+          .updated(
+              mutableState -> {
+                for (int i = 0; i < VALIDATOR_COUNT; i++) {
+                  mutableState
+                      .getValidators()
+                      .update(
+                          i,
+                          validator ->
+                              validator
+                                  .withActivationEpoch(dataStructureUtil.randomEpoch())
+                                  .withExitEpoch(dataStructureUtil.randomEpoch()));
+                }
+              });
+
+  @Test
+  void create_shouldCopyAllValidators() {
+    final ValidatorRegistrySnapshot snapshot =
+        ValidatorRegistrySnapshot.create(state.getValidators());
+
+    assertMatches(snapshot, state.getValidators());
+  }
+
+  @Test
+  void update_shouldReturnSameInstanceWhenRegistryUnchanged() {
+    final ValidatorRegistrySnapshot snapshot =
+        ValidatorRegistrySnapshot.create(state.getValidators());
+
+    assertThat(snapshot.update(state.getValidators())).isSameAs(snapshot);
+  }
+
+  @Test
+  void update_shouldApplyModifiedAndAddedValidators() {
+    final ValidatorRegistrySnapshot snapshot =
+        ValidatorRegistrySnapshot.create(state.getValidators());
+    final Validator newValidator = dataStructureUtil.randomValidator();
+    final BeaconState updatedState =
+        state.updated(
+            mutableState -> {
+              mutableState
+                  .getValidators()
+                  .update(3, validator -> validator.withEffectiveBalance(UInt64.valueOf(5)));
+              mutableState.getValidators().update(2000, validator -> validator.withSlashed(true));
+              mutableState.getValidators().append(newValidator);
+            });
+
+    final ValidatorRegistrySnapshot updatedSnapshot =
+        snapshot.update(updatedState.getValidators());
+
+    assertMatches(updatedSnapshot, updatedState.getValidators());
+    assertThat(updatedSnapshot.getEffectiveBalance(3)).isEqualTo(UInt64.valueOf(5));
+    assertThat(updatedSnapshot.isSlashed(2000)).isTrue();
+    // The original snapshot is unaffected
+    assertMatches(snapshot, state.getValidators());
+  }
+
+  @Test
+  void getActiveValidatorIndices_shouldMatchPredicate() {
+    final ValidatorRegistrySnapshot snapshot =
+        ValidatorRegistrySnapshot.create(state.getValidators());
+    final SszList<Validator> validators = state.getValidators();
+
+    for (UInt64 epoch : List.of(UInt64.ZERO, dataStructureUtil.randomEpoch(), UInt64.MAX_VALUE)) {
+      final int[] expected =
+          IntStream.range(0, validators.size())
+              .filter(index -> predicates.isActiveValidator(validators.get(index), epoch))
+              .toArray();
+      assertThat(snapshot.getActiveValidatorIndices(epoch).toIntArray()).containsExactly(expected);
+    }
+  }
+
+  @Test
+  void getTotalEffectiveBalance_shouldSumSelectedValidators() {
+    final ValidatorRegistrySnapshot snapshot =
+        ValidatorRegistrySnapshot.create(state.getValidators());
+    final List<Integer> indices = List.of(0, 5, 1024, 2499);
+
+    final UInt64 expected =
+        indices.stream()
+            .map(index -> state.getValidators().get(index).getEffectiveBalance())
+            .reduce(UInt64.ZERO, UInt64::plus);
+    assertThat(snapshot.getTotalEffectiveBalance(indices)).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldRejectIndexOutOfRange() {
+    final ValidatorRegistrySnapshot snapshot =
+        ValidatorRegistrySnapshot.create(state.getValidators());
+
+    assertThatThrownBy(() -> snapshot.getEffectiveBalance(VALIDATOR_COUNT))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  private void assertMatches(
+      final ValidatorRegistrySnapshot snapshot, final SszList<Validator> validators) {
+    assertThat(snapshot.size()).isEqualTo(validators.size());
+    for (int i = 0; i < validators.size(); i++) {
+      final Validator validator = validators.get(i);
+      assertThat(snapshot.getEffectiveBalance(i)).isEqualTo(validator.getEffectiveBalance());
+      assertThat(snapshot.isSlashed(i)).isEqualTo(validator.isSlashed());
+      assertThat(snapshot.getActivationEligibilityEpoch(i))
+          .isEqualTo(validator.getActivationEligibilityEpoch());
+      assertThat(snapshot.getActivationEpoch(i)).isEqualTo(validator.getActivationEpoch());
+      assertThat(snapshot.getExitEpoch(i)).isEqualTo(validator.getExitEpoch());
+      assertThat(snapshot.getWithdrawableEpoch(i)).isEqualTo(validator.getWithdrawableEpoch());
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ValidatorShardsTest {
+
+  @Test
+  void create_shouldBeSequentialWithSingleThread() {
+    assertThat(ValidatorShards.create(1)).isSameAs(ValidatorShards.SEQUENTIAL);
+    assertThat(ValidatorShards.create(1).isParallel()).isFalse();
+    assertThat(ValidatorShards.create(2).isParallel()).isTrue();
+  }
+
+  @Test
+  void forEach_shouldProcessAllValidatorsAsSingleShardWhenSequential() {
+    final List<String> shards = new ArrayList<>();
+    ValidatorShards.SEQUENTIAL.forEach(
+        1000, (startIndex, endIndex) -> shards.add(startIndex + "-" + endIndex));
+    assertThat(shards).containsExactly("0-1000");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 16, 17, 1000, 100_003})
+  void forEach_shouldProcessEachValidatorExactlyOnce(final int validatorCount) {
+    final int[] processedCount = new int[validatorCount];
+    ValidatorShards.create(4)
+        .forEach(
+            validatorCount,
+            (startIndex, endIndex) -> {
+              for (int i = startIndex; i < endIndex; i++) {
+                processedCount[i]++;
+              }
+            });
+    final int[] expectedCount = new int[validatorCount];
+    Arrays.fill(expectedCount, 1);
+    assertThat(processedCount).isEqualTo(expectedCount);
+  }
+
+  @Test
+  void forEach_shouldSplitWorkIntoMultipleShards() {
+    final List<Integer> shardStarts = Collections.synchronizedList(new ArrayList<>());
+    ValidatorShards.create(4).forEach(1000, (startIndex, endIndex) -> shardStarts.add(startIndex));
+    assertThat(shardStarts).hasSizeGreaterThan(1).contains(0);
+  }
+
+  @Test
+  void forEach_shouldWaitForAllShardsBeforeRethrowingFailure() {
+    final AtomicInteger completedShards = new AtomicInteger();
+    final IllegalArgumentException error = new IllegalArgumentException("Nope");
+    final ValidatorShards validatorShards = ValidatorShards.create(4);
+    assertThatThrownBy(
+            () ->
+                validatorShards.forEach(
+                    1000,
+                    (startIndex, endIndex) -> {
+                      if (startIndex == 0) {
+                        throw error;
+                      }
+                      completedShards.incrementAndGet();
+                    }))
+        .isSameAs(error);
+    assertThat(completedShards).hasValue(15);
+  }
+
+  @Test
+  void forEach_shouldRethrowFailureFromOtherThreads() {
+    final ValidatorShards validatorShards = ValidatorShards.create(4);
+    assertThatThrownBy(
+            () ->
+                validatorShards.forEach(
+                    1000,
+                    (startIndex, endIndex) -> {
+                      if (endIndex == 1000) {
+                        throw new IllegalArgumentException("Nope");
+                      }
+                    }))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
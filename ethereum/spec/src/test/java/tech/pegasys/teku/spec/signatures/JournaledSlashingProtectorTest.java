@@ -0,0 +1,157 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class JournaledSlashingProtectorTest {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x561234");
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final BLSPublicKey validator = dataStructureUtil.randomPublicKey();
+
+  @TempDir Path baseDir;
+
+  @Test
+  void shouldRejectSlashableBlocksAndAttestations() throws Exception {
+    final JournaledSlashingProtector protector = createProtector(Long.MAX_VALUE);
+
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3)))
+        .isCompletedWithValue(true);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3)))
+        .isCompletedWithValue(false);
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4), UInt64.valueOf(6)))
+        .isCompletedWithValue(true);
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4), UInt64.valueOf(6)))
+        .isCompletedWithValue(false);
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3), UInt64.valueOf(7)))
+        .isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldRestoreRecordsFromJournalOnRestart() throws Exception {
+    final JournaledSlashingProtector protector = createProtector(Long.MAX_VALUE);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3)))
+        .isCompletedWithValue(true);
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4), UInt64.valueOf(6)))
+        .isCompletedWithValue(true);
+    assertThat(recordPath()).doesNotExist();
+    protector.close();
+
+    final JournaledSlashingProtector restarted = createProtector(Long.MAX_VALUE);
+    final ValidatorSigningRecord expectedRecord =
+        new ValidatorSigningRecord(
+            GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3), UInt64.valueOf(4), UInt64.valueOf(6));
+    assertThat(readRecordFile()).contains(expectedRecord);
+    assertThat(restarted.getSigningRecord(validator)).contains(expectedRecord);
+    assertThat(restarted.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3)))
+        .isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldCompactJournalIntoRecordFiles() throws Exception {
+    final JournaledSlashingProtector protector = createProtector(0);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3)))
+        .isCompletedWithValue(true);
+
+    assertThat(readRecordFile())
+        .contains(
+            new ValidatorSigningRecord(
+                GENESIS_VALIDATORS_ROOT,
+                UInt64.valueOf(3),
+                ValidatorSigningRecord.NEVER_SIGNED,
+                ValidatorSigningRecord.NEVER_SIGNED));
+    assertThat(baseDir.resolve(SigningRecordJournal.JOURNAL_FILE_NAME)).isEmptyFile();
+  }
+
+  @Test
+  void shouldDiscardIncompleteTrailingEntry() throws Exception {
+    final JournaledSlashingProtector protector = createProtector(Long.MAX_VALUE);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3)))
+        .isCompletedWithValue(true);
+    protector.close();
+    Files.write(
+        baseDir.resolve(SigningRecordJournal.JOURNAL_FILE_NAME),
+        new byte[SigningRecordJournal.ENTRY_SIZE / 2],
+        StandardOpenOption.APPEND);
+
+    final SigningRecordJournal journal = SigningRecordJournal.open(baseDir, SYNC_RUNNER);
+    assertThat(journal.getLength()).isEqualTo(SigningRecordJournal.ENTRY_SIZE);
+    assertThat(journal.readRecords()).hasSize(1);
+    journal.close();
+  }
+
+  @Test
+  void mostRestrictiveShouldCombineRecords() {
+    final ValidatorSigningRecord a =
+        new ValidatorSigningRecord(
+            GENESIS_VALIDATORS_ROOT, UInt64.valueOf(10), UInt64.valueOf(2), UInt64.valueOf(3));
+    final ValidatorSigningRecord b =
+        new ValidatorSigningRecord(
+            null,
+            UInt64.valueOf(5),
+            ValidatorSigningRecord.NEVER_SIGNED,
+            ValidatorSigningRecord.NEVER_SIGNED);
+    final ValidatorSigningRecord c =
+        new ValidatorSigningRecord(null, UInt64.ZERO, UInt64.valueOf(4), UInt64.valueOf(1));
+
+    assertThat(SigningRecordJournal.mostRestrictive(a, b)).isEqualTo(a);
+    assertThat(SigningRecordJournal.mostRestrictive(b, null)).isEqualTo(b);
+    assertThat(SigningRecordJournal.mostRestrictive(c, a))
+        .isEqualTo(
+            new ValidatorSigningRecord(
+                GENESIS_VALIDATORS_ROOT, UInt64.valueOf(10), UInt64.valueOf(4), UInt64.valueOf(3)));
+  }
+
+  private JournaledSlashingProtector createProtector(final long compactionThreshold)
+      throws IOException {
+    return JournaledSlashingProtector.create(
+        SyncDataAccessor.create(baseDir), baseDir, SYNC_RUNNER, compactionThreshold);
+  }
+
+  private Path recordPath() {
+    return baseDir.resolve(validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
+  }
+
+  private Optional<ValidatorSigningRecord> readRecordFile() throws IOException {
+    return SyncDataAccessor.create(baseDir)
+        .read(recordPath())
+        .map(ValidatorSigningRecord::fromBytes);
+  }
+}
@@ -25,6 +25,7 @@ import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -72,8 +73,24 @@ public class AggregatingSignatureVerificationServiceBenchmark {
 
   private final int signaturesToVerify = 10_000;
 
+  /** Percentage of submitted signatures which are invalid, as when peers spam bad attestations. */
+  @Param({"0", "1", "5", "20"})
+  int invalidPercent;
+
+  private List<BLSSignature> submittedSignatures;
+
   @Setup
   public void setup() {
+    // Signing a different message keeps the invalid signatures well-formed so they are only
+    // rejected by the final pairing check
+    submittedSignatures =
+        IntStream.range(0, sigCnt)
+            .mapToObj(
+                i ->
+                    i % 100 < invalidPercent
+                        ? BLS.sign(keyPairs.get(i).getSecretKey(), Bytes32.random())
+                        : signatures.get(i))
+            .collect(Collectors.toList());
     service.start().join();
   }
 
@@ -92,7 +109,8 @@ public class AggregatingSignatureVerificationServiceBenchmark {
     for (int i = 0; i < signaturesToVerify; i++) {
       int idx = i % sigCnt;
       results[i] =
-          service.verify(keyPairs.get(idx).getPublicKey(), messages.get(idx), signatures.get(idx));
+          service.verify(
+              keyPairs.get(idx).getPublicKey(), messages.get(idx), submittedSignatures.get(idx));
     }
     bh.consume(SafeFuture.allOf(results).join());
   }
@@ -14,16 +14,17 @@
 package tech.pegasys.teku.statetransition.attestation;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes;
@@ -47,6 +48,12 @@ import tech.pegasys.teku.spec.logic.common.statetransition.attestation.Attestati
  * or as an aggregate to publish as part of the naive attestation aggregation algorithm. In both
  * cases the returned attestations are aggregated to maximise the number of validators that can be
  * included.
+ *
+ * <p>Adding attestations only takes a shared lock, with each {@link MatchingDataAttestationGroup}
+ * synchronizing its own updates, so attestations with different data can be added concurrently.
+ * The exclusive lock is only needed to prune old attestations, which would otherwise race with
+ * attestations being added to the groups being removed. Producing a block doesn't lock the pool
+ * at all so never holds up attestations being added.
  */
 public class AggregatingAttestationPool implements SlotEventsChannel {
   /**
@@ -72,8 +79,9 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
   public static final int DEFAULT_MAXIMUM_ATTESTATION_COUNT = 40_000;
 
   private final Map<Bytes, MatchingDataAttestationGroup> attestationGroupByDataHash =
-      new HashMap<>();
-  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new TreeMap<>();
+      new ConcurrentHashMap<>();
+  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new ConcurrentSkipListMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
   private final Spec spec;
   private final AtomicInteger size = new AtomicInteger(0);
@@ -92,36 +100,53 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     this.maximumAttestationCount = maximumAttestationCount;
   }
 
-  public synchronized void add(final ValidateableAttestation attestation) {
+  public void add(final ValidateableAttestation attestation) {
     final AttestationData attestationData = attestation.getAttestation().getData();
-    final boolean add = getOrCreateAttestationGroup(attestationData).add(attestation);
-    if (add) {
-      updateSize(1);
+    lock.readLock().lock();
+    try {
+      final boolean add = getOrCreateAttestationGroup(attestationData).add(attestation);
+      if (add) {
+        updateSize(1);
+      }
+    } finally {
+      lock.readLock().unlock();
     }
-    // Always keep the latest slot attestations so we don't discard everything
-    while (dataHashBySlot.size() > 1 && size.get() > maximumAttestationCount) {
-      final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
-      removeAttestationsPriorToSlot(firstSlotToKeep);
+    if (size.get() > maximumAttestationCount) {
+      lock.writeLock().lock();
+      try {
+        // Always keep the latest slot attestations so we don't discard everything
+        while (dataHashBySlot.size() > 1 && size.get() > maximumAttestationCount) {
+          final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
+          removeAttestationsPriorToSlot(firstSlotToKeep);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
     }
   }
 
   private MatchingDataAttestationGroup getOrCreateAttestationGroup(
       final AttestationData attestationData) {
+    final Bytes32 dataHash = attestationData.hashTreeRoot();
     dataHashBySlot
-        .computeIfAbsent(attestationData.getSlot(), slot -> new HashSet<>())
-        .add(attestationData.hashTreeRoot());
+        .computeIfAbsent(attestationData.getSlot(), slot -> ConcurrentHashMap.newKeySet())
+        .add(dataHash);
     return attestationGroupByDataHash.computeIfAbsent(
-        attestationData.hashTreeRoot(),
-        key -> new MatchingDataAttestationGroup(spec, attestationData));
+        dataHash, key -> new MatchingDataAttestationGroup(spec, attestationData));
   }
 
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     if (slot.compareTo(ATTESTATION_RETENTION_SLOTS) <= 0) {
       return;
     }
     final UInt64 firstValidAttestationSlot = slot.minus(ATTESTATION_RETENTION_SLOTS);
-    removeAttestationsPriorToSlot(firstValidAttestationSlot);
+    lock.writeLock().lock();
+    try {
+      removeAttestationsPriorToSlot(firstValidAttestationSlot);
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   private void removeAttestationsPriorToSlot(final UInt64 firstValidAttestationSlot) {
@@ -131,16 +156,22 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
         .flatMap(Set::stream)
         .forEach(
             key -> {
-              final int removed = attestationGroupByDataHash.get(key).size();
-              attestationGroupByDataHash.remove(key);
-              updateSize(-removed);
+              final MatchingDataAttestationGroup removed = attestationGroupByDataHash.remove(key);
+              if (removed != null) {
+                updateSize(-removed.size());
+              }
             });
     dataHashesToRemove.clear();
   }
 
-  public synchronized void onAttestationsIncludedInBlock(
+  public void onAttestationsIncludedInBlock(
       final UInt64 slot, final Iterable<Attestation> attestations) {
-    attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
+    lock.readLock().lock();
+    try {
+      attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
+    } finally {
+      lock.readLock().unlock();
+    }
   }
 
   private void onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
@@ -155,11 +186,11 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     sizeGauge.set(currentSize);
   }
 
-  public synchronized int getSize() {
+  public int getSize() {
     return size.get();
   }
 
-  public synchronized SszList<Attestation> getAttestationsForBlock(
+  public SszList<Attestation> getAttestationsForBlock(
       final BeaconState stateAtBlockSlot,
       final AttestationForkChecker forkChecker,
       final AttestationWorthinessChecker worthinessChecker) {
@@ -172,8 +203,9 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
             .getBeaconBlockBodySchema()
             .getAttestationsSchema();
 
-    final AtomicInteger prevEpochCount = new AtomicInteger(0);
-    return dataHashBySlot
+    final AttestationPacker packer =
+        new AttestationPacker(attestationsSchema.getMaxLength(), previousEpochLimit);
+    dataHashBySlot
         // We can immediately skip any attestations from the block slot or later
         .headMap(stateAtBlockSlot.getSlot(), false)
         .descendingMap()
@@ -185,21 +217,16 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
         .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
         .filter(forkChecker::areAttestationsFromCorrectFork)
         .filter(group -> worthinessChecker.areAttestationsWorthy(group.getAttestationData()))
-        .flatMap(MatchingDataAttestationGroup::stream)
-        .limit(attestationsSchema.getMaxLength())
-        .map(ValidateableAttestation::getAttestation)
-        .filter(
-            att -> {
-              if (spec.computeEpochAtSlot(att.getData().getSlot()).isLessThan(currentEpoch)) {
-                final int currentCount = prevEpochCount.getAndIncrement();
-                return currentCount < previousEpochLimit;
-              }
-              return true;
-            })
-        .collect(attestationsSchema.collector());
+        .forEach(
+            group ->
+                packer.addGroup(
+                    group.getPackingCandidates(),
+                    spec.computeEpochAtSlot(group.getAttestationData().getSlot())
+                        .isLessThan(currentEpoch)));
+    return packer.pack().stream().collect(attestationsSchema.collector());
   }
 
-  public synchronized List<Attestation> getAttestations(
+  public List<Attestation> getAttestations(
       final Optional<UInt64> maybeSlot, final Optional<UInt64> maybeCommitteeIndex) {
     final Predicate<Map.Entry<UInt64, Set<Bytes>>> filterForSlot =
         (entry) -> maybeSlot.map(slot -> entry.getKey().equals(slot)).orElse(true);
@@ -227,13 +254,18 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     return spec.validateAttestation(stateAtBlockSlot, attestationData).isEmpty();
   }
 
-  public synchronized Optional<ValidateableAttestation> createAggregateFor(
+  public Optional<ValidateableAttestation> createAggregateFor(
       final Bytes32 attestationHashTreeRoot) {
     return Optional.ofNullable(attestationGroupByDataHash.get(attestationHashTreeRoot))
         .flatMap(attestations -> attestations.stream().findFirst());
   }
 
-  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
-    attestationGroupByDataHash.values().forEach(group -> group.onReorg(commonAncestorSlot));
+  public void onReorg(final UInt64 commonAncestorSlot) {
+    lock.readLock().lock();
+    try {
+      attestationGroupByDataHash.values().forEach(group -> group.onReorg(commonAncestorSlot));
+    } finally {
+      lock.readLock().unlock();
+    }
   }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+
+/**
+ * Selects the aggregates to include in a block so that the block includes as many validators that
+ * have not already been included on chain as possible.
+ *
+ * <p>This is a max-coverage problem, solved with the standard greedy approximation: repeatedly
+ * take the aggregate which adds the most validators that aren't already covered by the aggregates
+ * selected from the same group. Adding aggregates can only reduce the gain of the remaining ones,
+ * so gains are only recalculated lazily when an aggregate reaches the front of the queue. Ties are
+ * broken by the order groups were added, so callers should add groups from the most recent slot
+ * first.
+ */
+class AttestationPacker {
+  private static final Comparator<QueuedCandidate> BEST_FIRST =
+      Comparator.<QueuedCandidate>comparingInt(candidate -> candidate.gain)
+          .reversed()
+          .thenComparingInt(candidate -> candidate.order);
+
+  private final PriorityQueue<QueuedCandidate> queue = new PriorityQueue<>(BEST_FIRST);
+  private final long maxAttestations;
+  private final int previousEpochLimit;
+  private int nextOrder = 0;
+
+  AttestationPacker(final long maxAttestations, final int previousEpochLimit) {
+    this.maxAttestations = maxAttestations;
+    this.previousEpochLimit = previousEpochLimit;
+  }
+
+  static BitSet toBitSet(final SszBitlist bitlist) {
+    final BitSet bits = new BitSet(bitlist.size());
+    bitlist.streamAllSetBits().forEach(bits::set);
+    return bits;
+  }
+
+  /**
+   * Adds the candidate aggregates from a group of attestations with the same data.
+   *
+   * @param candidates the candidate aggregates for the group
+   * @param isPreviousEpoch true if the attestations are from the previous epoch and so count
+   *     towards the previous epoch limit
+   */
+  void addGroup(final List<Candidate> candidates, final boolean isPreviousEpoch) {
+    final BitSet coveredValidators = new BitSet();
+    for (Candidate candidate : candidates) {
+      if (!candidate.newValidators.isEmpty()) {
+        queue.add(
+            new QueuedCandidate(
+                candidate,
+                coveredValidators,
+                isPreviousEpoch,
+                candidate.newValidators.cardinality(),
+                nextOrder++));
+      }
+    }
+  }
+
+  List<Attestation> pack() {
+    final List<Attestation> selected = new ArrayList<>();
+    int previousEpochCount = 0;
+    while (selected.size() < maxAttestations && !queue.isEmpty()) {
+      final QueuedCandidate best = queue.poll();
+      if (best.isPreviousEpoch && previousEpochCount >= previousEpochLimit) {
+        continue;
+      }
+      final int gain = best.calculateGain();
+      if (gain == 0) {
+        continue;
+      }
+      if (gain < best.gain) {
+        // Other validators in the group have been covered since the gain was calculated
+        best.gain = gain;
+        if (!queue.isEmpty() && BEST_FIRST.compare(best, queue.peek()) > 0) {
+          queue.add(best);
+          continue;
+        }
+      }
+      best.coveredValidators.or(best.candidate.newValidators);
+      selected.add(best.candidate.attestation);
+      if (best.isPreviousEpoch) {
+        previousEpochCount++;
+      }
+    }
+    return selected;
+  }
+
+  /** An aggregate to consider for inclusion in a block. */
+  static class Candidate {
+    private final Attestation attestation;
+    private final BitSet newValidators;
+
+    private Candidate(final Attestation attestation, final BitSet newValidators) {
+      this.attestation = attestation;
+      this.newValidators = newValidators;
+    }
+
+    /**
+     * Creates a candidate for an aggregate.
+     *
+     * @param attestation the aggregate
+     * @param alreadyIncluded the validators already included on chain for the attestation data
+     * @return the candidate
+     */
+    static Candidate create(final Attestation attestation, final BitSet alreadyIncluded) {
+      final BitSet newValidators = toBitSet(attestation.getAggregationBits());
+      newValidators.andNot(alreadyIncluded);
+      return new Candidate(attestation, newValidators);
+    }
+  }
+
+  private static class QueuedCandidate {
+    private final Candidate candidate;
+    private final BitSet coveredValidators;
+    private final boolean isPreviousEpoch;
+    private final int order;
+    private int gain;
+
+    private QueuedCandidate(
+        final Candidate candidate,
+        final BitSet coveredValidators,
+        final boolean isPreviousEpoch,
+        final int gain,
+        final int order) {
+      this.candidate = candidate;
+      this.coveredValidators = coveredValidators;
+      this.isPreviousEpoch = isPreviousEpoch;
+      this.gain = gain;
+      this.order = order;
+    }
+
+    private int calculateGain() {
+      final BitSet uncovered = (BitSet) candidate.newValidators.clone();
+      uncovered.andNot(coveredValidators);
+      return uncovered.cardinality();
+    }
+  }
+}
@@ -13,10 +13,14 @@
 
 package tech.pegasys.teku.statetransition.attestation;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
@@ -42,6 +46,9 @@ import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
  *
  * <p>Note that the resulting aggregate will be invalid if attestations with different
  * AttestationData are added.
+ *
+ * <p>All methods are synchronized so groups can be updated and read from different threads.
+ * Iterators produce each aggregate lazily, holding the lock only while calculating it.
  */
 class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation> {
 
@@ -69,6 +76,9 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
   /** Precalculated combined list of included validators across all blocks. */
   private SszBitlist includedValidators;
 
+  /** Aggregates to consider for inclusion in a block, or null if they need to be recalculated. */
+  private List<AttestationPacker.Candidate> packingCandidates;
+
   public MatchingDataAttestationGroup(final Spec spec, final AttestationData attestationData) {
     this.spec = spec;
     this.attestationData = attestationData;
@@ -93,7 +103,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    * @param attestation the attestation to add
    * @return True if the attestation was added, false otherwise
    */
-  public boolean add(final ValidateableAttestation attestation) {
+  public synchronized boolean add(final ValidateableAttestation attestation) {
     if (includedValidators.isSuperSetOf(attestation.getAttestation().getAggregationBits())) {
       // All attestation bits have already been included on chain
       return false;
@@ -101,11 +111,16 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
     if (committeeShufflingSeed.isEmpty()) {
       committeeShufflingSeed = attestation.getCommitteeShufflingSeed();
     }
-    return attestationsByValidatorCount
-        .computeIfAbsent(
-            attestation.getAttestation().getAggregationBits().getBitCount(),
-            count -> new HashSet<>())
-        .add(attestation);
+    final boolean added =
+        attestationsByValidatorCount
+            .computeIfAbsent(
+                attestation.getAttestation().getAggregationBits().getBitCount(),
+                count -> new HashSet<>())
+            .add(attestation);
+    if (added) {
+      packingCandidates = null;
+    }
+    return added;
   }
 
   /**
@@ -116,10 +131,14 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    * an aggregate produced by this iterator, there is no guarantee that the added attestation
    * instances themselves will be included.
    *
+   * <p>Each aggregate is only calculated when it is requested, so callers which only need the first
+   * few aggregates don't pay for the rest. Attestations added while iterating may or may not be
+   * included in later aggregates.
+   *
    * @return an iterator including attestations for every validator included in this group.
    */
   @Override
-  public Iterator<ValidateableAttestation> iterator() {
+  public synchronized Iterator<ValidateableAttestation> iterator() {
     return new AggregatingIterator();
   }
 
@@ -127,16 +146,41 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
     return StreamSupport.stream(spliterator(), false);
   }
 
+  /**
+   * Returns the aggregates from this group to consider for inclusion in a block, each with the
+   * validators it includes that have not already been included on chain.
+   *
+   * <p>The result is cached until an attestation is added to this group or the validators included
+   * on chain change, so block production only has to aggregate groups which changed since the
+   * last block was produced.
+   *
+   * @return the candidate aggregates for block inclusion
+   */
+  synchronized List<AttestationPacker.Candidate> getPackingCandidates() {
+    if (packingCandidates == null) {
+      final BitSet alreadyIncluded = AttestationPacker.toBitSet(includedValidators);
+      final List<AttestationPacker.Candidate> candidates = new ArrayList<>();
+      new AggregatingIterator()
+          .forEachRemaining(
+              aggregate ->
+                  candidates.add(
+                      AttestationPacker.Candidate.create(
+                          aggregate.getAttestation(), alreadyIncluded)));
+      packingCandidates = Collections.unmodifiableList(candidates);
+    }
+    return packingCandidates;
+  }
+
   /**
    * Returns true if there are no attestations in this group.
    *
    * @return true if this group is empty.
    */
-  public boolean isEmpty() {
+  public synchronized boolean isEmpty() {
     return attestationsByValidatorCount.isEmpty();
   }
 
-  public int size() {
+  public synchronized int size() {
     return attestationsByValidatorCount.values().stream().map(Set::size).reduce(0, Integer::sum);
   }
 
@@ -148,7 +192,8 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    *
    * @param attestation the attestation to logically remove from the pool.
    */
-  public int onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
+  public synchronized int onAttestationIncludedInBlock(
+      final UInt64 slot, final Attestation attestation) {
     // Record validators in attestation as seen in this slot
     // Important to do even if the attestation is redundant so we handle re-orgs correctly
     includedValidatorsBySlot.merge(slot, attestation.getAggregationBits(), SszBitlist::or);
@@ -158,6 +203,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
       return 0;
     }
     includedValidators = includedValidators.or(attestation.getAggregationBits());
+    packingCandidates = null;
 
     final Collection<Set<ValidateableAttestation>> attestationSets =
         attestationsByValidatorCount.values();
@@ -179,7 +225,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
     return numRemoved;
   }
 
-  public void onReorg(final UInt64 commonAncestorSlot) {
+  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
     final NavigableMap<UInt64, SszBitlist> removedSlots =
         includedValidatorsBySlot.tailMap(commonAncestorSlot, false);
     if (removedSlots.isEmpty()) {
@@ -192,9 +238,10 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
     includedValidators =
         includedValidatorsBySlot.values().stream()
             .reduce(createEmptyAggregationBits(), SszBitlist::or);
+    packingCandidates = null;
   }
 
-  public boolean matchesCommitteeShufflingSeed(final Set<Bytes32> validSeeds) {
+  public synchronized boolean matchesCommitteeShufflingSeed(final Set<Bytes32> validSeeds) {
     return committeeShufflingSeed.map(validSeeds::contains).orElse(false);
   }
 
@@ -203,11 +250,19 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
 
     @Override
     public boolean hasNext() {
-      return streamRemainingAttestations().findAny().isPresent();
+      synchronized (MatchingDataAttestationGroup.this) {
+        return streamRemainingAttestations().findAny().isPresent();
+      }
     }
 
     @Override
     public ValidateableAttestation next() {
+      synchronized (MatchingDataAttestationGroup.this) {
+        return nextAggregate();
+      }
+    }
+
+    private ValidateableAttestation nextAggregate() {
       final AggregateAttestationBuilder builder =
           new AggregateAttestationBuilder(spec, attestationData);
       streamRemainingAttestations()
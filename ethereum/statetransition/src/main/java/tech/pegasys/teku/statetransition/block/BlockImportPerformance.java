@@ -30,6 +30,8 @@ public class BlockImportPerformance {
   public static final String ARRIVAL_EVENT_LABEL = "arrival";
   public static final String PRESTATE_RETRIEVED_EVENT_LABEL = "pre-state_retrieved";
   public static final String PROCESSED_EVENT_LABEL = "processed";
+  public static final String SIGNATURES_VERIFIED_EVENT_LABEL = "signatures_verified";
+  public static final String PAYLOAD_VALIDATED_EVENT_LABEL = "payload_validated";
   public static final String TRANSACTION_PREPARED_EVENT_LABEL = "transaction_prepared";
   public static final String TRANSACTION_COMMITTED_EVENT_LABEL = "transaction_committed";
   public static final String COMPLETED_EVENT_LABEL = "completed";
@@ -67,6 +69,18 @@ public class BlockImportPerformance {
     addEvent(PROCESSED_EVENT_LABEL);
   }
 
+  /**
+   * Signatures are verified concurrently with execution payload validation, so these two events
+   * may be recorded in either order. Each is timed from whichever event completed before it.
+   */
+  public void signaturesVerified() {
+    addEvent(SIGNATURES_VERIFIED_EVENT_LABEL);
+  }
+
+  public void executionPayloadValidated() {
+    addEvent(PAYLOAD_VALIDATED_EVENT_LABEL);
+  }
+
   public void transactionReady() {
     addEvent(TRANSACTION_PREPARED_EVENT_LABEL);
   }
@@ -75,7 +89,7 @@ public class BlockImportPerformance {
     addEvent(TRANSACTION_COMMITTED_EVENT_LABEL);
   }
 
-  public void processingComplete(
+  public synchronized void processingComplete(
       final EventLogger eventLogger,
       final SignedBeaconBlock block,
       final BlockImportResult blockImportResult) {
@@ -116,7 +130,7 @@ public class BlockImportPerformance {
     }
   }
 
-  private UInt64 addEvent(final String label) {
+  private synchronized UInt64 addEvent(final String label) {
     final UInt64 timestamp = timeProvider.getTimeInMillis();
     events.add(Pair.of(label, timestamp));
     return timestamp;
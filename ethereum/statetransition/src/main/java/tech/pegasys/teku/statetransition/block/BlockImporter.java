@@ -13,10 +13,16 @@
 
 package tech.pegasys.teku.statetransition.block;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import javax.annotation.CheckReturnValue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -85,6 +91,88 @@ public class BlockImporter {
   public SafeFuture<BlockImportResult> importBlock(
       final SignedBeaconBlock block,
       final Optional<BlockImportPerformance> blockImportPerformance) {
+    return importBlock(block, blockImportPerformance, this::validateWeakSubjectivityPeriod);
+  }
+
+  /**
+   * Import a chain of blocks, where each block is the parent of the next.
+   *
+   * <p>Up to {@code maxBlocksInFlight} blocks are passed to fork choice before the earlier ones
+   * have completed, so the state transition of each block overlaps with the signature verification
+   * and execution payload validation of its parent. Blocks are still applied to fork choice in
+   * order, and no further blocks are started once one has failed.
+   *
+   * @param blocks the blocks to import, in order
+   * @param maxBlocksInFlight the maximum number of blocks being imported at the same time
+   * @return the result of the first block which failed to import, or of the last block if all
+   *     were imported successfully
+   */
+  @CheckReturnValue
+  public SafeFuture<BlockImportResult> importBlocks(
+      final List<SignedBeaconBlock> blocks, final int maxBlocksInFlight) {
+    checkArgument(!blocks.isEmpty(), "No blocks to import");
+    checkArgument(maxBlocksInFlight > 0, "Max blocks in flight must be positive");
+    return validateWeakSubjectivityPeriod()
+        .thenCompose(__ -> importBlocksInOrder(blocks, maxBlocksInFlight))
+        .exceptionally(
+            error -> {
+              LOG.error("Internal error while importing blocks", error);
+              return BlockImportResult.internalError(error);
+            });
+  }
+
+  private SafeFuture<BlockImportResult> importBlocksInOrder(
+      final List<SignedBeaconBlock> blocks, final int maxBlocksInFlight) {
+    final List<SafeFuture<BlockImportResult>> results = new ArrayList<>();
+    final AtomicBoolean importFailed = new AtomicBoolean(false);
+    // Each block is only passed to fork choice after its parent so that the parent can be found
+    SafeFuture<Void> previousBlockStarted = SafeFuture.COMPLETE;
+    for (SignedBeaconBlock block : blocks) {
+      final SafeFuture<?> capacityAvailable =
+          results.size() < maxBlocksInFlight
+              ? SafeFuture.COMPLETE
+              : results.get(results.size() - maxBlocksInFlight);
+      final SafeFuture<BlockImportResult> result = new SafeFuture<>();
+      previousBlockStarted =
+          previousBlockStarted
+              .thenCompose(__ -> capacityAvailable)
+              .thenRun(
+                  () -> {
+                    if (importFailed.get()) {
+                      result.complete(BlockImportResult.FAILED_UNKNOWN_PARENT);
+                      return;
+                    }
+                    SafeFuture.of(
+                            () -> importBlock(block, Optional.empty(), () -> SafeFuture.COMPLETE))
+                        .exceptionally(BlockImportResult::internalError)
+                        .thenPeek(
+                            blockResult -> {
+                              if (!blockResult.isSuccessful()) {
+                                importFailed.set(true);
+                              }
+                            })
+                        .propagateTo(result);
+                  });
+      results.add(result);
+    }
+
+    SafeFuture<BlockImportResult> firstFailureOrLastResult = results.get(0);
+    for (int i = 1; i < results.size(); i++) {
+      final SafeFuture<BlockImportResult> result = results.get(i);
+      firstFailureOrLastResult =
+          firstFailureOrLastResult.thenCompose(
+              previousResult ->
+                  previousResult.isSuccessful()
+                      ? result
+                      : SafeFuture.completedFuture(previousResult));
+    }
+    return firstFailureOrLastResult;
+  }
+
+  private SafeFuture<BlockImportResult> importBlock(
+      final SignedBeaconBlock block,
+      final Optional<BlockImportPerformance> blockImportPerformance,
+      final Supplier<SafeFuture<?>> weakSubjectivityPeriodCheck) {
     final Optional<Boolean> knownOptimistic = recentChainData.isBlockOptimistic(block.getRoot());
     if (knownOptimistic.isPresent()) {
       LOG.trace(
@@ -98,7 +186,8 @@ public class BlockImporter {
       return SafeFuture.completedFuture(BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS);
     }
 
-    return validateWeakSubjectivityPeriod()
+    return weakSubjectivityPeriodCheck
+        .get()
         .thenCompose(__ -> forkChoice.onBlock(block, blockImportPerformance, executionLayer))
         .thenApply(
             result -> {
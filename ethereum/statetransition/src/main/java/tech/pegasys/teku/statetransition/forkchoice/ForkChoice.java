@@ -22,7 +22,9 @@ import static tech.pegasys.teku.statetransition.forkchoice.StateRootCollector.ad
 import com.google.common.base.Throwables;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -32,6 +34,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.exceptions.FatalServiceFailureException;
+import tech.pegasys.teku.infrastructure.logging.LogFormatter;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -53,6 +56,9 @@ import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult.St
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
@@ -74,6 +80,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
 
   private final Spec spec;
   private final EventThread forkChoiceExecutor;
+  private final EventThread signatureVerificationExecutor;
   private final RecentChainData recentChainData;
   private final ForkChoiceNotifier forkChoiceNotifier;
   private final MergeTransitionBlockValidator transitionBlockValidator;
@@ -81,6 +88,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   private final boolean equivocatingIndicesEnabled;
   private final AttestationStateSelector attestationStateSelector;
   private final DeferredAttestations deferredAttestations = new DeferredAttestations();
+  private final Map<Bytes32, PendingBlockImport> pendingBlockImports = new ConcurrentHashMap<>();
   private final PandaPrinter pandaPrinter;
 
   private final Subscribers<OptimisticHeadSubscriber> optimisticSyncSubscribers =
@@ -91,6 +99,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   public ForkChoice(
       final Spec spec,
       final EventThread forkChoiceExecutor,
+      final EventThread signatureVerificationExecutor,
       final RecentChainData recentChainData,
       final ForkChoiceNotifier forkChoiceNotifier,
       final TickProcessor tickProcessor,
@@ -100,6 +109,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       final boolean equivocatingIndicesEnabled) {
     this.spec = spec;
     this.forkChoiceExecutor = forkChoiceExecutor;
+    this.signatureVerificationExecutor = signatureVerificationExecutor;
     this.recentChainData = recentChainData;
     this.forkChoiceNotifier = forkChoiceNotifier;
     this.transitionBlockValidator = transitionBlockValidator;
@@ -126,6 +136,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     this(
         spec,
         forkChoiceExecutor,
+        forkChoiceExecutor,
         recentChainData,
         forkChoiceNotifier,
         new TickProcessor(spec, recentChainData),
@@ -218,26 +229,103 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                     }));
   }
 
-  /** Import a block to the store. */
+  /**
+   * Import a block to the store.
+   *
+   * <p>If the parent block is still being imported, the state transition starts from the parent's
+   * post state as soon as it is available, rather than waiting for the parent's signatures and
+   * execution payload to be verified. The block is only applied to fork choice after its parent
+   * has been imported successfully.
+   */
   public SafeFuture<BlockImportResult> onBlock(
       final SignedBeaconBlock block,
       final Optional<BlockImportPerformance> blockImportPerformance,
       final ExecutionLayerChannel executionLayer) {
-    return recentChainData
-        .retrieveStateAtSlot(new SlotAndBlockRoot(block.getSlot(), block.getParentRoot()))
-        .thenPeek(__ -> blockImportPerformance.ifPresent(BlockImportPerformance::preStateRetrieved))
-        .thenCompose(
-            blockSlotState ->
-                onBlock(block, blockSlotState, blockImportPerformance, executionLayer));
+    final PendingBlockImport pendingParentImport = pendingBlockImports.get(block.getParentRoot());
+    final PendingBlockImport pendingImport = new PendingBlockImport();
+    pendingBlockImports.put(block.getRoot(), pendingImport);
+
+    final SafeFuture<BlockImportResult> result;
+    if (pendingParentImport == null) {
+      result =
+          recentChainData
+              .retrieveStateAtSlot(new SlotAndBlockRoot(block.getSlot(), block.getParentRoot()))
+              .thenPeek(
+                  __ -> blockImportPerformance.ifPresent(BlockImportPerformance::preStateRetrieved))
+              .thenCompose(
+                  blockSlotState ->
+                      onBlock(
+                          block,
+                          blockSlotState,
+                          Optional.empty(),
+                          pendingImport,
+                          blockImportPerformance,
+                          executionLayer));
+    } else {
+      result =
+          pendingParentImport.postState.thenCompose(
+              parentPostState ->
+                  onBlockWithPendingParent(
+                      block,
+                      parentPostState,
+                      pendingParentImport,
+                      pendingImport,
+                      blockImportPerformance,
+                      executionLayer));
+    }
+    final SafeFuture<BlockImportResult> importResult =
+        result.alwaysRun(
+            () -> {
+              pendingImport.postState.complete(Optional.empty());
+              pendingBlockImports.remove(block.getRoot(), pendingImport);
+            });
+    importResult.propagateTo(pendingImport.result);
+    return importResult;
+  }
+
+  private SafeFuture<BlockImportResult> onBlockWithPendingParent(
+      final SignedBeaconBlock block,
+      final Optional<BeaconState> parentPostState,
+      final PendingBlockImport pendingParentImport,
+      final PendingBlockImport pendingImport,
+      final Optional<BlockImportPerformance> blockImportPerformance,
+      final ExecutionLayerChannel executionLayer) {
+    if (parentPostState.isEmpty()) {
+      return SafeFuture.completedFuture(BlockImportResult.FAILED_UNKNOWN_PARENT);
+    }
+    if (!block.getSlot().isGreaterThan(parentPostState.get().getSlot())) {
+      return SafeFuture.completedFuture(BlockImportResult.FAILED_INVALID_ANCESTRY);
+    }
+    final BeaconState blockSlotState;
+    try {
+      blockSlotState = spec.processSlots(parentPostState.get(), block.getSlot());
+    } catch (final SlotProcessingException | EpochProcessingException e) {
+      final BlockImportResult result = BlockImportResult.failedStateTransition(e);
+      reportInvalidBlock(block, result);
+      return SafeFuture.completedFuture(result);
+    }
+    blockImportPerformance.ifPresent(BlockImportPerformance::preStateRetrieved);
+    return onBlock(
+        block,
+        Optional.of(blockSlotState),
+        Optional.of(pendingParentImport.result),
+        pendingImport,
+        blockImportPerformance,
+        executionLayer);
   }
 
   /**
    * Import a block to the store. The supplied blockSlotState must already have empty slots
    * processed to the same slot as the block.
+   *
+   * <p>If the parent block is still being imported, the checks which require the parent to be in
+   * fork choice are deferred until the parent's import completes.
    */
   private SafeFuture<BlockImportResult> onBlock(
       final SignedBeaconBlock block,
       final Optional<BeaconState> blockSlotState,
+      final Optional<SafeFuture<BlockImportResult>> parentImportResult,
+      final PendingBlockImport pendingImport,
       final Optional<BlockImportPerformance> blockImportPerformance,
       final ExecutionLayerChannel executionLayer) {
     if (blockSlotState.isEmpty()) {
@@ -249,19 +337,29 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
         block.getSlot(),
         blockSlotState.get().getSlot());
 
+    // The merge transition block is checked for the block's ancestors which are only known once
+    // the parent is in fork choice. A failed parent import fails this block anyway.
+    final SafeFuture<Void> parentImported =
+        parentImportResult
+            .map(result -> result.exceptionally(error -> null).toVoid())
+            .orElse(SafeFuture.COMPLETE);
     final ForkChoicePayloadExecutor payloadExecutor =
-        ForkChoicePayloadExecutor.create(spec, recentChainData, block, executionLayer);
+        ForkChoicePayloadExecutor.create(
+            spec, recentChainData, block, parentImported, executionLayer);
     final ForkChoiceUtil forkChoiceUtil = spec.atSlot(block.getSlot()).getForkChoiceUtil();
-    final BlockImportResult preconditionCheckResult =
-        forkChoiceUtil.checkOnBlockConditions(
-            block, blockSlotState.get(), recentChainData.getStore());
-    if (!preconditionCheckResult.isSuccessful()) {
-      reportInvalidBlock(block, preconditionCheckResult);
-      return SafeFuture.completedFuture(preconditionCheckResult);
+    if (parentImportResult.isEmpty()) {
+      final BlockImportResult preconditionCheckResult =
+          forkChoiceUtil.checkOnBlockConditions(
+              block, blockSlotState.get(), recentChainData.getStore());
+      if (!preconditionCheckResult.isSuccessful()) {
+        reportInvalidBlock(block, preconditionCheckResult);
+        return SafeFuture.completedFuture(preconditionCheckResult);
+      }
     }
 
     final CapturingIndexedAttestationCache indexedAttestationCache =
         IndexedAttestationCache.capturing();
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
 
     final BeaconState postState;
     try {
@@ -271,6 +369,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                   block,
                   blockSlotState.get(),
                   indexedAttestationCache,
+                  signatureVerifier,
                   Optional.of(payloadExecutor));
     } catch (final StateTransitionException e) {
       final BlockImportResult result = BlockImportResult.failedStateTransition(e);
@@ -278,19 +377,58 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       return SafeFuture.completedFuture(result);
     }
     blockImportPerformance.ifPresent(BlockImportPerformance::postStateCreated);
-
-    return payloadExecutor
-        .getExecutionResult()
+    pendingImport.postState.complete(Optional.of(postState));
+
+    // Verify signatures while the execution layer validates the payload and any child block is
+    // processed on top of the post state
+    final SafeFuture<Boolean> signaturesValid =
+        signatureVerificationExecutor
+            .execute(signatureVerifier::batchVerify)
+            .thenPeek(
+                __ -> blockImportPerformance.ifPresent(BlockImportPerformance::signaturesVerified));
+    final SafeFuture<PayloadValidationResult> payloadResult =
+        payloadExecutor
+            .getExecutionResult()
+            .thenPeek(
+                __ ->
+                    blockImportPerformance.ifPresent(
+                        BlockImportPerformance::executionPayloadValidated));
+    final SafeFuture<BlockImportResult> parentResult =
+        parentImportResult.orElse(SafeFuture.completedFuture(BlockImportResult.successful(block)));
+
+    return SafeFuture.allOf(signaturesValid, payloadResult, parentResult)
         .thenApplyAsync(
-            payloadResult ->
-                importBlockAndState(
-                    block,
-                    blockSlotState.get(),
-                    blockImportPerformance,
-                    forkChoiceUtil,
-                    indexedAttestationCache,
-                    postState,
-                    payloadResult),
+            __ -> {
+              if (!signaturesValid.join()) {
+                final BlockImportResult result =
+                    BlockImportResult.failedStateTransition(
+                        new StateTransitionException(
+                            "Batch signature verification failed for block "
+                                + LogFormatter.formatBlock(block.getSlot(), block.getRoot())));
+                reportInvalidBlock(block, result);
+                return result;
+              }
+              if (!parentResult.join().isSuccessful()) {
+                return BlockImportResult.FAILED_UNKNOWN_PARENT;
+              }
+              if (parentImportResult.isPresent()) {
+                final BlockImportResult preconditionCheckResult =
+                    forkChoiceUtil.checkOnBlockConditions(
+                        block, blockSlotState.get(), recentChainData.getStore());
+                if (!preconditionCheckResult.isSuccessful()) {
+                  reportInvalidBlock(block, preconditionCheckResult);
+                  return preconditionCheckResult;
+                }
+              }
+              return importBlockAndState(
+                  block,
+                  blockSlotState.get(),
+                  blockImportPerformance,
+                  forkChoiceUtil,
+                  indexedAttestationCache,
+                  postState,
+                  payloadResult.join());
+            },
             forkChoiceExecutor)
         .thenPeek(
             result -> {
@@ -716,4 +854,11 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   public interface OptimisticHeadSubscriber {
     void onOptimisticHeadChanged(boolean isHeadOptimistic);
   }
+
+  private static class PendingBlockImport {
+    /** Completed with the post state once processed, or empty if the state transition failed. */
+    private final SafeFuture<Optional<BeaconState>> postState = new SafeFuture<>();
+
+    private final SafeFuture<BlockImportResult> result = new SafeFuture<>();
+  }
 }
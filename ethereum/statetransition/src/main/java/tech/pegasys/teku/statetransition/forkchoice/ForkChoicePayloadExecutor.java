@@ -32,26 +32,31 @@ class ForkChoicePayloadExecutor implements OptimisticExecutionPayloadExecutor {
   private final ExecutionLayerChannel executionLayer;
   private final SignedBeaconBlock block;
   private final MergeTransitionBlockValidator transitionBlockValidator;
+  private final SafeFuture<Void> parentImported;
   private Optional<SafeFuture<PayloadValidationResult>> result = Optional.empty();
 
   ForkChoicePayloadExecutor(
       final SignedBeaconBlock block,
       final ExecutionLayerChannel executionLayer,
-      final MergeTransitionBlockValidator transitionBlockValidator) {
+      final MergeTransitionBlockValidator transitionBlockValidator,
+      final SafeFuture<Void> parentImported) {
     this.block = block;
     this.transitionBlockValidator = transitionBlockValidator;
     this.executionLayer = executionLayer;
+    this.parentImported = parentImported;
   }
 
   public static ForkChoicePayloadExecutor create(
       final Spec spec,
       final RecentChainData recentChainData,
       final SignedBeaconBlock block,
+      final SafeFuture<Void> parentImported,
       final ExecutionLayerChannel executionLayer) {
     return new ForkChoicePayloadExecutor(
         block,
         executionLayer,
-        new MergeTransitionBlockValidator(spec, recentChainData, executionLayer));
+        new MergeTransitionBlockValidator(spec, recentChainData, executionLayer),
+        parentImported);
   }
 
   public SafeFuture<PayloadValidationResult> getExecutionResult() {
@@ -77,8 +82,11 @@ class ForkChoicePayloadExecutor implements OptimisticExecutionPayloadExecutor {
                 .thenCompose(
                     result -> {
                       if (result.hasValidStatus()) {
-                        return transitionBlockValidator.verifyTransitionBlock(
-                            latestExecutionPayloadHeader, block);
+                        // Ancestors are found via fork choice so the parent must be imported first
+                        return parentImported.thenCompose(
+                            __ ->
+                                transitionBlockValidator.verifyTransitionBlock(
+                                    latestExecutionPayloadHeader, block));
                       } else {
                         return SafeFuture.completedFuture(new PayloadValidationResult(result));
                       }
@@ -0,0 +1,90 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation;
+
+import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMillis;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+import static tech.pegasys.teku.spec.config.Constants.ATTESTATION_PROPAGATION_SLOT_RANGE;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.config.Constants;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/** Checks whether attestations for a slot are within the window they may be propagated in. */
+class AttestationPropagationWindow {
+  private static final UInt64 MAX_FUTURE_SLOT_ALLOWANCE = UInt64.valueOf(3);
+  private static final UInt64 MAXIMUM_GOSSIP_CLOCK_DISPARITY =
+      UInt64.valueOf(Constants.MAXIMUM_GOSSIP_CLOCK_DISPARITY);
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+
+  AttestationPropagationWindow(final Spec spec, final RecentChainData recentChainData) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+  }
+
+  boolean isCurrentTimeBeforeMinimumAttestationBroadcastTime(
+      final UInt64 attestationSlot, final UInt64 currentTimeMillis) {
+    final UInt64 minimumBroadcastTimeMillis = minimumBroadcastTimeMillis(attestationSlot);
+    return currentTimeMillis.isLessThan(minimumBroadcastTimeMillis);
+  }
+
+  boolean isFromFarFuture(
+      final UInt64 attestationSlot,
+      final UInt64 earliestSlotForForkChoice,
+      final UInt64 currentTimeMillis) {
+    final int secondsPerSlot = secondsPerSlot(attestationSlot);
+    final UInt64 attestationSlotTimeMillis =
+        secondsToMillis(
+            recentChainData.getGenesisTime().plus(earliestSlotForForkChoice.times(secondsPerSlot)));
+    final UInt64 discardAttestationsAfterMillis =
+        currentTimeMillis.plus(secondsToMillis(MAX_FUTURE_SLOT_ALLOWANCE.times(secondsPerSlot)));
+    return attestationSlotTimeMillis.isGreaterThan(discardAttestationsAfterMillis);
+  }
+
+  boolean isCurrentTimeAfterAttestationPropagationSlotRange(
+      final UInt64 currentTimeMillis, final UInt64 attestationSlot) {
+    return maximumBroadcastTimeMillis(attestationSlot).isLessThan(currentTimeMillis);
+  }
+
+  private UInt64 minimumBroadcastTimeMillis(final UInt64 attestationSlot) {
+    final UInt64 lastAllowedTime =
+        recentChainData
+            .getGenesisTime()
+            .plus(attestationSlot.times(secondsPerSlot(attestationSlot)));
+    final UInt64 lastAllowedTimeMillis = secondsToMillis(lastAllowedTime);
+    return lastAllowedTimeMillis.isGreaterThanOrEqualTo(MAXIMUM_GOSSIP_CLOCK_DISPARITY)
+        ? lastAllowedTimeMillis.minus(MAXIMUM_GOSSIP_CLOCK_DISPARITY)
+        : ZERO;
+  }
+
+  private UInt64 maximumBroadcastTimeMillis(final UInt64 attestationSlot) {
+    final UInt64 lastAllowedSlot = attestationSlot.plus(ATTESTATION_PROPAGATION_SLOT_RANGE);
+    // The last allowed time is the end of the lastAllowedSlot (hence the plus 1).
+    final UInt64 lastAllowedTime =
+        recentChainData
+            .getGenesisTime()
+            .plus(lastAllowedSlot.plus(ONE).times(secondsPerSlot(attestationSlot)));
+
+    // Add allowed clock disparity
+    return secondsToMillis(lastAllowedTime).plus(MAXIMUM_GOSSIP_CLOCK_DISPARITY);
+  }
+
+  private int secondsPerSlot(final UInt64 slot) {
+    return spec.getSecondsPerSlot(slot);
+  }
+}
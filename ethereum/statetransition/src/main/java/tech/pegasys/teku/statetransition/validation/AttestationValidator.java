@@ -14,10 +14,6 @@
 package tech.pegasys.teku.statetransition.validation;
 
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
-import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMillis;
-import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
-import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
-import static tech.pegasys.teku.spec.config.Constants.ATTESTATION_PROPAGATION_SLOT_RANGE;
 import static tech.pegasys.teku.statetransition.validation.ValidationResultCode.ACCEPT;
 
 import it.unimi.dsi.fastutil.ints.IntList;
@@ -25,7 +21,6 @@ import java.util.OptionalInt;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
-import tech.pegasys.teku.spec.config.Constants;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
@@ -34,14 +29,11 @@ import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class AttestationValidator {
-  private static final UInt64 MAX_FUTURE_SLOT_ALLOWANCE = UInt64.valueOf(3);
-  private static final UInt64 MAXIMUM_GOSSIP_CLOCK_DISPARITY =
-      UInt64.valueOf(Constants.MAXIMUM_GOSSIP_CLOCK_DISPARITY);
-
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncBLSSignatureVerifier signatureVerifier;
   private final AttestationStateSelector stateSelector;
+  private final AttestationPropagationWindow propagationWindow;
 
   public AttestationValidator(
       final Spec spec,
@@ -51,6 +43,7 @@ public class AttestationValidator {
     this.spec = spec;
     this.signatureVerifier = signatureVerifier;
     this.stateSelector = new AttestationStateSelector(spec, recentChainData);
+    this.propagationWindow = new AttestationPropagationWindow(spec, recentChainData);
   }
 
   public SafeFuture<InternalValidationResult> validate(
@@ -98,11 +91,14 @@ public class AttestationValidator {
     // ATTESTATION_PROPAGATION_SLOT_RANGE >= current_slot >= attestation.data.slot (a client MAY
     // queue future attestations for processing at the appropriate slot).
     final UInt64 currentTimeMillis = recentChainData.getStore().getTimeMillis();
-    if (isCurrentTimeAfterAttestationPropagationSlotRange(currentTimeMillis, attestation)
-        || isFromFarFuture(attestation, currentTimeMillis)) {
+    if (propagationWindow.isCurrentTimeAfterAttestationPropagationSlotRange(
+            currentTimeMillis, data.getSlot())
+        || propagationWindow.isFromFarFuture(
+            data.getSlot(), data.getEarliestSlotForForkChoice(spec), currentTimeMillis)) {
       return completedFuture(InternalValidationResultWithState.ignore());
     }
-    if (isCurrentTimeBeforeMinimumAttestationBroadcastTime(attestation, currentTimeMillis)) {
+    if (propagationWindow.isCurrentTimeBeforeMinimumAttestationBroadcastTime(
+        data.getSlot(), currentTimeMillis)) {
       return completedFuture(InternalValidationResultWithState.saveForFuture());
     }
 
@@ -191,63 +187,4 @@ public class AttestationValidator {
                       });
             });
   }
-
-  private boolean isCurrentTimeBeforeMinimumAttestationBroadcastTime(
-      final Attestation attestation, final UInt64 currentTimeMillis) {
-    final UInt64 minimumBroadcastTimeMillis =
-        minimumBroadcastTimeMillis(attestation.getData().getSlot());
-    return currentTimeMillis.isLessThan(minimumBroadcastTimeMillis);
-  }
-
-  private boolean isFromFarFuture(final Attestation attestation, final UInt64 currentTimeMillis) {
-    final int secondsPerSlot = secondsPerSlot(attestation);
-    final UInt64 attestationSlotTimeMillis =
-        secondsToMillis(
-            recentChainData
-                .getGenesisTime()
-                .plus(
-                    attestation
-                        .getEarliestSlotForForkChoiceProcessing(spec)
-                        .times(secondsPerSlot)));
-    final UInt64 discardAttestationsAfterMillis =
-        currentTimeMillis.plus(secondsToMillis(MAX_FUTURE_SLOT_ALLOWANCE.times(secondsPerSlot)));
-    return attestationSlotTimeMillis.isGreaterThan(discardAttestationsAfterMillis);
-  }
-
-  private boolean isCurrentTimeAfterAttestationPropagationSlotRange(
-      final UInt64 currentTimeMillis, final Attestation attestation) {
-    final UInt64 attestationSlot = attestation.getData().getSlot();
-    return maximumBroadcastTimeMillis(attestationSlot).isLessThan(currentTimeMillis);
-  }
-
-  private UInt64 minimumBroadcastTimeMillis(final UInt64 attestationSlot) {
-    final UInt64 lastAllowedTime =
-        recentChainData
-            .getGenesisTime()
-            .plus(attestationSlot.times(secondsPerSlot(attestationSlot)));
-    final UInt64 lastAllowedTimeMillis = secondsToMillis(lastAllowedTime);
-    return lastAllowedTimeMillis.isGreaterThanOrEqualTo(MAXIMUM_GOSSIP_CLOCK_DISPARITY)
-        ? lastAllowedTimeMillis.minus(MAXIMUM_GOSSIP_CLOCK_DISPARITY)
-        : ZERO;
-  }
-
-  private UInt64 maximumBroadcastTimeMillis(final UInt64 attestationSlot) {
-    final UInt64 lastAllowedSlot = attestationSlot.plus(ATTESTATION_PROPAGATION_SLOT_RANGE);
-    // The last allowed time is the end of the lastAllowedSlot (hence the plus 1).
-    final UInt64 lastAllowedTime =
-        recentChainData
-            .getGenesisTime()
-            .plus(lastAllowedSlot.plus(ONE).times(secondsPerSlot(attestationSlot)));
-
-    // Add allowed clock disparity
-    return secondsToMillis(lastAllowedTime).plus(MAXIMUM_GOSSIP_CLOCK_DISPARITY);
-  }
-
-  private int secondsPerSlot(final UInt64 slot) {
-    return spec.getSecondsPerSlot(slot);
-  }
-
-  private int secondsPerSlot(final Attestation attestation) {
-    return spec.getSecondsPerSlot(attestation.getData().getSlot());
-  }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation;
+
+import java.util.Objects;
+import java.util.Set;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.FlatAttestationView;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Cheap checks for unaggregated attestations received on an attestation subnet, made against the
+ * serialized attestation so that messages which would be rejected or ignored are dropped before
+ * they are deserialized.
+ *
+ * <p>Only checks which don't require a state are made, so an attestation which passes must still
+ * be validated by {@link AttestationValidator}. Attestations which are only too early to process
+ * are passed through, as they must be deserialized to be saved for later.
+ */
+public class SingleAttestationPrefilter {
+  static final int SEEN_ATTESTATIONS_CACHE_SIZE = 65_536;
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+  private final AttestationPropagationWindow propagationWindow;
+  private final Set<SeenAttestationKey> seenAttestations =
+      LimitedSet.createSynchronized(SEEN_ATTESTATIONS_CACHE_SIZE);
+
+  public SingleAttestationPrefilter(final Spec spec, final RecentChainData recentChainData) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+    this.propagationWindow = new AttestationPropagationWindow(spec, recentChainData);
+  }
+
+  public InternalValidationResult validate(final FlatAttestationView attestation) {
+    // The attestation is unaggregated -- that is, it has exactly one participating validator
+    final int bitCount = attestation.getAggregationBitCount();
+    if (bitCount != 1) {
+      return InternalValidationResult.reject("Attestation has %s bits set instead of 1", bitCount);
+    }
+
+    final UInt64 slot = attestation.getSlot();
+    if (!attestation.getTargetEpoch().equals(spec.computeEpochAtSlot(slot))) {
+      return InternalValidationResult.reject(
+          "Attestation slot %s is not from target epoch %s", slot, attestation.getTargetEpoch());
+    }
+
+    final UInt64 currentTimeMillis = recentChainData.getStore().getTimeMillis();
+    if (propagationWindow.isCurrentTimeAfterAttestationPropagationSlotRange(currentTimeMillis, slot)
+        || propagationWindow.isFromFarFuture(
+            slot, attestation.getEarliestSlotForForkChoice(spec), currentTimeMillis)) {
+      return InternalValidationResult.IGNORE;
+    }
+
+    // There has been no other valid attestation seen on an attestation subnet that has an
+    // identical attestation.data.target.epoch and participating validator index.
+    if (seenAttestations.contains(SeenAttestationKey.create(attestation))) {
+      return InternalValidationResult.IGNORE;
+    }
+    return InternalValidationResult.ACCEPT;
+  }
+
+  /**
+   * Records that the attestation passed full validation, so later attestations from the same
+   * validator for the same target are ignored.
+   */
+  public void onAttestationAccepted(final FlatAttestationView attestation) {
+    seenAttestations.add(SeenAttestationKey.create(attestation));
+  }
+
+  /**
+   * Identifies the attesting validator without looking up the committee. The target root fixes the
+   * shuffling, so the validator is determined by the slot, committee index and aggregation bit.
+   */
+  private static class SeenAttestationKey {
+    private final Bytes32 targetRoot;
+    private final UInt64 slot;
+    private final UInt64 committeeIndex;
+    private final int aggregationBit;
+
+    private SeenAttestationKey(
+        final Bytes32 targetRoot,
+        final UInt64 slot,
+        final UInt64 committeeIndex,
+        final int aggregationBit) {
+      this.targetRoot = targetRoot;
+      this.slot = slot;
+      this.committeeIndex = committeeIndex;
+      this.aggregationBit = aggregationBit;
+    }
+
+    private static SeenAttestationKey create(final FlatAttestationView attestation) {
+      return new SeenAttestationKey(
+          attestation.getTargetRoot(),
+          attestation.getSlot(),
+          attestation.getCommitteeIndex(),
+          attestation.getFirstSetAggregationBit().orElse(-1));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final SeenAttestationKey that = (SeenAttestationKey) o;
+      return aggregationBit == that.aggregationBit
+          && Objects.equals(targetRoot, that.targetRoot)
+          && Objects.equals(slot, that.slot)
+          && Objects.equals(committeeIndex, that.committeeIndex);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(targetRoot, slot, committeeIndex, aggregationBit);
+    }
+  }
+}
@@ -22,6 +22,9 @@ import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -30,7 +33,7 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
-import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.bls.BatchSemiAggregate;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -53,6 +56,9 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   private final AsyncRunner asyncRunner;
   private final Counter batchCounter;
   private final Counter taskCounter;
+  private final Counter batchFailureCounter;
+  private final Counter invalidTaskCounter;
+  private final Counter bisectionCheckCounter;
   private final MetricsHistogram batchSizeHistogram;
 
   @VisibleForTesting
@@ -88,6 +94,21 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
             TekuMetricCategory.EXECUTOR,
             "signature_verifications_task_count",
             "Reports the number of individual verification tasks processed");
+    batchFailureCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_batch_failure_count",
+            "Reports the number of verification batches which contained an invalid signature");
+    invalidTaskCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_invalid_task_count",
+            "Reports the number of verification tasks found to be invalid");
+    bisectionCheckCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_bisection_check_count",
+            "Reports the number of additional batch checks run to locate invalid signatures");
     batchSizeHistogram =
         MetricsHistogram.create(
             TekuMetricCategory.EXECUTOR,
@@ -189,45 +210,104 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     batchCounter.inc();
     taskCounter.inc(tasks.size());
     batchSizeHistogram.recordValue(tasks.size());
-    final List<List<BLSPublicKey>> allKeys = new ArrayList<>();
-    final List<Bytes> allMessages = new ArrayList<>();
-    final List<BLSSignature> allSignatures = new ArrayList<>();
 
-    for (SignatureTask task : tasks) {
-      allKeys.addAll(task.publicKeys);
-      allMessages.addAll(task.messages);
-      allSignatures.addAll(task.signatures);
+    final List<SignatureTask> preparedTasks = prepareTasks(tasks);
+    if (preparedTasks.isEmpty()) {
+      return;
     }
+    if (isValid(preparedTasks)) {
+      completeTasks(preparedTasks, true);
+    } else {
+      batchFailureCounter.inc();
+      findInvalidTasks(preparedTasks);
+    }
+  }
 
-    final boolean batchIsValid =
-        strictThreadLimitEnabled
-            ? BLS.batchVerify(allKeys, allMessages, allSignatures, allKeys.size() > 1, false)
-            : BLS.batchVerify(allKeys, allMessages, allSignatures);
-    if (batchIsValid) {
-      for (SignatureTask task : tasks) {
-        task.completeAsync(true);
+  /**
+   * Prepares the semi aggregates of every task once so that subsets of a failed batch can be
+   * re-checked with only the final exponentiation rather than hashing every message again.
+   *
+   * @return the tasks which were successfully prepared. Malformed tasks are completed as invalid.
+   */
+  private List<SignatureTask> prepareTasks(final List<SignatureTask> tasks) {
+    final List<SignatureTask> preparedTasks = new ArrayList<>(tasks.size());
+    for (SignatureTask task : tasks) {
+      if (task.signatures.isEmpty()
+          || task.publicKeys.size() != task.signatures.size()
+          || task.messages.size() != task.signatures.size()) {
+        completeInvalid(task);
+      } else {
+        preparedTasks.add(task);
       }
-    } else if (tasks.size() == 1) {
-      // We only had 1 signature, so it must be invalid
-      tasks.get(0).completeAsync(false);
-    } else if (tasks.size() >= minBatchSizeToSplit) {
-      // Split up tasks and try to verify in smaller batches
-      final List<List<SignatureTask>> splitTasks = splitTasks(tasks);
-      for (List<SignatureTask> splitTask : splitTasks) {
-        batchVerifySignatures(splitTask);
+    }
+
+    final int signatureCount = preparedTasks.stream().mapToInt(t -> t.signatures.size()).sum();
+    Stream<SignatureTask> taskStream = preparedTasks.stream();
+    if (!strictThreadLimitEnabled && signatureCount > 1) {
+      taskStream = taskStream.parallel();
+    }
+    taskStream.forEach(SignatureTask::prepare);
+    return preparedTasks;
+  }
+
+  /**
+   * Locates the invalid tasks in a batch known to fail verification by recursively bisecting it.
+   * When the first half turns out to be valid, the second half must contain an invalid signature so
+   * it is split straight away without being checked as a whole.
+   */
+  private void findInvalidTasks(final List<SignatureTask> invalidBatch) {
+    if (invalidBatch.size() == 1) {
+      // We only had 1 task, so it must be invalid
+      completeInvalid(invalidBatch.get(0));
+    } else if (invalidBatch.size() < minBatchSizeToSplit) {
+      // Validate each task individually
+      for (SignatureTask task : invalidBatch) {
+        bisectionCheckCounter.inc();
+        if (isValid(List.of(task))) {
+          task.completeAsync(true);
+        } else {
+          completeInvalid(task);
+        }
       }
     } else {
-      // Validate each signature individually
-      for (SignatureTask task : tasks) {
-        final boolean taskIsValid =
-            BLSSignatureVerifier.SIMPLE.verify(task.publicKeys, task.messages, task.signatures);
-        task.completeAsync(taskIsValid);
+      final List<List<SignatureTask>> halves = splitTasks(invalidBatch);
+      final List<SignatureTask> firstHalf = halves.get(0);
+      final List<SignatureTask> secondHalf = halves.get(1);
+      bisectionCheckCounter.inc();
+      if (isValid(firstHalf)) {
+        completeTasks(firstHalf, true);
+        findInvalidTasks(secondHalf);
+      } else {
+        findInvalidTasks(firstHalf);
+        bisectionCheckCounter.inc();
+        if (isValid(secondHalf)) {
+          completeTasks(secondHalf, true);
+        } else {
+          findInvalidTasks(secondHalf);
+        }
       }
     }
   }
 
+  private boolean isValid(final List<SignatureTask> tasks) {
+    final List<BatchSemiAggregate> semiAggregates =
+        tasks.stream().flatMap(task -> task.semiAggregates.stream()).collect(Collectors.toList());
+    return BLS.completeBatchVerify(semiAggregates);
+  }
+
+  private void completeTasks(final List<SignatureTask> tasks, final boolean isValid) {
+    for (SignatureTask task : tasks) {
+      task.completeAsync(isValid);
+    }
+  }
+
+  private void completeInvalid(final SignatureTask task) {
+    invalidTaskCounter.inc();
+    task.completeAsync(false);
+  }
+
   @VisibleForTesting
-  List<List<SignatureTask>> splitTasks(final List<SignatureTask> tasks) {
+  <T> List<List<T>> splitTasks(final List<T> tasks) {
     final int splitListSize = Math.toIntExact((long) Math.ceil(tasks.size() / 2.0));
     return Lists.partition(tasks, splitListSize);
   }
@@ -243,6 +323,7 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     final List<List<BLSPublicKey>> publicKeys;
     final List<Bytes> messages;
     final List<BLSSignature> signatures;
+    private List<BatchSemiAggregate> semiAggregates = List.of();
 
     private SignatureTask(
         final AsyncRunner asyncRunner,
@@ -255,6 +336,16 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       this.signatures = signatures;
     }
 
+    private void prepare() {
+      semiAggregates =
+          IntStream.range(0, signatures.size())
+              .mapToObj(
+                  i ->
+                      BLS.prepareBatchVerify(
+                          i, publicKeys.get(i), messages.get(i), signatures.get(i)))
+              .collect(Collectors.toList());
+    }
+
     public void completeAsync(final boolean isValid) {
       asyncRunner.runAsync(() -> result.complete(isValid)).finish(result::completeExceptionally);
     }
@@ -26,6 +26,9 @@ import static tech.pegasys.teku.statetransition.attestation.AggregatorUtil.aggre
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -537,6 +540,82 @@ class AggregatingAttestationPoolTest {
         .containsExactly(attestation2);
   }
 
+  @Test
+  void add_shouldAllowConcurrentAddsWhileProducingBlocks() throws Exception {
+    final BeaconState state = dataStructureUtil.randomBeaconState(ONE);
+    final BeaconState seedState = dataStructureUtil.randomBeaconState(100, 15);
+    final List<AttestationData> attestationData = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      attestationData.add(dataStructureUtil.randomAttestationData(ZERO));
+    }
+    final List<ValidateableAttestation> attestations = new ArrayList<>();
+    for (int i = 0; i < 400; i++) {
+      final ValidateableAttestation attestation =
+          ValidateableAttestation.from(
+              spec, createAttestation(attestationData.get(i / 20), i % 20));
+      attestation.saveCommitteeShufflingSeed(seedState);
+      attestations.add(attestation);
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> results = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        final int firstIndex = thread;
+        results.add(
+            executor.submit(
+                () -> {
+                  for (int i = firstIndex; i < attestations.size(); i += 4) {
+                    aggregatingPool.add(attestations.get(i));
+                  }
+                }));
+      }
+      while (!results.stream().allMatch(Future::isDone)) {
+        aggregatingPool.getAttestationsForBlock(state, forkChecker, worthinessChecker);
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(aggregatingPool.getSize()).isEqualTo(400);
+    assertThat(aggregatingPool.getAttestationsForBlock(state, forkChecker, worthinessChecker))
+        .hasSize(20)
+        .allMatch(attestation -> attestation.getAggregationBits().getBitCount() == 20);
+  }
+
+  @Test
+  void getAttestationsForBlock_shouldReflectAttestationsAddedAfterPreviousBlock() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData(ZERO);
+    final Attestation attestation1 = addAttestationFromValidators(attestationData, 1, 2);
+    final BeaconState state = dataStructureUtil.randomBeaconState(ONE);
+    assertThat(aggregatingPool.getAttestationsForBlock(state, forkChecker, worthinessChecker))
+        .containsExactly(attestation1);
+
+    final Attestation attestation2 = addAttestationFromValidators(attestationData, 3);
+
+    assertThat(aggregatingPool.getAttestationsForBlock(state, forkChecker, worthinessChecker))
+        .containsExactly(aggregateAttestations(attestation1, attestation2));
+  }
+
+  @Test
+  void getAttestationsForBlock_shouldExcludeValidatorsIncludedAfterPreviousBlock() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData(ZERO);
+    addAttestationFromValidators(attestationData, 1, 2);
+    final Attestation attestation2 = addAttestationFromValidators(attestationData, 2, 3);
+    final BeaconState state = dataStructureUtil.randomBeaconState(ONE);
+    assertThat(aggregatingPool.getAttestationsForBlock(state, forkChecker, worthinessChecker))
+        .hasSize(2);
+
+    aggregatingPool.onAttestationsIncludedInBlock(
+        ONE, List.of(createAttestation(attestationData, 1, 2)));
+
+    assertThat(aggregatingPool.getAttestationsForBlock(state, forkChecker, worthinessChecker))
+        .containsExactly(attestation2);
+  }
+
   private Attestation addAttestationFromValidators(final UInt64 slot, final int... validators) {
     return addAttestationFromValidators(dataStructureUtil.randomAttestationData(slot), validators);
   }
@@ -0,0 +1,144 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class AttestationPackerTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttestationSchema attestationSchema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+
+  @Test
+  void pack_shouldSelectAggregatesCoveringMostValidators() {
+    final Attestation attestation1 = createAttestation(1);
+    final Attestation attestation2 = createAttestation(1, 2, 3, 4);
+    final Attestation attestation3 = createAttestation(5, 6, 7);
+    final AttestationPacker packer = new AttestationPacker(2, Integer.MAX_VALUE);
+    packer.addGroup(List.of(candidate(attestation1)), false);
+    packer.addGroup(List.of(candidate(attestation2)), false);
+    packer.addGroup(List.of(candidate(attestation3)), false);
+
+    assertThat(packer.pack()).containsExactly(attestation2, attestation3);
+  }
+
+  @Test
+  void pack_shouldRecalculateGainOfOverlappingAggregatesFromSameGroup() {
+    final Attestation attestation1 = createAttestation(1, 2, 3, 4);
+    final Attestation attestation2 = createAttestation(1, 2, 3, 5);
+    final Attestation attestation3 = createAttestation(10, 11);
+    final AttestationPacker packer = new AttestationPacker(2, Integer.MAX_VALUE);
+    packer.addGroup(List.of(candidate(attestation1), candidate(attestation2)), false);
+    packer.addGroup(List.of(candidate(attestation3)), false);
+
+    // Once attestation1 is included, attestation2 only adds validator 5
+    assertThat(packer.pack()).containsExactly(attestation1, attestation3);
+  }
+
+  @Test
+  void pack_shouldIncludeOverlappingAggregatesWhenSpaceAllows() {
+    final Attestation attestation1 = createAttestation(1, 2, 3, 4);
+    final Attestation attestation2 = createAttestation(1, 2, 3, 5);
+    final Attestation attestation3 = createAttestation(10, 11);
+    final AttestationPacker packer = new AttestationPacker(5, Integer.MAX_VALUE);
+    packer.addGroup(List.of(candidate(attestation1), candidate(attestation2)), false);
+    packer.addGroup(List.of(candidate(attestation3)), false);
+
+    assertThat(packer.pack()).containsExactly(attestation1, attestation3, attestation2);
+  }
+
+  @Test
+  void pack_shouldNotIncludeAggregatesWithNoNewValidators() {
+    final Attestation attestation1 = createAttestation(1, 2);
+    final Attestation attestation2 = createAttestation(2, 3);
+    final Attestation attestation3 = createAttestation(1, 2, 3);
+    final AttestationPacker packer = new AttestationPacker(5, Integer.MAX_VALUE);
+    packer.addGroup(
+        List.of(
+            candidate(attestation3),
+            candidate(attestation1),
+            AttestationPacker.Candidate.create(attestation2, bits(2, 3))),
+        false);
+
+    assertThat(packer.pack()).containsExactly(attestation3);
+  }
+
+  @Test
+  void pack_shouldBreakTiesByOrderGroupsWereAdded() {
+    final Attestation attestation1 = createAttestation(1, 2);
+    final Attestation attestation2 = createAttestation(3, 4);
+    final Attestation attestation3 = createAttestation(5, 6);
+    final AttestationPacker packer = new AttestationPacker(5, Integer.MAX_VALUE);
+    packer.addGroup(List.of(candidate(attestation2)), false);
+    packer.addGroup(List.of(candidate(attestation1)), false);
+    packer.addGroup(List.of(candidate(attestation3)), false);
+
+    assertThat(packer.pack()).containsExactly(attestation2, attestation1, attestation3);
+  }
+
+  @Test
+  void pack_shouldLimitPreviousEpochAggregates() {
+    final Attestation attestation1 = createAttestation(1, 2, 3, 4);
+    final Attestation attestation2 = createAttestation(5, 6, 7);
+    final Attestation attestation3 = createAttestation(8);
+    final AttestationPacker packer = new AttestationPacker(5, 1);
+    packer.addGroup(List.of(candidate(attestation1)), true);
+    packer.addGroup(List.of(candidate(attestation2)), true);
+    packer.addGroup(List.of(candidate(attestation3)), false);
+
+    assertThat(packer.pack()).containsExactly(attestation1, attestation3);
+  }
+
+  @Test
+  void pack_shouldNotCountPreviousEpochLimitTowardsCurrentEpochAggregates() {
+    final Attestation attestation1 = createAttestation(1);
+    final Attestation attestation2 = createAttestation(2);
+    final AttestationPacker packer = new AttestationPacker(5, 0);
+    packer.addGroup(List.of(candidate(attestation1)), false);
+    packer.addGroup(List.of(candidate(attestation2)), false);
+
+    assertThat(packer.pack()).containsExactly(attestation1, attestation2);
+  }
+
+  private AttestationPacker.Candidate candidate(final Attestation attestation) {
+    return AttestationPacker.Candidate.create(attestation, new BitSet());
+  }
+
+  private BitSet bits(final int... indices) {
+    final BitSet bits = new BitSet();
+    for (int index : indices) {
+      bits.set(index);
+    }
+    return bits;
+  }
+
+  private Attestation createAttestation(final int... validators) {
+    final AttestationData data = dataStructureUtil.randomAttestationData(UInt64.ZERO);
+    final SszBitlist bitlist = attestationSchema.getAggregationBitsSchema().ofBits(20, validators);
+    return attestationSchema.create(bitlist, data, dataStructureUtil.randomSignature());
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.statetransition.attestation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.statetransition.attestation.AggregatorUtil.aggregateAttestations;
 
+import java.util.Iterator;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -154,6 +155,25 @@ class MatchingDataAttestationGroupTest {
             mediumAttestation);
   }
 
+  @Test
+  public void iterator_shouldCalculateEachAggregateWhenRequested() {
+    final ValidateableAttestation bigAttestation = addAttestation(1, 3, 5, 7);
+    final ValidateableAttestation mediumAttestation = addAttestation(3, 5, 9);
+
+    final Iterator<ValidateableAttestation> iterator = group.iterator();
+    assertThat(iterator.next()).isEqualTo(bigAttestation);
+
+    // Added after the iterator was created but before the next aggregate was requested
+    final ValidateableAttestation littleAttestation = addAttestation(2);
+    assertThat(iterator.next())
+        .isEqualTo(
+            ValidateableAttestation.from(
+                spec,
+                aggregateAttestations(
+                    mediumAttestation.getAttestation(), littleAttestation.getAttestation())));
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
   @Test
   public void iterator_shouldNotAggregateAttestationsWhenValidatorsOverlap() {
     final ValidateableAttestation attestation1 = addAttestation(1, 2, 5);
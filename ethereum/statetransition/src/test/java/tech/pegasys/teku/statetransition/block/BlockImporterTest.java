@@ -359,6 +359,42 @@ public class BlockImporterTest {
     assertImportFailed(result, FailureReason.FAILED_STATE_TRANSITION);
   }
 
+  @Test
+  public void importBlocks_shouldImportChainOfBlocks() throws Exception {
+    final List<SignedBeaconBlock> blocks = new ArrayList<>();
+    for (int slot = 1; slot <= 5; slot++) {
+      blocks.add(otherChain.createAndImportBlockAtSlot(UInt64.valueOf(slot)));
+    }
+    localChain.setSlot(UInt64.valueOf(5));
+
+    final BlockImportResult result = blockImporter.importBlocks(blocks, 2).get();
+    assertWeakSubjectivityWasChecked();
+    assertSuccessfulResult(result);
+    assertThat(result.getBlock()).isEqualTo(blocks.get(4));
+    for (SignedBeaconBlock block : blocks) {
+      assertThat(recentChainData.containsBlock(block.getRoot())).isTrue();
+      verify(blockImportNotifications).onBlockImported(block);
+    }
+  }
+
+  @Test
+  public void importBlocks_shouldStopAtFirstFailure() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(UInt64.ONE);
+    final SignedBeaconBlock block2 = otherChain.createAndImportBlockAtSlot(UInt64.valueOf(2));
+    final SignedBeaconBlock block3 = otherChain.createAndImportBlockAtSlot(UInt64.valueOf(3));
+    final SignedBeaconBlock invalidBlock2 =
+        SignedBeaconBlock.create(
+            spec, block2.getMessage().withStateRoot(Bytes32.ZERO), block2.getSignature());
+    localChain.setSlot(block3.getSlot());
+
+    final BlockImportResult result =
+        blockImporter.importBlocks(List.of(block1, invalidBlock2, block3), 3).get();
+    assertImportFailed(result, FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(recentChainData.containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(invalidBlock2.getRoot())).isFalse();
+    assertThat(recentChainData.containsBlock(block3.getRoot())).isFalse();
+  }
+
   @Test
   public void importBlock_weakSubjectivityFailure_wrongAncestor() throws Exception {
     final UInt64 wsEpoch = UInt64.valueOf(10);
@@ -149,6 +149,27 @@ class ForkChoicePayloadExecutorTest {
         .isCompletedWithValue(new PayloadValidationResult(expectedResult));
   }
 
+  @Test
+  void optimisticallyExecute_shouldWaitForParentImportBeforeVerifyingTransitionBlock() {
+    final SafeFuture<Void> parentImported = new SafeFuture<>();
+    when(executionLayer.engineNewPayload(payload)).thenReturn(SafeFuture.completedFuture(VALID));
+    when(transitionValidator.verifyTransitionBlock(payloadHeader, block))
+        .thenReturn(SafeFuture.completedFuture(PayloadValidationResult.VALID));
+    final ForkChoicePayloadExecutor payloadExecutor =
+        new ForkChoicePayloadExecutor(block, executionLayer, transitionValidator, parentImported);
+    payloadExecutor.optimisticallyExecute(payloadHeader, payload);
+
+    verify(executionLayer).engineNewPayload(payload);
+    verify(transitionValidator, never()).verifyTransitionBlock(any(), any());
+    assertThat(payloadExecutor.getExecutionResult()).isNotCompleted();
+
+    parentImported.complete(null);
+
+    verify(transitionValidator).verifyTransitionBlock(payloadHeader, block);
+    assertThat(payloadExecutor.getExecutionResult())
+        .isCompletedWithValue(PayloadValidationResult.VALID);
+  }
+
   @Test
   void shouldReturnValidImmediatelyWhenNoPayloadExecuted() {
     final ForkChoicePayloadExecutor payloadExecutor = createPayloadExecutor();
@@ -173,6 +194,7 @@ class ForkChoicePayloadExecutorTest {
   }
 
   private ForkChoicePayloadExecutor createPayloadExecutor() {
-    return new ForkChoicePayloadExecutor(block, executionLayer, transitionValidator);
+    return new ForkChoicePayloadExecutor(
+        block, executionLayer, transitionValidator, SafeFuture.COMPLETE);
   }
 }
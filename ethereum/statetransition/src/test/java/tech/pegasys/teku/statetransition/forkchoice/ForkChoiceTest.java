@@ -48,6 +48,9 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.SafeFutureAssert;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.eventthread.AsyncRunnerEventThread;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -55,6 +58,7 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
@@ -113,6 +117,7 @@ class ForkChoiceTest {
       new ForkChoice(
           spec,
           new InlineEventThread(),
+          new InlineEventThread(),
           recentChainData,
           forkChoiceNotifier,
           new TickProcessor(spec, recentChainData),
@@ -185,6 +190,108 @@ class ForkChoiceTest {
     assertThat(storageSystem.chainHeadChannel().getReorgEvents()).isEmpty();
   }
 
+  @Test
+  void onBlock_shouldProcessChildBeforeParentSignaturesAreVerified() {
+    final StubAsyncRunner signatureVerificationRunner = useStubSignatureVerificationExecutor();
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(ONE);
+    final SignedBlockAndState block2 = chainBuilder.generateBlockAtSlot(2);
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(block2.getSlot());
+
+    final SafeFuture<BlockImportResult> result1 =
+        forkChoice.onBlock(block1.getBlock(), Optional.empty(), executionLayer);
+    final SafeFuture<BlockImportResult> result2 =
+        forkChoice.onBlock(block2.getBlock(), Optional.empty(), executionLayer);
+
+    // Both blocks have been processed but neither applied until signatures are verified
+    assertThat(signatureVerificationRunner.countDelayedActions()).isEqualTo(2);
+    assertThat(result1).isNotDone();
+    assertThat(result2).isNotDone();
+    assertThat(recentChainData.containsBlock(block1.getRoot())).isFalse();
+
+    signatureVerificationRunner.executeQueuedActions();
+
+    assertBlockImportedSuccessfully(result1, false);
+    assertBlockImportedSuccessfully(result2, false);
+    assertThat(recentChainData.getHeadBlock().map(MinimalBeaconBlockSummary::getRoot))
+        .contains(block2.getRoot());
+  }
+
+  @Test
+  void onBlock_shouldNotImportChildWhenParentSignatureIsInvalid() {
+    final StubAsyncRunner signatureVerificationRunner = useStubSignatureVerificationExecutor();
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(ONE);
+    final SignedBlockAndState block2 = chainBuilder.generateBlockAtSlot(2);
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(block2.getSlot());
+    final SignedBeaconBlock invalidBlock1 =
+        SignedBeaconBlock.create(
+            spec, block1.getBlock().getMessage(), dataStructureUtil.randomSignature());
+
+    final SafeFuture<BlockImportResult> result1 =
+        forkChoice.onBlock(invalidBlock1, Optional.empty(), executionLayer);
+    final SafeFuture<BlockImportResult> result2 =
+        forkChoice.onBlock(block2.getBlock(), Optional.empty(), executionLayer);
+    signatureVerificationRunner.executeQueuedActions();
+
+    assertThat(result1).isCompleted();
+    assertThat(result1.join().getFailureReason()).isEqualTo(FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(result2).isCompletedWithValue(BlockImportResult.FAILED_UNKNOWN_PARENT);
+    assertThat(recentChainData.containsBlock(block1.getRoot())).isFalse();
+    assertThat(recentChainData.containsBlock(block2.getRoot())).isFalse();
+  }
+
+  @Test
+  void onBlock_shouldVerifyTransitionBlockForChildOnceParentImported() {
+    // The transition block was imported optimistically and doesn't reach TTD
+    final SignedBlockAndState transitionBlock = generateMergeBlock(false);
+    storageSystem.chainUpdater().saveOptimisticBlock(transitionBlock);
+    storageSystem.chainUpdater().updateBestBlock(transitionBlock);
+
+    final StubAsyncRunner signatureVerificationRunner = useStubSignatureVerificationExecutor();
+    final SignedBlockAndState block1 = chainBuilder.generateNextBlock();
+    final SignedBlockAndState block2 = chainBuilder.generateNextBlock();
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(block2.getSlot());
+
+    // The parent is imported optimistically so doesn't check the transition block
+    executionLayer.setPayloadStatus(PayloadStatus.SYNCING);
+    final SafeFuture<BlockImportResult> result1 =
+        forkChoice.onBlock(block1.getBlock(), Optional.empty(), executionLayer);
+    executionLayer.setPayloadStatus(PayloadStatus.VALID);
+    final SafeFuture<BlockImportResult> result2 =
+        forkChoice.onBlock(block2.getBlock(), Optional.empty(), executionLayer);
+    signatureVerificationRunner.executeQueuedActions();
+
+    // The child is valid so has to find the transition block via its parent
+    assertBlockImportedSuccessfully(result1, true);
+    assertBlockImportFailure(result2, FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(recentChainData.containsBlock(block2.getRoot())).isFalse();
+    assertThat(
+            recentChainData
+                .getForkChoiceStrategy()
+                .orElseThrow()
+                .isFullyValidated(transitionBlock.getRoot()))
+        .isFalse();
+  }
+
+  private StubAsyncRunner useStubSignatureVerificationExecutor() {
+    final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
+    final AsyncRunnerEventThread signatureVerificationExecutor =
+        new AsyncRunnerEventThread("signatures", asyncRunnerFactory);
+    signatureVerificationExecutor.start();
+    forkChoice =
+        new ForkChoice(
+            spec,
+            new InlineEventThread(),
+            signatureVerificationExecutor,
+            recentChainData,
+            forkChoiceNotifier,
+            new TickProcessor(spec, recentChainData),
+            transitionBlockValidator,
+            PandaPrinter.NOOP,
+            false,
+            true);
+    return asyncRunnerFactory.getStubAsyncRunners().get(0);
+  }
+
   private static Stream<Arguments> provideArgumentsForShouldReorg() {
     return Stream.of(
         Arguments.of(0, true),
@@ -203,6 +310,7 @@ class ForkChoiceTest {
         new ForkChoice(
             spec,
             new InlineEventThread(),
+            new InlineEventThread(),
             recentChainData,
             forkChoiceNotifier,
             new TickProcessor(spec, recentChainData),
@@ -899,13 +1007,22 @@ class ForkChoiceTest {
   }
 
   private SignedBlockAndState generateMergeBlock() {
+    return generateMergeBlock(true);
+  }
+
+  private SignedBlockAndState generateMergeBlock(final boolean terminalBlockReachesTtd) {
     final UInt256 terminalTotalDifficulty =
         spec.getGenesisSpecConfig().toVersionBellatrix().orElseThrow().getTerminalTotalDifficulty();
     final Bytes32 terminalBlockHash = dataStructureUtil.randomBytes32();
     final Bytes32 terminalBlockParentHash = dataStructureUtil.randomBytes32();
     final PowBlock terminalBlock =
         new PowBlock(
-            terminalBlockHash, terminalBlockParentHash, terminalTotalDifficulty.plus(1), ZERO);
+            terminalBlockHash,
+            terminalBlockParentHash,
+            terminalBlockReachesTtd
+                ? terminalTotalDifficulty.plus(1)
+                : terminalTotalDifficulty.subtract(1),
+            ZERO);
     final PowBlock terminalParentBlock =
         new PowBlock(
             terminalBlockParentHash,
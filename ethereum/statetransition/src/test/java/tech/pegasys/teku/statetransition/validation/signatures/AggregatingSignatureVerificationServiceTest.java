@@ -40,6 +40,7 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.Waiter;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.SignatureTask;
 
@@ -53,10 +54,11 @@ public class AggregatingSignatureVerificationServiceTest {
   private final boolean strictThreadLimitEnabled = true;
   private final StubAsyncRunner completionRunner = new StubAsyncRunner();
 
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
   private AggregatingSignatureVerificationService service =
       new AggregatingSignatureVerificationService(
-          new StubMetricsSystem(),
+          metricsSystem,
           asyncRunnerFactory,
           completionRunner,
           numThreads,
@@ -238,6 +240,46 @@ public class AggregatingSignatureVerificationServiceTest {
     }
   }
 
+  @Test
+  public void verify_singleInvalidSignature_shouldOnlyCheckFailedHalves() {
+    startService();
+
+    final int taskCount = 16;
+    final List<SafeFuture<Boolean>> futures = new ArrayList<>();
+    for (int j = 0; j < taskCount; j++) {
+      futures.add(j == taskCount - 1 ? executeInvalidVerify(j, j) : executeValidVerify(j, j));
+    }
+    runPendingTasks();
+
+    for (int j = 0; j < taskCount; j++) {
+      assertThat(futures.get(j)).isCompletedWithValue(j != taskCount - 1);
+    }
+    // First half of 8 is valid, then first half of the remaining 8 is valid, leaving 4 tasks which
+    // are below the split threshold and checked individually
+    assertThat(getExecutorCounterValue("signature_verifications_bisection_check_count"))
+        .isEqualTo(6);
+    assertThat(getExecutorCounterValue("signature_verifications_batch_failure_count"))
+        .isEqualTo(1);
+    assertThat(getExecutorCounterValue("signature_verifications_invalid_task_count"))
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void verify_taskWithMismatchedListSizes_shouldBeInvalid() {
+    startService();
+
+    final BLSKeyPair keypair = keys.get(0);
+    final SafeFuture<Boolean> invalidFuture =
+        service.verify(
+            List.of(List.of(keypair.getPublicKey())), List.of(Bytes.of(1), Bytes.of(2)), List.of());
+    final SafeFuture<Boolean> validFuture = executeValidVerify(1, 1);
+    runPendingTasks();
+
+    assertThat(invalidFuture).isCompletedWithValue(false);
+    assertThat(validFuture).isCompletedWithValue(true);
+    assertThat(getExecutorCounterValue("signature_verifications_batch_failure_count")).isZero();
+  }
+
   @Test
   public void testRealServiceWithThreads() throws Exception {
     final MetricsSystem metrics = new StubMetricsSystem();
@@ -333,6 +375,10 @@ public class AggregatingSignatureVerificationServiceTest {
     assertThat(split.get(0).size()).isEqualTo(1);
   }
 
+  private long getExecutorCounterValue(final String name) {
+    return metricsSystem.getCounter(TekuMetricCategory.EXECUTOR, name).getValue();
+  }
+
   private void startService() {
     try {
       service.start().get(500, TimeUnit.MILLISECONDS);
@@ -396,6 +396,9 @@ public class BLS {
    * List, Bytes, BLSSignature)} or {@link #prepareBatchVerify2(int, List, Bytes, BLSSignature,
    * List, Bytes, BLSSignature)} or a mix of both
    *
+   * <p>The prepared signatures are not modified, so the same instances may be passed to several
+   * calls, e.g. to find which subset of a failed batch contains the invalid signatures.
+   *
    * @return True if the verification is successful, false otherwise
    */
   public static boolean completeBatchVerify(List<BatchSemiAggregate> preparedSignatures) {
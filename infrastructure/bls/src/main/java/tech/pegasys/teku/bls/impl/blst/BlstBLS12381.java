@@ -160,23 +160,21 @@ public class BlstBLS12381 implements BLS12381 {
     }
 
     try {
-      final BlstSemiAggregate first = (BlstSemiAggregate) preparedList.get(0);
-      if (!first.isValid()) {
-        return false;
-      }
-      Pairing ctx0 = first.getCtx();
-      for (int i = 1; i < preparedList.size(); i++) {
-        final BlstSemiAggregate semiAggregate = (BlstSemiAggregate) preparedList.get(i);
+      // Merge into a fresh context so the prepared aggregates are left untouched and can be
+      // verified again as part of a different subset
+      final Pairing ctx = new Pairing(true, ETH2_DST);
+      for (BatchSemiAggregate batchSemiAggregate : preparedList) {
+        final BlstSemiAggregate semiAggregate = (BlstSemiAggregate) batchSemiAggregate;
         if (!semiAggregate.isValid()) {
           return false;
         }
-        BLST_ERROR ret = ctx0.merge(semiAggregate.getCtx());
+        BLST_ERROR ret = ctx.merge(semiAggregate.getCtx());
         if (ret != BLST_ERROR.BLST_SUCCESS) {
           return false;
         }
       }
 
-      return ctx0.finalverify();
+      return ctx.finalverify();
     } catch (final ClassCastException e) {
       // One of the semi aggregates was invalid and not a BlstSemiAggregate
       return false;
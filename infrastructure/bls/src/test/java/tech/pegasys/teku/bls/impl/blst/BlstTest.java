@@ -90,6 +90,28 @@ public class BlstTest extends AbstractBLS12381Test {
     assertThat(blstRes).isTrue();
   }
 
+  @Test
+  void testBatchVerifyDoesNotModifyPreparedAggregates() {
+    Bytes msg1 = Bytes32.fromHexString("123456");
+    BlstSecretKey blstSK1 = BlstSecretKey.generateNew(RANDOM);
+    BlstSignature blstSignature1 = BlstBLS12381.sign(blstSK1, msg1);
+
+    Bytes msg2 = Bytes32.fromHexString("654321");
+    BlstSecretKey blstSK2 = BlstSecretKey.generateNew(RANDOM);
+    BlstSignature invalidSignature2 = BlstBLS12381.sign(blstSK2, msg1);
+
+    BatchSemiAggregate semiAggregate1 =
+        bls.prepareBatchVerify(0, List.of(blstSK1.derivePublicKey()), msg1, blstSignature1);
+    BatchSemiAggregate semiAggregate2 =
+        bls.prepareBatchVerify(1, List.of(blstSK2.derivePublicKey()), msg2, invalidSignature2);
+
+    assertThat(bls.completeBatchVerify(List.of(semiAggregate1, semiAggregate2))).isFalse();
+    // Each aggregate can still be verified on its own afterwards
+    assertThat(bls.completeBatchVerify(List.of(semiAggregate1))).isTrue();
+    assertThat(bls.completeBatchVerify(List.of(semiAggregate2))).isFalse();
+    assertThat(bls.completeBatchVerify(List.of(semiAggregate1, semiAggregate1))).isTrue();
+  }
+
   @Test
   void succeedsWhenPrepareBatchVerifyNotInG2ThrowsException() {
     Bytes msg = Bytes32.fromHexString("123456");
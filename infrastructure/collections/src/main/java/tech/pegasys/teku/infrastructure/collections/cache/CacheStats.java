@@ -0,0 +1,112 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+/**
+ * Hit, miss and load counters for a named cache. A single instance may be shared by every copy of
+ * a cache so the counters describe all of them together.
+ *
+ * <p>Hits, misses and evictions can also be published by binding metric counters with {@link
+ * #bindCounters(LabelledMetric, LabelledMetric, LabelledMetric)}.
+ */
+public class CacheStats {
+  private static final Counter NO_OP_COUNTER =
+      new Counter() {
+        @Override
+        public void inc() {}
+
+        @Override
+        public void inc(final long amount) {}
+      };
+
+  private final String name;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder loadTimeNanos = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile Counter hitCounter = NO_OP_COUNTER;
+  private volatile Counter missCounter = NO_OP_COUNTER;
+  private volatile Counter evictionCounter = NO_OP_COUNTER;
+
+  public CacheStats(final String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Increments the counters labelled with the name of this cache as hits, misses and evictions are
+   * recorded. Only events recorded after this call are counted.
+   *
+   * @param hitCounter the counter for lookups which found a cached value
+   * @param missCounter the counter for lookups which had to wait for or compute a value
+   * @param evictionCounter the counter for entries evicted to stay within the capacity
+   */
+  public void bindCounters(
+      final LabelledMetric<Counter> hitCounter,
+      final LabelledMetric<Counter> missCounter,
+      final LabelledMetric<Counter> evictionCounter) {
+    this.hitCounter = hitCounter.labels(name);
+    this.missCounter = missCounter.labels(name);
+    this.evictionCounter = evictionCounter.labels(name);
+  }
+
+  void recordHit() {
+    hits.increment();
+    hitCounter.inc();
+  }
+
+  void recordMiss() {
+    misses.increment();
+    missCounter.inc();
+  }
+
+  void recordLoad(final long durationNanos) {
+    loads.increment();
+    loadTimeNanos.add(durationNanos);
+  }
+
+  void recordEviction() {
+    evictions.increment();
+    evictionCounter.inc();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /** Number of times the fallback function was invoked, including ones that threw. */
+  public long getLoadCount() {
+    return loads.sum();
+  }
+
+  public long getTotalLoadTimeNanos() {
+    return loadTimeNanos.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+}
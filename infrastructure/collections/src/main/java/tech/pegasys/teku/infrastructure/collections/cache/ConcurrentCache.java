@@ -0,0 +1,405 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Thread safe cache which, unlike {@link LRUCache}, never runs the fallback function while holding
+ * a lock.
+ *
+ * <p>Lookups of cached values are lock free. Concurrent requests for the same missing key wait for
+ * a single invocation of the fallback function while requests for other keys proceed in parallel.
+ *
+ * <p>Eviction follows W-TinyLFU: new entries are admitted to a small LRU window (1% of capacity,
+ * at least one entry) so the most recently loaded value is always kept. Entries leaving the window
+ * only replace the least recently used entry of the main region if they have been requested more
+ * often according to a {@link FrequencySketch}. Accesses are recorded in a lossy buffer and applied
+ * to the eviction order in batches so readers don't contend on the eviction lock.
+ *
+ * @param <K> Keys type
+ * @param <V> Values type
+ */
+public class ConcurrentCache<K, V> implements Cache<K, V> {
+  private static final int READ_BUFFER_SIZE = 64;
+
+  private final int capacity;
+  private final int windowCapacity;
+  private final int mainCapacity;
+  private final CacheStats stats;
+
+  private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<K, PendingLoad<V>> pendingLoads = new ConcurrentHashMap<>();
+
+  private final AtomicReferenceArray<Node<K, V>> readBuffer =
+      new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+  private final AtomicInteger readBufferWriteCount = new AtomicInteger();
+
+  // Guarded by evictionLock
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final AccessOrder<K, V> window = new AccessOrder<>();
+  private final AccessOrder<K, V> main = new AccessOrder<>();
+  private FrequencySketch sketch;
+
+  private ConcurrentCache(final int capacity, final CacheStats stats) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    this.capacity = capacity;
+    this.windowCapacity = Math.max(1, capacity / 100);
+    this.mainCapacity = capacity - windowCapacity;
+    this.stats = stats;
+  }
+
+  public static <K, V> ConcurrentCache<K, V> create(final int capacity) {
+    return create(capacity, new CacheStats("unnamed"));
+  }
+
+  public static <K, V> ConcurrentCache<K, V> create(final int capacity, final CacheStats stats) {
+    return new ConcurrentCache<>(capacity, stats);
+  }
+
+  public CacheStats getStats() {
+    return stats;
+  }
+
+  @Override
+  public V get(final K key, final Function<K, V> fallback) {
+    final Node<K, V> node = data.get(key);
+    if (node != null) {
+      stats.recordHit();
+      recordAccess(node);
+      return node.value;
+    }
+    return load(key, fallback);
+  }
+
+  private V load(final K key, final Function<K, V> fallback) {
+    final PendingLoad<V> pendingLoad = new PendingLoad<>();
+    final PendingLoad<V> existingLoad = pendingLoads.putIfAbsent(key, pendingLoad);
+    if (existingLoad != null) {
+      stats.recordMiss();
+      if (existingLoad.owner == Thread.currentThread()) {
+        // The fallback for this key is asking for the same key. Waiting would deadlock.
+        return fallback.apply(key);
+      }
+      return existingLoad.join();
+    }
+
+    // A load may have completed between the lookup and registering this one.
+    final Node<K, V> loadedNode = data.get(key);
+    if (loadedNode != null) {
+      pendingLoads.remove(key, pendingLoad);
+      pendingLoad.complete(loadedNode.value);
+      stats.recordHit();
+      recordAccess(loadedNode);
+      return loadedNode.value;
+    }
+
+    stats.recordMiss();
+    final long start = System.nanoTime();
+    final V value;
+    try {
+      value = fallback.apply(key);
+    } catch (final RuntimeException | Error e) {
+      stats.recordLoad(System.nanoTime() - start);
+      pendingLoads.remove(key, pendingLoad);
+      pendingLoad.completeExceptionally(e);
+      throw e;
+    }
+    stats.recordLoad(System.nanoTime() - start);
+
+    // Don't cache the value if the key was invalidated while it was being computed.
+    if (value != null && pendingLoads.remove(key, pendingLoad)) {
+      insert(key, value);
+    } else {
+      pendingLoads.remove(key, pendingLoad);
+    }
+    pendingLoad.complete(value);
+    return value;
+  }
+
+  private void insert(final K key, final V value) {
+    final Node<K, V> node = new Node<>(key, value);
+    final Node<K, V> replaced = data.put(key, node);
+    evictionLock.lock();
+    try {
+      drainReadBuffer();
+      if (replaced != null) {
+        unlink(replaced);
+      }
+      // Skip entries which were invalidated or cleared before we got the lock.
+      if (data.get(key) == node) {
+        window.addLast(node);
+        recordFrequency(node);
+        evictIfRequired();
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private void recordAccess(final Node<K, V> node) {
+    final int index = readBufferWriteCount.getAndIncrement();
+    if (index >= 0 && index < READ_BUFFER_SIZE) {
+      readBuffer.lazySet(index, node);
+    } else if (evictionLock.tryLock()) {
+      // Buffer is full. If someone else is already draining this access is simply dropped.
+      try {
+        drainReadBuffer();
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private void drainReadBuffer() {
+    final int count = Math.min(readBufferWriteCount.get(), READ_BUFFER_SIZE);
+    for (int i = 0; i < count; i++) {
+      final Node<K, V> node = readBuffer.getAndSet(i, null);
+      if (node != null && node.isLinked()) {
+        recordFrequency(node);
+        (node.inMain ? main : window).moveToLast(node);
+      }
+    }
+    readBufferWriteCount.set(0);
+  }
+
+  private void recordFrequency(final Node<K, V> node) {
+    if (sketch == null && data.size() >= capacity / 2) {
+      sketch = FrequencySketch.create(capacity);
+    }
+    if (sketch != null) {
+      sketch.increment(node.key);
+    }
+  }
+
+  private int frequency(final Node<K, V> node) {
+    return sketch == null ? 0 : sketch.frequency(node.key);
+  }
+
+  private void evictIfRequired() {
+    while (window.size > windowCapacity) {
+      final Node<K, V> candidate = window.first;
+      window.remove(candidate);
+      if (main.size < mainCapacity) {
+        candidate.inMain = true;
+        main.addLast(candidate);
+        continue;
+      }
+      final Node<K, V> victim = main.first;
+      if (victim != null && frequency(candidate) > frequency(victim)) {
+        main.remove(victim);
+        evict(victim);
+        candidate.inMain = true;
+        main.addLast(candidate);
+      } else {
+        evict(candidate);
+      }
+    }
+  }
+
+  private void evict(final Node<K, V> node) {
+    data.remove(node.key, node);
+    stats.recordEviction();
+  }
+
+  private void unlink(final Node<K, V> node) {
+    if (node.isLinked()) {
+      (node.inMain ? main : window).remove(node);
+    }
+  }
+
+  @Override
+  public Optional<V> getCached(final K key) {
+    final Node<K, V> node = data.get(key);
+    if (node == null) {
+      return Optional.empty();
+    }
+    recordAccess(node);
+    return Optional.of(node.value);
+  }
+
+  /** Creates an independent copy which shares the {@link CacheStats} of this instance. */
+  @Override
+  public Cache<K, V> copy() {
+    final ConcurrentCache<K, V> copy = new ConcurrentCache<>(capacity, stats);
+    evictionLock.lock();
+    try {
+      drainReadBuffer();
+      copyEntries(window, copy.window, copy);
+      copyEntries(main, copy.main, copy);
+      copy.sketch = sketch == null ? null : sketch.copy();
+    } finally {
+      evictionLock.unlock();
+    }
+    return copy;
+  }
+
+  private void copyEntries(
+      final AccessOrder<K, V> source,
+      final AccessOrder<K, V> target,
+      final ConcurrentCache<K, V> copy) {
+    for (Node<K, V> node = source.first; node != null; node = node.next) {
+      if (data.get(node.key) != node) {
+        continue;
+      }
+      final Node<K, V> newNode = new Node<>(node.key, node.value);
+      newNode.inMain = node.inMain;
+      copy.data.put(node.key, newNode);
+      target.addLast(newNode);
+    }
+  }
+
+  @Override
+  public void invalidate(final K key) {
+    final PendingLoad<V> pendingLoad = pendingLoads.remove(key);
+    final Node<K, V> node = data.remove(key);
+    if (node == null && pendingLoad == null) {
+      return;
+    }
+    evictionLock.lock();
+    try {
+      if (node != null) {
+        unlink(node);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    evictionLock.lock();
+    try {
+      pendingLoads.clear();
+      data.clear();
+      window.clear();
+      main.clear();
+      for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+        readBuffer.set(i, null);
+      }
+      readBufferWriteCount.set(0);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    return data.size();
+  }
+
+  private static class Node<K, V> {
+    private final K key;
+    private final V value;
+
+    // Guarded by evictionLock
+    private Node<K, V> prev;
+    private Node<K, V> next;
+    private boolean inMain;
+    private boolean linked;
+
+    private Node(final K key, final V value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    private boolean isLinked() {
+      return linked;
+    }
+  }
+
+  /** Doubly linked list of nodes from least to most recently used. */
+  private static class AccessOrder<K, V> {
+    private Node<K, V> first;
+    private Node<K, V> last;
+    private int size;
+
+    void addLast(final Node<K, V> node) {
+      node.prev = last;
+      node.next = null;
+      if (last == null) {
+        first = node;
+      } else {
+        last.next = node;
+      }
+      last = node;
+      node.linked = true;
+      size++;
+    }
+
+    void remove(final Node<K, V> node) {
+      if (node.prev == null) {
+        first = node.next;
+      } else {
+        node.prev.next = node.next;
+      }
+      if (node.next == null) {
+        last = node.prev;
+      } else {
+        node.next.prev = node.prev;
+      }
+      node.prev = null;
+      node.next = null;
+      node.linked = false;
+      size--;
+    }
+
+    void moveToLast(final Node<K, V> node) {
+      if (node != last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+
+    void clear() {
+      for (Node<K, V> node = first; node != null; ) {
+        final Node<K, V> next = node.next;
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        node = next;
+      }
+      first = null;
+      last = null;
+      size = 0;
+    }
+  }
+
+  private static class PendingLoad<V> extends CompletableFuture<V> {
+    private final Thread owner = Thread.currentThread();
+
+    @Override
+    public V join() {
+      try {
+        return super.join();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        } else if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw e;
+      }
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import java.util.Arrays;
+
+/**
+ * Approximate, aging access frequency of keys used by {@link ConcurrentCache} to decide whether a
+ * new entry is worth keeping over an existing one (TinyLFU admission).
+ *
+ * <p>A count-min sketch of 4-bit counters, sixteen packed into each long. Each key maps to four
+ * counters and its frequency is the smallest of them. Once the number of increments reaches ten
+ * times the table size all counters are halved so that old popularity fades.
+ *
+ * <p>Not thread safe.
+ */
+class FrequencySketch {
+  private static final long[] SEEDS = {
+    0x97cb3127c4ceb2d5L, 0xb9ee4f8df6d9a6f1L, 0xd5da8a4b3cbf2c45L, 0x9e3779b97f4a7c15L
+  };
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final int MAX_TABLE_SIZE = 1 << 20;
+
+  private final long[] table;
+  private final int sampleSize;
+  private int additions;
+
+  private FrequencySketch(final long[] table, final int additions) {
+    this.table = table;
+    this.sampleSize = table.length * 10;
+    this.additions = additions;
+  }
+
+  static FrequencySketch create(final int capacity) {
+    final int size = Math.max(8, ceilingPowerOfTwo(Math.min(capacity, MAX_TABLE_SIZE)));
+    return new FrequencySketch(new long[size], 0);
+  }
+
+  FrequencySketch copy() {
+    return new FrequencySketch(Arrays.copyOf(table, table.length), additions);
+  }
+
+  int frequency(final Object key) {
+    final int hash = spread(key.hashCode());
+    final int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      final long word = table[indexOf(hash, i)];
+      final int count = (int) ((word >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  void increment(final Object key) {
+    final int hash = spread(key.hashCode());
+    final int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(final int index, final int counter) {
+    final int offset = counter << 2;
+    final long mask = 0xfL << offset;
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  private void reset() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    additions = additions >>> 1;
+  }
+
+  private int indexOf(final int hash, final int i) {
+    long value = (hash + SEEDS[i]) * SEEDS[i];
+    value += value >>> 32;
+    return ((int) value) & (table.length - 1);
+  }
+
+  private static int spread(final int hashCode) {
+    int hash = hashCode * 0x9e3779b9;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  private static int ceilingPowerOfTwo(final int value) {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubCounter;
+
+public class ConcurrentCacheTest {
+
+  private final CacheStats stats = new CacheStats("test");
+  private final ConcurrentCache<Integer, Integer> cache = ConcurrentCache.create(16, stats);
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void get_shouldCreateAnEntryWhenMiss() {
+    assertThat(cache.get(1, __ -> 777)).isEqualTo(777);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(stats.getMissCount()).isEqualTo(1);
+    assertThat(stats.getLoadCount()).isEqualTo(1);
+  }
+
+  @Test
+  void get_shouldReturnExistingEntryWhenHit() {
+    cache.get(1, __ -> 777);
+    assertThat(cache.get(1, __ -> 888)).isEqualTo(777);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(stats.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void get_shouldNotCacheNullValues() {
+    assertThat(cache.get(1, __ -> null)).isNull();
+    assertThat(cache.getCached(1)).isEmpty();
+  }
+
+  @Test
+  void get_shouldComputeValueOnceForConcurrentRequests() throws Exception {
+    final CountDownLatch loadStarted = new CountDownLatch(1);
+    final CountDownLatch finishLoad = new CountDownLatch(1);
+    final AtomicInteger loadCount = new AtomicInteger();
+
+    final CompletableFuture<Integer> first =
+        CompletableFuture.supplyAsync(
+            () ->
+                cache.get(
+                    1,
+                    key -> {
+                      loadCount.incrementAndGet();
+                      loadStarted.countDown();
+                      await(finishLoad);
+                      return 100;
+                    }),
+            executor);
+    assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    final CompletableFuture<Integer> second =
+        CompletableFuture.supplyAsync(
+            () -> cache.get(1, key -> loadCount.incrementAndGet() + 200), executor);
+    Thread.sleep(50);
+    assertThat(second).isNotDone();
+
+    finishLoad.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(100);
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(100);
+    assertThat(loadCount).hasValue(1);
+  }
+
+  @Test
+  void get_shouldNotBlockOtherKeysWhileLoading() throws Exception {
+    final CountDownLatch loadStarted = new CountDownLatch(1);
+    final CountDownLatch finishLoad = new CountDownLatch(1);
+    final CompletableFuture<Integer> slowLoad =
+        CompletableFuture.supplyAsync(
+            () ->
+                cache.get(
+                    1,
+                    key -> {
+                      loadStarted.countDown();
+                      await(finishLoad);
+                      return 100;
+                    }),
+            executor);
+    assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(
+            CompletableFuture.supplyAsync(() -> cache.get(2, key -> 200), executor)
+                .get(5, TimeUnit.SECONDS))
+        .isEqualTo(200);
+    assertThat(slowLoad).isNotDone();
+
+    finishLoad.countDown();
+    assertThat(slowLoad.get(5, TimeUnit.SECONDS)).isEqualTo(100);
+  }
+
+  @Test
+  void get_shouldAllowFallbackToRequestSameKey() {
+    final Integer result = cache.get(1, key -> cache.get(key, __ -> 5) + 1);
+    assertThat(result).isEqualTo(6);
+    assertThat(cache.getCached(1)).contains(6);
+  }
+
+  @Test
+  void get_shouldPropagateFailureAndNotCache() {
+    final RuntimeException error = new IllegalStateException("Nope");
+    assertThatThrownBy(
+            () ->
+                cache.get(
+                    1,
+                    __ -> {
+                      throw error;
+                    }))
+        .isSameAs(error);
+    assertThat(cache.getCached(1)).isEmpty();
+    assertThat(cache.get(1, __ -> 5)).isEqualTo(5);
+  }
+
+  @Test
+  void get_shouldNotCacheValueInvalidatedWhileLoading() {
+    final Integer result =
+        cache.get(
+            1,
+            key -> {
+              cache.invalidate(key);
+              return 100;
+            });
+    assertThat(result).isEqualTo(100);
+    assertThat(cache.getCached(1)).isEmpty();
+  }
+
+  @Test
+  void get_shouldNotExceedCapacity() {
+    IntStream.range(0, 1000).forEach(i -> cache.get(i, key -> key));
+    assertThat(cache.size()).isEqualTo(16);
+    assertThat(stats.getEvictionCount()).isEqualTo(1000 - 16);
+  }
+
+  @Test
+  void get_shouldIncrementBoundCounters() {
+    final StubCounter hits = new StubCounter();
+    final StubCounter misses = new StubCounter();
+    final StubCounter evictions = new StubCounter();
+    stats.bindCounters(hits, misses, evictions);
+
+    IntStream.range(0, 20).forEach(i -> cache.get(i, key -> key));
+    cache.get(19, key -> key);
+
+    assertThat(hits.getValue("test")).isEqualTo(1);
+    assertThat(misses.getValue("test")).isEqualTo(20);
+    assertThat(evictions.getValue("test")).isEqualTo(20 - 16);
+  }
+
+  @Test
+  void get_shouldAlwaysKeepMostRecentlyLoadedValue() {
+    final ConcurrentCache<Integer, Integer> smallCache = ConcurrentCache.create(2);
+    for (int i = 0; i < 10; i++) {
+      smallCache.get(0, key -> key);
+      smallCache.get(0, key -> key);
+      smallCache.get(i + 1, key -> key);
+      assertThat(smallCache.getCached(i + 1)).contains(i + 1);
+    }
+    assertThat(smallCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void get_shouldKeepFrequentlyUsedValuesDuringScan() {
+    final int capacity = 100;
+    final ConcurrentCache<Integer, Integer> largeCache = ConcurrentCache.create(capacity);
+    IntStream.range(0, capacity).forEach(i -> largeCache.get(i, key -> key));
+    for (int round = 0; round < 10; round++) {
+      IntStream.range(0, capacity / 2).forEach(i -> largeCache.get(i, key -> key));
+    }
+
+    IntStream.range(1000, 2000).forEach(i -> largeCache.get(i, key -> key));
+
+    final long retainedHotKeys =
+        IntStream.range(0, capacity / 2).filter(i -> largeCache.getCached(i).isPresent()).count();
+    assertThat(retainedHotKeys).isGreaterThanOrEqualTo(capacity / 2 - 5);
+    assertThat(largeCache.size()).isEqualTo(capacity);
+  }
+
+  @Test
+  void invalidate_shouldRemoveEntry() {
+    cache.get(0, __ -> 100);
+    cache.get(1, __ -> 101);
+    cache.invalidate(0);
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getCached(0)).isEmpty();
+    assertThat(cache.getCached(1)).contains(101);
+  }
+
+  @Test
+  void invalidateWithNewValue_shouldReplaceEntry() {
+    cache.get(0, __ -> 100);
+    cache.invalidateWithNewValue(0, 200);
+    assertThat(cache.getCached(0)).contains(200);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void clear_shouldRemoveAllEntries() {
+    IntStream.range(0, 10).forEach(i -> cache.get(i, key -> key));
+    cache.clear();
+    assertThat(cache.size()).isZero();
+    IntStream.range(0, 100).forEach(i -> cache.get(i, key -> key));
+    assertThat(cache.size()).isEqualTo(16);
+  }
+
+  @Test
+  void copy_shouldCreateIsolatedInstance() {
+    cache.get(0, __ -> 100);
+    cache.get(1, __ -> 101);
+
+    final Cache<Integer, Integer> copy = cache.copy();
+    copy.invalidate(1);
+    copy.get(3, __ -> 103);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getCached(1)).contains(101);
+    assertThat(cache.getCached(3)).isEmpty();
+    assertThat(copy.size()).isEqualTo(2);
+    assertThat(copy.getCached(0)).contains(100);
+    assertThat(copy.getCached(3)).contains(103);
+  }
+
+  @Test
+  void concurrencyTest() throws Exception {
+    final int cacheMaxSize = 256;
+    final ConcurrentCache<Integer, Integer> sharedCache = ConcurrentCache.create(cacheMaxSize);
+    final CompletableFuture<?>[] futures =
+        IntStream.range(0, 4)
+            .mapToObj(
+                thread ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          for (int i = 0; i < 100_000; i++) {
+                            final int key = (i * 31 + thread) % (cacheMaxSize * 2);
+                            assertThat(sharedCache.get(key, k -> k)).isEqualTo(key);
+                            if (i % 97 == 0) {
+                              sharedCache.invalidate(key);
+                            }
+                          }
+                        },
+                        executor))
+            .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
+
+    // Entries are inserted before eviction runs, but once quiet the capacity must be respected.
+    assertThat(sharedCache.size()).isLessThanOrEqualTo(cacheMaxSize);
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -19,18 +19,18 @@ import org.apache.tuweni.bytes.Bytes32;
 
 public class Hash {
   public static Bytes32 sha256(final byte[] input) {
-    return Bytes32.wrap(MessageDigestFactory.createSha256().digest(input));
+    return Bytes32.wrap(Sha256.getThreadLocalDigest().digest(input));
   }
 
   public static Bytes32 sha256(final Bytes input) {
-    final MessageDigest digest = MessageDigestFactory.createSha256();
+    final MessageDigest digest = Sha256.getThreadLocalDigest();
     input.update(digest);
     return Bytes32.wrap(digest.digest());
   }
 
   // Note: Doesn't use varargs to avoid creating a Bytes[] instance.
   public static Bytes32 sha256(final Bytes a, final Bytes b) {
-    final MessageDigest digest = MessageDigestFactory.createSha256();
+    final MessageDigest digest = Sha256.getThreadLocalDigest();
     a.update(digest);
     b.update(digest);
     return Bytes32.wrap(digest.digest());
@@ -38,7 +38,7 @@ public class Hash {
 
   // Note: Doesn't use varargs to avoid creating a Bytes[] instance.
   public static Bytes32 sha256(final Bytes a, final Bytes b, final Bytes c) {
-    final MessageDigest digest = MessageDigestFactory.createSha256();
+    final MessageDigest digest = Sha256.getThreadLocalDigest();
     a.update(digest);
     b.update(digest);
     c.update(digest);
@@ -0,0 +1,92 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * SHA-256 hashing for hot paths which hash many small inputs.
+ *
+ * <p>Each thread reuses a single digest instance rather than creating one per hash, and results are
+ * written into caller provided buffers so no arrays are allocated per hash.
+ */
+public class Sha256 {
+  public static final int DIGEST_SIZE = 32;
+  public static final int BLOCK_INPUT_SIZE = 64;
+
+  private static final ThreadLocal<MessageDigest> DIGEST =
+      ThreadLocal.withInitial(MessageDigestFactory::createSha256);
+
+  private Sha256() {}
+
+  /**
+   * Returns this thread's digest, reset and ready to use.
+   *
+   * <p>The digest must be completed before anything else on the same thread can hash.
+   */
+  static MessageDigest getThreadLocalDigest() {
+    final MessageDigest digest = DIGEST.get();
+    digest.reset();
+    return digest;
+  }
+
+  /**
+   * Hashes {@code length} bytes of {@code input} starting at {@code inputOffset} and writes the 32
+   * byte result to {@code output} starting at {@code outputOffset}.
+   */
+  public static void hash(
+      final byte[] input,
+      final int inputOffset,
+      final int length,
+      final byte[] output,
+      final int outputOffset) {
+    Objects.checkFromIndexSize(inputOffset, length, input.length);
+    Objects.checkFromIndexSize(outputOffset, DIGEST_SIZE, output.length);
+    final MessageDigest digest = getThreadLocalDigest();
+    digest.update(input, inputOffset, length);
+    try {
+      digest.digest(output, outputOffset, DIGEST_SIZE);
+    } catch (final DigestException e) {
+      throw new IllegalStateException("Failed to calculate SHA-256 digest", e);
+    }
+  }
+
+  /**
+   * Hashes {@code count} consecutive 64 byte inputs, such as pairs of merkle tree nodes, writing
+   * the 32 byte results consecutively to {@code output}.
+   *
+   * <p>Inputs are currently hashed one after the other. Callers hashing many inputs should still
+   * prefer this method so that a multi-buffer or native implementation can be used without
+   * changing them.
+   */
+  public static void hash64ByteBlocks(
+      final byte[] input,
+      final int inputOffset,
+      final byte[] output,
+      final int outputOffset,
+      final int count) {
+    Objects.checkFromIndexSize(inputOffset, count * BLOCK_INPUT_SIZE, input.length);
+    Objects.checkFromIndexSize(outputOffset, count * DIGEST_SIZE, output.length);
+    for (int i = 0; i < count; i++) {
+      hash(
+          input,
+          inputOffset + i * BLOCK_INPUT_SIZE,
+          BLOCK_INPUT_SIZE,
+          output,
+          outputOffset + i * DIGEST_SIZE);
+    }
+  }
+}
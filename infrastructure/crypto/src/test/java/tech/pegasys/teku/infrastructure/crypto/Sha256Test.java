@@ -0,0 +1,92 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+class Sha256Test {
+  private final Random random = new Random(42);
+
+  @Test
+  void hash_shouldMatchMessageDigest() {
+    final byte[] input = randomBytes(100);
+    final byte[] output = new byte[40];
+
+    Sha256.hash(input, 10, 33, output, 5);
+
+    final byte[] expected =
+        MessageDigestFactory.createSha256().digest(Arrays.copyOfRange(input, 10, 43));
+    assertThat(Arrays.copyOfRange(output, 5, 37)).isEqualTo(expected);
+    assertThat(Arrays.copyOfRange(output, 0, 5)).containsOnly(0);
+    assertThat(Arrays.copyOfRange(output, 37, 40)).containsOnly(0);
+  }
+
+  @Test
+  void hash_shouldNotBeAffectedByPreviousHashes() {
+    final byte[] input = randomBytes(64);
+    final byte[] first = new byte[Sha256.DIGEST_SIZE];
+    final byte[] second = new byte[Sha256.DIGEST_SIZE];
+
+    Sha256.hash(input, 0, input.length, first, 0);
+    Hash.sha256(Bytes.wrap(randomBytes(20)), Bytes.wrap(randomBytes(40)));
+    Sha256.hash(input, 0, input.length, second, 0);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(Hash.sha256(input).toArrayUnsafe()).isEqualTo(first);
+  }
+
+  @Test
+  void hash_shouldRejectOutputBufferTooSmall() {
+    final byte[] input = randomBytes(64);
+    assertThatThrownBy(() -> Sha256.hash(input, 0, input.length, new byte[40], 10))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void hash64ByteBlocks_shouldHashEachBlock() {
+    final int count = 5;
+    final byte[] input = randomBytes(3 + count * Sha256.BLOCK_INPUT_SIZE);
+    final byte[] output = new byte[count * Sha256.DIGEST_SIZE];
+
+    Sha256.hash64ByteBlocks(input, 3, output, 0, count);
+
+    for (int i = 0; i < count; i++) {
+      final int inputStart = 3 + i * Sha256.BLOCK_INPUT_SIZE;
+      final byte[] expected =
+          Hash.sha256(Arrays.copyOfRange(input, inputStart, inputStart + Sha256.BLOCK_INPUT_SIZE))
+              .toArrayUnsafe();
+      assertThat(Arrays.copyOfRange(output, i * Sha256.DIGEST_SIZE, (i + 1) * Sha256.DIGEST_SIZE))
+          .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void hash64ByteBlocks_shouldRejectInputTooSmall() {
+    assertThatThrownBy(
+            () -> Sha256.hash64ByteBlocks(new byte[127], 0, new byte[2 * Sha256.DIGEST_SIZE], 0, 2))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  private byte[] randomBytes(final int length) {
+    final byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -63,14 +63,7 @@ class EventChannel<T> {
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem) {
     return createAsync(
-        channelInterface,
-        Executors.newCachedThreadPool(
-            new ThreadFactoryBuilder()
-                .setDaemon(true)
-                .setNameFormat(channelInterface.getSimpleName() + "-%d")
-                .build()),
-        exceptionHandler,
-        metricsSystem);
+        channelInterface, createExecutor(channelInterface), exceptionHandler, metricsSystem);
   }
 
   static <T> EventChannel<T> createAsync(
@@ -93,6 +86,34 @@ class EventChannel<T> {
         channelInterface, new AsyncEventDeliverer<>(executor, exceptionHandler, metricsSystem));
   }
 
+  static <T> EventChannel<T> createRingBuffer(
+      final Class<T> channelInterface,
+      final int capacity,
+      final OverflowPolicy overflowPolicy,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem,
+      final RingBufferEventMetrics ringBufferMetrics) {
+    checkArgument(channelInterface.isInterface(), "Must provide an interface for the channel");
+    return create(
+        channelInterface,
+        new RingBufferEventDeliverer<>(
+            channelInterface,
+            createExecutor(channelInterface),
+            capacity,
+            overflowPolicy,
+            exceptionHandler,
+            metricsSystem,
+            ringBufferMetrics));
+  }
+
+  private static ExecutorService createExecutor(final Class<?> channelInterface) {
+    return Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat(channelInterface.getSimpleName() + "-%d")
+            .build());
+  }
+
   private static <T> EventChannel<T> create(
       final Class<T> channelInterface, final EventDeliverer<T> eventDeliverer) {
     checkArgument(channelInterface.isInterface(), "Must provide an interface for the channel");
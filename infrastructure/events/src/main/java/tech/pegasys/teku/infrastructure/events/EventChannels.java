@@ -13,9 +13,14 @@
 
 package tech.pegasys.teku.infrastructure.events;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -23,13 +28,16 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 public class EventChannels {
 
   private final ConcurrentMap<Class<?>, EventChannel<?>> channels = new ConcurrentHashMap<>();
+  private final Map<Class<?>, RingBufferOptions> ringBufferChannels = new ConcurrentHashMap<>();
   private final Function<Class<?>, EventChannel<?>> eventChannelFactory;
+  private final BiFunction<Class<?>, RingBufferOptions, EventChannel<?>> ringBufferChannelFactory;
 
   public EventChannels(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
     this(
         channelInterface ->
-            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem));
+            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem),
+        createRingBufferChannelFactory(exceptionHandler, metricsSystem));
   }
 
   public static EventChannels createSyncChannels(
@@ -39,7 +47,58 @@ public class EventChannels {
   }
 
   EventChannels(final Function<Class<?>, EventChannel<?>> eventChannelFactory) {
+    // Channels opted in to ring buffers still use this factory so sync channels stay synchronous
+    this(
+        eventChannelFactory,
+        (channelInterface, options) -> eventChannelFactory.apply(channelInterface));
+  }
+
+  EventChannels(
+      final Function<Class<?>, EventChannel<?>> eventChannelFactory,
+      final BiFunction<Class<?>, RingBufferOptions, EventChannel<?>> ringBufferChannelFactory) {
     this.eventChannelFactory = eventChannelFactory;
+    this.ringBufferChannelFactory = ringBufferChannelFactory;
+  }
+
+  private static BiFunction<Class<?>, RingBufferOptions, EventChannel<?>>
+      createRingBufferChannelFactory(
+          final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
+    final RingBufferEventMetrics ringBufferMetrics = new RingBufferEventMetrics(metricsSystem);
+    return (channelInterface, options) ->
+        EventChannel.createRingBuffer(
+            channelInterface,
+            options.getCapacity(),
+            options.getOverflowPolicy(),
+            exceptionHandler,
+            metricsSystem,
+            ringBufferMetrics);
+  }
+
+  /**
+   * Delivers the events of a channel to each subscriber via a lock-free ring buffer, invoking
+   * subscribers through method handles rather than reflection. Channels which aren't opted in use
+   * a blocking queue of fixed capacity per subscriber.
+   *
+   * <p>Must be called before any publisher or subscriber is created for the channel. Has no effect
+   * if this instance was created with {@link #createSyncChannels(ChannelExceptionHandler,
+   * MetricsSystem)}.
+   *
+   * @param channelInterface the interface defining the channel
+   * @param capacity the capacity of each subscriber's queue, rounded up to a power of two
+   * @param overflowPolicy what to do with events published when a subscriber's queue is full
+   * @return this instance
+   */
+  public EventChannels useRingBuffer(
+      final Class<? extends ChannelInterface> channelInterface,
+      final int capacity,
+      final OverflowPolicy overflowPolicy) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    checkState(
+        !channels.containsKey(channelInterface),
+        "Channel %s has already been created",
+        channelInterface.getSimpleName());
+    ringBufferChannels.put(channelInterface, new RingBufferOptions(capacity, overflowPolicy));
+    return this;
   }
 
   /**
@@ -104,10 +163,35 @@ public class EventChannels {
 
   @SuppressWarnings("unchecked")
   private <T extends ChannelInterface> EventChannel<T> getChannel(final Class<T> channelInterface) {
-    return (EventChannel<T>) channels.computeIfAbsent(channelInterface, eventChannelFactory);
+    return (EventChannel<T>) channels.computeIfAbsent(channelInterface, this::createChannel);
+  }
+
+  private EventChannel<?> createChannel(final Class<?> channelInterface) {
+    final RingBufferOptions options = ringBufferChannels.get(channelInterface);
+    return options != null
+        ? ringBufferChannelFactory.apply(channelInterface, options)
+        : eventChannelFactory.apply(channelInterface);
   }
 
   public void stop() {
     channels.values().forEach(EventChannel::stop);
   }
+
+  static class RingBufferOptions {
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+
+    RingBufferOptions(final int capacity, final OverflowPolicy overflowPolicy) {
+      this.capacity = capacity;
+      this.overflowPolicy = overflowPolicy;
+    }
+
+    int getCapacity() {
+      return capacity;
+    }
+
+    OverflowPolicy getOverflowPolicy() {
+      return overflowPolicy;
+    }
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Invokes the methods of a channel interface on subscribers using method handles created once for
+ * the channel, rather than {@link Method#invoke} which checks access and unpacks the arguments on
+ * every call.
+ */
+class MethodHandleDispatcher {
+  private static final MethodType DISPATCH_TYPE =
+      MethodType.methodType(Object.class, Object.class, Object[].class);
+
+  private final Map<Method, MethodHandle> handles;
+
+  private MethodHandleDispatcher(final Map<Method, MethodHandle> handles) {
+    this.handles = handles;
+  }
+
+  static MethodHandleDispatcher create(final Class<?> channelInterface) {
+    final Map<Method, MethodHandle> handles = new HashMap<>();
+    Stream.of(channelInterface.getMethods())
+        .filter(method -> !Modifier.isStatic(method.getModifiers()))
+        .forEach(method -> handles.put(method, createHandle(method)));
+    return new MethodHandleDispatcher(Map.copyOf(handles));
+  }
+
+  private static MethodHandle createHandle(final Method method) {
+    // Channel interfaces may not be public, in which case Method.invoke would also need access
+    method.trySetAccessible();
+    try {
+      return MethodHandles.lookup()
+          .unreflect(method)
+          .asSpreader(Object[].class, method.getParameterCount())
+          .asType(DISPATCH_TYPE);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalArgumentException("Unable to access channel method " + method, e);
+    }
+  }
+
+  /**
+   * Invokes a channel method on a subscriber.
+   *
+   * @param method the channel method to invoke
+   * @param subscriber the subscriber to invoke it on
+   * @param args the arguments, which may be null if the method has no parameters
+   * @return the value returned by the method, or null if it returns void
+   * @throws Throwable anything thrown by the subscriber, without being wrapped
+   */
+  Object invoke(final Method method, final Object subscriber, final Object[] args)
+      throws Throwable {
+    final MethodHandle handle = handles.get(method);
+    if (handle == null) {
+      throw new IllegalArgumentException("Method " + method + " is not part of the channel");
+    }
+    return (Object) handle.invokeExact(subscriber, args);
+  }
+}
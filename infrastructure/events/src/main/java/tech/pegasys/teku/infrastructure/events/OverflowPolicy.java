@@ -0,0 +1,25 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+/** What a ring buffer event channel does when a subscriber's queue is full. */
+public enum OverflowPolicy {
+  /** The publisher waits until the subscriber has made space for the event. */
+  BLOCK,
+  /**
+   * The event is discarded for that subscriber. Any future returned for the event is completed
+   * exceptionally with a {@link java.util.concurrent.RejectedExecutionException}.
+   */
+  DROP
+}
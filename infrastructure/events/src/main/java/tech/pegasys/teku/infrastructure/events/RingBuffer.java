@@ -0,0 +1,117 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue backed by an array, safe for any number of producers and consumers.
+ *
+ * <p>Each slot has a sequence number recording which lap of the buffer it is ready for, so
+ * producers and consumers only contend on the counter for their end of the queue and never on a
+ * lock. The capacity is rounded up to the next power of two, and is at least two.
+ */
+class RingBuffer<E> {
+  private final int mask;
+  private final AtomicLongArray sequences;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  RingBuffer(final int requestedCapacity) {
+    checkArgument(
+        requestedCapacity > 0 && requestedCapacity <= 1 << 30,
+        "Capacity must be between 1 and 2^30");
+    final int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+    // A single slot can't distinguish a full queue from an empty one
+    this.mask = Math.max(2, capacity) - 1;
+    this.sequences = new AtomicLongArray(mask + 1);
+    this.elements = new AtomicReferenceArray<>(mask + 1);
+    for (int i = 0; i <= mask; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Adds an element to the tail of the queue if there is space.
+   *
+   * @param element the element to add
+   * @return true if the element was added, false if the queue is full
+   */
+  boolean offer(final E element) {
+    long position = tail.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long sequence = sequences.get(index);
+      if (sequence == position) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.set(index, element);
+          // Publishes the element to consumers
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (sequence < position) {
+        // The slot still holds the element from the previous lap
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the element at the head of the queue.
+   *
+   * @return the element or null if the queue is empty
+   */
+  E poll() {
+    long position = head.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long sequence = sequences.get(index);
+      if (sequence == position + 1) {
+        if (head.compareAndSet(position, position + 1)) {
+          final E element = elements.get(index);
+          elements.set(index, null);
+          // Releases the slot to producers on the next lap
+          sequences.set(index, position + mask + 1);
+          return element;
+        }
+        position = head.get();
+      } else if (sequence < position + 1) {
+        return null;
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  int size() {
+    final long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.synchronizedMap;
+
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/**
+ * Delivers events to each subscriber via its own lock-free {@link RingBuffer}, invoking the
+ * subscriber through a {@link MethodHandleDispatcher}.
+ *
+ * <p>Publishers never take a lock. When a queue is full the {@link OverflowPolicy} decides whether
+ * the publisher backs off until there is space or the event is dropped. Subscriber threads park
+ * while their queue is empty and are woken by the next publish.
+ */
+class RingBufferEventDeliverer<T> extends EventDeliverer<T> {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final long BLOCKED_PUBLISHER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final Map<T, SubscriberQueue> queuesBySubscriber =
+      synchronizedMap(new IdentityHashMap<>());
+  private final List<SubscriberQueue> queues = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  private final String channelName;
+  private final MethodHandleDispatcher dispatcher;
+  private final ExecutorService executor;
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+  private final ChannelExceptionHandler exceptionHandler;
+  private final RingBufferEventMetrics ringBufferMetrics;
+
+  RingBufferEventDeliverer(
+      final Class<T> channelInterface,
+      final ExecutorService executor,
+      final int capacity,
+      final OverflowPolicy overflowPolicy,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem,
+      final RingBufferEventMetrics ringBufferMetrics) {
+    super(metricsSystem);
+    this.channelName = channelInterface.getSimpleName();
+    this.dispatcher = MethodHandleDispatcher.create(channelInterface);
+    this.executor = executor;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.exceptionHandler = exceptionHandler;
+    this.ringBufferMetrics = ringBufferMetrics;
+    ringBufferMetrics.registerQueueSize(channelName, this::getQueueSize);
+  }
+
+  @Override
+  void subscribe(final T subscriber, final int numberOfThreads) {
+    final SubscriberQueue queue = new SubscriberQueue(subscriber);
+    queuesBySubscriber.put(subscriber, queue);
+    queues.add(queue);
+    super.subscribe(subscriber, numberOfThreads);
+    for (int i = 0; i < numberOfThreads; i++) {
+      executor.execute(queue::readEvents);
+    }
+  }
+
+  @Override
+  protected void deliverTo(final T subscriber, final Method method, final Object[] args) {
+    enqueue(subscriber, new QueuedEvent(method, args, null, null));
+  }
+
+  @Override
+  protected <X> SafeFuture<X> deliverToWithResponse(
+      final T subscriber,
+      final Method method,
+      final Object[] args,
+      final AsyncRunner responseRunner) {
+    final SafeFuture<X> result = new SafeFuture<>();
+    enqueue(subscriber, new QueuedEvent(method, args, result, responseRunner));
+    return result;
+  }
+
+  int getQueueSize() {
+    return queues.stream().mapToInt(queue -> queue.buffer.size()).sum();
+  }
+
+  @Override
+  public void stop() {
+    stopped.set(true);
+    executor.shutdownNow();
+  }
+
+  private void enqueue(final T subscriber, final QueuedEvent event) {
+    final SubscriberQueue queue = checkNotNull(queuesBySubscriber.get(subscriber));
+    if (queue.offer(event) || stopped.get()) {
+      return;
+    }
+    LOG.debug("Dropping event {} for {} as its queue is full", event.method.getName(), queue);
+    ringBufferMetrics.onEventDropped(channelName, event.method.getName());
+    if (event.result != null) {
+      SafeFuture.failedFuture(
+              new RejectedExecutionException("Event queue for " + channelName + " is full"))
+          .propagateToAsync(event.getResult(), event.responseRunner);
+    }
+  }
+
+  private void deliver(final T subscriber, final QueuedEvent event) {
+    Object response;
+    try {
+      response = dispatcher.invoke(event.method, subscriber, event.args);
+    } catch (final Throwable t) {
+      response = SafeFuture.failedFuture(t);
+    }
+    ringBufferMetrics.onEventDelivered(
+        channelName, event.method.getName(), System.nanoTime() - event.publishedNanos);
+    if (event.result != null) {
+      asFuture(response).propagateToAsync(event.getResult(), event.responseRunner);
+    } else if (response != null) {
+      // Void methods return null unless they failed
+      asFuture(response)
+          .finish(
+              () -> {},
+              error ->
+                  exceptionHandler.handleException(error, subscriber, event.method, event.args));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static SafeFuture<Object> asFuture(final Object response) {
+    return (SafeFuture<Object>) response;
+  }
+
+  private static class QueuedEvent {
+    private final Method method;
+    private final Object[] args;
+    private final SafeFuture<?> result;
+    private final AsyncRunner responseRunner;
+    private final long publishedNanos = System.nanoTime();
+
+    private QueuedEvent(
+        final Method method,
+        final Object[] args,
+        final SafeFuture<?> result,
+        final AsyncRunner responseRunner) {
+      this.method = method;
+      this.args = args;
+      this.result = result;
+      this.responseRunner = responseRunner;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SafeFuture<Object> getResult() {
+      return (SafeFuture<Object>) result;
+    }
+  }
+
+  private class SubscriberQueue {
+    private final T subscriber;
+    private final RingBuffer<QueuedEvent> buffer = new RingBuffer<>(capacity);
+    private final Queue<Thread> idleReaders = new ConcurrentLinkedQueue<>();
+
+    private SubscriberQueue(final T subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    private boolean offer(final QueuedEvent event) {
+      while (!buffer.offer(event)) {
+        if (overflowPolicy == OverflowPolicy.DROP || stopped.get()) {
+          return false;
+        }
+        LockSupport.parkNanos(BLOCKED_PUBLISHER_PARK_NANOS);
+      }
+      final Thread idleReader = idleReaders.poll();
+      if (idleReader != null) {
+        LockSupport.unpark(idleReader);
+      }
+      return true;
+    }
+
+    private void readEvents() {
+      final Thread thread = Thread.currentThread();
+      while (!stopped.get()) {
+        final QueuedEvent event = buffer.poll();
+        if (event != null) {
+          deliver(subscriber, event);
+          continue;
+        }
+        idleReaders.add(thread);
+        // Publishers add the event before checking for idle readers, so checking the queue after
+        // registering as idle ensures an event published in between isn't missed
+        if (buffer.isEmpty() && !stopped.get()) {
+          LockSupport.park(this);
+        }
+        idleReaders.remove(thread);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return subscriber.getClass().getSimpleName();
+    }
+  }
+}
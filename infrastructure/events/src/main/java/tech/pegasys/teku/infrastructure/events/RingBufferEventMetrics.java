@@ -0,0 +1,67 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTBUS;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+
+/** Metrics shared by all ring buffer event channels created by one {@link EventChannels}. */
+class RingBufferEventMetrics {
+  private final LabelledGauge queueSizeGauge;
+  private final LabelledMetric<Counter> droppedEventCounter;
+  private final MetricsHistogram deliveryLatency;
+
+  RingBufferEventMetrics(final MetricsSystem metricsSystem) {
+    queueSizeGauge =
+        metricsSystem.createLabelledGauge(
+            EVENTBUS,
+            "event_queue_size",
+            "Number of events waiting to be delivered across all subscribers of a channel",
+            "channel");
+    droppedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_dropped_count",
+            "Number of events discarded because a subscriber's queue was full",
+            "channel",
+            "method");
+    deliveryLatency =
+        MetricsHistogram.create(
+            EVENTBUS,
+            metricsSystem,
+            "event_delivery_latency",
+            "Time in microseconds from publishing an event until a subscriber has handled it",
+            3,
+            List.of("channel", "method"));
+  }
+
+  void registerQueueSize(final String channel, final IntSupplier queueSize) {
+    queueSizeGauge.labels(queueSize::getAsInt, channel);
+  }
+
+  void onEventDropped(final String channel, final String method) {
+    droppedEventCounter.labels(channel, method).inc();
+  }
+
+  void onEventDelivered(final String channel, final String method, final long latencyNanos) {
+    deliveryLatency.recordValue(latencyNanos / 1000, channel, method);
+  }
+}
@@ -13,7 +13,9 @@
 
 package tech.pegasys.teku.infrastructure.events;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -83,6 +85,45 @@ class EventChannelsTest {
     verifyNoMoreInteractions(runnableSubscriber);
   }
 
+  @Test
+  public void shouldDeliverEventsViaRingBufferWhenOptedIn() {
+    final EventChannels asyncChannels =
+        new EventChannels(ChannelExceptionHandler.THROWING_HANDLER, new NoOpMetricsSystem())
+            .useRingBuffer(SimpleChannel.class, 16, OverflowPolicy.BLOCK);
+    try {
+      final SimpleChannel subscriber = mock(SimpleChannel.class);
+      asyncChannels.subscribe(SimpleChannel.class, subscriber);
+
+      asyncChannels.getPublisher(SimpleChannel.class).run();
+
+      verify(subscriber, timeout(5000)).run();
+    } finally {
+      asyncChannels.stop();
+    }
+  }
+
+  @Test
+  public void shouldIgnoreRingBufferForSyncChannels() {
+    final EventChannels syncChannels =
+        EventChannels.createSyncChannels(
+                ChannelExceptionHandler.THROWING_HANDLER, new NoOpMetricsSystem())
+            .useRingBuffer(SimpleChannel.class, 16, OverflowPolicy.BLOCK);
+    final SimpleChannel subscriber = mock(SimpleChannel.class);
+    syncChannels.subscribe(SimpleChannel.class, subscriber);
+
+    syncChannels.getPublisher(SimpleChannel.class).run();
+
+    verify(subscriber).run();
+  }
+
+  @Test
+  public void shouldNotAllowRingBufferToBeEnabledAfterChannelIsCreated() {
+    channels.getPublisher(SimpleChannel.class);
+
+    assertThatThrownBy(() -> channels.useRingBuffer(SimpleChannel.class, 16, OverflowPolicy.BLOCK))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
   private interface SimpleConsumer extends VoidReturningChannelInterface {
     void accept(int value);
   }
@@ -0,0 +1,225 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.Waiter;
+
+class RingBufferEventDelivererTest {
+  private static final long TIMEOUT_MILLIS = 5000;
+
+  private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private final ChannelExceptionHandler exceptionHandler = mock(ChannelExceptionHandler.class);
+  private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+  private final CountDownLatch firstEventStarted = new CountDownLatch(1);
+  private final CountDownLatch releaseFirstEvent = new CountDownLatch(1);
+
+  private EventChannel<?> channel;
+
+  @AfterEach
+  void tearDown() {
+    releaseFirstEvent.countDown();
+    if (channel != null) {
+      channel.stop();
+    }
+  }
+
+  @Test
+  void shouldDeliverEventsInOrder() throws Exception {
+    final RecordingChannel publisher = createChannel(16, OverflowPolicy.BLOCK);
+    releaseFirstEvent.countDown();
+
+    for (int i = 0; i < 100; i++) {
+      publisher.onEvent("Event" + i);
+    }
+
+    waitForReceivedCount(100);
+    for (int i = 0; i < 100; i++) {
+      assertThat(received.get(i)).isEqualTo("Event" + i);
+    }
+  }
+
+  @Test
+  void shouldPassFailuresToExceptionHandler() throws Exception {
+    final EventChannel<RecordingChannel> channel =
+        EventChannel.createRingBuffer(
+            RecordingChannel.class,
+            16,
+            OverflowPolicy.BLOCK,
+            exceptionHandler,
+            metricsSystem,
+            new RingBufferEventMetrics(metricsSystem));
+    this.channel = channel;
+    final IllegalStateException error = new IllegalStateException("Nope");
+    channel.subscribe(
+        event -> {
+          throw error;
+        });
+
+    channel.getPublisher(Optional.empty()).onEvent("Event");
+
+    verify(exceptionHandler, timeout(TIMEOUT_MILLIS))
+        .handleException(
+            eq(error),
+            any(),
+            eq(RecordingChannel.class.getMethod("onEvent", String.class)),
+            eq(new Object[] {"Event"}));
+  }
+
+  @Test
+  void shouldCompleteFuturesViaResponseRunner() throws Exception {
+    final EventChannel<WithFuture> channel = createFutureChannel(16, OverflowPolicy.BLOCK);
+    channel.subscribe(value -> SafeFuture.completedFuture(value + "!"));
+
+    final SafeFuture<String> result = channel.getPublisher(Optional.of(SYNC_RUNNER)).get("Yay");
+
+    assertThat(Waiter.waitFor(result)).isEqualTo("Yay!");
+  }
+
+  @Test
+  void shouldDropEventsWhenQueueIsFullWithDropPolicy() throws Exception {
+    final RecordingChannel publisher = createChannel(2, OverflowPolicy.DROP);
+
+    publisher.onEvent("Event1");
+    assertThat(firstEventStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+    // Fill the queue while the subscriber is busy
+    publisher.onEvent("Event2");
+    publisher.onEvent("Event3");
+    publisher.onEvent("Event4");
+    releaseFirstEvent.countDown();
+    waitForReceivedCount(3);
+    publisher.onEvent("Event5");
+
+    waitForReceivedCount(4);
+    assertThat(received).containsExactly("Event1", "Event2", "Event3", "Event5");
+  }
+
+  @Test
+  void shouldFailFuturesForDroppedEvents() throws Exception {
+    final EventChannel<WithFuture> channel = createFutureChannel(2, OverflowPolicy.DROP);
+    channel.subscribe(
+        value -> {
+          waitForReleaseOfFirstEvent();
+          return SafeFuture.completedFuture(value);
+        });
+    final WithFuture publisher = channel.getPublisher(Optional.of(SYNC_RUNNER));
+
+    final SafeFuture<String> result1 = publisher.get("Event1");
+    assertThat(firstEventStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+    final SafeFuture<String> result2 = publisher.get("Event2");
+    final SafeFuture<String> result3 = publisher.get("Event3");
+    final SafeFuture<String> result4 = publisher.get("Event4");
+
+    assertThatSafeFuture(result4).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    releaseFirstEvent.countDown();
+    assertThat(Waiter.waitFor(result1)).isEqualTo("Event1");
+    assertThat(Waiter.waitFor(result2)).isEqualTo("Event2");
+    assertThat(Waiter.waitFor(result3)).isEqualTo("Event3");
+  }
+
+  @Test
+  void shouldBlockPublisherUntilSpaceIsAvailableWithBlockPolicy() throws Exception {
+    final RecordingChannel publisher = createChannel(2, OverflowPolicy.BLOCK);
+    publisher.onEvent("Event1");
+    assertThat(firstEventStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+    publisher.onEvent("Event2");
+    publisher.onEvent("Event3");
+
+    final Thread blockedPublisher = new Thread(() -> publisher.onEvent("Event4"));
+    blockedPublisher.start();
+    blockedPublisher.join(100);
+    assertThat(blockedPublisher.isAlive()).isTrue();
+
+    releaseFirstEvent.countDown();
+    blockedPublisher.join(TIMEOUT_MILLIS);
+    assertThat(blockedPublisher.isAlive()).isFalse();
+    waitForReceivedCount(4);
+    assertThat(received).containsExactly("Event1", "Event2", "Event3", "Event4");
+  }
+
+  private RecordingChannel createChannel(final int capacity, final OverflowPolicy overflowPolicy) {
+    final EventChannel<RecordingChannel> channel =
+        EventChannel.createRingBuffer(
+            RecordingChannel.class,
+            capacity,
+            overflowPolicy,
+            exceptionHandler,
+            metricsSystem,
+            new RingBufferEventMetrics(metricsSystem));
+    this.channel = channel;
+    channel.subscribe(
+        event -> {
+          waitForReleaseOfFirstEvent();
+          received.add(event);
+        });
+    return channel.getPublisher(Optional.empty());
+  }
+
+  private void waitForReleaseOfFirstEvent() {
+    if (firstEventStarted.getCount() > 0) {
+      firstEventStarted.countDown();
+      try {
+        releaseFirstEvent.await();
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  private EventChannel<WithFuture> createFutureChannel(
+      final int capacity, final OverflowPolicy overflowPolicy) {
+    final EventChannel<WithFuture> channel =
+        EventChannel.createRingBuffer(
+            WithFuture.class,
+            capacity,
+            overflowPolicy,
+            exceptionHandler,
+            metricsSystem,
+            new RingBufferEventMetrics(metricsSystem));
+    this.channel = channel;
+    return channel;
+  }
+
+  private void waitForReceivedCount(final int count) {
+    Waiter.waitFor(() -> assertThat(received).hasSizeGreaterThanOrEqualTo(count));
+  }
+
+  private interface RecordingChannel extends VoidReturningChannelInterface {
+    void onEvent(String event);
+  }
+
+  private interface WithFuture extends ChannelInterface {
+    SafeFuture<String> get(String value);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RingBufferTest {
+
+  @ParameterizedTest
+  @CsvSource({"1, 2", "2, 2", "3, 4", "4, 4", "500, 512", "1024, 1024"})
+  void shouldRoundCapacityUpToPowerOfTwo(final int requestedCapacity, final int capacity) {
+    assertThat(new RingBuffer<>(requestedCapacity).capacity()).isEqualTo(capacity);
+  }
+
+  @Test
+  void shouldRejectInvalidCapacity() {
+    assertThatThrownBy(() -> new RingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldReturnElementsInOrder() {
+    final RingBuffer<Integer> buffer = new RingBuffer<>(4);
+    assertThat(buffer.poll()).isNull();
+    assertThat(buffer.isEmpty()).isTrue();
+
+    assertThat(buffer.offer(1)).isTrue();
+    assertThat(buffer.offer(2)).isTrue();
+    assertThat(buffer.offer(3)).isTrue();
+
+    assertThat(buffer.size()).isEqualTo(3);
+    assertThat(buffer.poll()).isEqualTo(1);
+    assertThat(buffer.poll()).isEqualTo(2);
+    assertThat(buffer.poll()).isEqualTo(3);
+    assertThat(buffer.poll()).isNull();
+  }
+
+  @Test
+  void shouldRejectElementsWhenFull() {
+    final RingBuffer<Integer> buffer = new RingBuffer<>(2);
+    assertThat(buffer.offer(1)).isTrue();
+    assertThat(buffer.offer(2)).isTrue();
+
+    assertThat(buffer.offer(3)).isFalse();
+    assertThat(buffer.size()).isEqualTo(2);
+
+    assertThat(buffer.poll()).isEqualTo(1);
+    assertThat(buffer.offer(3)).isTrue();
+    assertThat(buffer.poll()).isEqualTo(2);
+    assertThat(buffer.poll()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldReuseSlotsOverManyLaps() {
+    final RingBuffer<Integer> buffer = new RingBuffer<>(4);
+    for (int i = 0; i < 100; i++) {
+      assertThat(buffer.offer(i)).isTrue();
+      assertThat(buffer.offer(i + 1000)).isTrue();
+      assertThat(buffer.poll()).isEqualTo(i);
+      assertThat(buffer.poll()).isEqualTo(i + 1000);
+    }
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldDeliverEachElementOnceWithConcurrentProducersAndConsumers() throws Exception {
+    final int producerCount = 4;
+    final int elementsPerProducer = 10_000;
+    final int totalElements = producerCount * elementsPerProducer;
+    final RingBuffer<Integer> buffer = new RingBuffer<>(64);
+    final AtomicIntegerArray received = new AtomicIntegerArray(totalElements);
+    final AtomicLong receivedCount = new AtomicLong();
+    final ExecutorService executor = Executors.newFixedThreadPool(producerCount + 2);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int producer = 0; producer < producerCount; producer++) {
+        final int firstElement = producer * elementsPerProducer;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = firstElement; i < firstElement + elementsPerProducer; i++) {
+                    while (!buffer.offer(i)) {
+                      Thread.onSpinWait();
+                    }
+                  }
+                }));
+      }
+      for (int consumer = 0; consumer < 2; consumer++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  while (receivedCount.get() < totalElements) {
+                    final Integer element = buffer.poll();
+                    if (element != null) {
+                      received.incrementAndGet(element);
+                      receivedCount.incrementAndGet();
+                    }
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int i = 0; i < totalElements; i++) {
+      assertThat(received.get(i)).describedAs("Element %s", i).isEqualTo(1);
+    }
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+}
@@ -96,7 +96,7 @@ public interface SszSchema<SszDataT extends SszData> extends SszType {
 
   /**
    * Store the backing nodes for this object and its children. Iteration will be optimised by
-   * skipping any branches reported as unnecessary by {@link TreeNodeStore#canSkipBranch(Bytes32,
+   * skipping any branches reported as unnecessary by {@link TreeNodeStore#canSkipBranch(TreeNode,
    * long)} and by skipping up to {@code maxBranchLevelsSkipped} levels of branch nodes. Skipped
    * levels will never include the deepest level of nodes represented by this schema (ie the root
    * node of all child objects will be stored, even if it's a branch node).
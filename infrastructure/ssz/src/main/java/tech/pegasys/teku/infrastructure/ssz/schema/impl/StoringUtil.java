@@ -46,7 +46,7 @@ public class StoringUtil {
       final long lastUsefulGIndex,
       final TargetDepthNodeHandler targetDepthNodeHandler) {
     checkArgument(childDepth > 0, "Depth must be positive");
-    if (nodeStore.canSkipBranch(rootNode.hashTreeRoot(), rootGIndex)) {
+    if (nodeStore.canSkipBranch(rootNode, rootGIndex)) {
       return;
     }
     if (childDepth <= maxBranchLevelsSkipped) {
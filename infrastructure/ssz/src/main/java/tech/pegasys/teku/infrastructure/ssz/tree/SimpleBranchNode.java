@@ -60,8 +60,10 @@ class SimpleBranchNode implements BranchNode, TreeNode {
   public Bytes32 hashTreeRoot() {
     Bytes32 cachedHash = this.cachedHash;
     if (cachedHash == null) {
-      cachedHash = BranchNode.super.hashTreeRoot();
-      this.cachedHash = cachedHash;
+      cachedHash =
+          TreeHasher.shouldHashByLevel(this)
+              ? TreeHasher.hashTreeRoot(this)
+              : BranchNode.super.hashTreeRoot();
     }
     return cachedHash;
   }
@@ -76,6 +78,10 @@ class SimpleBranchNode implements BranchNode, TreeNode {
     return cachedHash;
   }
 
+  boolean isHashCached() {
+    return cachedHash != null;
+  }
+
   @Override
   public String toString() {
     return left == right ? ("(2x " + left + ")") : ("(" + left + ", " + right + ')');
@@ -0,0 +1,179 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.MessageDigestFactory;
+
+/**
+ * Calculates the hash tree root of trees which may have many nodes without a cached hash, such as a
+ * state after an epoch transition has rewritten its balances and participation flags.
+ *
+ * <p>Rather than recursing and hashing one pair of child roots at a time, the branch nodes without
+ * a cached hash are first collected level by level. Levels are then hashed from the deepest up,
+ * reusing a single digest for every node in a level, so each node's children are always cached by
+ * the time it is hashed. Nodes in a level are the roots of independent subtrees, so large levels
+ * are split into chunks which are hashed in parallel. Roots are identical to recursive hashing and
+ * are cached in each node as usual.
+ *
+ * <p>Subtrees are often shared, for example default trees where both children of a node are the
+ * same instance, so each node is only collected the first time it is reached.
+ *
+ * <p>Collecting the nodes costs more than it saves for the small updates made by most blocks, so
+ * only trees with at least {@link #MIN_UNCACHED_NODES} uncached branch nodes are hashed this way.
+ * Below that no level could be large enough to be hashed in parallel.
+ */
+class TreeHasher {
+  static final int DEFAULT_MIN_NODES_PER_CHUNK = 512;
+  static final int MIN_UNCACHED_NODES = 2 * DEFAULT_MIN_NODES_PER_CHUNK;
+
+  private static final int THREADS = Runtime.getRuntime().availableProcessors();
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private TreeHasher() {}
+
+  static Bytes32 hashTreeRoot(final SimpleBranchNode root) {
+    return hashTreeRoot(root, DEFAULT_MIN_NODES_PER_CHUNK);
+  }
+
+  /**
+   * Returns true if the tree has enough branch nodes without a cached hash that it should be hashed
+   * level by level rather than recursively. Stops counting once the threshold is reached, so at
+   * most {@link #MIN_UNCACHED_NODES} nodes are visited.
+   *
+   * @param root the root of the tree
+   * @return true if the tree should be hashed with {@link #hashTreeRoot(SimpleBranchNode)}
+   */
+  static boolean shouldHashByLevel(final SimpleBranchNode root) {
+    return countUncachedNodes(root, MIN_UNCACHED_NODES) >= MIN_UNCACHED_NODES;
+  }
+
+  /**
+   * Calculates the hash tree root of a tree, caching the hash of every branch node in it.
+   *
+   * @param root the root of the tree
+   * @param minNodesPerChunk the minimum number of nodes in each chunk of a level that is hashed in
+   *     parallel, levels with fewer than twice this many nodes are hashed on the calling thread
+   * @return the hash tree root
+   */
+  static Bytes32 hashTreeRoot(final SimpleBranchNode root, final int minNodesPerChunk) {
+    final List<List<SimpleBranchNode>> levels = new ArrayList<>();
+    collectUncachedNodes(root, 0, levels, Collections.newSetFromMap(new IdentityHashMap<>()));
+    final MessageDigest messageDigest = MessageDigestFactory.createSha256();
+    for (int depth = levels.size() - 1; depth >= 0; depth--) {
+      hashLevel(levels.get(depth), minNodesPerChunk, messageDigest);
+    }
+    return root.hashTreeRoot(messageDigest);
+  }
+
+  private static int countUncachedNodes(final TreeNode node, final int limit) {
+    if (!(node instanceof SimpleBranchNode) || ((SimpleBranchNode) node).isHashCached()) {
+      return 0;
+    }
+    final SimpleBranchNode branch = (SimpleBranchNode) node;
+    int count = 1;
+    if (count < limit) {
+      count += countUncachedNodes(branch.left(), limit - count);
+    }
+    // A subtree shared by both children is only hashed once
+    if (count < limit && branch.right() != branch.left()) {
+      count += countUncachedNodes(branch.right(), limit - count);
+    }
+    return count;
+  }
+
+  private static void collectUncachedNodes(
+      final TreeNode node,
+      final int depth,
+      final List<List<SimpleBranchNode>> levels,
+      final Set<SimpleBranchNode> collectedNodes) {
+    if (!(node instanceof SimpleBranchNode)) {
+      // Leaves are their own root and other branch types calculate their hash themselves
+      return;
+    }
+    final SimpleBranchNode branch = (SimpleBranchNode) node;
+    // If a shared node is reached again at a deeper level, its new parent may be hashed before it.
+    // That parent then hashes it recursively, which gives the same root.
+    if (branch.isHashCached() || !collectedNodes.add(branch)) {
+      return;
+    }
+    if (levels.size() == depth) {
+      levels.add(new ArrayList<>());
+    }
+    levels.get(depth).add(branch);
+    collectUncachedNodes(branch.left(), depth + 1, levels, collectedNodes);
+    collectUncachedNodes(branch.right(), depth + 1, levels, collectedNodes);
+  }
+
+  private static void hashLevel(
+      final List<SimpleBranchNode> nodes,
+      final int minNodesPerChunk,
+      final MessageDigest messageDigest) {
+    final int chunkCount = Math.min(THREADS * CHUNKS_PER_THREAD, nodes.size() / minNodesPerChunk);
+    if (chunkCount <= 1) {
+      hashNodes(nodes, 0, nodes.size(), messageDigest);
+      return;
+    }
+
+    final List<ForkJoinTask<?>> tasks = new ArrayList<>(chunkCount - 1);
+    for (int chunk = 1; chunk < chunkCount; chunk++) {
+      final int startIndex = getChunkStart(chunk, chunkCount, nodes.size());
+      final int endIndex = getChunkStart(chunk + 1, chunkCount, nodes.size());
+      tasks.add(
+          PoolHolder.POOL.submit(
+              () -> hashNodes(nodes, startIndex, endIndex, MessageDigestFactory.createSha256())));
+    }
+    // Hash the first chunk on the calling thread rather than leaving it idle
+    hashNodes(nodes, 0, getChunkStart(1, chunkCount, nodes.size()), messageDigest);
+    tasks.forEach(ForkJoinTask::join);
+  }
+
+  private static void hashNodes(
+      final List<SimpleBranchNode> nodes,
+      final int startIndex,
+      final int endIndex,
+      final MessageDigest messageDigest) {
+    for (int i = startIndex; i < endIndex; i++) {
+      // Children are already cached so this only hashes the pair of child roots
+      nodes.get(i).hashTreeRoot(messageDigest);
+    }
+  }
+
+  private static int getChunkStart(final int chunk, final int chunkCount, final int count) {
+    return (int) ((long) count * chunk / chunkCount);
+  }
+
+  private static class PoolHolder {
+    private static final ForkJoinPool POOL =
+        new ForkJoinPool(
+            Math.max(1, THREADS - 1),
+            pool -> {
+              final ForkJoinWorkerThread thread =
+                  ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+              thread.setName("tree-hasher-" + thread.getPoolIndex());
+              return thread;
+            },
+            null,
+            false);
+  }
+}
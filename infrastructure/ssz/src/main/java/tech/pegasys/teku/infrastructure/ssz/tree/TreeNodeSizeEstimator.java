@@ -0,0 +1,80 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.ZeroBranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.ZeroLeafNode;
+
+/**
+ * Estimates the heap memory retained by a tree of nodes.
+ *
+ * <p>Sizes are approximations based on the typical layout of each node type on a 64-bit JVM with
+ * compressed pointers, including the cached hash. Shared zero trees are never counted. Branches
+ * which load their children lazily are counted as a single node and not traversed, as doing so
+ * would force the children to load.
+ */
+public class TreeNodeSizeEstimator {
+  static final long BRANCH_NODE_SIZE = 96;
+  static final long LEAF_NODE_OVERHEAD = 88;
+
+  private TreeNodeSizeEstimator() {}
+
+  /**
+   * Estimates the memory retained by every node reachable from the given node.
+   *
+   * @param node the root of the tree
+   * @return the estimated size in bytes
+   */
+  public static long estimateSize(final TreeNode node) {
+    if (node instanceof ZeroBranchNode || node instanceof ZeroLeafNode) {
+      return 0;
+    }
+    if (node instanceof SimpleBranchNode) {
+      final SimpleBranchNode branch = (SimpleBranchNode) node;
+      return BRANCH_NODE_SIZE + estimateSize(branch.left()) + estimateSize(branch.right());
+    }
+    if (node instanceof LeafDataNode) {
+      return LEAF_NODE_OVERHEAD + ((LeafDataNode) node).getData().size();
+    }
+    return BRANCH_NODE_SIZE;
+  }
+
+  /**
+   * Estimates the memory retained by the nodes of a tree that are not shared with a reference
+   * tree. This is the memory that would be freed if the tree was discarded while the reference tree
+   * is kept.
+   *
+   * <p>Only nodes at the same position in both trees are compared, so the cost is proportional to
+   * the number of nodes which differ rather than the size of the tree.
+   *
+   * @param node the root of the tree to estimate
+   * @param reference the root of the tree that is retained regardless
+   * @return the estimated size in bytes of the nodes only reachable from {@code node}
+   */
+  public static long estimateUnsharedSize(final TreeNode node, final TreeNode reference) {
+    if (node == reference) {
+      return 0;
+    }
+    if (node instanceof SimpleBranchNode
+        && reference instanceof SimpleBranchNode
+        && !(node instanceof ZeroBranchNode)) {
+      final SimpleBranchNode branch = (SimpleBranchNode) node;
+      final SimpleBranchNode referenceBranch = (SimpleBranchNode) reference;
+      return BRANCH_NODE_SIZE
+          + estimateUnsharedSize(branch.left(), referenceBranch.left())
+          + estimateUnsharedSize(branch.right(), referenceBranch.right());
+    }
+    return estimateSize(node);
+  }
+}
@@ -29,6 +29,20 @@ public interface TreeNodeStore {
    */
   boolean canSkipBranch(Bytes32 root, long gIndex);
 
+  /**
+   * Called prior to visiting a branch or its descendants to determine if the branch needs to be
+   * stored. Allows stores to recognise branches which have already been stored by node identity
+   * before checking the hash tree root.
+   *
+   * @param node the branch node
+   * @param gIndex the generalized index of the branch node
+   * @return true if the branch node and all its descendants can be skipped, false to iterate into
+   *     the descendants
+   */
+  default boolean canSkipBranch(final TreeNode node, final long gIndex) {
+    return canSkipBranch(node.hashTreeRoot(), gIndex);
+  }
+
   /**
    * Store an intermediate branch node. Multiple levels of branch nodes may be skipped to optimise
    * iteration and storage, in which case the children are {@code depth} levels from the branch
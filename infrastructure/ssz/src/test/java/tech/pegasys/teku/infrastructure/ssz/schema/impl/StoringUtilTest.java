@@ -53,7 +53,7 @@ class StoringUtilTest {
 
   @BeforeEach
   void setUp() {
-    when(nodeStore.canSkipBranch(any(), anyLong())).thenReturn(false);
+    when(nodeStore.canSkipBranch(any(TreeNode.class), anyLong())).thenReturn(false);
   }
 
   @Test
@@ -197,12 +197,12 @@ class StoringUtilTest {
     final List<TreeNode> children = createChildrenForDepth(depth);
     final TreeNode rootNode = TreeUtil.createTree(children, depth);
 
-    when(nodeStore.canSkipBranch(rootNode.hashTreeRoot(), SELF_G_INDEX)).thenReturn(true);
+    when(nodeStore.canSkipBranch(rootNode, SELF_G_INDEX)).thenReturn(true);
 
     StoringUtil.storeNodesToDepth(
         nodeStore, UNLIMITED_SKIP, rootNode, SELF_G_INDEX, depth, RIGHTMOST_G_INDEX, childHandler);
 
-    inOrder.verify(nodeStore).canSkipBranch(rootNode.hashTreeRoot(), SELF_G_INDEX);
+    inOrder.verify(nodeStore).canSkipBranch(rootNode, SELF_G_INDEX);
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -218,7 +218,7 @@ class StoringUtilTest {
     skippableBranchIndices.forEach(
         index ->
             when(nodeStore.canSkipBranch(
-                    branchNodes.get(index).hashTreeRoot(),
+                    branchNodes.get(index),
                     GIndexUtil.gIdxChildGIndex(SELF_G_INDEX, index, maxBranchLevelsSkipped)))
                 .thenReturn(true));
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+
+class TreeHasherTest {
+
+  @Test
+  void hashTreeRoot_shouldMatchRecursiveHashing() {
+    final TreeNode tree = createTree(1000);
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(calculateRootRecursively(tree));
+  }
+
+  @Test
+  void hashTreeRoot_shouldMatchRecursiveHashingForLargeTree() {
+    final TreeNode tree = createTree(10_000);
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(calculateRootRecursively(tree));
+  }
+
+  @Test
+  void shouldHashByLevel_shouldBeFalseForSmallTree() {
+    final TreeNode tree = createTree(100);
+
+    assertThat(TreeHasher.shouldHashByLevel((SimpleBranchNode) tree)).isFalse();
+  }
+
+  @Test
+  void shouldHashByLevel_shouldBeTrueForLargeTree() {
+    final TreeNode tree = createTree(10_000);
+
+    assertThat(TreeHasher.shouldHashByLevel((SimpleBranchNode) tree)).isTrue();
+  }
+
+  @Test
+  void shouldHashByLevel_shouldOnlyCountUncachedNodes() {
+    final TreeNode tree = createTree(10_000);
+    tree.hashTreeRoot();
+    final TreeNode updatedTree = tree.updated(16384L, TreeTest.newTestLeaf(20_000));
+
+    assertThat(TreeHasher.shouldHashByLevel((SimpleBranchNode) updatedTree)).isFalse();
+  }
+
+  @Test
+  void shouldHashByLevel_shouldCountSubtreeSharedByBothChildrenOnce() {
+    final TreeNode tree = TreeUtil.createDefaultTree(1L << 48, TreeTest.newTestLeaf(1));
+
+    assertThat(TreeHasher.shouldHashByLevel((SimpleBranchNode) tree)).isFalse();
+  }
+
+  @Test
+  void hashTreeRoot_shouldCacheHashOfEveryBranchOfSmallTree() {
+    final TreeNode tree = createTree(100);
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(calculateRootRecursively(tree));
+    tree.iterateAll(
+        node -> {
+          if (node instanceof SimpleBranchNode) {
+            assertThat(((SimpleBranchNode) node).isHashCached()).isTrue();
+          }
+        });
+  }
+
+  @Test
+  void hashTreeRoot_shouldMatchRecursiveHashingWhenHashingInParallel() {
+    final TreeNode tree = createTree(10_000);
+
+    assertThat(TreeHasher.hashTreeRoot((SimpleBranchNode) tree, 1))
+        .isEqualTo(calculateRootRecursively(tree));
+  }
+
+  @Test
+  void hashTreeRoot_shouldCacheHashOfEveryBranch() {
+    final TreeNode tree = createTree(1000);
+
+    TreeHasher.hashTreeRoot((SimpleBranchNode) tree, 1);
+
+    tree.iterateAll(
+        node -> {
+          if (node instanceof SimpleBranchNode) {
+            assertThat(((SimpleBranchNode) node).isHashCached()).isTrue();
+          }
+        });
+  }
+
+  @Test
+  void hashTreeRoot_shouldOnlyHashChangedNodesOfPartiallyCachedTree() {
+    final TreeNode tree = createTree(1000);
+    final Bytes32 originalRoot = tree.hashTreeRoot();
+    TreeNode updatedTree = tree;
+    for (int i = 0; i < 1000; i += 97) {
+      updatedTree = updatedTree.updated(1024L + i, TreeTest.newTestLeaf(i + 5000));
+    }
+
+    assertThat(TreeHasher.hashTreeRoot((SimpleBranchNode) updatedTree, 1))
+        .isEqualTo(calculateRootRecursively(updatedTree))
+        .isNotEqualTo(originalRoot);
+    assertThat(tree.hashTreeRoot()).isEqualTo(originalRoot);
+  }
+
+  @Test
+  void hashTreeRoot_shouldHandleSubtreeSharedByBothChildren() {
+    final TreeNode subtree = createTree(100);
+    final TreeNode tree = BranchNode.create(subtree, BranchNode.create(subtree, subtree));
+
+    assertThat(TreeHasher.hashTreeRoot((SimpleBranchNode) tree, 1))
+        .isEqualTo(calculateRootRecursively(tree));
+  }
+
+  @Test
+  void hashTreeRoot_shouldCollectSharedSubtreesOnce() {
+    // Every level shares one node for both children, so visiting each path would never finish
+    final int depth = 48;
+    final LeafNode defaultLeaf = TreeTest.newTestLeaf(1);
+    final TreeNode tree = TreeUtil.createDefaultTree(1L << depth, defaultLeaf);
+
+    Bytes32 expectedRoot = defaultLeaf.hashTreeRoot();
+    for (int i = 0; i < depth; i++) {
+      expectedRoot = Hash.sha256(expectedRoot, expectedRoot);
+    }
+    assertThat(TreeHasher.hashTreeRoot((SimpleBranchNode) tree, 1)).isEqualTo(expectedRoot);
+  }
+
+  @Test
+  void hashTreeRoot_shouldUseHashOfOtherBranchTypes() {
+    final Bytes32 leftRoot = Bytes32.fromHexStringLenient("0x01");
+    final Bytes32 rightRoot = Bytes32.fromHexStringLenient("0x02");
+    final TreeNode lazyBranch =
+        LazyBranchNode.createWithUnknownHash(
+            leftRoot,
+            rightRoot,
+            () -> LeafNode.create(leftRoot),
+            () -> LeafNode.create(rightRoot));
+    final TreeNode tree = BranchNode.create(createTree(10), lazyBranch);
+
+    assertThat(tree.hashTreeRoot())
+        .isEqualTo(
+            Hash.sha256(
+                calculateRootRecursively(createTree(10)), Hash.sha256(leftRoot, rightRoot)));
+  }
+
+  private static TreeNode createTree(final int leafCount) {
+    final List<LeafNode> leaves =
+        IntStream.range(0, leafCount).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList());
+    return TreeUtil.createTree(leaves);
+  }
+
+  private static Bytes32 calculateRootRecursively(final TreeNode node) {
+    if (node instanceof BranchNode) {
+      final BranchNode branch = (BranchNode) node;
+      return Hash.sha256(
+          calculateRootRecursively(branch.left()), calculateRootRecursively(branch.right()));
+    }
+    return node.hashTreeRoot();
+  }
+}
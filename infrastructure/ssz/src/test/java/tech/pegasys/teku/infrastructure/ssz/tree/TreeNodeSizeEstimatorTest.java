@@ -0,0 +1,83 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSizeEstimator.BRANCH_NODE_SIZE;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSizeEstimator.LEAF_NODE_OVERHEAD;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+class TreeNodeSizeEstimatorTest {
+  private static final long LEAF_SIZE = LEAF_NODE_OVERHEAD + Bytes32.SIZE;
+
+  private final TreeNode tree =
+      TreeUtil.createTree(
+          IntStream.range(1, 5).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList()));
+
+  @Test
+  void estimateSize_shouldCountAllNodes() {
+    assertThat(TreeNodeSizeEstimator.estimateSize(tree))
+        .isEqualTo(3 * BRANCH_NODE_SIZE + 4 * LEAF_SIZE);
+  }
+
+  @Test
+  void estimateSize_shouldNotCountZeroTrees() {
+    assertThat(TreeNodeSizeEstimator.estimateSize(TreeUtil.ZERO_TREES[10])).isZero();
+    assertThat(TreeNodeSizeEstimator.estimateSize(LeafNode.EMPTY_LEAF)).isZero();
+  }
+
+  @Test
+  void estimateSize_shouldNotLoadLazyBranchChildren() {
+    final TreeNode lazyBranch =
+        LazyBranchNode.createWithUnknownHash(
+            Bytes32.ZERO,
+            Bytes32.ZERO,
+            () -> {
+              throw new IllegalStateException("Should not load");
+            },
+            () -> {
+              throw new IllegalStateException("Should not load");
+            });
+
+    assertThat(TreeNodeSizeEstimator.estimateSize(lazyBranch)).isEqualTo(BRANCH_NODE_SIZE);
+  }
+
+  @Test
+  void estimateUnsharedSize_shouldBeZeroForSameTree() {
+    assertThat(TreeNodeSizeEstimator.estimateUnsharedSize(tree, tree)).isZero();
+  }
+
+  @Test
+  void estimateUnsharedSize_shouldOnlyCountChangedNodes() {
+    final TreeNode updatedTree = tree.updated(4L, TreeTest.newTestLeaf(42));
+
+    // The root, the changed leaf and the branch above it are new
+    assertThat(TreeNodeSizeEstimator.estimateUnsharedSize(updatedTree, tree))
+        .isEqualTo(2 * BRANCH_NODE_SIZE + LEAF_SIZE);
+  }
+
+  @Test
+  void estimateUnsharedSize_shouldCountWholeTreeWhenNothingShared() {
+    final TreeNode otherTree =
+        TreeUtil.createTree(
+            IntStream.range(1, 5).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList()));
+
+    assertThat(TreeNodeSizeEstimator.estimateUnsharedSize(otherTree, tree))
+        .isEqualTo(TreeNodeSizeEstimator.estimateSize(otherTree));
+  }
+}
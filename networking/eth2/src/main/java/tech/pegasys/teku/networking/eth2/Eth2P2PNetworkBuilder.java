@@ -36,6 +36,8 @@ import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsAltair;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsBellatrix;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsPhase0;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressScheduler;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.PrioritizedGossipIngressScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
@@ -176,24 +178,39 @@ public class Eth2P2PNetworkBuilder {
       final GossipEncoding gossipEncoding, final DiscoveryNetwork<?> network) {
     final GossipForkManager.Builder gossipForkManagerBuilder =
         GossipForkManager.builder().spec(spec).recentChainData(recentChainData);
+    final GossipIngressScheduler gossipIngressScheduler = createGossipIngressScheduler();
     spec.getEnabledMilestones().stream()
         .map(
             forkAndSpecMilestone ->
-                createSubscriptions(forkAndSpecMilestone, network, gossipEncoding))
+                createSubscriptions(
+                    forkAndSpecMilestone, network, gossipEncoding, gossipIngressScheduler))
         .forEach(gossipForkManagerBuilder::fork);
     return gossipForkManagerBuilder.build();
   }
 
+  private GossipIngressScheduler createGossipIngressScheduler() {
+    if (!config.isGossipSchedulerEnabled()) {
+      return GossipIngressScheduler.direct(asyncRunner);
+    }
+    return new PrioritizedGossipIngressScheduler(
+        asyncRunner,
+        metricsSystem,
+        timeProvider,
+        recentChainData::getCurrentSlot,
+        config.getGossipSchedulerMaxConcurrentTasks());
+  }
+
   private GossipForkSubscriptions createSubscriptions(
       final ForkAndSpecMilestone forkAndSpecMilestone,
       final DiscoveryNetwork<?> network,
-      final GossipEncoding gossipEncoding) {
+      final GossipEncoding gossipEncoding,
+      final GossipIngressScheduler gossipIngressScheduler) {
     switch (forkAndSpecMilestone.getSpecMilestone()) {
       case PHASE0:
         return new GossipForkSubscriptionsPhase0(
             forkAndSpecMilestone.getFork(),
             spec,
-            asyncRunner,
+            gossipIngressScheduler,
             metricsSystem,
             network,
             recentChainData,
@@ -208,7 +225,7 @@ public class Eth2P2PNetworkBuilder {
         return new GossipForkSubscriptionsAltair(
             forkAndSpecMilestone.getFork(),
             spec,
-            asyncRunner,
+            gossipIngressScheduler,
             metricsSystem,
             network,
             recentChainData,
@@ -225,7 +242,7 @@ public class Eth2P2PNetworkBuilder {
         return new GossipForkSubscriptionsBellatrix(
             forkAndSpecMilestone.getFork(),
             spec,
-            asyncRunner,
+            gossipIngressScheduler,
             metricsSystem,
             network,
             recentChainData,
@@ -37,6 +37,8 @@ public class P2PConfig {
   public static final int DEFAULT_BATCH_VERIFY_QUEUE_CAPACITY = 15_000;
   public static final int DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE = 250;
   public static final boolean DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED = false;
+  public static final boolean DEFAULT_GOSSIP_SCHEDULER_ENABLED = false;
+  public static final int DEFAULT_GOSSIP_SCHEDULER_MAX_CONCURRENT_TASKS = 10;
 
   private final Spec spec;
   private final NetworkConfig networkConfig;
@@ -53,6 +55,8 @@ public class P2PConfig {
   private final int batchVerifyQueueCapacity;
   private final int batchVerifyMaxBatchSize;
   private final boolean batchVerifyStrictThreadLimitEnabled;
+  private final boolean gossipSchedulerEnabled;
+  private final int gossipSchedulerMaxConcurrentTasks;
 
   private P2PConfig(
       final Spec spec,
@@ -68,7 +72,9 @@ public class P2PConfig {
       final int batchVerifyMaxThreads,
       final int batchVerifyQueueCapacity,
       final int batchVerifyMaxBatchSize,
-      final boolean batchVerifyStrictThreadLimitEnabled) {
+      final boolean batchVerifyStrictThreadLimitEnabled,
+      final boolean gossipSchedulerEnabled,
+      final int gossipSchedulerMaxConcurrentTasks) {
     this.spec = spec;
     this.networkConfig = networkConfig;
     this.discoveryConfig = discoveryConfig;
@@ -83,6 +89,8 @@ public class P2PConfig {
     this.batchVerifyQueueCapacity = batchVerifyQueueCapacity;
     this.batchVerifyMaxBatchSize = batchVerifyMaxBatchSize;
     this.batchVerifyStrictThreadLimitEnabled = batchVerifyStrictThreadLimitEnabled;
+    this.gossipSchedulerEnabled = gossipSchedulerEnabled;
+    this.gossipSchedulerMaxConcurrentTasks = gossipSchedulerMaxConcurrentTasks;
   }
 
   public static Builder builder() {
@@ -145,6 +153,14 @@ public class P2PConfig {
     return batchVerifyStrictThreadLimitEnabled;
   }
 
+  public boolean isGossipSchedulerEnabled() {
+    return gossipSchedulerEnabled;
+  }
+
+  public int getGossipSchedulerMaxConcurrentTasks() {
+    return gossipSchedulerMaxConcurrentTasks;
+  }
+
   public static class Builder {
     private final NetworkConfig.Builder networkConfig = NetworkConfig.builder();
     private final DiscoveryConfig.Builder discoveryConfig = DiscoveryConfig.builder();
@@ -162,6 +178,8 @@ public class P2PConfig {
     private int batchVerifyMaxBatchSize = DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE;
     private boolean batchVerifyStrictThreadLimitEnabled =
         DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED;
+    private boolean gossipSchedulerEnabled = DEFAULT_GOSSIP_SCHEDULER_ENABLED;
+    private int gossipSchedulerMaxConcurrentTasks = DEFAULT_GOSSIP_SCHEDULER_MAX_CONCURRENT_TASKS;
 
     private Builder() {}
 
@@ -197,7 +215,9 @@ public class P2PConfig {
           batchVerifyMaxThreads,
           batchVerifyQueueCapacity,
           batchVerifyMaxBatchSize,
-          batchVerifyStrictThreadLimitEnabled);
+          batchVerifyStrictThreadLimitEnabled,
+          gossipSchedulerEnabled,
+          gossipSchedulerMaxConcurrentTasks);
     }
 
     private void validate() {
@@ -301,5 +321,21 @@ public class P2PConfig {
       this.batchVerifyStrictThreadLimitEnabled = batchVerifyStrictThreadLimitEnabled;
       return this;
     }
+
+    public Builder gossipSchedulerEnabled(final boolean gossipSchedulerEnabled) {
+      this.gossipSchedulerEnabled = gossipSchedulerEnabled;
+      return this;
+    }
+
+    public Builder gossipSchedulerMaxConcurrentTasks(final int gossipSchedulerMaxConcurrentTasks) {
+      if (gossipSchedulerMaxConcurrentTasks < 1) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid gossipSchedulerMaxConcurrentTasks: %d",
+                gossipSchedulerMaxConcurrentTasks));
+      }
+      this.gossipSchedulerMaxConcurrentTasks = gossipSchedulerMaxConcurrentTasks;
+      return this;
+    }
   }
 }
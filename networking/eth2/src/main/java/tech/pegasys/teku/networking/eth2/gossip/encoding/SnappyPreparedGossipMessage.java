@@ -39,7 +39,7 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
   private final MessageIdCalculator messageIdCalculator;
 
   private final Supplier<DecodedMessageResult> decodedResult =
-      Suppliers.memoize(this::getDecodedMessage);
+      Suppliers.memoize(this::decodeMessage);
 
   static SnappyPreparedGossipMessage createUnknown(
       final String topic,
@@ -97,6 +97,10 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
 
   @Override
   public DecodedMessageResult getDecodedMessage() {
+    return decodedResult.get();
+  }
+
+  private DecodedMessageResult decodeMessage() {
     try {
       if (valueType == null) {
         return DecodedMessageResult.failed();
@@ -115,7 +119,7 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
   }
 
   private Optional<Bytes> getUncompressed() {
-    return decodedResult.get().getDecodedMessage();
+    return getDecodedMessage().getDecodedMessage();
   }
 
   private Bytes uncompressPayload() throws DecodingException {
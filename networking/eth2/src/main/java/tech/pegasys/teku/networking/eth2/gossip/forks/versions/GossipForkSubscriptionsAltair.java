@@ -14,10 +14,11 @@
 package tech.pegasys.teku.networking.eth2.gossip.forks.versions;
 
 import org.hyperledger.besu.plugin.services.MetricsSystem;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.networking.eth2.gossip.SignedContributionAndProofGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.SyncCommitteeMessageGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
@@ -47,7 +48,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
   public GossipForkSubscriptionsAltair(
       final Fork fork,
       final Spec spec,
-      final AsyncRunner asyncRunner,
+      final GossipIngressScheduler gossipIngressScheduler,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -65,7 +66,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
     super(
         fork,
         spec,
-        asyncRunner,
+        gossipIngressScheduler,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -90,7 +91,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
         new SignedContributionAndProofGossipManager(
             recentChainData,
             schemaDefinitions,
-            asyncRunner,
+            gossipIngressScheduler.getAsyncRunner(GossipIngressQueue.SYNC_COMMITTEE_CONTRIBUTION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -105,7 +106,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
             discoveryNetwork,
             gossipEncoding,
             schemaDefinitions,
-            asyncRunner,
+            gossipIngressScheduler.getAsyncRunner(GossipIngressQueue.SYNC_COMMITTEE_MESSAGE),
             syncCommitteeMessageOperationProcessor,
             forkInfo,
             getMessageMaxSize());
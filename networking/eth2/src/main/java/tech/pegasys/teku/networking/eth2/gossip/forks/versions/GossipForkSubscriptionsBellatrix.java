@@ -16,8 +16,8 @@ package tech.pegasys.teku.networking.eth2.gossip.forks.versions;
 import static tech.pegasys.teku.spec.config.Constants.GOSSIP_MAX_SIZE_BELLATRIX;
 
 import org.hyperledger.besu.plugin.services.MetricsSystem;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
 import tech.pegasys.teku.spec.Spec;
@@ -36,7 +36,7 @@ public class GossipForkSubscriptionsBellatrix extends GossipForkSubscriptionsAlt
   public GossipForkSubscriptionsBellatrix(
       Fork fork,
       Spec spec,
-      AsyncRunner asyncRunner,
+      GossipIngressScheduler gossipIngressScheduler,
       MetricsSystem metricsSystem,
       DiscoveryNetwork<?> discoveryNetwork,
       RecentChainData recentChainData,
@@ -52,7 +52,7 @@ public class GossipForkSubscriptionsBellatrix extends GossipForkSubscriptionsAlt
     super(
         fork,
         spec,
-        asyncRunner,
+        gossipIngressScheduler,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.List;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.AggregateGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.AttestationGossipManager;
@@ -30,6 +29,8 @@ import tech.pegasys.teku.networking.eth2.gossip.ProposerSlashingGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.VoluntaryExitGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkSubscriptions;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
@@ -50,7 +51,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
   private final List<GossipManager> gossipManagers = new ArrayList<>();
   private final Fork fork;
   protected final Spec spec;
-  protected final AsyncRunner asyncRunner;
+  protected final GossipIngressScheduler gossipIngressScheduler;
   protected final MetricsSystem metricsSystem;
   protected final DiscoveryNetwork<?> discoveryNetwork;
   protected final RecentChainData recentChainData;
@@ -74,7 +75,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
   public GossipForkSubscriptionsPhase0(
       final Fork fork,
       final Spec spec,
-      final AsyncRunner asyncRunner,
+      final GossipIngressScheduler gossipIngressScheduler,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -87,7 +88,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
       final OperationProcessor<SignedVoluntaryExit> voluntaryExitProcessor) {
     this.fork = fork;
     this.spec = spec;
-    this.asyncRunner = asyncRunner;
+    this.gossipIngressScheduler = gossipIngressScheduler;
     this.metricsSystem = metricsSystem;
     this.discoveryNetwork = discoveryNetwork;
     this.recentChainData = recentChainData;
@@ -121,7 +122,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     AttestationSubnetSubscriptions attestationSubnetSubscriptions =
         new AttestationSubnetSubscriptions(
             spec,
-            asyncRunner,
+            gossipIngressScheduler.getAsyncRunner(GossipIngressQueue.ATTESTATION),
             discoveryNetwork,
             gossipEncoding,
             recentChainData,
@@ -133,7 +134,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
         new BlockGossipManager(
             recentChainData,
             spec,
-            asyncRunner,
+            gossipIngressScheduler.getAsyncRunner(GossipIngressQueue.BLOCK),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -149,7 +150,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
         new AggregateGossipManager(
             spec,
             recentChainData,
-            asyncRunner,
+            gossipIngressScheduler.getAsyncRunner(GossipIngressQueue.AGGREGATE),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -160,7 +161,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     voluntaryExitGossipManager =
         new VoluntaryExitGossipManager(
             recentChainData,
-            asyncRunner,
+            gossipIngressScheduler.getAsyncRunner(GossipIngressQueue.OPERATION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -171,7 +172,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     proposerSlashingGossipManager =
         new ProposerSlashingGossipManager(
             recentChainData,
-            asyncRunner,
+            gossipIngressScheduler.getAsyncRunner(GossipIngressQueue.OPERATION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -183,7 +184,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
         new AttesterSlashingGossipManager(
             spec,
             recentChainData,
-            asyncRunner,
+            gossipIngressScheduler.getAsyncRunner(GossipIngressQueue.OPERATION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
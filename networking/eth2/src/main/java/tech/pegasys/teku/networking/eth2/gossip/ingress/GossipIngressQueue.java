@@ -0,0 +1,75 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.ingress;
+
+import static tech.pegasys.teku.spec.config.Constants.ATTESTATION_PROPAGATION_SLOT_RANGE;
+
+import java.util.Optional;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.config.Constants;
+
+/**
+ * The queues gossip messages wait in before being processed, in order of priority.
+ *
+ * <p>When several queues have messages waiting, each is given a share of the processing capacity
+ * in proportion to its weight. Sync committee messages and contributions are only valid during the
+ * slot they are for, so any still waiting once the slot they were received in has passed are
+ * dropped. Attestations and aggregates are valid for {@link
+ * Constants#ATTESTATION_PROPAGATION_SLOT_RANGE} slots, so they are only dropped once that range
+ * has passed for any slot they could belong to.
+ */
+public enum GossipIngressQueue {
+  BLOCK("block", 32, 1024, Optional.empty()),
+  AGGREGATE("aggregate", 16, 5000, Optional.of(ATTESTATION_PROPAGATION_SLOT_RANGE.plus(1))),
+  SYNC_COMMITTEE_CONTRIBUTION("sync_committee_contribution", 8, 2000, Optional.of(UInt64.ONE)),
+  OPERATION("operation", 4, 1000, Optional.empty()),
+  ATTESTATION("attestation", 2, 10_000, Optional.of(ATTESTATION_PROPAGATION_SLOT_RANGE.plus(1))),
+  SYNC_COMMITTEE_MESSAGE("sync_committee_message", 2, 5000, Optional.of(UInt64.ONE));
+
+  private final String label;
+  private final int weight;
+  private final int capacity;
+  private final Optional<UInt64> expirySlots;
+
+  GossipIngressQueue(
+      final String label,
+      final int weight,
+      final int capacity,
+      final Optional<UInt64> expirySlots) {
+    this.label = label;
+    this.weight = weight;
+    this.capacity = capacity;
+    this.expirySlots = expirySlots;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public int getWeight() {
+    return weight;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the number of slots after the slot a message was received in at which it is dropped if
+   * it is still waiting, or empty if messages in this queue never expire.
+   */
+  public Optional<UInt64> getExpirySlots() {
+    return expirySlots;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.ingress;
+
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+
+/** Schedules the processing of gossip messages received from the network. */
+public interface GossipIngressScheduler {
+
+  /**
+   * Creates a scheduler which runs all messages directly on the given runner, in the order they
+   * are received.
+   */
+  static GossipIngressScheduler direct(final AsyncRunner asyncRunner) {
+    return queue -> asyncRunner;
+  }
+
+  /**
+   * Returns true if tasks run on the given runner may wait in a queue and be dropped before they
+   * start, in which case messages are best decoded once their task has started.
+   *
+   * @param asyncRunner a runner returned by a scheduler
+   * @return true if the runner queues tasks
+   */
+  static boolean isQueued(final AsyncRunner asyncRunner) {
+    return asyncRunner instanceof PrioritizedGossipIngressScheduler.QueueAsyncRunner;
+  }
+
+  /**
+   * Returns the runner to use for processing messages which belong in the given queue.
+   *
+   * @param queue the queue messages are added to
+   * @return the runner for the queue
+   */
+  AsyncRunner getAsyncRunner(GossipIngressQueue queue);
+}
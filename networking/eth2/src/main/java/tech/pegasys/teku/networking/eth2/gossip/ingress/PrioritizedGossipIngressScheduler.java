@@ -0,0 +1,288 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.ingress;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Queues gossip messages by type and limits how many are processed at once, so that important
+ * messages like blocks don't have to wait behind a flood of less important ones.
+ *
+ * <p>Each {@link GossipIngressQueue} is bounded and messages are rejected when their queue is
+ * full. Whenever a task finishes, the next message is picked from the non-empty queues using smooth
+ * weighted round robin, so a queue is never starved but higher weighted queues are served more
+ * often. A task is considered finished once the processor has returned, rather than when its
+ * result completes, so work it hands off to other services (e.g. batched signature verification)
+ * doesn't hold up further messages.
+ *
+ * <p>The slot a message belongs to is only known after it has been decoded, so messages are
+ * expired based on the slot they were received in instead, once enough slots have passed that
+ * gossip validation would ignore them anyway. See {@link GossipIngressQueue#getExpirySlots()}.
+ */
+public class PrioritizedGossipIngressScheduler implements GossipIngressScheduler {
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final Supplier<Optional<UInt64>> currentSlotSupplier;
+  private final int maxConcurrentTasks;
+  private final Map<GossipIngressQueue, TaskQueue> taskQueues =
+      new EnumMap<>(GossipIngressQueue.class);
+  private final Map<GossipIngressQueue, AsyncRunner> queueRunners =
+      new EnumMap<>(GossipIngressQueue.class);
+  private final LabelledMetric<Counter> droppedMessageCounter;
+  private final MetricsHistogram waitTimeHistogram;
+
+  private int activeTaskCount = 0;
+  private boolean dispatching = false;
+
+  public PrioritizedGossipIngressScheduler(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final Supplier<Optional<UInt64>> currentSlotSupplier,
+      final int maxConcurrentTasks) {
+    checkArgument(maxConcurrentTasks > 0, "Max concurrent tasks must be positive");
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.currentSlotSupplier = currentSlotSupplier;
+    this.maxConcurrentTasks = maxConcurrentTasks;
+
+    final LabelledGauge queueSize =
+        metricsSystem.createLabelledGauge(
+            TekuMetricCategory.NETWORK,
+            "gossip_ingress_queue_size",
+            "Number of gossip messages waiting to be processed",
+            "queue");
+    droppedMessageCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_ingress_dropped_total",
+            "Total number of gossip messages dropped before being processed",
+            "queue",
+            "reason");
+    waitTimeHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.NETWORK,
+            metricsSystem,
+            "gossip_ingress_wait_time",
+            "Time in milliseconds gossip messages waited before being processed",
+            3,
+            List.of("queue"));
+    for (GossipIngressQueue queue : GossipIngressQueue.values()) {
+      taskQueues.put(queue, new TaskQueue(queue));
+      queueRunners.put(queue, new QueueAsyncRunner(queue));
+      queueSize.labels(() -> getQueueSize(queue), queue.getLabel());
+    }
+  }
+
+  @Override
+  public AsyncRunner getAsyncRunner(final GossipIngressQueue queue) {
+    return queueRunners.get(queue);
+  }
+
+  public synchronized int getQueueSize(final GossipIngressQueue queue) {
+    return taskQueues.get(queue).tasks.size();
+  }
+
+  private <T> SafeFuture<T> schedule(
+      final GossipIngressQueue queue, final ExceptionThrowingFutureSupplier<T> action) {
+    final QueuedTask<T> task =
+        new QueuedTask<>(
+            queue, action, timeProvider.getTimeInMillis().longValue(), currentSlotSupplier.get());
+    synchronized (this) {
+      final TaskQueue taskQueue = taskQueues.get(queue);
+      if (taskQueue.tasks.size() >= queue.getCapacity()) {
+        droppedMessageCounter.labels(queue.getLabel(), "queue_full").inc();
+        return SafeFuture.failedFuture(
+            new RejectedExecutionException("Gossip queue " + queue.getLabel() + " is full"));
+      }
+      taskQueue.tasks.add(task);
+    }
+    startTasks();
+    return task.result;
+  }
+
+  private void startTasks() {
+    synchronized (this) {
+      if (dispatching) {
+        // The thread already dispatching will pick up any free capacity
+        return;
+      }
+      dispatching = true;
+    }
+    try {
+      while (true) {
+        final QueuedTask<?> task;
+        synchronized (this) {
+          task = activeTaskCount < maxConcurrentTasks ? pollNextTask() : null;
+          if (task == null) {
+            dispatching = false;
+            return;
+          }
+        }
+        if (task.isExpired(currentSlotSupplier.get())) {
+          droppedMessageCounter.labels(task.queue.getLabel(), "expired").inc();
+          task.result.completeExceptionally(
+              new GossipMessageExpiredException(
+                  "Gossip message expired while waiting in queue " + task.queue.getLabel()));
+          continue;
+        }
+        synchronized (this) {
+          activeTaskCount++;
+        }
+        start(task);
+      }
+    } catch (final RuntimeException e) {
+      synchronized (this) {
+        dispatching = false;
+      }
+      throw e;
+    }
+  }
+
+  private QueuedTask<?> pollNextTask() {
+    TaskQueue selected = null;
+    int totalWeight = 0;
+    for (TaskQueue taskQueue : taskQueues.values()) {
+      if (taskQueue.tasks.isEmpty()) {
+        continue;
+      }
+      taskQueue.currentWeight += taskQueue.queue.getWeight();
+      totalWeight += taskQueue.queue.getWeight();
+      if (selected == null || taskQueue.currentWeight > selected.currentWeight) {
+        selected = taskQueue;
+      }
+    }
+    if (selected == null) {
+      return null;
+    }
+    selected.currentWeight -= totalWeight;
+    return selected.tasks.poll();
+  }
+
+  private <T> void start(final QueuedTask<T> task) {
+    waitTimeHistogram.recordValue(
+        timeProvider.getTimeInMillis().longValue() - task.enqueuedTimeMillis,
+        task.queue.getLabel());
+    final AtomicBoolean released = new AtomicBoolean(false);
+    final Runnable release =
+        () -> {
+          if (released.compareAndSet(false, true)) {
+            onTaskFinished();
+          }
+        };
+    asyncRunner
+        .runAsync(
+            () -> {
+              try {
+                return task.action.get();
+              } finally {
+                release.run();
+              }
+            })
+        // Ensure capacity is released even if the task was rejected without running
+        .alwaysRun(release)
+        .propagateTo(task.result);
+  }
+
+  private void onTaskFinished() {
+    synchronized (this) {
+      activeTaskCount--;
+    }
+    startTasks();
+  }
+
+  private static class TaskQueue {
+    private final GossipIngressQueue queue;
+    private final ArrayDeque<QueuedTask<?>> tasks = new ArrayDeque<>();
+    private int currentWeight = 0;
+
+    private TaskQueue(final GossipIngressQueue queue) {
+      this.queue = queue;
+    }
+  }
+
+  private static class QueuedTask<T> {
+    private final GossipIngressQueue queue;
+    private final ExceptionThrowingFutureSupplier<T> action;
+    private final long enqueuedTimeMillis;
+    private final Optional<UInt64> enqueuedSlot;
+    private final SafeFuture<T> result = new SafeFuture<>();
+
+    private QueuedTask(
+        final GossipIngressQueue queue,
+        final ExceptionThrowingFutureSupplier<T> action,
+        final long enqueuedTimeMillis,
+        final Optional<UInt64> enqueuedSlot) {
+      this.queue = queue;
+      this.action = action;
+      this.enqueuedTimeMillis = enqueuedTimeMillis;
+      this.enqueuedSlot = enqueuedSlot;
+    }
+
+    private boolean isExpired(final Optional<UInt64> currentSlot) {
+      if (queue.getExpirySlots().isEmpty() || enqueuedSlot.isEmpty() || currentSlot.isEmpty()) {
+        return false;
+      }
+      return currentSlot
+          .get()
+          .minusMinZero(enqueuedSlot.get())
+          .isGreaterThanOrEqualTo(queue.getExpirySlots().get());
+    }
+  }
+
+  class QueueAsyncRunner implements AsyncRunner {
+    private final GossipIngressQueue queue;
+
+    private QueueAsyncRunner(final GossipIngressQueue queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+      return schedule(queue, action);
+    }
+
+    @Override
+    public <U> SafeFuture<U> runAfterDelay(
+        final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+      return asyncRunner.runAfterDelay(action, delay);
+    }
+
+    @Override
+    public void shutdown() {
+      // The underlying runner is shared so is shutdown by its owner
+    }
+  }
+}
@@ -30,6 +30,7 @@ import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.statetransition.validation.SingleAttestationPrefilter;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class AttestationSubnetSubscriptions extends CommitteeSubnetSubscriptions {
@@ -41,6 +42,7 @@ public class AttestationSubnetSubscriptions extends CommitteeSubnetSubscriptions
   private final ForkInfo forkInfo;
   private final int maxMessageSize;
   private final AttestationSchema attestationSchema;
+  private final SingleAttestationPrefilter prefilter;
 
   public AttestationSubnetSubscriptions(
       final Spec spec,
@@ -60,6 +62,7 @@ public class AttestationSubnetSubscriptions extends CommitteeSubnetSubscriptions
     this.maxMessageSize = maxMessageSize;
     attestationSchema =
         spec.atEpoch(forkInfo.getFork().getEpoch()).getSchemaDefinitions().getAttestationSchema();
+    prefilter = new SingleAttestationPrefilter(spec, recentChainData);
   }
 
   public SafeFuture<?> gossip(final Attestation attestation) {
@@ -97,6 +100,7 @@ public class AttestationSubnetSubscriptions extends CommitteeSubnetSubscriptions
         topicName,
         attestationSchema,
         subnetId,
+        prefilter,
         maxMessageSize);
   }
 
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.infrastructure.logging.P2PLogger.P2P_LOG;
 
 import io.libp2p.core.pubsub.ValidationResult;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -29,6 +30,8 @@ import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.Eth2PreparedGossipMessageFactory;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressScheduler;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipMessageExpiredException;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipSubValidationUtil;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
@@ -49,6 +52,7 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
   private final SszSchema<MessageT> messageType;
   private final Eth2PreparedGossipMessageFactory preparedGossipMessageFactory;
   private final int maxMessageSize;
+  private final boolean deserializeInTask;
 
   public Eth2TopicHandler(
       final RecentChainData recentChainData,
@@ -66,6 +70,7 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
     this.topicName = topicName;
     this.messageType = messageType;
     this.maxMessageSize = maxMessageSize;
+    this.deserializeInTask = GossipIngressScheduler.isQueued(asyncRunner);
     this.preparedGossipMessageFactory =
         gossipEncoding.createPreparedGossipMessageFactory(
             recentChainData::getMilestoneByForkDigest);
@@ -93,22 +98,38 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
 
   @Override
   public SafeFuture<ValidationResult> handleMessage(PreparedGossipMessage message) {
-    return SafeFuture.of(() -> deserialize(message))
-        .thenCompose(
-            deserialized ->
-                asyncRunner.runAsync(
-                    () ->
-                        processor
-                            .process(deserialized)
-                            .thenApply(
-                                internalValidation -> {
-                                  processMessage(internalValidation, message);
-                                  return GossipSubValidationUtil.fromInternalValidationResult(
-                                      internalValidation);
-                                })))
+    final SafeFuture<InternalValidationResult> result;
+    if (deserializeInTask) {
+      // Deserialize as part of the async task so it doesn't happen on the network thread and
+      // messages which are dropped before being processed are never decoded
+      result = asyncRunner.runAsync(() -> validateMessage(message, processor::process));
+    } else {
+      result =
+          validateMessage(
+              message, deserialized -> asyncRunner.runAsync(() -> processor.process(deserialized)));
+    }
+    return result
+        .thenApply(
+            internalValidation -> {
+              processMessage(internalValidation, message);
+              return GossipSubValidationUtil.fromInternalValidationResult(internalValidation);
+            })
         .exceptionally(error -> handleMessageProcessingError(message, error));
   }
 
+  /**
+   * Deserializes the message and passes it to the processor to determine whether it is valid.
+   *
+   * @param message the message to validate
+   * @param processor processes the deserialized message
+   * @return the result of validating the message
+   */
+  protected SafeFuture<InternalValidationResult> validateMessage(
+      final PreparedGossipMessage message,
+      final Function<MessageT, SafeFuture<InternalValidationResult>> processor) {
+    return SafeFuture.of(() -> deserialize(message)).thenCompose(processor);
+  }
+
   private void processMessage(
       final InternalValidationResult internalValidationResult,
       final PreparedGossipMessage message) {
@@ -148,9 +169,14 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
       P2P_LOG.onGossipMessageDecodingError(getTopic(), message.getOriginalMessage(), err);
       response = ValidationResult.Invalid;
     } else if (ExceptionUtil.hasCause(err, RejectedExecutionException.class)) {
-      LOG.warn(
+      // Expected while flooded with more messages than can be processed, so not worth a warning
+      LOG.debug(
           "Discarding gossip message for topic {} because the executor queue is full", getTopic());
       response = ValidationResult.Ignore;
+    } else if (ExceptionUtil.hasCause(err, GossipMessageExpiredException.class)) {
+      LOG.trace(
+          "Discarding gossip message for topic {} because it expired while queued", getTopic());
+      response = ValidationResult.Ignore;
     } else if (ExceptionUtil.hasCause(err, ServiceCapacityExceededException.class)) {
       LOG.warn(
           "Discarding gossip message for topic {} because the signature verification queue is full",
@@ -13,13 +13,20 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers;
 
+import java.util.Optional;
+import java.util.function.Function;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.FlatAttestationView;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+import tech.pegasys.teku.statetransition.validation.SingleAttestationPrefilter;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class SingleAttestationTopicHandler {
@@ -33,6 +40,7 @@ public class SingleAttestationTopicHandler {
       final String topicName,
       final AttestationSchema attestationSchema,
       final int subnetId,
+      final SingleAttestationPrefilter prefilter,
       final int maxMessageSize) {
 
     OperationProcessor<Attestation> convertingProcessor =
@@ -41,7 +49,7 @@ public class SingleAttestationTopicHandler {
                 ValidateableAttestation.fromNetwork(
                     recentChainData.getSpec(), attMessage, subnetId));
 
-    return new Eth2TopicHandler<>(
+    return new PrefilteringTopicHandler(
         recentChainData,
         asyncRunner,
         convertingProcessor,
@@ -49,6 +57,66 @@ public class SingleAttestationTopicHandler {
         forkDigest,
         topicName,
         attestationSchema,
+        prefilter,
         maxMessageSize);
   }
+
+  /**
+   * Checks attestations against their serialized form before deserializing them, so the many
+   * duplicate or out of date attestations received are dropped cheaply.
+   */
+  private static class PrefilteringTopicHandler extends Eth2TopicHandler<Attestation> {
+    private final AttestationSchema attestationSchema;
+    private final SingleAttestationPrefilter prefilter;
+
+    private PrefilteringTopicHandler(
+        final RecentChainData recentChainData,
+        final AsyncRunner asyncRunner,
+        final OperationProcessor<Attestation> processor,
+        final GossipEncoding gossipEncoding,
+        final Bytes4 forkDigest,
+        final String topicName,
+        final AttestationSchema attestationSchema,
+        final SingleAttestationPrefilter prefilter,
+        final int maxMessageSize) {
+      super(
+          recentChainData,
+          asyncRunner,
+          processor,
+          gossipEncoding,
+          forkDigest,
+          topicName,
+          attestationSchema,
+          maxMessageSize);
+      this.attestationSchema = attestationSchema;
+      this.prefilter = prefilter;
+    }
+
+    @Override
+    protected SafeFuture<InternalValidationResult> validateMessage(
+        final PreparedGossipMessage message,
+        final Function<Attestation, SafeFuture<InternalValidationResult>> processor) {
+      final Optional<FlatAttestationView> maybeAttestation =
+          message
+              .getDecodedMessage()
+              .getDecodedMessage()
+              .flatMap(ssz -> FlatAttestationView.wrap(attestationSchema, ssz));
+      if (maybeAttestation.isEmpty()) {
+        // Leave it to full deserialization to report why the message is invalid
+        return super.validateMessage(message, processor);
+      }
+      final FlatAttestationView attestation = maybeAttestation.get();
+      final InternalValidationResult prefilterResult = prefilter.validate(attestation);
+      if (!prefilterResult.isAccept()) {
+        return SafeFuture.completedFuture(prefilterResult);
+      }
+      return super.validateMessage(message, processor)
+          .thenPeek(
+              result -> {
+                if (result.isAccept()) {
+                  prefilter.onAttestationAccepted(attestation);
+                }
+              });
+    }
+  }
 }
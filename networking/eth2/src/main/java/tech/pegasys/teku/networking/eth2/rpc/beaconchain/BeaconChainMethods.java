@@ -101,7 +101,13 @@ public class BeaconChainMethods {
         createGoodBye(asyncRunner, metricsSystem, peerLookup, rpcEncoding),
         createBeaconBlocksByRoot(spec, asyncRunner, recentChainData, peerLookup, rpcEncoding),
         createBeaconBlocksByRange(
-            spec, asyncRunner, recentChainData, combinedChainDataClient, peerLookup, rpcEncoding),
+            spec,
+            asyncRunner,
+            recentChainData,
+            combinedChainDataClient,
+            metricsSystem,
+            peerLookup,
+            rpcEncoding),
         createMetadata(spec, asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding),
         createPing(asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding));
   }
@@ -210,12 +216,17 @@ public class BeaconChainMethods {
           final AsyncRunner asyncRunner,
           final RecentChainData recentChainData,
           final CombinedChainDataClient combinedChainDataClient,
+          final MetricsSystem metricsSystem,
           final PeerLookup peerLookup,
           final RpcEncoding rpcEncoding) {
 
     final BeaconBlocksByRangeMessageHandler beaconBlocksByRangeHandler =
         new BeaconBlocksByRangeMessageHandler(
-            spec, combinedChainDataClient, MAX_BLOCK_BY_RANGE_REQUEST_SIZE);
+            spec,
+            metricsSystem,
+            combinedChainDataClient,
+            MAX_BLOCK_BY_RANGE_REQUEST_SIZE,
+            BeaconBlocksByRangeMessageHandler.DEFAULT_SERIALIZED_BLOCK_CACHE_SIZE);
     // V1 request only deal with Phase0 blocks
     final SignedBeaconBlockSchema phase0BlockSchema =
         spec.forMilestone(SpecMilestone.PHASE0).getSchemaDefinitions().getSignedBeaconBlockSchema();
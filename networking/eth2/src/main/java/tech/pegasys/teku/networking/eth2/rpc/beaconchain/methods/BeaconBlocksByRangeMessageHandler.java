@@ -20,14 +20,28 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVAL
 import static tech.pegasys.teku.spec.config.Constants.MAX_REQUEST_BLOCKS;
 
 import com.google.common.base.Throwables;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.channels.ClosedChannelException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
@@ -35,6 +49,7 @@ import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandle
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodVersion;
+import tech.pegasys.teku.networking.eth2.rpc.core.SerializedResponsePayload;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -46,18 +61,52 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 public class BeaconBlocksByRangeMessageHandler
     extends PeerRequiredLocalMessageHandler<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock> {
   private static final Logger LOG = LogManager.getLogger();
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  /** Number of recently served finalized blocks kept in their encoded form. */
+  public static final int DEFAULT_SERIALIZED_BLOCK_CACHE_SIZE = 64;
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
   private final UInt64 maxRequestSize;
+  private final Cache<UInt64, SerializedResponsePayload> serializedBlockCache;
+  private final Map<BlockSource, ServedBlockStats> servedBlockStats =
+      new EnumMap<>(BlockSource.class);
 
   public BeaconBlocksByRangeMessageHandler(
       final Spec spec,
+      final MetricsSystem metricsSystem,
       final CombinedChainDataClient combinedChainDataClient,
-      final UInt64 maxRequestSize) {
+      final UInt64 maxRequestSize,
+      final int serializedBlockCacheSize) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
     this.maxRequestSize = maxRequestSize;
+    this.serializedBlockCache =
+        serializedBlockCacheSize > 0
+            ? LRUCache.create(serializedBlockCacheSize)
+            : NoOpCache.getNoOpCache();
+
+    final LabelledGauge servedBytes =
+        metricsSystem.createLabelledGauge(
+            TekuMetricCategory.NETWORK,
+            "rpc_blocks_by_range_served_bytes",
+            "Total SSZ bytes of blocks sent in response to blocks by range requests",
+            "source");
+    final LabelledGauge servedCpuSeconds =
+        metricsSystem.createLabelledGauge(
+            TekuMetricCategory.NETWORK,
+            "rpc_blocks_by_range_served_cpu_seconds",
+            "CPU time spent serializing and encoding blocks sent in response to blocks by range "
+                + "requests",
+            "source");
+    for (BlockSource source : BlockSource.values()) {
+      final ServedBlockStats stats = new ServedBlockStats();
+      servedBlockStats.put(source, stats);
+      servedBytes.labels(stats.bytes::sum, source.label);
+      servedCpuSeconds.labels(
+          () -> stats.cpuNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1), source.label);
+    }
   }
 
   @Override
@@ -201,7 +250,7 @@ public class BeaconBlocksByRangeMessageHandler
 
   /** Sends the block and returns true if the request is now complete. */
   private SafeFuture<Boolean> handleLoadedBlock(
-      final RequestState requestState, final Optional<SignedBeaconBlock> block) {
+      final RequestState requestState, final Optional<LoadedBlock> block) {
     return block
         .map(requestState::sendBlock)
         .orElse(SafeFuture.COMPLETE)
@@ -253,13 +302,19 @@ public class BeaconBlocksByRangeMessageHandler
       return !needsMoreBlocks() || hasReachedHeadSlot();
     }
 
-    SafeFuture<Void> sendBlock(final SignedBeaconBlock block) {
+    SafeFuture<Void> sendBlock(final LoadedBlock block) {
       // request step is deprecated, if a step greater than 1 is requested, only return the first
       // block
       if (step.isGreaterThan(1L)) {
         remainingBlocks = ZERO;
       }
-      return callback.respond(block);
+      final long startCpuTime = currentThreadCpuTime();
+      final SerializedResponsePayload payload = block.payload.get();
+      final SafeFuture<Void> result = callback.respondSerialized(payload);
+      final ServedBlockStats stats = servedBlockStats.get(block.source);
+      stats.bytes.add(payload.getSszBytes().size());
+      stats.cpuNanos.add(currentThreadCpuTime() - startCpuTime);
+      return result;
     }
 
     void incrementCurrentSlot() {
@@ -267,23 +322,92 @@ public class BeaconBlocksByRangeMessageHandler
       currentSlot = currentSlot.plus(step);
     }
 
-    SafeFuture<Optional<SignedBeaconBlock>> loadNextBlock() {
+    SafeFuture<Optional<LoadedBlock>> loadNextBlock() {
       final UInt64 slot = this.currentSlot;
       final Bytes32 knownBlockRoot = knownBlockRoots.get(slot);
       if (knownBlockRoot != null) {
         // Known root so lookup by root
         return combinedChainDataClient
             .getBlockByBlockRoot(knownBlockRoot)
-            .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
+            .thenApply(
+                maybeBlock ->
+                    maybeBlock
+                        .filter(block -> block.getSlot().equals(slot))
+                        .map(LoadedBlock::deserialized));
       } else if ((!knownBlockRoots.isEmpty() && slot.compareTo(knownBlockRoots.firstKey()) >= 0)
           || slot.compareTo(headSlot) > 0) {
         // Unknown root but not finalized means this is an empty slot
         // Could also be because the first block requested is above our head slot
         return SafeFuture.completedFuture(Optional.empty());
+      } else if (combinedChainDataClient.isFinalized(slot)) {
+        return loadFinalizedBlock(slot);
       } else {
-        // Must be a finalized block so lookup by slot
-        return combinedChainDataClient.getBlockAtSlotExact(slot);
+        // Finalized since the request started or not yet pruned from protoarray, lookup by slot
+        return combinedChainDataClient
+            .getBlockAtSlotExact(slot)
+            .thenApply(maybeBlock -> maybeBlock.map(LoadedBlock::deserialized));
+      }
+    }
+
+    private SafeFuture<Optional<LoadedBlock>> loadFinalizedBlock(final UInt64 slot) {
+      // Finalized blocks never change so can be served from the stored bytes and cached by slot
+      final Optional<SerializedResponsePayload> cachedPayload =
+          serializedBlockCache.getCached(slot);
+      if (cachedPayload.isPresent()) {
+        return SafeFuture.completedFuture(
+            Optional.of(new LoadedBlock(BlockSource.CACHE, cachedPayload::get)));
       }
+      return combinedChainDataClient
+          .getSerializedFinalizedBlockAtSlot(slot)
+          .thenApply(
+              maybeBlock ->
+                  maybeBlock.map(
+                      sszBytes -> {
+                        final SerializedResponsePayload payload =
+                            new SerializedResponsePayload(slot, sszBytes);
+                        serializedBlockCache.invalidateWithNewValue(slot, payload);
+                        return new LoadedBlock(BlockSource.STORAGE, () -> payload);
+                      }));
+    }
+  }
+
+  private static long currentThreadCpuTime() {
+    // Fall back to wall clock time where the JVM can't measure thread CPU time
+    return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+        ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+        : System.nanoTime();
+  }
+
+  private enum BlockSource {
+    /** Stored SSZ bytes sent without deserializing them. */
+    STORAGE,
+    /** Recently served finalized block, usually already encoded. */
+    CACHE,
+    /** Block object which has to be serialized before sending. */
+    DESERIALIZED;
+
+    private final String label = name().toLowerCase(Locale.ROOT);
+  }
+
+  private static class ServedBlockStats {
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder cpuNanos = new LongAdder();
+  }
+
+  private static class LoadedBlock {
+    private final BlockSource source;
+    private final Supplier<SerializedResponsePayload> payload;
+
+    private LoadedBlock(
+        final BlockSource source, final Supplier<SerializedResponsePayload> payload) {
+      this.source = source;
+      this.payload = payload;
+    }
+
+    static LoadedBlock deserialized(final SignedBeaconBlock block) {
+      return new LoadedBlock(
+          BlockSource.DESERIALIZED,
+          () -> new SerializedResponsePayload(block.getSlot(), block.sszSerialize()));
     }
   }
 }
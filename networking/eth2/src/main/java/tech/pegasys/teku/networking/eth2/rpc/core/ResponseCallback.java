@@ -18,6 +18,12 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 public interface ResponseCallback<T> {
   SafeFuture<Void> respond(T data);
 
+  /**
+   * Sends a response whose payload is already SSZ serialized, avoiding the need to deserialize it
+   * only for it to be serialized again.
+   */
+  SafeFuture<Void> respondSerialized(SerializedResponsePayload data);
+
   void respondAndCompleteSuccessfully(T data);
 
   void completeSuccessfully();
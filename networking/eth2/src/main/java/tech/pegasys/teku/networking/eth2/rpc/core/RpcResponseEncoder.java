@@ -36,6 +36,12 @@ public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
         Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
   }
 
+  public Bytes encodeSuccessfulResponse(SerializedResponsePayload response) {
+    final Bytes context = contextCodec.encodeContextForSlot(response.getSlot());
+    return Bytes.concatenate(
+        Bytes.of(SUCCESS_RESPONSE_CODE), context, response.getEncodedPayload(encoding));
+  }
+
   public Bytes encodeErrorResponse(RpcException error) {
     return Bytes.concatenate(
         Bytes.of(error.getResponseCode()), encoding.encodePayload(error.getErrorMessage()));
@@ -0,0 +1,94 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
+
+/**
+ * A response payload which is already SSZ serialized, for example as read from storage, so it can
+ * be sent without being deserialized and serialized again.
+ *
+ * <p>The encoded (length prefixed and compressed) form is kept once computed so an instance which
+ * is sent to several peers is only compressed once.
+ */
+public class SerializedResponsePayload {
+  private final UInt64 slot;
+  private final Bytes sszBytes;
+  private volatile EncodedPayload encodedPayload;
+
+  /**
+   * @param slot the slot the payload belongs to, used to determine the fork digest context
+   * @param sszBytes the SSZ serialized payload
+   */
+  public SerializedResponsePayload(final UInt64 slot, final Bytes sszBytes) {
+    this.slot = slot;
+    this.sszBytes = sszBytes;
+  }
+
+  public UInt64 getSlot() {
+    return slot;
+  }
+
+  public Bytes getSszBytes() {
+    return sszBytes;
+  }
+
+  Bytes getEncodedPayload(final RpcEncoding encoding) {
+    EncodedPayload current = encodedPayload;
+    if (current == null || current.encoding != encoding) {
+      current = new EncodedPayload(encoding, encoding.encodeSerializedPayload(sszBytes));
+      encodedPayload = current;
+    }
+    return current.bytes;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final SerializedResponsePayload that = (SerializedResponsePayload) o;
+    return Objects.equals(slot, that.slot) && Objects.equals(sszBytes, that.sszBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(slot, sszBytes);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("slot", slot)
+        .add("size", sszBytes.size())
+        .toString();
+  }
+
+  private static class EncodedPayload {
+    private final RpcEncoding encoding;
+    private final Bytes bytes;
+
+    private EncodedPayload(final RpcEncoding encoding, final Bytes bytes) {
+      this.encoding = encoding;
+      this.bytes = bytes;
+    }
+  }
+}
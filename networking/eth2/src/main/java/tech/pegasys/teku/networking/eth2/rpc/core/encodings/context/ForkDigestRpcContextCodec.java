@@ -47,7 +47,11 @@ class ForkDigestRpcContextCodec<TPayload extends SszData>
 
   @Override
   public Bytes encodeContext(TPayload responsePayload) {
-    final UInt64 slot = payloadContext.getSlotFromPayload(responsePayload);
+    return encodeContextForSlot(payloadContext.getSlotFromPayload(responsePayload));
+  }
+
+  @Override
+  public Bytes encodeContextForSlot(final UInt64 slot) {
     final SpecMilestone specMilestone = spec.getForkSchedule().getSpecMilestoneAtSlot(slot);
     return recentChainData
         .getForkDigestByMilestone(specMilestone)
@@ -0,0 +1,348 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.ingress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+import static tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue.AGGREGATE;
+import static tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue.ATTESTATION;
+import static tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue.BLOCK;
+import static tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue.OPERATION;
+import static tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue.SYNC_COMMITTEE_CONTRIBUTION;
+import static tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue.SYNC_COMMITTEE_MESSAGE;
+import static tech.pegasys.teku.spec.config.Constants.ATTESTATION_PROPAGATION_SLOT_RANGE;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class PrioritizedGossipIngressSchedulerTest {
+
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+  private final List<ProcessedMessage> processedMessages = new ArrayList<>();
+  private UInt64 currentSlot = UInt64.ONE;
+
+  @Test
+  void shouldLimitNumberOfConcurrentTasks() {
+    final PrioritizedGossipIngressScheduler scheduler = createScheduler(2);
+    for (int i = 0; i < 5; i++) {
+      schedule(scheduler, ATTESTATION);
+    }
+
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
+    assertThat(scheduler.getQueueSize(ATTESTATION)).isEqualTo(3);
+
+    asyncRunner.executeQueuedActions();
+    assertThat(processedMessages).hasSize(2);
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
+    assertThat(scheduler.getQueueSize(ATTESTATION)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldProcessHigherPriorityQueuesFirst() {
+    final PrioritizedGossipIngressScheduler scheduler = createScheduler(1);
+    for (int i = 0; i < 5; i++) {
+      schedule(scheduler, ATTESTATION);
+    }
+    schedule(scheduler, AGGREGATE);
+    schedule(scheduler, BLOCK);
+
+    executeAll();
+
+    assertThat(processedMessages)
+        .extracting(ProcessedMessage::getQueue)
+        .containsExactly(
+            ATTESTATION, BLOCK, AGGREGATE, ATTESTATION, ATTESTATION, ATTESTATION, ATTESTATION);
+  }
+
+  @Test
+  void shouldNotStarveLowerPriorityQueues() {
+    final PrioritizedGossipIngressScheduler scheduler = createScheduler(1);
+    schedule(scheduler, BLOCK);
+    for (int i = 0; i < 100; i++) {
+      schedule(scheduler, BLOCK);
+    }
+    schedule(scheduler, ATTESTATION);
+
+    executeAll();
+
+    final int attestationIndex =
+        processedMessages.stream()
+            .map(ProcessedMessage::getQueue)
+            .collect(Collectors.toList())
+            .indexOf(ATTESTATION);
+    assertThat(attestationIndex).isBetween(1, 30);
+  }
+
+  @Test
+  void shouldReleaseCapacityWhenProcessorReturnsBeforeResultCompletes() {
+    final PrioritizedGossipIngressScheduler scheduler = createScheduler(1);
+    final SafeFuture<Void> pendingResult = new SafeFuture<>();
+    final SafeFuture<Void> result1 =
+        scheduler.getAsyncRunner(ATTESTATION).runAsync(() -> pendingResult);
+    schedule(scheduler, ATTESTATION);
+
+    executeAll();
+
+    assertThat(processedMessages).hasSize(1);
+    assertThat(result1).isNotDone();
+    pendingResult.complete(null);
+    assertThat(result1).isCompleted();
+  }
+
+  @Test
+  void shouldRejectMessagesWhenQueueIsFull() {
+    final PrioritizedGossipIngressScheduler scheduler = createScheduler(1);
+    // The first task is started immediately so doesn't take space in the queue
+    for (int i = 0; i <= OPERATION.getCapacity(); i++) {
+      schedule(scheduler, OPERATION);
+    }
+    assertThat(scheduler.getQueueSize(OPERATION)).isEqualTo(OPERATION.getCapacity());
+
+    final SafeFuture<Void> result = schedule(scheduler, OPERATION);
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(RejectedExecutionException.class);
+
+    // Other queues are unaffected
+    final SafeFuture<Void> blockResult = schedule(scheduler, BLOCK);
+    asyncRunner.executeQueuedActions();
+    assertThat(blockResult).isCompleted();
+  }
+
+  @Test
+  void shouldDropSyncCommitteeMessagesWhenSlotHasPassed() {
+    final PrioritizedGossipIngressScheduler scheduler = createScheduler(1);
+    final SafeFuture<Void> startedMessage = schedule(scheduler, SYNC_COMMITTEE_MESSAGE);
+    final SafeFuture<Void> queuedMessage = schedule(scheduler, SYNC_COMMITTEE_MESSAGE);
+    final SafeFuture<Void> queuedContribution = schedule(scheduler, SYNC_COMMITTEE_CONTRIBUTION);
+    final SafeFuture<Void> queuedAttestation = schedule(scheduler, ATTESTATION);
+
+    currentSlot = currentSlot.plus(1);
+    final SafeFuture<Void> newMessage = schedule(scheduler, SYNC_COMMITTEE_MESSAGE);
+    executeAll();
+
+    assertThat(startedMessage).isCompleted();
+    assertThatSafeFuture(queuedMessage)
+        .isCompletedExceptionallyWith(GossipMessageExpiredException.class);
+    assertThatSafeFuture(queuedContribution)
+        .isCompletedExceptionallyWith(GossipMessageExpiredException.class);
+    assertThat(queuedAttestation).isCompleted();
+    assertThat(newMessage).isCompleted();
+    assertThat(processedMessages).hasSize(3);
+  }
+
+  @Test
+  void shouldDropAttestationsAndAggregatesOnlyOncePropagationRangeHasPassed() {
+    final PrioritizedGossipIngressScheduler scheduler = createScheduler(1);
+    // Takes the only capacity until executed
+    schedule(scheduler, BLOCK);
+    final SafeFuture<Void> attestationInRange = schedule(scheduler, ATTESTATION);
+    final SafeFuture<Void> aggregateInRange = schedule(scheduler, AGGREGATE);
+
+    // Could still be for the slot they were received in so remain valid
+    currentSlot = currentSlot.plus(ATTESTATION_PROPAGATION_SLOT_RANGE);
+    executeAll();
+    assertThat(attestationInRange).isCompleted();
+    assertThat(aggregateInRange).isCompleted();
+
+    schedule(scheduler, BLOCK);
+    final SafeFuture<Void> expiredAttestation = schedule(scheduler, ATTESTATION);
+    final SafeFuture<Void> expiredAggregate = schedule(scheduler, AGGREGATE);
+
+    currentSlot = currentSlot.plus(ATTESTATION_PROPAGATION_SLOT_RANGE).plus(1);
+    executeAll();
+    assertThatSafeFuture(expiredAttestation)
+        .isCompletedExceptionallyWith(GossipMessageExpiredException.class);
+    assertThatSafeFuture(expiredAggregate)
+        .isCompletedExceptionallyWith(GossipMessageExpiredException.class);
+    assertThat(processedMessages).hasSize(4);
+  }
+
+  @Test
+  void shouldNotExpireMessagesWhenSlotIsUnknown() {
+    final PrioritizedGossipIngressScheduler scheduler =
+        new PrioritizedGossipIngressScheduler(
+            asyncRunner, new NoOpMetricsSystem(), timeProvider, Optional::empty, 1);
+    schedule(scheduler, SYNC_COMMITTEE_MESSAGE);
+    final SafeFuture<Void> queuedMessage = schedule(scheduler, SYNC_COMMITTEE_MESSAGE);
+
+    executeAll();
+
+    assertThat(queuedMessage).isCompleted();
+  }
+
+  @Test
+  void shouldReleaseCapacityWhenUnderlyingRunnerRejectsTask() {
+    final AsyncRunner rejectingRunner =
+        new AsyncRunner() {
+          @Override
+          public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+            return SafeFuture.failedFuture(new RejectedExecutionException("Queue full"));
+          }
+
+          @Override
+          public <U> SafeFuture<U> runAfterDelay(
+              final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+            return SafeFuture.failedFuture(new RejectedExecutionException("Queue full"));
+          }
+
+          @Override
+          public void shutdown() {}
+        };
+    final PrioritizedGossipIngressScheduler scheduler =
+        new PrioritizedGossipIngressScheduler(
+            rejectingRunner,
+            new NoOpMetricsSystem(),
+            timeProvider,
+            () -> Optional.of(currentSlot),
+            1);
+
+    final SafeFuture<Void> result1 = schedule(scheduler, BLOCK);
+    final SafeFuture<Void> result2 = schedule(scheduler, BLOCK);
+
+    assertThatSafeFuture(result1).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertThatSafeFuture(result2).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertThat(scheduler.getQueueSize(BLOCK)).isZero();
+  }
+
+  @Test
+  void shouldRejectInvalidMaxConcurrentTasks() {
+    assertThatThrownBy(() -> createScheduler(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldProcessBlocksAndAggregatesPromptlyUnderSyntheticAttestationFlood() {
+    final PrioritizedGossipIngressScheduler scheduler = createScheduler(4);
+    final SyntheticGossipLoad load = new SyntheticGossipLoad(new Random(42), 1, 64, 2000);
+    final List<SafeFuture<Void>> attestationResults = new ArrayList<>();
+
+    for (int slot = 1; slot <= 4; slot++) {
+      currentSlot = UInt64.valueOf(slot);
+      for (GossipIngressQueue queue : load.nextSlot()) {
+        final SafeFuture<Void> result = schedule(scheduler, queue);
+        if (queue == ATTESTATION) {
+          attestationResults.add(result);
+        }
+      }
+      // Only enough capacity to process a fraction of the messages received each slot
+      for (int i = 0; i < 100; i++) {
+        asyncRunner.executeQueuedActions();
+      }
+      assertThat(scheduler.getQueueSize(BLOCK)).isZero();
+      assertThat(scheduler.getQueueSize(AGGREGATE)).isZero();
+    }
+
+    // Every block and aggregate was processed in the slot it was received in
+    assertThat(processedMessages)
+        .filteredOn(message -> message.getQueue() != ATTESTATION)
+        .hasSize(4 * 65)
+        .allMatch(message -> message.getReceivedSlot().equals(message.getProcessedSlot()));
+    // Attestations not processed yet are still valid so wait rather than being dropped
+    assertThat(attestationResults).noneMatch(SafeFuture::isCompletedExceptionally);
+    assertThat(scheduler.getQueueSize(ATTESTATION)).isPositive();
+  }
+
+  private PrioritizedGossipIngressScheduler createScheduler(final int maxConcurrentTasks) {
+    return new PrioritizedGossipIngressScheduler(
+        asyncRunner,
+        new NoOpMetricsSystem(),
+        timeProvider,
+        () -> Optional.of(currentSlot),
+        maxConcurrentTasks);
+  }
+
+  private SafeFuture<Void> schedule(
+      final PrioritizedGossipIngressScheduler scheduler, final GossipIngressQueue queue) {
+    final UInt64 receivedSlot = currentSlot;
+    return scheduler
+        .getAsyncRunner(queue)
+        .runAsync(
+            () -> {
+              processedMessages.add(new ProcessedMessage(queue, receivedSlot, currentSlot));
+            });
+  }
+
+  private void executeAll() {
+    while (asyncRunner.hasDelayedActions()) {
+      asyncRunner.executeQueuedActions();
+    }
+  }
+
+  /** Generates the mix of gossip messages received during each slot, in a random order. */
+  private static class SyntheticGossipLoad {
+    private final Random random;
+    private final int blocksPerSlot;
+    private final int aggregatesPerSlot;
+    private final int attestationsPerSlot;
+
+    private SyntheticGossipLoad(
+        final Random random,
+        final int blocksPerSlot,
+        final int aggregatesPerSlot,
+        final int attestationsPerSlot) {
+      this.random = random;
+      this.blocksPerSlot = blocksPerSlot;
+      this.aggregatesPerSlot = aggregatesPerSlot;
+      this.attestationsPerSlot = attestationsPerSlot;
+    }
+
+    private List<GossipIngressQueue> nextSlot() {
+      final List<GossipIngressQueue> messages = new ArrayList<>();
+      messages.addAll(Collections.nCopies(blocksPerSlot, BLOCK));
+      messages.addAll(Collections.nCopies(aggregatesPerSlot, AGGREGATE));
+      messages.addAll(Collections.nCopies(attestationsPerSlot, ATTESTATION));
+      Collections.shuffle(messages, random);
+      return messages;
+    }
+  }
+
+  private static class ProcessedMessage {
+    private final GossipIngressQueue queue;
+    private final UInt64 receivedSlot;
+    private final UInt64 processedSlot;
+
+    private ProcessedMessage(
+        final GossipIngressQueue queue, final UInt64 receivedSlot, final UInt64 processedSlot) {
+      this.queue = queue;
+      this.receivedSlot = receivedSlot;
+      this.processedSlot = processedSlot;
+    }
+
+    public GossipIngressQueue getQueue() {
+      return queue;
+    }
+
+    public UInt64 getReceivedSlot() {
+      return receivedSlot;
+    }
+
+    public UInt64 getProcessedSlot() {
+      return processedSlot;
+    }
+  }
+}
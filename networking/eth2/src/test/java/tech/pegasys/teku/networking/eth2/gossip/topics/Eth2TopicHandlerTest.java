@@ -13,21 +13,29 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.topics;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 import static tech.pegasys.teku.spec.config.Constants.GOSSIP_MAX_SIZE;
 
 import io.libp2p.core.pubsub.ValidationResult;
+import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressQueue;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipMessageExpiredException;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.PrioritizedGossipIngressScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
@@ -194,6 +202,24 @@ public class Eth2TopicHandlerTest {
     assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Ignore);
   }
 
+  @Test
+  public void handleMessage_errorWhileProcessing_expiredInQueue() {
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            (b) -> {
+              throw new GossipMessageExpiredException("Too late");
+            });
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes));
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Ignore);
+  }
+
   @Test
   public void handleMessage_errorWhileProcessing_wrappedRejectedExecution() {
     MockEth2TopicHandler topicHandler =
@@ -285,6 +311,62 @@ public class Eth2TopicHandlerTest {
     assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Invalid);
   }
 
+  @Test
+  public void handleMessage_shouldDeserializeBeforeSchedulingWhenRunnerDoesNotQueue() {
+    final AtomicInteger deserializeCount = new AtomicInteger();
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            (b) -> SafeFuture.completedFuture(InternalValidationResult.ACCEPT));
+    topicHandler.setDeserializer(
+        (b) -> {
+          deserializeCount.incrementAndGet();
+          throw new DecodingException("oops");
+        });
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes));
+
+    // Invalid messages are rejected without being scheduled
+    assertThat(deserializeCount).hasValue(1);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Invalid);
+  }
+
+  @Test
+  public void handleMessage_shouldDeserializeInTaskWhenRunnerQueues() {
+    final AtomicInteger deserializeCount = new AtomicInteger();
+    final PrioritizedGossipIngressScheduler scheduler =
+        new PrioritizedGossipIngressScheduler(
+            asyncRunner,
+            new NoOpMetricsSystem(),
+            StubTimeProvider.withTimeInMillis(1000),
+            Optional::empty,
+            1);
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            scheduler.getAsyncRunner(GossipIngressQueue.BLOCK),
+            (b) -> SafeFuture.completedFuture(InternalValidationResult.ACCEPT));
+    topicHandler.setDeserializer(
+        (b) -> {
+          deserializeCount.incrementAndGet();
+          return GossipEncoding.SSZ_SNAPPY.decodeMessage(
+              b, spec.getGenesisSchemaDefinitions().getSignedBeaconBlockSchema());
+        });
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes));
+    assertThat(deserializeCount).hasValue(0);
+
+    asyncRunner.executeQueuedActions();
+    assertThat(deserializeCount).hasValue(1);
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Valid);
+  }
+
   private static class MockEth2TopicHandler extends Eth2TopicHandler<SignedBeaconBlock> {
     private final Bytes4 forkDigest;
     private Deserializer<SignedBeaconBlock> deserializer;
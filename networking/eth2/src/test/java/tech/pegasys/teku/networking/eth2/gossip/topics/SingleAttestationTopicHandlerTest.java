@@ -14,6 +14,10 @@
 package tech.pegasys.teku.networking.eth2.gossip.topics;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.spec.config.Constants.GOSSIP_MAX_SIZE;
 
@@ -25,12 +29,15 @@ import tech.pegasys.teku.bls.BLSKeyGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.SingleAttestationTopicHandler;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.generator.AttestationGenerator;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+import tech.pegasys.teku.statetransition.validation.SingleAttestationPrefilter;
 
 public class SingleAttestationTopicHandlerTest
     extends AbstractTopicHandlerTest<ValidateableAttestation> {
@@ -49,6 +56,7 @@ public class SingleAttestationTopicHandlerTest
         GossipTopicName.getAttestationSubnetTopicName(SUBNET_ID),
         spec.getGenesisSchemaDefinitions().getAttestationSchema(),
         SUBNET_ID,
+        new SingleAttestationPrefilter(spec, recentChainData),
         GOSSIP_MAX_SIZE);
   }
 
@@ -120,6 +128,63 @@ public class SingleAttestationTopicHandlerTest
     assertThat(result).isCompletedWithValue(ValidationResult.Invalid);
   }
 
+  @Test
+  public void handleMessage_ignoreDuplicateOfAcceptedAttestation() {
+    final AttestationGenerator attestationGenerator = new AttestationGenerator(spec, validatorKeys);
+    final StateAndBlockSummary blockAndState = getChainHead();
+    final ValidateableAttestation attestation =
+        ValidateableAttestation.fromNetwork(
+            spec, attestationGenerator.validAttestation(blockAndState), SUBNET_ID);
+    when(processor.process(attestation))
+        .thenReturn(SafeFuture.completedFuture(InternalValidationResult.ACCEPT));
+    final Bytes serialized = gossipEncoding.encode(attestation.getAttestation());
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(serialized));
+    final SafeFuture<ValidationResult> duplicateResult =
+        topicHandler.handleMessage(topicHandler.prepareMessage(serialized));
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue(ValidationResult.Valid);
+    assertThat(duplicateResult).isCompletedWithValue(ValidationResult.Ignore);
+    verify(processor, times(1)).process(any());
+  }
+
+  @Test
+  public void handleMessage_ignoreAttestationOutsidePropagationWindowWithoutProcessing() {
+    final AttestationGenerator attestationGenerator = new AttestationGenerator(spec, validatorKeys);
+    final StateAndBlockSummary blockAndState = getChainHead();
+    final Attestation attestation = attestationGenerator.validAttestation(blockAndState);
+    beaconChainUtil.setSlot(UInt64.valueOf(100));
+    final Bytes serialized = gossipEncoding.encode(attestation);
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(serialized));
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue(ValidationResult.Ignore);
+    verify(processor, never()).process(any());
+  }
+
+  @Test
+  public void handleMessage_rejectAggregatedAttestationWithoutProcessing() {
+    final AttestationGenerator attestationGenerator = new AttestationGenerator(spec, validatorKeys);
+    final StateAndBlockSummary blockAndState = getChainHead();
+    final Attestation validAttestation = attestationGenerator.validAttestation(blockAndState);
+    final Attestation attestation =
+        validAttestation
+            .getSchema()
+            .create(
+                validAttestation.getSchema().getAggregationBitsSchema().ofBits(4, 0, 1),
+                validAttestation.getData(),
+                validAttestation.getAggregateSignature());
+    final Bytes serialized = gossipEncoding.encode(attestation);
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(serialized));
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue(ValidationResult.Invalid);
+    verify(processor, never()).process(any());
+  }
+
   @Test
   public void handleMessage_invalidAttestation_invalidSSZ() {
     final Bytes serialized = Bytes.fromHexString("0x3456");
@@ -144,6 +209,7 @@ public class SingleAttestationTopicHandlerTest
             topicName,
             spec.getGenesisSchemaDefinitions().getAttestationSchema(),
             0,
+            new SingleAttestationPrefilter(spec, recentChainData),
             GOSSIP_MAX_SIZE);
     assertThat(topicHandler.getTopic()).isEqualTo("/eth2/11223344/beacon_attestation_0/ssz_snappy");
   }
@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -40,12 +41,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodVersion;
+import tech.pegasys.teku.networking.eth2.rpc.core.SerializedResponsePayload;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -87,8 +90,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
       mock(CombinedChainDataClient.class);
 
   private final String protocolId = BeaconChainMethodIds.getBlocksByRangeMethodId(1, RPC_ENCODING);
-  private final BeaconBlocksByRangeMessageHandler handler =
-      new BeaconBlocksByRangeMessageHandler(spec, combinedChainDataClient, maxRequestSize);
+  private final BeaconBlocksByRangeMessageHandler handler = createHandler(spec);
 
   @BeforeEach
   public void setup() {
@@ -119,8 +121,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   @Test
   public void validateRequest_altairSpec_v1RequestForPhase0Block() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
-    final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, combinedChainDataClient, maxRequestSize);
+    final BeaconBlocksByRangeMessageHandler handler = createHandler(spec);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -132,8 +133,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   @Test
   public void validateRequest_altairSpec_v1RequestForAltairBlock() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
-    final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, combinedChainDataClient, maxRequestSize);
+    final BeaconBlocksByRangeMessageHandler handler = createHandler(spec);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -146,8 +146,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   @Test
   public void validateRequest_altairSpec_v1RequestForRangeOfBlocksAcrossForkBoundary() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
-    final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, combinedChainDataClient, maxRequestSize);
+    final BeaconBlocksByRangeMessageHandler handler = createHandler(spec);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -161,8 +160,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   @Test
   public void validateRequest_altairSpec_v2RequestForPhase0Block() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
-    final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, combinedChainDataClient, maxRequestSize);
+    final BeaconBlocksByRangeMessageHandler handler = createHandler(spec);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -174,8 +172,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   @Test
   public void validateRequest_altairSpec_v2RequestForAltairBlock() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
-    final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, combinedChainDataClient, maxRequestSize);
+    final BeaconBlocksByRangeMessageHandler handler = createHandler(spec);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -187,8 +184,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   @Test
   public void validateRequest_altairSpec_v2RequestForRangeOfBlocksAcrossForkBoundary() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
-    final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, combinedChainDataClient, maxRequestSize);
+    final BeaconBlocksByRangeMessageHandler handler = createHandler(spec);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -414,6 +410,53 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verifyBlocksReturned(1, 2, 3, 4, 5);
   }
 
+  @Test
+  void shouldServeFinalizedBlocksFromStoredBytes() {
+    final int startBlock = 1;
+    final int count = 3;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+
+    requestBlocks(startBlock, count, skip);
+
+    verifyBlocksReturned(1, 2, 3);
+    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any());
+  }
+
+  @Test
+  void shouldCacheServedFinalizedBlocks() {
+    final int startBlock = 1;
+    final int count = 3;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+
+    requestBlocks(startBlock, count, skip);
+    requestBlocks(startBlock, count, skip);
+
+    final InOrder inOrder = Mockito.inOrder(listener);
+    for (int i = 0; i < 2; i++) {
+      for (int slot = startBlock; slot < startBlock + count; slot++) {
+        inOrder.verify(listener).respondSerialized(serializedBlock(slot));
+      }
+      inOrder.verify(listener).completeSuccessfully();
+    }
+    for (int slot = startBlock; slot < startBlock + count; slot++) {
+      verify(combinedChainDataClient, times(1))
+          .getSerializedFinalizedBlockAtSlot(UInt64.valueOf(slot));
+    }
+  }
+
+  private BeaconBlocksByRangeMessageHandler createHandler(final Spec spec) {
+    return new BeaconBlocksByRangeMessageHandler(
+        spec,
+        new StubMetricsSystem(),
+        combinedChainDataClient,
+        maxRequestSize,
+        BeaconBlocksByRangeMessageHandler.DEFAULT_SERIALIZED_BLOCK_CACHE_SIZE);
+  }
+
   private void requestBlocks(final int startBlock, final long count, final int skip) {
 
     handler.onIncomingMessage(
@@ -431,12 +474,16 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private void verifyBlocksReturned(final int... slots) {
     final InOrder inOrder = Mockito.inOrder(listener);
     for (int slot : slots) {
-      inOrder.verify(listener).respond(blocks.get(slot));
+      inOrder.verify(listener).respondSerialized(serializedBlock(slot));
     }
     inOrder.verify(listener).completeSuccessfully();
     verifyNoMoreInteractions(listener);
   }
 
+  private SerializedResponsePayload serializedBlock(final int slot) {
+    return new SerializedResponsePayload(UInt64.valueOf(slot), blocks.get(slot).sszSerialize());
+  }
+
   private void withAncestorRoots(
       final int startBlock,
       final int count,
@@ -474,6 +521,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
               when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot())).thenReturn(result);
               when(combinedChainDataClient.getBlockAtSlotExact(block.getSlot())).thenReturn(result);
               when(combinedChainDataClient.isFinalized(block.getSlot())).thenReturn(true);
+              when(combinedChainDataClient.getSerializedFinalizedBlockAtSlot(block.getSlot()))
+                  .thenReturn(completedFuture(Optional.of(block.sszSerialize())));
             });
   }
 
@@ -48,6 +48,7 @@ import tech.pegasys.teku.networking.eth2.gossip.config.GossipConfigurator;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkManager;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsPhase0;
+import tech.pegasys.teku.networking.eth2.gossip.ingress.GossipIngressScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
@@ -264,7 +265,7 @@ public class Eth2P2PNetworkFactory {
             new GossipForkSubscriptionsPhase0(
                 spec.getForkSchedule().getFork(UInt64.ZERO),
                 spec,
-                asyncRunner,
+                GossipIngressScheduler.direct(asyncRunner),
                 metricsSystem,
                 network,
                 recentChainData,
@@ -22,6 +22,7 @@ import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.DEFAULT_MAXIMUM_ATTESTATION_COUNT;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import java.io.IOException;
 import java.net.BindException;
@@ -36,6 +37,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.beacon.sync.SyncService;
@@ -50,7 +54,9 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.AsyncRunnerEventThread;
+import tech.pegasys.teku.infrastructure.collections.cache.CacheStats;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.events.OverflowPolicy;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.io.PortAvailability;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
@@ -69,6 +75,7 @@ import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubscriptio
 import tech.pegasys.teku.networking.eth2.gossip.subnets.ValidatorBasedStableSubnetSubscriber;
 import tech.pegasys.teku.networking.eth2.mock.NoOpEth2P2PNetwork;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryConfig;
+import tech.pegasys.teku.networks.Eth2NetworkConfiguration;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.services.timer.TimerService;
@@ -85,6 +92,7 @@ import tech.pegasys.teku.spec.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
 import tech.pegasys.teku.statetransition.LocalOperationAcceptedFilter;
@@ -147,6 +155,7 @@ import tech.pegasys.teku.validator.coordinator.BlockFactory;
 import tech.pegasys.teku.validator.coordinator.BlockOperationSelectorFactory;
 import tech.pegasys.teku.validator.coordinator.DepositProvider;
 import tech.pegasys.teku.validator.coordinator.DutyMetrics;
+import tech.pegasys.teku.validator.coordinator.DutyTableCache;
 import tech.pegasys.teku.validator.coordinator.Eth1DataCache;
 import tech.pegasys.teku.validator.coordinator.Eth1DataProvider;
 import tech.pegasys.teku.validator.coordinator.Eth1VotingPeriod;
@@ -170,6 +179,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
 
   private final SettableLabelledGauge futureItemsMetric;
   protected static final String KEY_VALUE_STORE_SUBDIRECTORY = "kvstore";
+  static final int SLOT_EVENTS_RING_BUFFER_CAPACITY = 64;
 
   protected volatile BeaconChainConfiguration beaconConfig;
   protected volatile Spec spec;
@@ -185,6 +195,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected volatile Path beaconDataDirectory;
   protected volatile WeakSubjectivityInitializer wsInitializer = new WeakSubjectivityInitializer();
   protected volatile AsyncRunnerEventThread forkChoiceExecutor;
+  protected volatile AsyncRunnerEventThread blockSignatureVerificationExecutor;
 
   protected volatile ForkChoice forkChoice;
   protected volatile ForkChoiceTrigger forkChoiceTrigger;
@@ -242,8 +253,11 @@ public class BeaconChainController extends Service implements BeaconChainControl
     this.metricsSystem = serviceConfig.getMetricsSystem();
     this.pendingPoolFactory = new PendingPoolFactory(this.metricsSystem);
     this.rejectedExecutionCountSupplier = serviceConfig.getRejectedExecutionsSupplier();
+    configureEventChannels(eventChannels, beaconConfig.eth2NetworkConfig());
     this.slotEventsChannelPublisher = eventChannels.getPublisher(SlotEventsChannel.class);
     this.forkChoiceExecutor = new AsyncRunnerEventThread("forkchoice", asyncRunnerFactory);
+    this.blockSignatureVerificationExecutor =
+        new AsyncRunnerEventThread("block_signature_verification", asyncRunnerFactory);
     this.futureItemsMetric =
         SettableLabelledGauge.create(
             metricsSystem,
@@ -253,10 +267,21 @@ public class BeaconChainController extends Service implements BeaconChainControl
             "type");
   }
 
+  @VisibleForTesting
+  static void configureEventChannels(
+      final EventChannels eventChannels, final Eth2NetworkConfiguration networkConfig) {
+    if (networkConfig.isEventRingBufferEnabled()) {
+      // Slot events must not be lost so the publisher waits rather than dropping them
+      eventChannels.useRingBuffer(
+          SlotEventsChannel.class, SLOT_EVENTS_RING_BUFFER_CAPACITY, OverflowPolicy.BLOCK);
+    }
+  }
+
   @Override
   protected SafeFuture<?> doStart() {
     LOG.debug("Starting {}", this.getClass().getSimpleName());
     forkChoiceExecutor.start();
+    blockSignatureVerificationExecutor.start();
     return initialize()
         .thenCompose(
             (__) ->
@@ -315,11 +340,17 @@ public class BeaconChainController extends Service implements BeaconChainControl
             mergeTransitionConfigCheck
                 .map(MergeTransitionConfigCheck::stop)
                 .orElse(SafeFuture.completedFuture(null)))
-        .thenRun(forkChoiceExecutor::stop);
+        .thenRun(
+            () -> {
+              forkChoiceExecutor.stop();
+              blockSignatureVerificationExecutor.stop();
+            });
   }
 
   protected SafeFuture<?> initialize() {
     final StoreConfig storeConfig = beaconConfig.storeConfig();
+    TransitionCaches.setConcurrentCachesEnabled(
+        storeConfig.isConcurrentTransitionCachesEnabled());
     coalescingChainHeadChannel =
         new CoalescingChainHeadChannel(
             eventChannels.getPublisher(ChainHeadChannel.class), EVENT_LOG);
@@ -518,6 +549,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
         new ForkChoice(
             spec,
             forkChoiceExecutor,
+            blockSignatureVerificationExecutor,
             recentChainData,
             forkChoiceNotifier,
             new TickProcessor(spec, recentChainData),
@@ -543,12 +575,44 @@ public class BeaconChainController extends Service implements BeaconChainControl
             metricsSystem,
             p2pNetwork,
             eth1DataCache);
+    initTransitionCacheMetrics();
     eventChannels
         .subscribe(SlotEventsChannel.class, beaconChainMetrics)
         .subscribe(SlotEventsChannel.class, syncCommitteeMetrics)
         .subscribe(ChainHeadChannel.class, syncCommitteeMetrics);
   }
 
+  private void initTransitionCacheMetrics() {
+    final LabelledMetric<Counter> hits =
+        metricsSystem.createLabelledCounter(
+            BEACON,
+            "transition_cache_hits_total",
+            "Total number of transition cache lookups which found a cached value",
+            "cache");
+    final LabelledMetric<Counter> misses =
+        metricsSystem.createLabelledCounter(
+            BEACON,
+            "transition_cache_misses_total",
+            "Total number of transition cache lookups which had to wait for or compute a value",
+            "cache");
+    final LabelledMetric<Counter> evictions =
+        metricsSystem.createLabelledCounter(
+            BEACON,
+            "transition_cache_evictions_total",
+            "Total number of entries evicted from transition caches",
+            "cache");
+    final LabelledGauge loadTime =
+        metricsSystem.createLabelledGauge(
+            BEACON,
+            "transition_cache_load_seconds",
+            "Total time spent computing values for transition caches",
+            "cache");
+    for (CacheStats stats : TransitionCaches.getCacheStats()) {
+      stats.bindCounters(hits, misses, evictions);
+      loadTime.labels(() -> stats.getTotalLoadTimeNanos() / 1_000_000_000d, stats.getName());
+    }
+  }
+
   public void initDepositProvider() {
     LOG.debug("BeaconChainController.initDepositProvider()");
     depositProvider =
@@ -610,6 +674,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
         eventChannels.getPublisher(BlockImportChannel.class, beaconAsyncRunner);
     final BlockGossipChannel blockGossipChannel =
         eventChannels.getPublisher(BlockGossipChannel.class);
+    final DutyTableCache dutyTableCache =
+        new DutyTableCache(
+            spec, combinedChainDataClient, beaconAsyncRunner, timeProvider, metricsSystem);
     final ValidatorApiHandler validatorApiHandler =
         new ValidatorApiHandler(
             new ChainDataProvider(spec, recentChainData, combinedChainDataClient),
@@ -623,6 +690,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             attestationTopicSubscriber,
             activeValidatorTracker,
             DutyMetrics.create(metricsSystem, timeProvider, recentChainData, spec),
+            dutyTableCache,
             performanceTracker,
             spec,
             forkChoiceTrigger,
@@ -632,6 +700,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             syncCommitteeSubscriptionManager);
     eventChannels
         .subscribe(SlotEventsChannel.class, activeValidatorTracker)
+        .subscribe(ChainHeadChannel.class, dutyTableCache)
         .subscribeMultithreaded(
             ValidatorApiChannel.class,
             validatorApiHandler,
@@ -937,7 +1006,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
             beaconConfig.eth2NetworkConfig().getStartupTargetPeerCount(),
             signatureVerificationService,
             Duration.ofSeconds(beaconConfig.eth2NetworkConfig().getStartupTimeoutSeconds()),
-            spec);
+            spec,
+            keyValueStore);
 
     // chainHeadChannel subscription
     syncService.getForwardSync().subscribeToSyncChanges(coalescingChainHeadChannel);
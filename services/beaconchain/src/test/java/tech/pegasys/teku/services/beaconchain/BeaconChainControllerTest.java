@@ -0,0 +1,52 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.services.beaconchain;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
+import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.events.OverflowPolicy;
+import tech.pegasys.teku.networks.Eth2NetworkConfiguration;
+
+class BeaconChainControllerTest {
+  private final EventChannels eventChannels = mock(EventChannels.class);
+  private final Eth2NetworkConfiguration networkConfig = mock(Eth2NetworkConfiguration.class);
+
+  @Test
+  void configureEventChannels_shouldUseRingBufferForSlotEventsWhenEnabled() {
+    when(networkConfig.isEventRingBufferEnabled()).thenReturn(true);
+
+    BeaconChainController.configureEventChannels(eventChannels, networkConfig);
+
+    verify(eventChannels)
+        .useRingBuffer(
+            SlotEventsChannel.class,
+            BeaconChainController.SLOT_EVENTS_RING_BUFFER_CAPACITY,
+            OverflowPolicy.BLOCK);
+  }
+
+  @Test
+  void configureEventChannels_shouldNotUseRingBufferWhenDisabled() {
+    when(networkConfig.isEventRingBufferEnabled()).thenReturn(false);
+
+    BeaconChainController.configureEventChannels(eventChannels, networkConfig);
+
+    verifyNoInteractions(eventChannels);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.api;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+/**
+ * A compact copy of the blocks tracked by fork choice, persisted so that fork choice can be rebuilt
+ * on restart without loading every hot block from the database.
+ *
+ * <p>Blocks are held without their checkpoint epochs, which are always read from the database, but
+ * with whether their execution payload had been fully validated so that doesn't have to be
+ * confirmed by the execution layer again.
+ */
+public class ForkChoiceSnapshot {
+  private final Checkpoint finalizedCheckpoint;
+  private final Map<Bytes32, StoredBlockMetadata> blocks;
+  private final Set<Bytes32> fullyValidatedBlockRoots;
+
+  private ForkChoiceSnapshot(
+      final Checkpoint finalizedCheckpoint,
+      final Map<Bytes32, StoredBlockMetadata> blocks,
+      final Set<Bytes32> fullyValidatedBlockRoots) {
+    this.finalizedCheckpoint = finalizedCheckpoint;
+    this.blocks = blocks;
+    this.fullyValidatedBlockRoots = fullyValidatedBlockRoots;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** The finalized checkpoint at the time of the snapshot, which the blocks all descend from. */
+  public Checkpoint getFinalizedCheckpoint() {
+    return finalizedCheckpoint;
+  }
+
+  /** The blocks tracked by fork choice by root, in the order they were added to the snapshot. */
+  public Map<Bytes32, StoredBlockMetadata> getBlocks() {
+    return blocks;
+  }
+
+  public boolean isFullyValidated(final Bytes32 blockRoot) {
+    return fullyValidatedBlockRoots.contains(blockRoot);
+  }
+
+  public Set<Bytes32> getFullyValidatedBlockRoots() {
+    return fullyValidatedBlockRoots;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ForkChoiceSnapshot that = (ForkChoiceSnapshot) o;
+    return Objects.equals(finalizedCheckpoint, that.finalizedCheckpoint)
+        && Objects.equals(blocks, that.blocks)
+        && Objects.equals(fullyValidatedBlockRoots, that.fullyValidatedBlockRoots);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(finalizedCheckpoint, blocks, fullyValidatedBlockRoots);
+  }
+
+  public static class Builder {
+    private Checkpoint finalizedCheckpoint;
+    private final Map<Bytes32, StoredBlockMetadata> blocks = new LinkedHashMap<>();
+    private final Set<Bytes32> fullyValidatedBlockRoots = new HashSet<>();
+
+    public ForkChoiceSnapshot build() {
+      checkState(finalizedCheckpoint != null, "Finalized checkpoint must be set");
+      return new ForkChoiceSnapshot(
+          finalizedCheckpoint,
+          Collections.unmodifiableMap(blocks),
+          Collections.unmodifiableSet(fullyValidatedBlockRoots));
+    }
+
+    public Builder finalizedCheckpoint(final Checkpoint finalizedCheckpoint) {
+      checkNotNull(finalizedCheckpoint);
+      this.finalizedCheckpoint = finalizedCheckpoint;
+      return this;
+    }
+
+    /**
+     * Adds a block to the snapshot. Its checkpoint epochs are discarded and a zero execution block
+     * hash is treated as absent, matching what is read back from a persisted snapshot.
+     */
+    public Builder block(final StoredBlockMetadata block, final boolean fullyValidated) {
+      checkNotNull(block);
+      final Bytes32 blockRoot = block.getBlockRoot();
+      blocks.put(
+          blockRoot,
+          new StoredBlockMetadata(
+              block.getBlockSlot(),
+              blockRoot,
+              block.getParentRoot(),
+              block.getStateRoot(),
+              block.getExecutionBlockHash().filter(hash -> !hash.isZero()),
+              Optional.empty()));
+      if (fullyValidated) {
+        fullyValidatedBlockRoots.add(blockRoot);
+      } else {
+        fullyValidatedBlockRoots.remove(blockRoot);
+      }
+      return this;
+    }
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.storage.api;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.execution.SlotAndExecutionPayload;
@@ -33,6 +34,7 @@ public class OnDiskStoreData {
   private final Checkpoint bestJustifiedCheckpoint;
   private final Map<Bytes32, StoredBlockMetadata> blockInformation;
   private final Map<UInt64, VoteTracker> votes;
+  private final Set<Bytes32> fullyValidatedBlockRoots;
   private final Optional<SlotAndExecutionPayload> finalizedOptimisticTransitionPayload;
 
   public OnDiskStoreData(
@@ -44,7 +46,8 @@ public class OnDiskStoreData {
       final Checkpoint justifiedCheckpoint,
       final Checkpoint bestJustifiedCheckpoint,
       final Map<Bytes32, StoredBlockMetadata> blockInformation,
-      final Map<UInt64, VoteTracker> votes) {
+      final Map<UInt64, VoteTracker> votes,
+      final Set<Bytes32> fullyValidatedBlockRoots) {
 
     this.time = time;
     this.anchor = anchor;
@@ -55,6 +58,7 @@ public class OnDiskStoreData {
     this.bestJustifiedCheckpoint = bestJustifiedCheckpoint;
     this.blockInformation = blockInformation;
     this.votes = votes;
+    this.fullyValidatedBlockRoots = fullyValidatedBlockRoots;
   }
 
   public UInt64 getTime() {
@@ -89,6 +93,14 @@ public class OnDiskStoreData {
     return votes;
   }
 
+  /**
+   * The roots of blocks whose execution payload was known to be fully validated when last running,
+   * so the blocks don't need to be treated as optimistic again.
+   */
+  public Set<Bytes32> getFullyValidatedBlockRoots() {
+    return fullyValidatedBlockRoots;
+  }
+
   public Optional<SlotAndExecutionPayload> getFinalizedOptimisticTransitionPayload() {
     return finalizedOptimisticTransitionPayload;
   }
@@ -110,6 +122,7 @@ public class OnDiskStoreData {
         && Objects.equals(bestJustifiedCheckpoint, that.bestJustifiedCheckpoint)
         && Objects.equals(blockInformation, that.blockInformation)
         && Objects.equals(votes, that.votes)
+        && Objects.equals(fullyValidatedBlockRoots, that.fullyValidatedBlockRoots)
         && Objects.equals(
             finalizedOptimisticTransitionPayload, that.finalizedOptimisticTransitionPayload);
   }
@@ -125,6 +138,7 @@ public class OnDiskStoreData {
         bestJustifiedCheckpoint,
         blockInformation,
         votes,
+        fullyValidatedBlockRoots,
         finalizedOptimisticTransitionPayload);
   }
 }
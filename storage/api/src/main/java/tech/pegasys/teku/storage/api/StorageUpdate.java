@@ -37,6 +37,7 @@ public class StorageUpdate {
   private final Set<Bytes32> deletedHotBlocks;
   private final boolean optimisticTransitionBlockRootSet;
   private final Optional<Bytes32> optimisticTransitionBlockRoot;
+  private final Optional<ForkChoiceSnapshot> forkChoiceSnapshot;
 
   public StorageUpdate(
       final Optional<UInt64> genesisTime,
@@ -48,7 +49,8 @@ public class StorageUpdate {
       final Set<Bytes32> deletedHotBlocks,
       final Map<Bytes32, SlotAndBlockRoot> stateRoots,
       final boolean optimisticTransitionBlockRootSet,
-      final Optional<Bytes32> optimisticTransitionBlockRoot) {
+      final Optional<Bytes32> optimisticTransitionBlockRoot,
+      final Optional<ForkChoiceSnapshot> forkChoiceSnapshot) {
     this.genesisTime = genesisTime;
     this.finalizedChainData = finalizedChainData;
     this.justifiedCheckpoint = justifiedCheckpoint;
@@ -59,6 +61,7 @@ public class StorageUpdate {
     this.stateRoots = stateRoots;
     this.optimisticTransitionBlockRootSet = optimisticTransitionBlockRootSet;
     this.optimisticTransitionBlockRoot = optimisticTransitionBlockRoot;
+    this.forkChoiceSnapshot = forkChoiceSnapshot;
   }
 
   public boolean isEmpty() {
@@ -128,4 +131,8 @@ public class StorageUpdate {
   public Map<Bytes32, SlotAndBlockRoot> getStateRoots() {
     return stateRoots;
   }
+
+  public Optional<ForkChoiceSnapshot> getForkChoiceSnapshot() {
+    return forkChoiceSnapshot;
+  }
 }
@@ -28,6 +28,9 @@ public interface StorageUpdateChannel extends ChannelInterface {
 
   SafeFuture<Void> onFinalizedState(BeaconState finalizedState);
 
+  /** Stores the finalized states in a single transaction. */
+  SafeFuture<Void> onFinalizedStates(Collection<BeaconState> finalizedStates);
+
   SafeFuture<Void> onWeakSubjectivityUpdate(WeakSubjectivityUpdate weakSubjectivityUpdate);
 
   void onChainInitialized(AnchorPoint initialAnchor);
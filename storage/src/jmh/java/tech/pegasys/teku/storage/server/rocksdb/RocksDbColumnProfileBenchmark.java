@@ -0,0 +1,162 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.commons.io.FileUtils;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+/**
+ * Replays block import and finalization followed by the reads used to serve blocks by range and
+ * by root RPC requests, with and without per column tuning.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class RocksDbColumnProfileBenchmark {
+  private static final int SLOTS_PER_EPOCH = 32;
+  private static final int INITIAL_EPOCHS = 256;
+  private static final int DISTINCT_BLOCKS = 512;
+  private static final int BLOCKS_BY_RANGE_COUNT = 64;
+
+  @Param({"false", "true"})
+  boolean columnProfilesEnabled;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec, false);
+  private final List<SignedBeaconBlock> blocks = new ArrayList<>();
+  private final Random random = new Random(1);
+
+  private Path tempDirectory;
+  private KvStoreAccessor db;
+  private long nextSlot = 0;
+
+  @Setup
+  public void setup() throws Exception {
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+    for (int i = 0; i < DISTINCT_BLOCKS; i++) {
+      blocks.add(dataStructureUtil.randomSignedBeaconBlock(i, Bytes32.ZERO, true));
+    }
+    tempDirectory = Files.createTempDirectory(getClass().getSimpleName());
+    final KvStoreConfiguration configuration =
+        columnProfilesEnabled
+            ? KvStoreConfiguration.v6SingleDefaults().withDatabaseDir(tempDirectory)
+            : KvStoreConfiguration.v4Settings(tempDirectory);
+    db =
+        RocksDbInstanceFactory.create(
+            new NoOpMetricsSystem(),
+            TekuMetricCategory.STORAGE,
+            configuration,
+            schema.getColumnMap());
+    for (int i = 0; i < INITIAL_EPOCHS; i++) {
+      importAndFinalizeEpoch();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtils.deleteDirectory(tempDirectory.toFile());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void importAndFinalizeEpoch() {
+    final long epochStartSlot = nextSlot;
+    // Blocks are first stored as hot blocks as they are imported
+    for (int i = 0; i < SLOTS_PER_EPOCH; i++) {
+      final SignedBeaconBlock block = getBlock(nextSlot);
+      try (KvStoreTransaction transaction = db.startTransaction()) {
+        transaction.put(schema.getColumnHotBlocksByRoot(), block.getRoot(), block);
+        transaction.commit();
+      }
+      nextSlot++;
+    }
+    // Then moved to the finalized columns when the epoch is finalized
+    try (KvStoreTransaction transaction = db.startTransaction()) {
+      for (long slot = epochStartSlot; slot < nextSlot; slot++) {
+        final SignedBeaconBlock block = getBlock(slot);
+        final UInt64 blockSlot = UInt64.valueOf(slot);
+        transaction.put(schema.getColumnFinalizedBlocksBySlot(), blockSlot, block);
+        transaction.put(schema.getColumnSlotsByFinalizedRoot(), block.getRoot(), blockSlot);
+        transaction.put(schema.getColumnFinalizedBlockRootBySlot(), blockSlot, block.getRoot());
+        transaction.delete(schema.getColumnHotBlocksByRoot(), block.getRoot());
+      }
+      transaction.commit();
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void serveBlocksByRange(final Blackhole bh) {
+    final UInt64 startSlot = UInt64.valueOf(random.nextInt((int) nextSlot - BLOCKS_BY_RANGE_COUNT));
+    try (Stream<ColumnEntry<UInt64, SignedBeaconBlock>> stream =
+        db.stream(
+            schema.getColumnFinalizedBlocksBySlot(),
+            startSlot,
+            startSlot.plus(BLOCKS_BY_RANGE_COUNT - 1))) {
+      stream.forEach(bh::consume);
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void serveBlocksByRoot(final Blackhole bh) {
+    // Requests are a mix of known blocks and roots which aren't stored
+    final Bytes32 root =
+        random.nextBoolean()
+            ? blocks.get(random.nextInt(DISTINCT_BLOCKS)).getRoot()
+            : Bytes32.random(random);
+    final Optional<SignedBeaconBlock> block =
+        db.get(schema.getColumnSlotsByFinalizedRoot(), root)
+            .flatMap(slot -> db.get(schema.getColumnFinalizedBlocksBySlot(), slot))
+            .or(() -> db.get(schema.getColumnHotBlocksByRoot(), root));
+    bh.consume(block);
+  }
+
+  private SignedBeaconBlock getBlock(final long slot) {
+    return blocks.get((int) (slot % DISTINCT_BLOCKS));
+  }
+}
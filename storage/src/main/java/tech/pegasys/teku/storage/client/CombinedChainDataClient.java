@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -135,6 +136,29 @@ public class CombinedChainDataClient {
     return historicalChainData.getLatestFinalizedBlockAtSlot(slot);
   }
 
+  /**
+   * Returns the SSZ serialized finalized block proposed at the requested slot, read from storage
+   * without deserializing it where possible. If the slot was empty, nothing is returned.
+   *
+   * @param slot the finalized slot to get the block for
+   * @return the serialized block at the requested slot or empty if the slot was empty
+   */
+  public SafeFuture<Optional<Bytes>> getSerializedFinalizedBlockAtSlot(final UInt64 slot) {
+    return historicalChainData.getSerializedFinalizedBlockAtSlot(slot);
+  }
+
+  /**
+   * Returns the finalized blocks from startSlot to endSlot, both inclusive, in slot order.
+   *
+   * @param startSlot the slot of the first block to return
+   * @param endSlot the slot of the last block to return
+   * @return the blocks in the range, skipping empty slots
+   */
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return historicalChainData.getFinalizedBlocksInRange(startSlot, endSlot);
+  }
+
   public SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockInEffectAtSlot(
       final UInt64 slot) {
     return historicalChainData.getLatestFinalizedBlockAtSlot(slot);
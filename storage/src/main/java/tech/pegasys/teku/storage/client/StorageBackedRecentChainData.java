@@ -26,6 +26,8 @@ import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.config.Constants;
 import tech.pegasys.teku.storage.api.ChainHeadChannel;
@@ -44,6 +46,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
   private final StateAndBlockSummaryProvider stateProvider;
   private final StorageQueryChannel storageQueryChannel;
   private final StoreConfig storeConfig;
+  private final SettableLabelledGauge startupPhaseDuration;
 
   public StorageBackedRecentChainData(
       final AsyncRunner asyncRunner,
@@ -70,6 +73,13 @@ public class StorageBackedRecentChainData extends RecentChainData {
     this.storageQueryChannel = storageQueryChannel;
     this.blockProvider = storageQueryChannel::getHotBlocksByRoot;
     this.stateProvider = storageQueryChannel::getHotStateAndBlockSummaryByBlockRoot;
+    this.startupPhaseDuration =
+        SettableLabelledGauge.create(
+            metricsSystem,
+            TekuMetricCategory.STORAGE,
+            "startup_phase_duration_seconds",
+            "Time taken by each phase of loading the fork choice store on startup",
+            "phase");
   }
 
   public static SafeFuture<RecentChainData> create(
@@ -125,19 +135,21 @@ public class StorageBackedRecentChainData extends RecentChainData {
 
   private SafeFuture<RecentChainData> initializeFromStorage() {
     STATUS_LOG.beginInitializingChainData();
-    return processStoreFuture(requestInitialStore());
+    return processStoreFuture(requestInitialStore(), System.nanoTime());
   }
 
   private SafeFuture<RecentChainData> initializeFromStorageWithRetry(
       final AsyncRunner asyncRunner) {
     STATUS_LOG.beginInitializingChainData();
-    return processStoreFuture(requestInitialStoreWithRetry(asyncRunner));
+    return processStoreFuture(requestInitialStoreWithRetry(asyncRunner), System.nanoTime());
   }
 
   private SafeFuture<RecentChainData> processStoreFuture(
-      SafeFuture<Optional<OnDiskStoreData>> storeFuture) {
+      SafeFuture<Optional<OnDiskStoreData>> storeFuture, final long requestStartTime) {
     return storeFuture.thenApply(
         maybeData -> {
+          final long buildStartTime = System.nanoTime();
+          recordStartupPhase("load_store_data", requestStartTime, buildStartTime);
           if (maybeData.isEmpty()) {
             STATUS_LOG.finishInitializingChainData();
             return this;
@@ -155,12 +167,19 @@ public class StorageBackedRecentChainData extends RecentChainData {
                   .stateProvider(stateProvider)
                   .storeConfig(storeConfig)
                   .build();
+          recordStartupPhase("build_store", buildStartTime, System.nanoTime());
           setStore(store);
           STATUS_LOG.finishInitializingChainData();
           return this;
         });
   }
 
+  private void recordStartupPhase(final String phase, final long startTime, final long endTime) {
+    final double durationSeconds = (endTime - startTime) / 1_000_000_000d;
+    LOG.debug("Startup phase {} took {} seconds", phase, durationSeconds);
+    startupPhaseDuration.set(durationSeconds, phase);
+  }
+
   private SafeFuture<Optional<OnDiskStoreData>> requestInitialStore() {
     return storageQueryChannel.onStoreRequest().orTimeout(Constants.STORAGE_REQUEST_TIMEOUT);
   }
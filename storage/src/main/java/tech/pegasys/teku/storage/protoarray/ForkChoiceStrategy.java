@@ -16,7 +16,6 @@ package tech.pegasys.teku.storage.protoarray;
 import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -25,6 +24,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -43,6 +43,8 @@ import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.executionlayer.ExecutionPayloadStatus;
 import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
 
 public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoiceStrategy {
   private static final Logger LOG = LogManager.getLogger();
@@ -52,18 +54,18 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
   private final Spec spec;
   private final ProtoArray protoArray;
 
-  private List<UInt64> balances;
+  private long[] balances;
   private Optional<Bytes32> proposerBoostRoot = Optional.empty();
   private UInt64 proposerBoostAmount = UInt64.ZERO;
 
-  private ForkChoiceStrategy(Spec spec, ProtoArray protoArray, List<UInt64> balances) {
+  private ForkChoiceStrategy(Spec spec, ProtoArray protoArray, long[] balances) {
     this.spec = spec;
     this.protoArray = protoArray;
     this.balances = balances;
   }
 
   public static ForkChoiceStrategy initialize(final Spec spec, final ProtoArray protoArray) {
-    return new ForkChoiceStrategy(spec, protoArray, new ArrayList<>());
+    return new ForkChoiceStrategy(spec, protoArray, new long[0]);
   }
 
   public SlotAndBlockRoot findHead(
@@ -104,22 +106,65 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       final UInt64 proposerBoostAmount) {
     protoArrayLock.writeLock().lock();
     votesLock.writeLock().lock();
+    try {
+      final VoteColumns votes = VoteColumns.load(voteUpdater);
+      final Bytes32 head =
+          applyPendingVotes(
+              votes,
+              proposerBoostRoot,
+              finalizedCheckpoint,
+              justifiedCheckpoint,
+              justifiedStateEffectiveBalances,
+              proposerBoostAmount);
+      votes.drainDirtyVotes().forEach(voteUpdater::putVote);
+      return head;
+    } finally {
+      protoArrayLock.writeLock().unlock();
+      votesLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Applies the weighting changes from any updated votes then finds and returns the best chain
+   * head.
+   *
+   * <p>Votes are updated in place and marked dirty in {@code votes} as they are applied.
+   *
+   * @param votes the latest votes of all validators
+   * @param proposerBoostRoot the block root to apply proposer boost to
+   * @param finalizedCheckpoint the current finalized checkpoint
+   * @param justifiedCheckpoint the current justified checkpoint
+   * @param justifiedStateEffectiveBalances the effective validator balances at the justified
+   *     checkpoint
+   * @return the best chain head block root
+   */
+  public Bytes32 applyPendingVotes(
+      final VoteColumns votes,
+      final Optional<Bytes32> proposerBoostRoot,
+      final Checkpoint finalizedCheckpoint,
+      final Checkpoint justifiedCheckpoint,
+      final List<UInt64> justifiedStateEffectiveBalances,
+      final UInt64 proposerBoostAmount) {
+    final long[] newBalances =
+        ProtoArrayScoreCalculator.toBalanceArray(justifiedStateEffectiveBalances);
+    protoArrayLock.writeLock().lock();
+    votesLock.writeLock().lock();
     balancesLock.writeLock().lock();
     try {
       LongList deltas =
           ProtoArrayScoreCalculator.computeDeltas(
-              voteUpdater,
+              votes,
               getTotalTrackedNodeCount(),
               protoArray::getIndexByRoot,
               balances,
-              justifiedStateEffectiveBalances,
+              newBalances,
               this.proposerBoostRoot,
               proposerBoostRoot,
               this.proposerBoostAmount,
               proposerBoostAmount);
 
       protoArray.applyScoreChanges(deltas, justifiedCheckpoint, finalizedCheckpoint);
-      balances = justifiedStateEffectiveBalances;
+      balances = newBalances;
       this.proposerBoostRoot = proposerBoostRoot;
       this.proposerBoostAmount = proposerBoostAmount;
 
@@ -432,6 +477,38 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     }
   }
 
+  /**
+   * Adds each block tracked by fork choice to a snapshot, skipping any which have already been
+   * removed from the protoarray or which are rejected by the filter.
+   *
+   * @param snapshot the snapshot to add the blocks to
+   * @param filter returns true for the block roots which should be included
+   */
+  public void addBlocksToSnapshot(
+      final ForkChoiceSnapshot.Builder snapshot, final Predicate<Bytes32> filter) {
+    protoArrayLock.readLock().lock();
+    try {
+      final Object2IntMap<Bytes32> indices = protoArray.getRootIndices();
+      for (ProtoNode node : protoArray.getNodes()) {
+        final Bytes32 blockRoot = node.getBlockRoot();
+        if (!indices.containsKey(blockRoot) || !filter.test(blockRoot)) {
+          continue;
+        }
+        snapshot.block(
+            new StoredBlockMetadata(
+                node.getBlockSlot(),
+                blockRoot,
+                node.getParentRoot(),
+                node.getStateRoot(),
+                Optional.of(node.getExecutionBlockHash()),
+                Optional.empty()),
+            node.isFullyValidated());
+      }
+    } finally {
+      protoArrayLock.readLock().unlock();
+    }
+  }
+
   @Override
   public List<Map<String, String>> getNodeData() {
     protoArrayLock.readLock().lock();
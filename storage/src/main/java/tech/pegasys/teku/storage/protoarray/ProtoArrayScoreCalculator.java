@@ -16,20 +16,20 @@ package tech.pegasys.teku.storage.protoarray;
 import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.addExact;
 import static java.lang.Math.subtractExact;
-import static java.lang.Math.toIntExact;
 
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
-import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 
 class ProtoArrayScoreCalculator {
+  /** Validators per parallel chunk. Must be a multiple of 64 so chunks never share a dirty word. */
+  static final int PARALLEL_CHUNK_SIZE = 64 * 1024;
 
   /**
    * Returns a list of `deltas`, where there is one delta for each of the indices in
@@ -56,13 +56,50 @@ class ProtoArrayScoreCalculator {
       Optional<Bytes32> newProposerBoostRoot,
       UInt64 previousBoostAmount,
       UInt64 newBoostAmount) {
-    LongList deltas = new LongArrayList(Collections.nCopies(protoArraySize, 0L));
+    final VoteColumns votes = VoteColumns.load(store);
+    final LongList deltas =
+        computeDeltas(
+            votes,
+            protoArraySize,
+            getIndexByRoot,
+            toBalanceArray(oldBalances),
+            toBalanceArray(newBalances),
+            previousProposerBoostRoot,
+            newProposerBoostRoot,
+            previousBoostAmount,
+            newBoostAmount);
 
-    UInt64.rangeClosed(UInt64.ZERO, store.getHighestVotedValidatorIndex())
-        .forEach(
-            validatorIndex ->
-                computeDelta(
-                    store, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex));
+    votes.drainDirtyVotes().forEach(store::putVote);
+    return deltas;
+  }
+
+  /**
+   * Columnar version of {@link #computeDeltas(VoteUpdater, int, Function, List, List, Optional,
+   * Optional, UInt64, UInt64)} which updates {@code votes} in place.
+   *
+   * <p>Balance changes are first accumulated per interned vote root so each distinct root is only
+   * looked up in {@code getIndexByRoot} once. Large validator sets are split into chunks which are
+   * processed in parallel, each chunk covering whole words of the dirty bitset.
+   */
+  static LongList computeDeltas(
+      final VoteColumns votes,
+      final int protoArraySize,
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final long[] oldBalances,
+      final long[] newBalances,
+      final Optional<Bytes32> previousProposerBoostRoot,
+      final Optional<Bytes32> newProposerBoostRoot,
+      final UInt64 previousBoostAmount,
+      final UInt64 newBoostAmount) {
+    final LongList deltas = LongArrayList.wrap(new long[protoArraySize]);
+
+    final long[] rootDeltas = computeRootDeltas(votes, oldBalances, newBalances);
+    for (int rootId = 0; rootId < rootDeltas.length; rootId++) {
+      if (rootDeltas[rootId] != 0) {
+        applyDelta(getIndexByRoot, deltas, votes.getRoot(rootId), rootDeltas[rootId]);
+      }
+    }
+    votes.compactRootsIfRequired();
 
     previousProposerBoostRoot.ifPresent(
         root -> subtractBalance(getIndexByRoot, deltas, root, previousBoostAmount));
@@ -71,52 +108,113 @@ class ProtoArrayScoreCalculator {
     return deltas;
   }
 
-  private static void computeDelta(
-      final VoteUpdater store,
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final List<UInt64> oldBalances,
-      final List<UInt64> newBalances,
-      final LongList deltas,
-      final UInt64 validatorIndex) {
-    VoteTracker vote = store.getVote(validatorIndex);
+  static long[] toBalanceArray(final List<UInt64> balances) {
+    final long[] result = new long[balances.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = balances.get(i).longValue();
+    }
+    return result;
+  }
 
-    // There is no need to create a score change if the validator has never voted
-    // or both their votes are for the zero hash (alias to the genesis block).
-    if (vote.getCurrentRoot().equals(Bytes32.ZERO) && vote.getNextRoot().equals(Bytes32.ZERO)) {
-      return;
+  private static long[] computeRootDeltas(
+      final VoteColumns votes, final long[] oldBalances, final long[] newBalances) {
+    final int validatorCount = votes.getValidatorCount();
+    final int rootCount = votes.getRootCount();
+    if (validatorCount <= PARALLEL_CHUNK_SIZE) {
+      final long[] rootDeltas = new long[rootCount];
+      computeRootDeltas(votes, oldBalances, newBalances, 0, validatorCount, rootDeltas);
+      return rootDeltas;
     }
-    // If vote is already count as equivocated, we don't need to do anything more
-    if (vote.isCurrentEquivocating()) {
-      return;
+    final int chunkCount = (validatorCount + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+    return IntStream.range(0, chunkCount)
+        .parallel()
+        .mapToObj(
+            chunk -> {
+              final long[] rootDeltas = new long[rootCount];
+              computeRootDeltas(
+                  votes,
+                  oldBalances,
+                  newBalances,
+                  chunk * PARALLEL_CHUNK_SIZE,
+                  Math.min(validatorCount, (chunk + 1) * PARALLEL_CHUNK_SIZE),
+                  rootDeltas);
+              return rootDeltas;
+            })
+        .reduce(ProtoArrayScoreCalculator::sumInto)
+        .orElseGet(() -> new long[rootCount]);
+  }
+
+  private static void computeRootDeltas(
+      final VoteColumns votes,
+      final long[] oldBalances,
+      final long[] newBalances,
+      final int fromValidatorIndex,
+      final int toValidatorIndex,
+      final long[] rootDeltas) {
+    final int[] currentRootIds = votes.currentRootIds;
+    final int[] nextRootIds = votes.nextRootIds;
+    final byte[] equivocationFlags = votes.equivocationFlags;
+    for (int i = fromValidatorIndex; i < toValidatorIndex; i++) {
+      final int currentRootId = currentRootIds[i];
+      final int nextRootId = nextRootIds[i];
+
+      // There is no need to create a score change if the validator has never voted
+      // or both their votes are for the zero hash (alias to the genesis block).
+      if (currentRootId == VoteColumns.ZERO_ROOT_ID && nextRootId == VoteColumns.ZERO_ROOT_ID) {
+        continue;
+      }
+      // If vote is already count as equivocated, we don't need to do anything more
+      final byte flags = equivocationFlags[i];
+      if ((flags & VoteColumns.CURRENT_EQUIVOCATING) != 0) {
+        continue;
+      }
+      final boolean nextEquivocating = (flags & VoteColumns.NEXT_EQUIVOCATING) != 0;
+
+      // If the validator was not included in the oldBalances (i.e. it did not exist yet)
+      // then say its balance was zero.
+      final long oldBalance = oldBalances.length > i ? oldBalances[i] : 0;
+
+      // If the validator vote is not known in the newBalances, then use a balance of zero.
+      // It is possible that there is a vote for an unknown validator if we change our
+      // justified state to a new state with a higher epoch that is on a different fork
+      // because that may have on-boarded less validators than the prior fork.
+      final long newBalance = newBalances.length > i && !nextEquivocating ? newBalances[i] : 0;
+
+      if (currentRootId != nextRootId || oldBalance != newBalance) {
+        rootDeltas[currentRootId] = subtractExact(rootDeltas[currentRootId], oldBalance);
+        rootDeltas[nextRootId] = addExact(rootDeltas[nextRootId], newBalance);
+        currentRootIds[i] = nextRootId;
+        equivocationFlags[i] =
+            nextEquivocating
+                ? (byte) (VoteColumns.NEXT_EQUIVOCATING | VoteColumns.CURRENT_EQUIVOCATING)
+                : 0;
+        votes.markDirty(i);
+      }
     }
+  }
 
-    int validatorIndexInt = toIntExact(validatorIndex.longValue());
-    // If the validator was not included in the oldBalances (i.e. it did not exist yet)
-    // then say its balance was zero.
-    UInt64 oldBalance =
-        oldBalances.size() > validatorIndexInt ? oldBalances.get(validatorIndexInt) : UInt64.ZERO;
-
-    // If the validator vote is not known in the newBalances, then use a balance of zero.
-    // It is possible that there is a vote for an unknown validator if we change our
-    // justified state to a new state with a higher epoch that is on a different fork
-    // because that may have on-boarded less validators than the prior fork.
-    UInt64 newBalance =
-        newBalances.size() > validatorIndexInt && !vote.isNextEquivocating()
-            ? newBalances.get(validatorIndexInt)
-            : UInt64.ZERO;
-
-    if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || !oldBalance.equals(newBalance)) {
-      subtractBalance(getIndexByRoot, deltas, vote.getCurrentRoot(), oldBalance);
-      addBalance(getIndexByRoot, deltas, vote.getNextRoot(), newBalance);
-      final VoteTracker newVote =
-          new VoteTracker(
-              vote.getNextRoot(),
-              vote.getNextRoot(),
-              vote.getNextEpoch(),
-              vote.isNextEquivocating(),
-              vote.isNextEquivocating());
-      store.putVote(validatorIndex, newVote);
+  private static long[] sumInto(final long[] target, final long[] source) {
+    for (int i = 0; i < target.length; i++) {
+      target[i] = addExact(target[i], source[i]);
     }
+    return target;
+  }
+
+  private static void applyDelta(
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final LongList deltas,
+      final Bytes32 targetRoot,
+      final long delta) {
+    // We ignore the change if it is not known in `indices`. We assume that it is outside
+    // of our tree (i.e. pre-finalization) and therefore not interesting.
+    getIndexByRoot
+        .apply(targetRoot)
+        .ifPresent(
+            deltaIndex -> {
+              checkState(
+                  deltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
+              deltas.set(deltaIndex.intValue(), addExact(deltas.getLong(deltaIndex), delta));
+            });
   }
 
   private static void addBalance(
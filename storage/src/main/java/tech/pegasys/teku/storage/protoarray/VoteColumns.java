@@ -0,0 +1,238 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static java.lang.Math.toIntExact;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
+
+/**
+ * Stores the latest vote of every validator in parallel primitive arrays indexed by validator
+ * index, rather than as one {@link VoteTracker} object per validator.
+ *
+ * <p>Block roots are interned to an int id so that a vote is a handful of primitives. Changes are
+ * tracked with one dirty bit per validator so only the changed votes need to be persisted.
+ *
+ * <p>This class is not thread safe. Callers are expected to hold the store lock.
+ */
+public class VoteColumns {
+  public static final int SPARE_CAPACITY = 1000;
+
+  static final int ZERO_ROOT_ID = 0;
+  static final byte NEXT_EQUIVOCATING = 1;
+  static final byte CURRENT_EQUIVOCATING = 1 << 1;
+
+  private static final int ROOT_COMPACTION_THRESHOLD = 4096;
+
+  private final Object2IntMap<Bytes32> rootIds = new Object2IntOpenHashMap<>();
+  private final List<Bytes32> roots = new ArrayList<>();
+
+  int[] currentRootIds;
+  int[] nextRootIds;
+  long[] nextEpochs;
+  byte[] equivocationFlags;
+  long[] dirty;
+  private int highestVotedValidatorIndex = 0;
+
+  private VoteColumns(final int capacity) {
+    rootIds.defaultReturnValue(-1);
+    internRoot(Bytes32.ZERO);
+    allocate(capacity);
+  }
+
+  public static VoteColumns create(final Map<UInt64, VoteTracker> votes) {
+    final int highestIndex = votes.keySet().stream().mapToInt(UInt64::intValue).max().orElse(0);
+    final VoteColumns columns = new VoteColumns(highestIndex + SPARE_CAPACITY);
+    votes.forEach((index, vote) -> columns.loadVote(index.intValue(), vote));
+    return columns;
+  }
+
+  /** Copies every vote from {@code voteUpdater} so they can be processed in columnar form. */
+  static VoteColumns load(final VoteUpdater voteUpdater) {
+    final int validatorCount =
+        toIntExact(voteUpdater.getHighestVotedValidatorIndex().longValue()) + 1;
+    final VoteColumns columns = new VoteColumns(validatorCount);
+    for (int validatorIndex = 0; validatorIndex < validatorCount; validatorIndex++) {
+      columns.loadVote(validatorIndex, voteUpdater.getVote(UInt64.valueOf(validatorIndex)));
+    }
+    return columns;
+  }
+
+  private void allocate(final int capacity) {
+    currentRootIds = new int[capacity];
+    nextRootIds = new int[capacity];
+    nextEpochs = new long[capacity];
+    equivocationFlags = new byte[capacity];
+    dirty = new long[wordCount(capacity)];
+  }
+
+  private static int wordCount(final int capacity) {
+    return (capacity + Long.SIZE - 1) / Long.SIZE;
+  }
+
+  public int getCapacity() {
+    return currentRootIds.length;
+  }
+
+  /** Returns the number of validator slots which need to be considered, highest index + 1. */
+  public int getValidatorCount() {
+    return highestVotedValidatorIndex + 1;
+  }
+
+  public UInt64 getHighestVotedValidatorIndex() {
+    return UInt64.valueOf(highestVotedValidatorIndex);
+  }
+
+  int getRootCount() {
+    return roots.size();
+  }
+
+  Bytes32 getRoot(final int rootId) {
+    return roots.get(rootId);
+  }
+
+  private int internRoot(final Bytes32 root) {
+    final int existing = rootIds.getInt(root);
+    if (existing >= 0) {
+      return existing;
+    }
+    final int id = roots.size();
+    roots.add(root);
+    rootIds.put(root, id);
+    return id;
+  }
+
+  public VoteTracker getVote(final int validatorIndex) {
+    if (validatorIndex >= getCapacity()) {
+      return VoteTracker.DEFAULT;
+    }
+    final byte flags = equivocationFlags[validatorIndex];
+    return new VoteTracker(
+        roots.get(currentRootIds[validatorIndex]),
+        roots.get(nextRootIds[validatorIndex]),
+        UInt64.fromLongBits(nextEpochs[validatorIndex]),
+        (flags & NEXT_EQUIVOCATING) != 0,
+        (flags & CURRENT_EQUIVOCATING) != 0);
+  }
+
+  public void putVote(final int validatorIndex, final VoteTracker vote) {
+    loadVote(validatorIndex, vote);
+    markDirty(validatorIndex);
+  }
+
+  /** Sets a vote without marking it as changed, e.g. when it was read from storage. */
+  void loadVote(final int validatorIndex, final VoteTracker vote) {
+    ensureCapacity(validatorIndex);
+    setVote(validatorIndex, vote);
+    highestVotedValidatorIndex = Math.max(highestVotedValidatorIndex, validatorIndex);
+  }
+
+  public void putAll(final Map<UInt64, VoteTracker> votes) {
+    votes.forEach((index, vote) -> putVote(index.intValue(), vote));
+  }
+
+  private void setVote(final int validatorIndex, final VoteTracker vote) {
+    currentRootIds[validatorIndex] = internRoot(vote.getCurrentRoot());
+    nextRootIds[validatorIndex] = internRoot(vote.getNextRoot());
+    nextEpochs[validatorIndex] = vote.getNextEpoch().longValue();
+    equivocationFlags[validatorIndex] =
+        (byte)
+            ((vote.isNextEquivocating() ? NEXT_EQUIVOCATING : 0)
+                | (vote.isCurrentEquivocating() ? CURRENT_EQUIVOCATING : 0));
+  }
+
+  private void ensureCapacity(final int validatorIndex) {
+    if (validatorIndex < getCapacity()) {
+      return;
+    }
+    final int capacity = validatorIndex + SPARE_CAPACITY;
+    currentRootIds = Arrays.copyOf(currentRootIds, capacity);
+    nextRootIds = Arrays.copyOf(nextRootIds, capacity);
+    nextEpochs = Arrays.copyOf(nextEpochs, capacity);
+    equivocationFlags = Arrays.copyOf(equivocationFlags, capacity);
+    dirty = Arrays.copyOf(dirty, wordCount(capacity));
+  }
+
+  void markDirty(final int validatorIndex) {
+    dirty[validatorIndex / Long.SIZE] |= 1L << (validatorIndex % Long.SIZE);
+  }
+
+  /**
+   * Returns the votes which have changed since the last call and clears the dirty flags.
+   *
+   * <p>Whole words of clean validators are skipped, so the cost is proportional to the number of
+   * changed votes plus a scan of one long per 64 validators.
+   */
+  public Map<UInt64, VoteTracker> drainDirtyVotes() {
+    final Map<UInt64, VoteTracker> changed = new HashMap<>();
+    for (int word = 0; word < dirty.length; word++) {
+      long bits = dirty[word];
+      if (bits == 0) {
+        continue;
+      }
+      dirty[word] = 0;
+      while (bits != 0) {
+        final int validatorIndex = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+        changed.put(UInt64.valueOf(validatorIndex), getVote(validatorIndex));
+        bits &= bits - 1;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Drops interned roots which are no longer referenced by any vote once the table has grown large
+   * enough to be worth the extra pass.
+   */
+  void compactRootsIfRequired() {
+    if (roots.size() < ROOT_COMPACTION_THRESHOLD) {
+      return;
+    }
+    final int validatorCount = getValidatorCount();
+    final boolean[] referenced = new boolean[roots.size()];
+    referenced[ZERO_ROOT_ID] = true;
+    for (int i = 0; i < validatorCount; i++) {
+      referenced[currentRootIds[i]] = true;
+      referenced[nextRootIds[i]] = true;
+    }
+    final int[] remapped = new int[roots.size()];
+    final List<Bytes32> liveRoots = new ArrayList<>();
+    for (int id = 0; id < referenced.length; id++) {
+      if (referenced[id]) {
+        remapped[id] = liveRoots.size();
+        liveRoots.add(roots.get(id));
+      }
+    }
+    if (liveRoots.size() * 2 > roots.size()) {
+      return;
+    }
+    for (int i = 0; i < validatorCount; i++) {
+      currentRootIds[i] = remapped[currentRootIds[i]];
+      nextRootIds[i] = remapped[nextRootIds[i]];
+    }
+    roots.clear();
+    rootIds.clear();
+    liveRoots.forEach(this::internRoot);
+  }
+}
@@ -18,6 +18,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -109,6 +112,11 @@ public class ChainStorage
     return SafeFuture.fromRunnable(() -> database.storeFinalizedState(finalizedState));
   }
 
+  @Override
+  public SafeFuture<Void> onFinalizedStates(final Collection<BeaconState> finalizedStates) {
+    return SafeFuture.fromRunnable(() -> database.storeFinalizedStates(finalizedStates));
+  }
+
   @Override
   public void onChainInitialized(final AnchorPoint initialAnchor) {
     database.storeInitialAnchor(initialAnchor);
@@ -135,11 +143,28 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getSerializedFinalizedBlockAtSlot(final UInt64 slot) {
+    return SafeFuture.of(() -> database.getSerializedFinalizedBlockAtSlot(slot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
     return SafeFuture.of(() -> database.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return SafeFuture.of(
+        () -> {
+          try (final Stream<SignedBeaconBlock> blocks =
+              database.streamFinalizedBlocks(startSlot, endSlot)) {
+            return blocks.collect(Collectors.toList());
+          }
+        });
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return SafeFuture.of(() -> database.getSignedBlock(blockRoot));
@@ -25,6 +25,7 @@ public class StorageConfiguration {
   public static final long DEFAULT_STORAGE_FREQUENCY = 2048L;
   public static final boolean DEFAULT_STORE_BLOCK_PAYLOAD_SEPARATELY = false;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
+  public static final boolean DEFAULT_INCREMENTAL_STATE_TREE_STORAGE_ENABLED = false;
   public static final int DEFAULT_BLOCK_MIGRATION_BATCH_SIZE = 25;
   public static final int DEFAULT_BLOCK_MIGRATION_BATCH_DELAY_MS = 100;
 
@@ -39,6 +40,7 @@ public class StorageConfiguration {
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
   private final int maxKnownNodeCacheSize;
+  private final boolean incrementalStateTreeStorageEnabled;
   private final boolean storeVotesEquivocation;
 
   private StorageConfiguration(
@@ -48,6 +50,7 @@ public class StorageConfiguration {
       final DatabaseVersion dataStorageCreateDbVersion,
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
+      final boolean incrementalStateTreeStorageEnabled,
       final boolean storeVotesEquivocation,
       final boolean storeBlockExecutionPayloadSeparately,
       final int blockMigrationBatchSize,
@@ -59,6 +62,7 @@ public class StorageConfiguration {
     this.dataStorageCreateDbVersion = dataStorageCreateDbVersion;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
     this.maxKnownNodeCacheSize = maxKnownNodeCacheSize;
+    this.incrementalStateTreeStorageEnabled = incrementalStateTreeStorageEnabled;
     this.storeVotesEquivocation = storeVotesEquivocation;
     this.storeBlockExecutionPayloadSeparately = storeBlockExecutionPayloadSeparately;
     this.blockMigrationBatchSize = blockMigrationBatchSize;
@@ -94,6 +98,10 @@ public class StorageConfiguration {
     return maxKnownNodeCacheSize;
   }
 
+  public boolean isIncrementalStateTreeStorageEnabled() {
+    return incrementalStateTreeStorageEnabled;
+  }
+
   public boolean isStoreVotesEquivocation() {
     return storeVotesEquivocation;
   }
@@ -125,6 +133,8 @@ public class StorageConfiguration {
     private Spec spec;
     private boolean storeNonCanonicalBlocks = DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
     private int maxKnownNodeCacheSize = DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
+    private boolean incrementalStateTreeStorageEnabled =
+        DEFAULT_INCREMENTAL_STATE_TREE_STORAGE_ENABLED;
     private boolean storeBlockExecutionPayloadSeparately = DEFAULT_STORE_BLOCK_PAYLOAD_SEPARATELY;
     private int blockMigrationBatchSize = DEFAULT_BLOCK_MIGRATION_BATCH_SIZE;
     private int blockMigrationBatchDelay = DEFAULT_BLOCK_MIGRATION_BATCH_DELAY_MS;
@@ -186,6 +196,12 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder incrementalStateTreeStorageEnabled(
+        final boolean incrementalStateTreeStorageEnabled) {
+      this.incrementalStateTreeStorageEnabled = incrementalStateTreeStorageEnabled;
+      return this;
+    }
+
     public StorageConfiguration build() {
       return new StorageConfiguration(
           eth1DepositContract,
@@ -194,6 +210,7 @@ public class StorageConfiguration {
           dataStorageCreateDbVersion,
           storeNonCanonicalBlocks,
           maxKnownNodeCacheSize,
+          incrementalStateTreeStorageEnabled,
           storeVotesEquivocation,
           storeBlockExecutionPayloadSeparately,
           blockMigrationBatchSize,
@@ -47,6 +47,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final MetricsSystem metricsSystem;
   private final File dataDirectory;
   private final int maxKnownNodeCacheSize;
+  private final boolean incrementalStateTreeStorageEnabled;
   private final int blockMigrationBatchSize;
   private final int blockMigrationBatchDelay;
   private boolean storeBlockExecutionPayloadSeparately;
@@ -77,6 +78,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.stateStorageMode = config.getDataStorageMode();
     this.createDatabaseVersion = config.getDataStorageCreateDbVersion();
     this.maxKnownNodeCacheSize = config.getMaxKnownNodeCacheSize();
+    this.incrementalStateTreeStorageEnabled = config.isIncrementalStateTreeStorageEnabled();
     this.storeBlockExecutionPayloadSeparately = config.isStoreBlockExecutionPayloadSeparately();
     this.stateStorageFrequency = config.getDataStorageFrequency();
     this.eth1Address = config.getEth1DepositContract();
@@ -303,6 +305,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           blockMigrationBatchSize,
           blockMigrationBatchDelay,
           maxKnownNodeCacheSize,
+          incrementalStateTreeStorageEnabled,
           storeVotesEquivocation,
           asyncRunner,
           spec);
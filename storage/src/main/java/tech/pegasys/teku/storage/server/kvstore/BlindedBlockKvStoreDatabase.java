@@ -192,6 +192,11 @@ public class BlindedBlockKvStoreDatabase
     return blockInformation;
   }
 
+  @Override
+  protected Optional<SignedBeaconBlock> getHotBlockForMetadata(final Bytes32 root) {
+    return dao.getBlindedBlock(root);
+  }
+
   @Override
   protected Optional<SignedBeaconBlock> getFinalizedBlock(final Bytes32 root) {
     return getUnblindedBlock(dao.getBlindedBlock(root));
@@ -219,6 +224,12 @@ public class BlindedBlockKvStoreDatabase
         .map(this::getUnblindedBlock);
   }
 
+  @Override
+  public Optional<Bytes> getSerializedFinalizedBlockAtSlot(final UInt64 slot) {
+    // Blocks are stored without their execution payload so must be rebuilt before serializing
+    return getFinalizedBlockAtSlot(slot).map(SignedBeaconBlock::sszSerialize);
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return dao.getEarliestBlindedBlockSlot();
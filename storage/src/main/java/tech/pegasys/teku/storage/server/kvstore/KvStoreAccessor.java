@@ -77,7 +77,8 @@ public interface KvStoreAccessor extends AutoCloseable {
   Stream<ColumnEntry<Bytes, Bytes>> streamRaw(KvStoreColumn<?, ?> column);
 
   /**
-   * WARNING: should only be used to migrate data between tables
+   * Returns the stored value without deserializing it. Only use this to migrate data between
+   * tables or for columns whose serialized form is also the wire format, such as SSZ blocks.
    *
    * @param column column to get value from
    * @param key key of the data to retrieve
@@ -77,6 +77,10 @@ public class KvStoreConfiguration {
   @JsonProperty("bottomMostCompressionType")
   private CompressionType bottomMostCompressionType = CompressionType.NO_COMPRESSION;
 
+  // Tunes each column for its access pattern, overriding the compression types for some columns
+  @JsonProperty("columnProfilesEnabled")
+  private boolean columnProfilesEnabled = false;
+
   @JsonIgnore private Path databaseDir;
 
   public static KvStoreConfiguration v4Settings(final Path databaseDir) {
@@ -86,15 +90,20 @@ public class KvStoreConfiguration {
   public static KvStoreConfiguration v5HotDefaults() {
     final KvStoreConfiguration config = new KvStoreConfiguration();
     config.optimizeForSmallDb = true;
+    config.columnProfilesEnabled = true;
     return config;
   }
 
   public static KvStoreConfiguration v5ArchiveDefaults() {
-    return new KvStoreConfiguration();
+    final KvStoreConfiguration config = new KvStoreConfiguration();
+    config.columnProfilesEnabled = true;
+    return config;
   }
 
   public static KvStoreConfiguration v6SingleDefaults() {
-    return new KvStoreConfiguration();
+    final KvStoreConfiguration config = new KvStoreConfiguration();
+    config.columnProfilesEnabled = true;
+    return config;
   }
 
   public KvStoreConfiguration withDatabaseDir(final Path databaseDir) {
@@ -138,6 +147,10 @@ public class KvStoreConfiguration {
     return optimizeForSmallDb;
   }
 
+  public boolean isColumnProfilesEnabled() {
+    return columnProfilesEnabled;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -148,6 +161,7 @@ public class KvStoreConfiguration {
         .add("writeBufferCapacity", writeBufferCapacity)
         .add("compressionType", compressionType)
         .add("bottomMostCompressionType", bottomMostCompressionType)
+        .add("columnProfilesEnabled", columnProfilesEnabled)
         .add("databaseDir", databaseDir)
         .toString();
   }
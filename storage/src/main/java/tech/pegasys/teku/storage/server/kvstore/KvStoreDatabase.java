@@ -18,10 +18,12 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,6 +56,7 @@ import tech.pegasys.teku.spec.datastructures.hashtree.HashTree;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 import tech.pegasys.teku.storage.api.OnDiskStoreData;
 import tech.pegasys.teku.storage.api.StorageUpdate;
 import tech.pegasys.teku.storage.api.StoredBlockMetadata;
@@ -167,10 +170,12 @@ public abstract class KvStoreDatabase<
       final int blockMigrationBatchSize,
       final int blockMigrationBatchDelay,
       final int maxKnownNodeCacheSize,
+      final boolean incrementalStateTreeStorageEnabled,
       final Optional<AsyncRunner> asyncRunner,
       final Spec spec) {
     final V4FinalizedStateStorageLogic<SchemaCombinedTreeState> finalizedStateStorageLogic =
-        new V4FinalizedStateTreeStorageLogic(metricsSystem, spec, maxKnownNodeCacheSize);
+        new V4FinalizedStateTreeStorageLogic(
+            metricsSystem, spec, maxKnownNodeCacheSize, incrementalStateTreeStorageEnabled);
     return create(
         db,
         schema,
@@ -331,9 +336,15 @@ public abstract class KvStoreDatabase<
 
   @Override
   public void storeFinalizedState(BeaconState state) {
-    final Bytes32 blockRoot = spec.getBlockRootAtSlot(state, state.getSlot());
+    storeFinalizedStates(List.of(state));
+  }
+
+  @Override
+  public void storeFinalizedStates(final Collection<BeaconState> states) {
     try (final FinalizedUpdaterCommon updater = finalizedUpdater()) {
-      updater.addFinalizedState(blockRoot, state);
+      for (BeaconState state : states) {
+        updater.addFinalizedState(spec.getBlockRootAtSlot(state, state.getSlot()), state);
+      }
       updater.commit();
     }
   }
@@ -359,8 +370,20 @@ public abstract class KvStoreDatabase<
 
     final Map<UInt64, VoteTracker> votes = dao.getVotes();
 
-    // Build map with block information
-    final Map<Bytes32, StoredBlockMetadata> blockInformation = buildHotBlockMetadata();
+    // Build map with block information, using the fork choice snapshot where possible to avoid
+    // loading every hot block
+    final long startTime = System.nanoTime();
+    final Optional<ForkChoiceSnapshot> forkChoiceSnapshot =
+        getForkChoiceSnapshot(finalizedCheckpoint);
+    final Map<Bytes32, StoredBlockMetadata> blockInformation =
+        forkChoiceSnapshot
+            .map(this::buildHotBlockMetadataFromSnapshot)
+            .orElseGet(this::buildHotBlockMetadata);
+    LOG.debug(
+        "Loaded metadata for {} hot blocks in {} ms (fork choice snapshot had {} blocks)",
+        blockInformation.size(),
+        Duration.ofNanos(System.nanoTime() - startTime).toMillis(),
+        forkChoiceSnapshot.map(snapshot -> snapshot.getBlocks().size()).orElse(0));
     // If anchor block is missing, try to pull block info from the anchor state
     final boolean shouldIncludeAnchorBlock =
         maybeAnchor.isPresent()
@@ -377,6 +400,12 @@ public abstract class KvStoreDatabase<
           anchor.getRoot(), StoredBlockMetadata.fromBlockAndState(spec, latestFinalized));
     }
 
+    final Set<Bytes32> fullyValidatedBlockRoots =
+        forkChoiceSnapshot.stream()
+            .flatMap(snapshot -> snapshot.getFullyValidatedBlockRoots().stream())
+            .filter(blockInformation::containsKey)
+            .collect(Collectors.toSet());
+
     final Optional<SignedBeaconBlock> finalizedBlock =
         getFinalizedBlock(finalizedCheckpoint.getRoot());
     final AnchorPoint latestFinalized =
@@ -402,13 +431,64 @@ public abstract class KvStoreDatabase<
             justifiedCheckpoint,
             bestJustifiedCheckpoint,
             blockInformation,
-            votes));
+            votes,
+            fullyValidatedBlockRoots));
+  }
+
+  private Optional<ForkChoiceSnapshot> getForkChoiceSnapshot(final Checkpoint finalizedCheckpoint) {
+    try {
+      // A snapshot from a different finalized checkpoint can't be trusted to match the hot blocks
+      return dao.getForkChoiceSnapshot()
+          .filter(snapshot -> snapshot.getFinalizedCheckpoint().equals(finalizedCheckpoint));
+    } catch (final RuntimeException e) {
+      LOG.warn("Unable to load fork choice snapshot, rebuilding from stored blocks instead", e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Builds the hot block metadata using the block header fields stored in the fork choice snapshot.
+   * Checkpoint epochs always come from the database and only blocks missing from the snapshot are
+   * loaded.
+   */
+  private Map<Bytes32, StoredBlockMetadata> buildHotBlockMetadataFromSnapshot(
+      final ForkChoiceSnapshot snapshot) {
+    final Map<Bytes32, StoredBlockMetadata> blockInformation = new HashMap<>();
+    try (final Stream<Map.Entry<Bytes32, BlockCheckpoints>> checkpoints =
+        dao.streamBlockCheckpoints()) {
+      checkpoints.forEach(
+          entry -> {
+            final StoredBlockMetadata snapshotMetadata = snapshot.getBlocks().get(entry.getKey());
+            if (snapshotMetadata != null) {
+              blockInformation.put(
+                  entry.getKey(),
+                  new StoredBlockMetadata(
+                      snapshotMetadata.getBlockSlot(),
+                      snapshotMetadata.getBlockRoot(),
+                      snapshotMetadata.getParentRoot(),
+                      snapshotMetadata.getStateRoot(),
+                      snapshotMetadata.getExecutionBlockHash(),
+                      Optional.of(entry.getValue())));
+            } else {
+              getHotBlockForMetadata(entry.getKey())
+                  .ifPresent(
+                      block ->
+                          blockInformation.put(
+                              entry.getKey(),
+                              StoredBlockMetadata.fromBlockAndCheckpointEpochs(
+                                  block, entry.getValue())));
+            }
+          });
+    }
+    return blockInformation;
   }
 
   protected abstract Optional<SignedBeaconBlock> getFinalizedBlock(final Bytes32 root);
 
   protected abstract Map<Bytes32, StoredBlockMetadata> buildHotBlockMetadata();
 
+  protected abstract Optional<SignedBeaconBlock> getHotBlockForMetadata(final Bytes32 root);
+
   @Override
   public WeakSubjectivityState getWeakSubjectivityState() {
     return WeakSubjectivityState.create(dao.getWeakSubjectivityCheckpoint());
@@ -537,6 +617,7 @@ public abstract class KvStoreDatabase<
       update.getJustifiedCheckpoint().ifPresent(updater::setJustifiedCheckpoint);
       update.getBestJustifiedCheckpoint().ifPresent(updater::setBestJustifiedCheckpoint);
       update.getLatestFinalizedState().ifPresent(updater::setLatestFinalizedState);
+      update.getForkChoiceSnapshot().ifPresent(updater::setForkChoiceSnapshot);
 
       updateHotBlocks(
           updater,
@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -90,6 +91,11 @@ public class UnblindedBlockKvStoreDatabase
     return dao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getSerializedFinalizedBlockAtSlot(final UInt64 slot) {
+    return dao.getRawFinalizedBlockAtSlot(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return dao.getEarliestFinalizedBlockSlot();
@@ -168,6 +174,11 @@ public class UnblindedBlockKvStoreDatabase
     return blockInformation;
   }
 
+  @Override
+  protected Optional<SignedBeaconBlock> getHotBlockForMetadata(final Bytes32 root) {
+    return dao.getHotBlock(root);
+  }
+
   @Override
   protected void storeAnchorStateAndBlock(
       final CombinedUpdaterUnblinded updater,
@@ -42,6 +42,7 @@ import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadHeader;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
@@ -130,6 +131,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getVariableWeakSubjectivityCheckpoint());
   }
 
+  @Override
+  public Optional<ForkChoiceSnapshot> getForkChoiceSnapshot() {
+    return db.get(schema.getVariableForkChoiceSnapshot());
+  }
+
   @Override
   public List<Bytes32> getStateRootsBeforeSlot(final UInt64 slot) {
     try (Stream<ColumnEntry<Bytes32, SlotAndBlockRoot>> stream =
@@ -285,6 +291,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  @Override
+  public Optional<Bytes> getRawFinalizedBlockAtSlot(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.getFirstEntry(schema.getColumnFinalizedBlocksBySlot()).map(ColumnEntry::getKey);
@@ -541,6 +552,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.delete(schema.getVariableWeakSubjectivityCheckpoint());
     }
 
+    @Override
+    public void setForkChoiceSnapshot(final ForkChoiceSnapshot snapshot) {
+      transaction.put(schema.getVariableForkChoiceSnapshot(), snapshot);
+    }
+
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       transaction.put(schema.getVariableLatestFinalizedState(), state);
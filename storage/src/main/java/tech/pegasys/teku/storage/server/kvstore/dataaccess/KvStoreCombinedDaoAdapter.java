@@ -36,6 +36,7 @@ import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedKvStoreDao.V4FinalizedUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotKvStoreDao.V4HotUpdater;
@@ -88,6 +89,11 @@ public class KvStoreCombinedDaoAdapter
     return hotDao.getWeakSubjectivityCheckpoint();
   }
 
+  @Override
+  public Optional<ForkChoiceSnapshot> getForkChoiceSnapshot() {
+    return hotDao.getForkChoiceSnapshot();
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getHotBlock(final Bytes32 root) {
     return hotDao.getHotBlock(root);
@@ -163,6 +169,11 @@ public class KvStoreCombinedDaoAdapter
     return finalizedDao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getRawFinalizedBlockAtSlot(final UInt64 slot) {
+    return finalizedDao.getRawFinalizedBlockAtSlot(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return finalizedDao.getEarliestFinalizedBlockSlot();
@@ -444,6 +455,11 @@ public class KvStoreCombinedDaoAdapter
       hotUpdater.clearWeakSubjectivityCheckpoint();
     }
 
+    @Override
+    public void setForkChoiceSnapshot(final ForkChoiceSnapshot snapshot) {
+      hotUpdater.setForkChoiceSnapshot(snapshot);
+    }
+
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       hotUpdater.setLatestFinalizedState(state);
@@ -29,6 +29,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 
 public interface KvStoreCombinedDaoCommon extends AutoCloseable {
 
@@ -49,6 +50,8 @@ public interface KvStoreCombinedDaoCommon extends AutoCloseable {
 
   Optional<Checkpoint> getWeakSubjectivityCheckpoint();
 
+  Optional<ForkChoiceSnapshot> getForkChoiceSnapshot();
+
   Optional<BlockCheckpoints> getHotBlockCheckpointEpochs(Bytes32 root);
 
   Optional<BeaconState> getHotState(Bytes32 root);
@@ -100,6 +103,8 @@ public interface KvStoreCombinedDaoCommon extends AutoCloseable {
 
     void clearWeakSubjectivityCheckpoint();
 
+    void setForkChoiceSnapshot(ForkChoiceSnapshot snapshot);
+
     void setLatestFinalizedState(BeaconState state);
 
     void addHotState(Bytes32 blockRoot, BeaconState state);
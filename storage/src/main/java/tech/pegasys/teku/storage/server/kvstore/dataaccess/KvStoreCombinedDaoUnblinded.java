@@ -46,6 +46,9 @@ public interface KvStoreCombinedDaoUnblinded extends KvStoreCombinedDaoCommon {
 
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
 
+  /** Returns the stored SSZ bytes of the finalized block at this slot without deserializing it. */
+  Optional<Bytes> getRawFinalizedBlockAtSlot(UInt64 slot);
+
   Optional<UInt64> getEarliestFinalizedBlockSlot();
 
   Optional<SignedBeaconBlock> getEarliestFinalizedBlock();
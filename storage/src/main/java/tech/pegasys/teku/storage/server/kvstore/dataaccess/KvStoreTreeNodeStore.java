@@ -15,8 +15,10 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.collect.Sets;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
@@ -30,6 +32,8 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
 
   private final Set<Bytes32> knownStoredBranchesCache;
   private final Set<Bytes32> newlyStoredBranches = new HashSet<>();
+  private final Optional<Set<TreeNode>> knownStoredNodes;
+  private final Set<TreeNode> newlyStoredNodes = Sets.newIdentityHashSet();
   private final KvStoreTransaction transaction;
   private final SchemaCombinedTreeState schema;
 
@@ -41,11 +45,40 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
       final Set<Bytes32> knownStoredBranchesCache,
       final KvStoreTransaction transaction,
       final SchemaCombinedTreeState schema) {
+    this(knownStoredBranchesCache, Optional.empty(), transaction, schema);
+  }
+
+  /**
+   * Creates a store which, in addition to the known branch roots, skips any node that is the same
+   * instance as a node already stored. Subtrees shared with a previously stored state are then
+   * skipped without looking up their root, no matter how long ago that state was stored.
+   *
+   * @param knownStoredBranchesCache roots of branches known to be stored
+   * @param knownStoredNodes identity set of nodes known to be stored, if tracked
+   * @param transaction the transaction to write nodes to
+   * @param schema the database schema
+   */
+  public KvStoreTreeNodeStore(
+      final Set<Bytes32> knownStoredBranchesCache,
+      final Optional<Set<TreeNode>> knownStoredNodes,
+      final KvStoreTransaction transaction,
+      final SchemaCombinedTreeState schema) {
     this.knownStoredBranchesCache = knownStoredBranchesCache;
+    this.knownStoredNodes = knownStoredNodes;
     this.transaction = transaction;
     this.schema = schema;
   }
 
+  @Override
+  public boolean canSkipBranch(final TreeNode node, final long gIndex) {
+    if (isKnownStoredNode(node)) {
+      skippedBranchNodes++;
+      return true;
+    }
+    trackStoredNode(node);
+    return canSkipBranch(node.hashTreeRoot(), gIndex);
+  }
+
   @Override
   public boolean canSkipBranch(final Bytes32 root, final long gIndex) {
     final boolean result =
@@ -73,18 +106,41 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
   public void storeLeafNode(final TreeNode treeNode, final long gIndex) {
     checkArgument(treeNode instanceof LeafDataNode, "Can't store a non-leaf node");
     final LeafDataNode node = (LeafDataNode) treeNode;
-    if (node.getData().size() > Bytes32.SIZE && !node.hashTreeRoot().isZero()) {
+    if (node.getData().size() > Bytes32.SIZE
+        && !node.hashTreeRoot().isZero()
+        && !isStoredByEarlierUpdate(treeNode)) {
+      trackStoredNode(treeNode);
       storedLeafNodes++;
       transaction.put(
           schema.getColumnFinalizedStateMerkleTreeLeaves(), node.hashTreeRoot(), node.getData());
     }
   }
 
+  private boolean isKnownStoredNode(final TreeNode node) {
+    return newlyStoredNodes.contains(node) || isStoredByEarlierUpdate(node);
+  }
+
+  private boolean isStoredByEarlierUpdate(final TreeNode node) {
+    // Nodes tracked by this instance may only have been checked as a branch, not yet written
+    return knownStoredNodes.isPresent() && knownStoredNodes.get().contains(node);
+  }
+
+  private void trackStoredNode(final TreeNode node) {
+    if (knownStoredNodes.isPresent()) {
+      newlyStoredNodes.add(node);
+    }
+  }
+
   @Override
   public Collection<Bytes32> getStoredBranchRoots() {
     return newlyStoredBranches;
   }
 
+  /** Nodes stored or found to be stored by this instance, if node instances are being tracked. */
+  public Collection<TreeNode> getStoredNodes() {
+    return newlyStoredNodes;
+  }
+
   @Override
   public int getStoredBranchNodeCount() {
     return storedBranchNodes;
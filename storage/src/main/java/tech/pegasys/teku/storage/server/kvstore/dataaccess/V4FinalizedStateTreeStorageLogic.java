@@ -13,7 +13,11 @@
 
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
+import com.google.common.collect.MapMaker;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -22,9 +26,10 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
-import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -39,13 +44,32 @@ public class V4FinalizedStateTreeStorageLogic
   private final LabelledMetric<Counter> branchNodeStoredCounter;
   private final Counter statesStoredCounter;
   private final Set<Bytes32> knownStoredBranchesCache;
+  private final Optional<Set<TreeNode>> knownStoredNodes;
   private final Spec spec;
   private final Counter leafNodeStoredCounter;
+  private final MetricsHistogram nodesStoredPerStateHistogram;
 
   public V4FinalizedStateTreeStorageLogic(
       final MetricsSystem metricsSystem, final Spec spec, final int maxKnownNodeCacheSize) {
+    this(metricsSystem, spec, maxKnownNodeCacheSize, false);
+  }
+
+  /**
+   * @param incrementalStorageEnabled whether to track the tree node instances which have been
+   *     stored so that subtrees unchanged since an earlier state can be skipped by identity. Nodes
+   *     are weakly referenced so are only tracked while some state still uses them.
+   */
+  public V4FinalizedStateTreeStorageLogic(
+      final MetricsSystem metricsSystem,
+      final Spec spec,
+      final int maxKnownNodeCacheSize,
+      final boolean incrementalStorageEnabled) {
     this.spec = spec;
     this.knownStoredBranchesCache = LimitedSet.createSynchronized(maxKnownNodeCacheSize);
+    this.knownStoredNodes =
+        incrementalStorageEnabled
+            ? Optional.of(Collections.newSetFromMap(new MapMaker().weakKeys().makeMap()))
+            : Optional.empty();
     this.branchNodeStoredCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.STORAGE_FINALIZED_DB,
@@ -62,6 +86,14 @@ public class V4FinalizedStateTreeStorageLogic
             TekuMetricCategory.STORAGE_FINALIZED_DB,
             "states_stored",
             "Number of finalized states stored");
+    nodesStoredPerStateHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.STORAGE_FINALIZED_DB,
+            metricsSystem,
+            "state_nodes_stored_per_state",
+            "Number of tree branch and leaf nodes written for each finalized state stored",
+            3,
+            List.of());
   }
 
   @Override
@@ -83,9 +115,11 @@ public class V4FinalizedStateTreeStorageLogic
   public FinalizedStateUpdater<SchemaCombinedTreeState> updater() {
     return new StateTreeUpdater(
         knownStoredBranchesCache,
+        knownStoredNodes,
         branchNodeStoredCounter,
         statesStoredCounter,
-        leafNodeStoredCounter);
+        leafNodeStoredCounter,
+        nodesStoredPerStateHistogram);
   }
 
   @Override
@@ -102,21 +136,28 @@ public class V4FinalizedStateTreeStorageLogic
   private static class StateTreeUpdater implements FinalizedStateUpdater<SchemaCombinedTreeState> {
 
     private final Set<Bytes32> knownStoredBranchesCache;
+    private final Optional<Set<TreeNode>> knownStoredNodes;
     private final LabelledMetric<Counter> branchNodeStoredCounter;
     private final Counter statesStoredCounter;
     private final Counter leafNodeStoredCounter;
-    private TreeNodeStore nodeStore;
+    private final MetricsHistogram nodesStoredPerStateHistogram;
+    private final List<Integer> nodesStoredPerState = new ArrayList<>();
+    private KvStoreTreeNodeStore nodeStore;
     private int statesStored = 0;
 
     private StateTreeUpdater(
         final Set<Bytes32> knownStoredBranchesCache,
+        final Optional<Set<TreeNode>> knownStoredNodes,
         final LabelledMetric<Counter> branchNodeStoredCounter,
         final Counter statesStoredCounter,
-        final Counter leafNodeStoredCounter) {
+        final Counter leafNodeStoredCounter,
+        final MetricsHistogram nodesStoredPerStateHistogram) {
       this.knownStoredBranchesCache = knownStoredBranchesCache;
+      this.knownStoredNodes = knownStoredNodes;
       this.branchNodeStoredCounter = branchNodeStoredCounter;
       this.statesStoredCounter = statesStoredCounter;
       this.leafNodeStoredCounter = leafNodeStoredCounter;
+      this.nodesStoredPerStateHistogram = nodesStoredPerStateHistogram;
     }
 
     @Override
@@ -126,8 +167,11 @@ public class V4FinalizedStateTreeStorageLogic
         final SchemaCombinedTreeState schema,
         final BeaconState state) {
       if (nodeStore == null) {
-        nodeStore = new KvStoreTreeNodeStore(knownStoredBranchesCache, transaction, schema);
+        nodeStore =
+            new KvStoreTreeNodeStore(
+                knownStoredBranchesCache, knownStoredNodes, transaction, schema);
       }
+      final int previouslyStoredNodes = getStoredNodeCount();
       transaction.put(
           schema.getColumnFinalizedStateRootsBySlot(), state.getSlot(), state.hashTreeRoot());
       state
@@ -137,13 +181,20 @@ public class V4FinalizedStateTreeStorageLogic
               MAX_BRANCH_LEVELS_SKIPPED,
               GIndexUtil.SELF_G_INDEX,
               state.getBackingNode());
+      nodesStoredPerState.add(getStoredNodeCount() - previouslyStoredNodes);
       statesStored++;
     }
 
+    private int getStoredNodeCount() {
+      return nodeStore.getStoredBranchNodeCount() + nodeStore.getStoredLeafNodeCount();
+    }
+
     @Override
     public void commit() {
       if (nodeStore != null) {
         knownStoredBranchesCache.addAll(nodeStore.getStoredBranchRoots());
+        knownStoredNodes.ifPresent(nodes -> nodes.addAll(nodeStore.getStoredNodes()));
+        nodesStoredPerState.forEach(nodes -> nodesStoredPerStateHistogram.recordValue(nodes));
         branchNodeStoredCounter.labels("stored").inc(nodeStore.getStoredBranchNodeCount());
         branchNodeStoredCounter.labels("skipped").inc(nodeStore.getSkippedBranchNodeCount());
         leafNodeStoredCounter.inc(nodeStore.getStoredLeafNodeCount());
@@ -32,6 +32,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
@@ -103,6 +104,10 @@ public class V4HotKvStoreDao {
     return db.get(schema.getVariableWeakSubjectivityCheckpoint());
   }
 
+  public Optional<ForkChoiceSnapshot> getForkChoiceSnapshot() {
+    return db.get(schema.getVariableForkChoiceSnapshot());
+  }
+
   public List<Bytes32> getStateRootsBeforeSlot(final UInt64 slot) {
     try (Stream<ColumnEntry<Bytes32, SlotAndBlockRoot>> stream =
         db.stream(schema.getColumnStateRootToSlotAndBlockRoot())) {
@@ -227,6 +232,11 @@ public class V4HotKvStoreDao {
       transaction.delete(schema.getVariableWeakSubjectivityCheckpoint());
     }
 
+    @Override
+    public void setForkChoiceSnapshot(final ForkChoiceSnapshot snapshot) {
+      transaction.put(schema.getVariableForkChoiceSnapshot(), snapshot);
+    }
+
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       transaction.put(schema.getVariableLatestFinalizedState(), state);
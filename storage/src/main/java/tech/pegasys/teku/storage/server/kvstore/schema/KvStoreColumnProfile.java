@@ -0,0 +1,37 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.schema;
+
+/**
+ * Describes how a column is written and read so the underlying store can tune the storage of each
+ * column to suit. Stores which don't support per column tuning ignore the profile.
+ */
+public enum KvStoreColumnProfile {
+  /** No particular access pattern. */
+  DEFAULT,
+  /** Keyed by a hash and read by individual lookups, such as blocks by root. */
+  POINT_LOOKUP,
+  /** Keyed by slot or another increasing value and commonly iterated in order. */
+  RANGE_SCAN,
+  /**
+   * Large values keyed by slot which are written once and then only read, such as finalized
+   * blocks. Values are iterated in order to serve historic requests.
+   */
+  WRITE_ONCE,
+  /**
+   * Small, incompressible values keyed by hash which are read in very large numbers, such as the
+   * nodes of stored state trees.
+   */
+  TREE_NODE
+}
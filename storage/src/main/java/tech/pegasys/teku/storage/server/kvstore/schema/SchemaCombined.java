@@ -27,6 +27,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 
 public interface SchemaCombined extends Schema {
   // Columns
@@ -77,6 +78,8 @@ public interface SchemaCombined extends Schema {
 
   KvStoreVariable<Checkpoint> getVariableAnchorCheckpoint();
 
+  KvStoreVariable<ForkChoiceSnapshot> getVariableForkChoiceSnapshot();
+
   KvStoreVariable<UInt64> getOptimisticTransitionBlockSlot();
 
   Map<String, KvStoreColumn<?, ?>> getColumnMap();
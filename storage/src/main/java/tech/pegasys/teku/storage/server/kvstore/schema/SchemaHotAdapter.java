@@ -25,6 +25,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 
 public class SchemaHotAdapter implements Schema {
   private final SchemaCombined delegate;
@@ -93,6 +94,10 @@ public class SchemaHotAdapter implements Schema {
     return delegate.getVariableAnchorCheckpoint();
   }
 
+  public KvStoreVariable<ForkChoiceSnapshot> getVariableForkChoiceSnapshot() {
+    return delegate.getVariableForkChoiceSnapshot();
+  }
+
   public Map<String, KvStoreColumn<?, ?>> getColumnMap() {
     return Map.of(
         "HOT_BLOCKS_BY_ROOT", getColumnHotBlocksByRoot(),
@@ -113,7 +118,8 @@ public class SchemaHotAdapter implements Schema {
         "LATEST_FINALIZED_STATE", getVariableLatestFinalizedState(),
         "MIN_GENESIS_TIME_BLOCK", getVariableMinGenesisTimeBlock(),
         "WEAK_SUBJECTIVITY_CHECKPOINT", getVariableWeakSubjectivityCheckpoint(),
-        "ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint());
+        "ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint(),
+        "FORK_CHOICE_SNAPSHOT", getVariableForkChoiceSnapshot());
   }
 
   @Override
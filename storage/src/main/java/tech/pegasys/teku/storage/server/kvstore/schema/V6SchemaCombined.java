@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.RANGE_SCAN;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.FORK_CHOICE_SNAPSHOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.SLOT_AND_BLOCK_ROOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
@@ -34,6 +37,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
 
 public abstract class V6SchemaCombined implements SchemaCombined {
@@ -50,13 +54,13 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private final KvStoreColumn<Checkpoint, BeaconState> checkpointStates;
   private final KvStoreColumn<UInt64, VoteTracker> votes;
   private static final KvStoreColumn<UInt64, DepositsFromBlockEvent> DEPOSITS_FROM_BLOCK_EVENTS =
-      KvStoreColumn.create(4, UINT64_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER);
+      KvStoreColumn.create(4, UINT64_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER, RANGE_SCAN);
   private static final KvStoreColumn<Bytes32, SlotAndBlockRoot> STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT =
-      KvStoreColumn.create(5, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER);
+      KvStoreColumn.create(5, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER, POINT_LOOKUP);
   private final KvStoreColumn<Bytes32, BeaconState> hotStatesByRoot;
   private static final KvStoreColumn<Bytes32, BlockCheckpoints>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
-          KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+          KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER, POINT_LOOKUP);
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -75,6 +79,8 @@ public abstract class V6SchemaCombined implements SchemaCombined {
       KvStoreVariable.create(8, CHECKPOINT_SERIALIZER);
   private static final KvStoreVariable<Checkpoint> ANCHOR_CHECKPOINT =
       KvStoreVariable.create(9, CHECKPOINT_SERIALIZER);
+  private static final KvStoreVariable<ForkChoiceSnapshot> FORK_CHOICE_SNAPSHOT =
+      KvStoreVariable.create(10, FORK_CHOICE_SNAPSHOT_SERIALIZER);
 
   private final KvStoreVariable<UInt64> optimisticTransitionBlockSlot;
 
@@ -83,16 +89,17 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     this.finalizedOffset = finalizedOffset;
     final KvStoreSerializer<SignedBeaconBlock> signedBlockSerializer =
         KvStoreSerializer.createSignedBlockSerializer(spec);
-    hotBlocksByRoot = KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer);
+    hotBlocksByRoot =
+        KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer, POINT_LOOKUP);
 
     final KvStoreSerializer<BeaconState> stateSerializer =
         KvStoreSerializer.createStateSerializer(spec);
     checkpointStates = KvStoreColumn.create(2, CHECKPOINT_SERIALIZER, stateSerializer);
-    hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer);
+    hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer, POINT_LOOKUP);
     latestFinalizedState = KvStoreVariable.create(5, stateSerializer);
     final KvStoreSerializer<VoteTracker> voteTrackerSerializer =
         KvStoreSerializer.createVoteTrackerSerializer(storeVotesEquivocation);
-    votes = KvStoreColumn.create(3, UINT64_SERIALIZER, voteTrackerSerializer);
+    votes = KvStoreColumn.create(3, UINT64_SERIALIZER, voteTrackerSerializer, RANGE_SCAN);
 
     optimisticTransitionBlockSlot = KvStoreVariable.create(finalizedOffset + 1, UINT64_SERIALIZER);
   }
@@ -172,6 +179,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return ANCHOR_CHECKPOINT;
   }
 
+  @Override
+  public KvStoreVariable<ForkChoiceSnapshot> getVariableForkChoiceSnapshot() {
+    return FORK_CHOICE_SNAPSHOT;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getOptimisticTransitionBlockSlot() {
     return optimisticTransitionBlockSlot;
@@ -210,6 +222,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("WEAK_SUBJECTIVITY_CHECKPOINT", getVariableWeakSubjectivityCheckpoint())
         .put("ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint())
         .put("OPTIMISTIC_TRANSITION_BLOCK_SLOT", getOptimisticTransitionBlockSlot())
+        .put("FORK_CHOICE_SNAPSHOT", getVariableForkChoiceSnapshot())
         .build();
   }
 }
@@ -13,6 +13,9 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.RANGE_SCAN;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.WRITE_ONCE;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
@@ -49,33 +52,44 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
       final Spec spec, final boolean storeVotesEquivocation, final int finalizedOffset) {
     super(spec, storeVotesEquivocation, finalizedOffset);
     slotsByFinalizedRoot =
-        KvStoreColumn.create(finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             finalizedOffset + 2,
             UINT64_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            WRITE_ONCE);
     finalizedStatesBySlot =
         KvStoreColumn.create(
-            finalizedOffset + 3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+            finalizedOffset + 3,
+            UINT64_SERIALIZER,
+            KvStoreSerializer.createStateSerializer(spec),
+            WRITE_ONCE);
     slotsByFinalizedStateRoot =
-        KvStoreColumn.create(finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             finalizedOffset + 5,
             BYTES32_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            POINT_LOOKUP);
     nonCanonicalBlockRootsBySlot =
-        KvStoreColumn.create(finalizedOffset + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER, RANGE_SCAN);
     blindedBlocksByRoot =
         KvStoreColumn.create(
             finalizedOffset + 7,
             BYTES32_SERIALIZER,
-            KvStoreSerializer.createSignedBlindedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlindedBlockSerializer(spec),
+            POINT_LOOKUP);
     executionPayloadByBlockRoot =
-        KvStoreColumn.create(finalizedOffset + 8, BYTES32_SERIALIZER, BYTES_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 8, BYTES32_SERIALIZER, BYTES_SERIALIZER, POINT_LOOKUP);
     finalizedBlockRootBySlot =
-        KvStoreColumn.create(finalizedOffset + 9, UINT64_SERIALIZER, BYTES32_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 9, UINT64_SERIALIZER, BYTES32_SERIALIZER, RANGE_SCAN);
   }
 
   public static V6SchemaCombinedSnapshot createV4(
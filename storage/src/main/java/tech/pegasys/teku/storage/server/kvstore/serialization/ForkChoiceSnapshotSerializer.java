@@ -0,0 +1,89 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.ssz.SSZ;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
+
+class ForkChoiceSnapshotSerializer implements KvStoreSerializer<ForkChoiceSnapshot> {
+  // Increment when changing the format so that older snapshots are ignored rather than misread
+  static final int VERSION = 1;
+
+  @Override
+  public ForkChoiceSnapshot deserialize(final byte[] data) {
+    return SSZ.decode(
+        Bytes.of(data),
+        reader -> {
+          final long version = reader.readUInt64();
+          checkArgument(version == VERSION, "Unsupported fork choice snapshot version %s", version);
+          final ForkChoiceSnapshot.Builder snapshot =
+              ForkChoiceSnapshot.builder()
+                  .finalizedCheckpoint(
+                      new Checkpoint(
+                          UInt64.fromLongBits(reader.readUInt64()),
+                          Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE))));
+          final long blockCount = reader.readUInt64();
+          for (long i = 0; i < blockCount; i++) {
+            final UInt64 slot = UInt64.fromLongBits(reader.readUInt64());
+            final Bytes32 blockRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            final Bytes32 parentRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            final Bytes32 stateRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            final Bytes32 executionBlockHash = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            final boolean fullyValidated = reader.readBoolean();
+            snapshot.block(
+                new StoredBlockMetadata(
+                    slot,
+                    blockRoot,
+                    parentRoot,
+                    stateRoot,
+                    Optional.of(executionBlockHash),
+                    Optional.empty()),
+                fullyValidated);
+          }
+          return snapshot.build();
+        });
+  }
+
+  @Override
+  public byte[] serialize(final ForkChoiceSnapshot value) {
+    return SSZ.encode(
+            writer -> {
+              writer.writeUInt64(VERSION);
+              writer.writeUInt64(value.getFinalizedCheckpoint().getEpoch().longValue());
+              writer.writeFixedBytes(value.getFinalizedCheckpoint().getRoot());
+              writer.writeUInt64(value.getBlocks().size());
+              value
+                  .getBlocks()
+                  .values()
+                  .forEach(
+                      block -> {
+                        writer.writeUInt64(block.getBlockSlot().longValue());
+                        writer.writeFixedBytes(block.getBlockRoot());
+                        writer.writeFixedBytes(block.getParentRoot());
+                        writer.writeFixedBytes(block.getStateRoot());
+                        writer.writeFixedBytes(block.getExecutionBlockHash().orElse(Bytes32.ZERO));
+                        writer.writeBoolean(value.isFullyValidated(block.getBlockRoot()));
+                      });
+            })
+        .toArrayUnsafe();
+  }
+}
@@ -114,6 +114,7 @@ public class LevelDbDatabaseFactory {
       final int blockMigrationBatchSize,
       final int blockMigrationBatchDelay,
       final int maxKnownNodeCacheSize,
+      final boolean incrementalStateTreeStorageEnabled,
       final boolean storeVotesEquivocation,
       final Optional<AsyncRunner> asyncRunner,
       final Spec spec) {
@@ -133,6 +134,7 @@ public class LevelDbDatabaseFactory {
         blockMigrationBatchSize,
         blockMigrationBatchDelay,
         maxKnownNodeCacheSize,
+        incrementalStateTreeStorageEnabled,
         asyncRunner,
         spec);
   }
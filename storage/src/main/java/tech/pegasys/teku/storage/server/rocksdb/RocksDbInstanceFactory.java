@@ -18,6 +18,8 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -26,11 +28,14 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.Env;
 import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDBException;
@@ -41,9 +46,17 @@ import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
 public class RocksDbInstanceFactory {
+  // Fraction of the block cache reserved for index and filter blocks when columns are profiled
+  private static final double HIGH_PRIORITY_POOL_RATIO = 0.1;
+  private static final double BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final double DATA_BLOCK_HASH_TABLE_UTIL_RATIO = 0.75;
+  private static final long RANGE_SCAN_BLOCK_SIZE = 16 * 1024;
+  private static final long WRITE_ONCE_BLOCK_SIZE = 64 * 1024;
+
   static {
     RocksDbUtil.loadNativeLibrary();
   }
@@ -52,10 +65,11 @@ public class RocksDbInstanceFactory {
       final MetricsSystem metricsSystem,
       final MetricCategory metricCategory,
       final KvStoreConfiguration configuration,
-      final Collection<KvStoreColumn<?, ?>> columns)
+      final Map<String, KvStoreColumn<?, ?>> columnsByName)
       throws DatabaseStorageException {
     // Track resources that need to be closed
 
+    final Collection<KvStoreColumn<?, ?>> columns = columnsByName.values();
     checkArgument(
         columns.stream().map(KvStoreColumn::getId).distinct().count() == columns.size(),
         "Column IDs are not distinct");
@@ -64,15 +78,24 @@ public class RocksDbInstanceFactory {
     final TransactionDBOptions txOptions = new TransactionDBOptions();
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
-    final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
-        createColumnFamilyOptions(configuration, blockCache);
+    final LRUCache blockCache =
+        new LRUCache(
+            configuration.getCacheCapacity(),
+            -1,
+            false,
+            configuration.isColumnProfilesEnabled() ? HIGH_PRIORITY_POOL_RATIO : 0);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats, blockCache));
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions =
+        new EnumMap<>(KvStoreColumnProfile.class);
+    final Function<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptionsForProfile =
+        profile ->
+            columnFamilyOptions.computeIfAbsent(
+                configuration.isColumnProfilesEnabled() ? profile : KvStoreColumnProfile.DEFAULT,
+                key -> createColumnFamilyOptions(configuration, blockCache, key, resources));
 
     List<ColumnFamilyDescriptor> columnDescriptors =
-        createColumnFamilyDescriptors(columns, columnFamilyOptions);
+        createColumnFamilyDescriptors(columns, columnFamilyOptionsForProfile);
     Map<Bytes, KvStoreColumn<?, ?>> columnsById =
         columns.stream().collect(Collectors.toMap(KvStoreColumn::getId, Function.identity()));
 
@@ -104,6 +127,10 @@ public class RocksDbInstanceFactory {
       resources.add(db);
 
       rocksDbStats.registerMetrics(db);
+      final Map<String, ColumnFamilyHandle> columnHandlesByName = new HashMap<>();
+      columnsByName.forEach(
+          (name, column) -> columnHandlesByName.put(name, columnHandlesMap.get(column)));
+      rocksDbStats.registerColumnMetrics(db, columnHandlesByName);
 
       return new RocksDbInstance(db, defaultHandle, columnHandlesMap, resources);
     } catch (RocksDBException e) {
@@ -148,23 +175,90 @@ public class RocksDbInstanceFactory {
   }
 
   private static ColumnFamilyOptions createColumnFamilyOptions(
-      final KvStoreConfiguration configuration, final Cache cache) {
-    return new ColumnFamilyOptions()
-        .setCompressionType(configuration.getCompressionType())
-        .setBottommostCompressionType(configuration.getBottomMostCompressionType())
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+      final KvStoreConfiguration configuration,
+      final Cache cache,
+      final KvStoreColumnProfile profile,
+      final List<AutoCloseable> resources) {
+    final ColumnFamilyOptions options =
+        new ColumnFamilyOptions()
+            .setCompressionType(configuration.getCompressionType())
+            .setBottommostCompressionType(configuration.getBottomMostCompressionType());
+    resources.add(options);
+    final BlockBasedTableConfig tableConfig = createBlockBasedTableConfig(cache);
+    if (configuration.isColumnProfilesEnabled()) {
+      applyColumnProfile(profile, options, tableConfig, resources);
+    }
+    return options.setTableFormatConfig(tableConfig);
+  }
+
+  private static void applyColumnProfile(
+      final KvStoreColumnProfile profile,
+      final ColumnFamilyOptions options,
+      final BlockBasedTableConfig tableConfig,
+      final List<AutoCloseable> resources) {
+    // Keep index and filter blocks ahead of data blocks in the cache, as every read needs them
+    tableConfig
+        .setCacheIndexAndFilterBlocksWithHighPriority(true)
+        .setPinL0FilterAndIndexBlocksInCache(true);
+    switch (profile) {
+      case POINT_LOOKUP:
+        // Equivalent to ColumnFamilyOptions.optimizeForPointLookup but using the shared cache
+        tableConfig
+            .setFilterPolicy(createBloomFilter(resources))
+            .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
+            .setDataBlockHashTableUtilRatio(DATA_BLOCK_HASH_TABLE_UTIL_RATIO);
+        break;
+      case RANGE_SCAN:
+        // Larger blocks mean fewer reads while iterating. Single keys are still looked up.
+        tableConfig
+            .setFilterPolicy(createBloomFilter(resources))
+            .setBlockSize(RANGE_SCAN_BLOCK_SIZE);
+        break;
+      case WRITE_ONCE:
+        // Values are never rewritten so the cost of compressing them is only paid once
+        options
+            .setCompressionType(CompressionType.LZ4_COMPRESSION)
+            .setBottommostCompressionType(CompressionType.ZSTD_COMPRESSION);
+        tableConfig
+            .setFilterPolicy(createBloomFilter(resources))
+            .setBlockSize(WRITE_ONCE_BLOCK_SIZE);
+        break;
+      case TREE_NODE:
+        // Values are mostly hashes which don't compress. Leaf lookups frequently miss as leaves
+        // matching their root aren't stored, so the bloom filter avoids most of those reads.
+        options
+            .setCompressionType(CompressionType.NO_COMPRESSION)
+            .setBottommostCompressionType(CompressionType.NO_COMPRESSION);
+        tableConfig
+            .setFilterPolicy(createBloomFilter(resources))
+            .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
+            .setDataBlockHashTableUtilRatio(DATA_BLOCK_HASH_TABLE_UTIL_RATIO);
+        break;
+      case DEFAULT:
+        break;
+    }
+  }
+
+  private static BloomFilter createBloomFilter(final List<AutoCloseable> resources) {
+    final BloomFilter filter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+    resources.add(filter);
+    return filter;
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final Function<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions) {
     List<ColumnFamilyDescriptor> columnDescriptors =
         columns.stream()
             .map(
-                col -> new ColumnFamilyDescriptor(col.getId().toArrayUnsafe(), columnFamilyOptions))
+                col ->
+                    new ColumnFamilyDescriptor(
+                        col.getId().toArrayUnsafe(), columnFamilyOptions.apply(col.getProfile())))
             .collect(Collectors.toList());
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(
+            Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(),
+            columnFamilyOptions.apply(KvStoreColumnProfile.DEFAULT)));
     return columnDescriptors;
   }
 
@@ -17,12 +17,15 @@ import io.prometheus.client.Collector;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.HistogramData;
 import org.rocksdb.HistogramType;
 import org.rocksdb.RocksDB;
@@ -175,6 +178,15 @@ public class RocksDbStats implements AutoCloseable {
     HistogramType.READ_NUM_MERGE_OPERANDS,
   };
 
+  // Properties reported separately for each column family
+  static final Map<String, String> COLUMN_PROPERTIES =
+      Map.of(
+          "column_estimated_num_keys", "rocksdb.estimate-num-keys",
+          "column_estimated_live_data_size", "rocksdb.estimate-live-data-size",
+          "column_total_sst_files_size", "rocksdb.total-sst-files-size",
+          "column_current_size_all_mem_tables", "rocksdb.cur-size-all-mem-tables",
+          "column_estimated_table_readers_memory", "rocksdb.estimate-table-readers-mem");
+
   private boolean closed = false;
   private final Statistics stats;
   private final MetricsSystem metricsSystem;
@@ -219,11 +231,38 @@ public class RocksDbStats implements AutoCloseable {
     }
   }
 
+  /**
+   * Registers gauges for the properties RocksDB reports per column family, labelled with the
+   * column name. The ticker and histogram statistics are only available for the whole database.
+   */
+  public void registerColumnMetrics(
+      final RocksDB database, final Map<String, ColumnFamilyHandle> columnHandles) {
+    COLUMN_PROPERTIES.forEach(
+        (metricName, property) -> {
+          final LabelledGauge gauge =
+              metricsSystem.createLabelledGauge(
+                  category,
+                  metricName,
+                  "RocksDB reported " + property + " property for each column",
+                  "column");
+          columnHandles.forEach(
+              (columnName, handle) ->
+                  gauge.labels(() -> getLongProperty(database, handle, property), columnName));
+        });
+  }
+
   private long getLongProperty(final RocksDB database, final String name) {
+    return getLongProperty(database, null, name);
+  }
+
+  private long getLongProperty(
+      final RocksDB database, final ColumnFamilyHandle columnHandle, final String name) {
     return ifOpen(
         () -> {
           try {
-            return database.getLongProperty(name);
+            return columnHandle == null
+                ? database.getLongProperty(name)
+                : database.getLongProperty(columnHandle, name);
           } catch (RocksDBException e) {
             LOG.warn("Failed to load " + name + " property for RocksDB metrics");
             return 0L;
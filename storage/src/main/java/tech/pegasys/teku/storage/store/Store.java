@@ -26,6 +26,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -65,12 +66,13 @@ import tech.pegasys.teku.storage.api.StoredBlockMetadata;
 import tech.pegasys.teku.storage.api.VoteUpdateChannel;
 import tech.pegasys.teku.storage.protoarray.ForkChoiceStrategy;
 import tech.pegasys.teku.storage.protoarray.ProtoArray;
+import tech.pegasys.teku.storage.protoarray.VoteColumns;
 
 class Store implements UpdatableStore {
   private static final Logger LOG = LogManager.getLogger();
-  public static final int VOTE_TRACKER_SPARE_CAPACITY = 1000;
 
   private final int hotStatePersistenceFrequencyInEpochs;
+  private final long stateCacheMaxRetainedBytes;
 
   private final ReadWriteLock lock = new ReentrantReadWriteLock();
   private final Lock readLock = lock.readLock();
@@ -94,13 +96,13 @@ class Store implements UpdatableStore {
   final CachingTaskQueue<Bytes32, StateAndBlockSummary> states;
   final Map<Bytes32, SignedBeaconBlock> blocks;
   final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
-  VoteTracker[] votes;
-  UInt64 highestVotedValidatorIndex;
+  final VoteColumns votes;
 
   private Store(
       final MetricsSystem metricsSystem,
       final Spec spec,
       final int hotStatePersistenceFrequencyInEpochs,
+      final long stateCacheMaxRetainedBytes,
       final BlockProvider blockProvider,
       final StateAndBlockSummaryProvider stateProvider,
       final CachingTaskQueue<Bytes32, StateAndBlockSummary> states,
@@ -133,16 +135,13 @@ class Store implements UpdatableStore {
     // Store instance variables
     this.initialCheckpoint = initialCheckpoint;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
+    this.stateCacheMaxRetainedBytes = stateCacheMaxRetainedBytes;
     this.timeMillis = secondsToMillis(time);
     this.genesisTime = genesisTime;
     this.justifiedCheckpoint = justifiedCheckpoint;
     this.bestJustifiedCheckpoint = bestJustifiedCheckpoint;
     this.blocks = blocks;
-    this.highestVotedValidatorIndex =
-        votes.keySet().stream().max(Comparator.naturalOrder()).orElse(UInt64.ZERO);
-    this.votes =
-        new VoteTracker[this.highestVotedValidatorIndex.intValue() + VOTE_TRACKER_SPARE_CAPACITY];
-    votes.forEach((key, value) -> this.votes[key.intValue()] = value);
+    this.votes = VoteColumns.create(votes);
 
     // Track latest finalized block
     this.finalizedAnchor = finalizedAnchor;
@@ -176,6 +175,7 @@ class Store implements UpdatableStore {
       final Checkpoint justifiedCheckpoint,
       final Checkpoint bestJustifiedCheckpoint,
       final Map<Bytes32, StoredBlockMetadata> blockInfoByRoot,
+      final Set<Bytes32> fullyValidatedBlockRoots,
       final Map<UInt64, VoteTracker> votes,
       final StoreConfig config) {
 
@@ -183,25 +183,54 @@ class Store implements UpdatableStore {
     final Map<Bytes32, SignedBeaconBlock> blocks =
         LimitedMap.createSynchronized(config.getBlockCacheSize());
     final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue =
-        CachingTaskQueue.create(
-            asyncRunner,
-            metricsSystem,
-            "memory_checkpoint_states",
-            config.getCheckpointStateCacheSize());
+        config.getCheckpointStateCacheMaxRetainedBytes() > 0
+            ? CachingTaskQueue.createRetainedSizeLimited(
+                asyncRunner,
+                metricsSystem,
+                "memory_checkpoint_states",
+                config.getCheckpointStateCacheSize(),
+                config.getCheckpointStateCacheMaxRetainedBytes(),
+                BeaconState::getBackingNode,
+                // Regenerating any checkpoint state requires processing an epoch transition
+                state -> spec.getSlotsPerEpoch(state.getSlot()))
+            : CachingTaskQueue.create(
+                asyncRunner,
+                metricsSystem,
+                "memory_checkpoint_states",
+                config.getCheckpointStateCacheSize());
     final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
-        CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+        config.getStateCacheMaxRetainedBytes() > 0
+            ? CachingTaskQueue.createRetainedSizeLimited(
+                asyncRunner,
+                metricsSystem,
+                "memory_states",
+                config.getStateCacheSize(),
+                config.getStateCacheMaxRetainedBytes(),
+                stateAndBlock -> stateAndBlock.getState().getBackingNode(),
+                stateAndBlock ->
+                    estimateRegenerationCost(
+                        spec,
+                        stateAndBlock.getSlot(),
+                        config.getHotStatePersistenceFrequencyInEpochs()))
+            : CachingTaskQueue.create(
+                asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
 
     final ForkChoiceStrategy forkChoiceStrategy =
         ForkChoiceStrategy.initialize(
             spec,
             buildProtoArray(
-                spec, blockInfoByRoot, initialCheckpoint, justifiedCheckpoint, finalizedAnchor));
+                spec,
+                blockInfoByRoot,
+                fullyValidatedBlockRoots,
+                initialCheckpoint,
+                justifiedCheckpoint,
+                finalizedAnchor));
 
     return new Store(
         metricsSystem,
         spec,
         config.getHotStatePersistenceFrequencyInEpochs(),
+        config.getStateCacheMaxRetainedBytes(),
         blockProvider,
         stateAndBlockProvider,
         stateTaskQueue,
@@ -218,9 +247,22 @@ class Store implements UpdatableStore {
         checkpointStateTaskQueue);
   }
 
+  /**
+   * Estimates the number of slots that would have to be processed to regenerate the state at the
+   * given slot from the closest earlier persisted hot state. When hot states aren't persisted, the
+   * closest epoch boundary is used as a lower bound.
+   */
+  private static long estimateRegenerationCost(
+      final Spec spec, final UInt64 slot, final int hotStatePersistenceFrequencyInEpochs) {
+    final long persistenceIntervalSlots =
+        (long) spec.getSlotsPerEpoch(slot) * Math.max(1, hotStatePersistenceFrequencyInEpochs);
+    return slot.mod(persistenceIntervalSlots).longValue() + 1;
+  }
+
   private static ProtoArray buildProtoArray(
       final Spec spec,
       final Map<Bytes32, StoredBlockMetadata> blockInfoByRoot,
+      final Set<Bytes32> fullyValidatedBlockRoots,
       final Optional<Checkpoint> initialCheckpoint,
       final Checkpoint justifiedCheckpoint,
       final AnchorPoint finalizedAnchor) {
@@ -246,6 +288,8 @@ class Store implements UpdatableStore {
           block.getExecutionBlockHash().orElse(Bytes32.ZERO),
           spec.isBlockProcessorOptimistic(block.getBlockSlot()));
     }
+    // Restore validation results from before the restart so the blocks aren't optimistic again
+    fullyValidatedBlockRoots.forEach(protoArray::markNodeValid);
     return protoArray;
   }
 
@@ -512,7 +556,7 @@ class Store implements UpdatableStore {
   UInt64 getHighestVotedValidatorIndex() {
     readLock.lock();
     try {
-      return highestVotedValidatorIndex;
+      return votes.getHighestVotedValidatorIndex();
     } finally {
       readLock.unlock();
     }
@@ -521,10 +565,7 @@ class Store implements UpdatableStore {
   VoteTracker getVote(UInt64 validatorIndex) {
     readLock.lock();
     try {
-      if (validatorIndex.intValue() >= votes.length) {
-        return null;
-      }
-      return votes[validatorIndex.intValue()];
+      return votes.getVote(validatorIndex.intValue());
     } finally {
       readLock.unlock();
     }
@@ -613,7 +654,8 @@ class Store implements UpdatableStore {
                     () -> getClosestAvailableBlockRootAndState(blockRoot),
                     stateProvider,
                     Optional.empty(),
-                    hotStatePersistenceFrequencyInEpochs))));
+                    hotStatePersistenceFrequencyInEpochs),
+                stateCacheMaxRetainedBytes)));
   }
 
   private Optional<BlockRootAndState> getClosestAvailableBlockRootAndState(
@@ -16,9 +16,12 @@ package tech.pegasys.teku.storage.store;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
@@ -42,6 +45,7 @@ public class StoreBuilder {
   private StoreConfig storeConfig = StoreConfig.createDefault();
 
   private final Map<Bytes32, StoredBlockMetadata> blockInfoByRoot = new HashMap<>();
+  private final Set<Bytes32> fullyValidatedBlockRoots = new HashSet<>();
   private Optional<Checkpoint> anchor = Optional.empty();
   private UInt64 time;
   private UInt64 genesisTime;
@@ -83,7 +87,8 @@ public class StoreBuilder {
         anchor.getCheckpoint(),
         anchor.getCheckpoint(),
         blockInfo,
-        new HashMap<>());
+        new HashMap<>(),
+        Collections.emptySet());
   }
 
   public StoreBuilder onDiskStoreData(final OnDiskStoreData data) {
@@ -95,6 +100,7 @@ public class StoreBuilder {
         .justifiedCheckpoint(data.getJustifiedCheckpoint())
         .bestJustifiedCheckpoint(data.getBestJustifiedCheckpoint())
         .blockInformation(data.getBlockInformation())
+        .fullyValidatedBlockRoots(data.getFullyValidatedBlockRoots())
         .votes(data.getVotes());
   }
 
@@ -115,6 +121,7 @@ public class StoreBuilder {
         justifiedCheckpoint,
         bestJustifiedCheckpoint,
         blockInfoByRoot,
+        fullyValidatedBlockRoots,
         votes,
         storeConfig);
   }
@@ -222,6 +229,12 @@ public class StoreBuilder {
     return this;
   }
 
+  public StoreBuilder fullyValidatedBlockRoots(final Set<Bytes32> fullyValidatedBlockRoots) {
+    checkNotNull(fullyValidatedBlockRoots);
+    this.fullyValidatedBlockRoots.addAll(fullyValidatedBlockRoots);
+    return this;
+  }
+
   public StoreBuilder votes(final Map<UInt64, VoteTracker> votes) {
     checkNotNull(votes);
     this.votes = votes;
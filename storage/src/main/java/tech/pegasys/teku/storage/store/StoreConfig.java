@@ -26,21 +26,34 @@ public class StoreConfig {
   public static final int DEFAULT_BLOCK_CACHE_SIZE = DEFAULT_STATE_CACHE_SIZE * 2;
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
+  public static final boolean DEFAULT_CONCURRENT_TRANSITION_CACHES_ENABLED = false;
+  // Zero disables the limit so caches are only bounded by their number of states
+  public static final long DEFAULT_STATE_CACHE_MAX_RETAINED_BYTES = 0;
+  public static final long DEFAULT_CHECKPOINT_STATE_CACHE_MAX_RETAINED_BYTES = 0;
 
   private final int stateCacheSize;
   private final int blockCacheSize;
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
+  private final boolean concurrentTransitionCachesEnabled;
+  private final long stateCacheMaxRetainedBytes;
+  private final long checkpointStateCacheMaxRetainedBytes;
 
   private StoreConfig(
       final int stateCacheSize,
       final int blockCacheSize,
       final int checkpointStateCacheSize,
-      final int hotStatePersistenceFrequencyInEpochs) {
+      final int hotStatePersistenceFrequencyInEpochs,
+      final boolean concurrentTransitionCachesEnabled,
+      final long stateCacheMaxRetainedBytes,
+      final long checkpointStateCacheMaxRetainedBytes) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
+    this.concurrentTransitionCachesEnabled = concurrentTransitionCachesEnabled;
+    this.stateCacheMaxRetainedBytes = stateCacheMaxRetainedBytes;
+    this.checkpointStateCacheMaxRetainedBytes = checkpointStateCacheMaxRetainedBytes;
   }
 
   public static Builder builder() {
@@ -67,6 +80,18 @@ public class StoreConfig {
     return hotStatePersistenceFrequencyInEpochs;
   }
 
+  public boolean isConcurrentTransitionCachesEnabled() {
+    return concurrentTransitionCachesEnabled;
+  }
+
+  public long getStateCacheMaxRetainedBytes() {
+    return stateCacheMaxRetainedBytes;
+  }
+
+  public long getCheckpointStateCacheMaxRetainedBytes() {
+    return checkpointStateCacheMaxRetainedBytes;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -79,7 +104,10 @@ public class StoreConfig {
     return stateCacheSize == that.stateCacheSize
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
-        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs;
+        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && concurrentTransitionCachesEnabled == that.concurrentTransitionCachesEnabled
+        && stateCacheMaxRetainedBytes == that.stateCacheMaxRetainedBytes
+        && checkpointStateCacheMaxRetainedBytes == that.checkpointStateCacheMaxRetainedBytes;
   }
 
   @Override
@@ -88,7 +116,10 @@ public class StoreConfig {
         stateCacheSize,
         blockCacheSize,
         checkpointStateCacheSize,
-        hotStatePersistenceFrequencyInEpochs);
+        hotStatePersistenceFrequencyInEpochs,
+        concurrentTransitionCachesEnabled,
+        stateCacheMaxRetainedBytes,
+        checkpointStateCacheMaxRetainedBytes);
   }
 
   public static class Builder {
@@ -97,6 +128,11 @@ public class StoreConfig {
     private int checkpointStateCacheSize = DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
+    private boolean concurrentTransitionCachesEnabled =
+        DEFAULT_CONCURRENT_TRANSITION_CACHES_ENABLED;
+    private long stateCacheMaxRetainedBytes = DEFAULT_STATE_CACHE_MAX_RETAINED_BYTES;
+    private long checkpointStateCacheMaxRetainedBytes =
+        DEFAULT_CHECKPOINT_STATE_CACHE_MAX_RETAINED_BYTES;
 
     private Builder() {}
 
@@ -105,7 +141,10 @@ public class StoreConfig {
           stateCacheSize,
           blockCacheSize,
           checkpointStateCacheSize,
-          hotStatePersistenceFrequencyInEpochs);
+          hotStatePersistenceFrequencyInEpochs,
+          concurrentTransitionCachesEnabled,
+          stateCacheMaxRetainedBytes,
+          checkpointStateCacheMaxRetainedBytes);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -138,10 +177,33 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder concurrentTransitionCachesEnabled(
+        final boolean concurrentTransitionCachesEnabled) {
+      this.concurrentTransitionCachesEnabled = concurrentTransitionCachesEnabled;
+      return this;
+    }
+
+    public Builder stateCacheMaxRetainedBytes(final long stateCacheMaxRetainedBytes) {
+      validateMaxRetainedBytes(stateCacheMaxRetainedBytes);
+      this.stateCacheMaxRetainedBytes = stateCacheMaxRetainedBytes;
+      return this;
+    }
+
+    public Builder checkpointStateCacheMaxRetainedBytes(
+        final long checkpointStateCacheMaxRetainedBytes) {
+      validateMaxRetainedBytes(checkpointStateCacheMaxRetainedBytes);
+      this.checkpointStateCacheMaxRetainedBytes = checkpointStateCacheMaxRetainedBytes;
+      return this;
+    }
+
     private void validateCacheSize(final int cacheSize) {
       checkArgument(cacheSize >= 0, "Cache size cannot be negative");
       checkArgument(
           cacheSize <= MAX_CACHE_SIZE, "Cache size %s exceeds max: %s", cacheSize, MAX_CACHE_SIZE);
     }
+
+    private void validateMaxRetainedBytes(final long maxRetainedBytes) {
+      checkArgument(maxRetainedBytes >= 0, "Cache memory limit cannot be negative");
+    }
   }
 }
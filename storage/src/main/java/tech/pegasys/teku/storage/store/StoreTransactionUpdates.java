@@ -26,6 +26,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.api.FinalizedChainData;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
 import tech.pegasys.teku.storage.api.StorageUpdate;
 import tech.pegasys.teku.storage.api.UpdateResult;
 
@@ -41,6 +42,7 @@ class StoreTransactionUpdates {
   private final Set<Bytes32> prunedHotBlockRoots;
   private final boolean optimisticTransitionBlockRootSet;
   private final Optional<Bytes32> optimisticTransitionBlockRoot;
+  private final Optional<ForkChoiceSnapshot> forkChoiceSnapshot;
 
   StoreTransactionUpdates(
       final StoreTransaction tx,
@@ -51,7 +53,8 @@ class StoreTransactionUpdates {
       final Set<Bytes32> prunedHotBlockRoots,
       final Map<Bytes32, SlotAndBlockRoot> stateRoots,
       final boolean optimisticTransitionBlockRootSet,
-      final Optional<Bytes32> optimisticTransitionBlockRoot) {
+      final Optional<Bytes32> optimisticTransitionBlockRoot,
+      final Optional<ForkChoiceSnapshot> forkChoiceSnapshot) {
     checkNotNull(tx, "Transaction is required");
     checkNotNull(finalizedChainData, "Finalized data is required");
     checkNotNull(hotBlocks, "Hot blocks are required");
@@ -59,6 +62,7 @@ class StoreTransactionUpdates {
     checkNotNull(hotStatesToPersist, "Hot states to persist are required");
     checkNotNull(prunedHotBlockRoots, "Pruned roots are required");
     checkNotNull(stateRoots, "State roots are required");
+    checkNotNull(forkChoiceSnapshot, "Fork choice snapshot is required");
 
     this.tx = tx;
     this.finalizedChainData = finalizedChainData;
@@ -69,6 +73,7 @@ class StoreTransactionUpdates {
     this.stateRoots = stateRoots;
     this.optimisticTransitionBlockRootSet = optimisticTransitionBlockRootSet;
     this.optimisticTransitionBlockRoot = optimisticTransitionBlockRoot;
+    this.forkChoiceSnapshot = forkChoiceSnapshot;
   }
 
   public StorageUpdate createStorageUpdate() {
@@ -82,7 +87,8 @@ class StoreTransactionUpdates {
         prunedHotBlockRoots,
         stateRoots,
         optimisticTransitionBlockRootSet,
-        optimisticTransitionBlockRoot);
+        optimisticTransitionBlockRoot,
+        forkChoiceSnapshot);
   }
 
   public void applyToStore(final Store store, final UpdateResult updateResult) {
@@ -35,6 +35,8 @@ import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.api.FinalizedChainData;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
 
 class StoreTransactionUpdatesFactory {
   private static final Logger LOG = LogManager.getLogger();
@@ -227,6 +229,40 @@ class StoreTransactionUpdatesFactory {
         .forEach(newBlockAndState -> prunedHotBlockRoots.add(newBlockAndState.getRoot()));
   }
 
+  /**
+   * Creates a snapshot of the blocks fork choice will track once this transaction is applied. A
+   * snapshot is only taken when a new checkpoint is finalized or the first block of an epoch is
+   * imported, so the cost of writing it is paid at most about once per epoch.
+   */
+  private Optional<ForkChoiceSnapshot> createForkChoiceSnapshot(
+      final Optional<FinalizedChainData> finalizedChainData) {
+    if (finalizedChainData.isEmpty()
+        && hotBlocks.values().stream().noneMatch(this::isFirstBlockOfEpoch)) {
+      return Optional.empty();
+    }
+    final ForkChoiceSnapshot.Builder snapshot =
+        ForkChoiceSnapshot.builder().finalizedCheckpoint(tx.getFinalizedCheckpoint());
+    baseStore.forkChoiceStrategy.addBlocksToSnapshot(
+        snapshot, blockRoot -> !prunedHotBlockRoots.contains(blockRoot));
+    // Blocks in this transaction may turn out to be optimistic so are never marked validated
+    hotBlocks
+        .values()
+        .forEach(
+            block ->
+                snapshot.block(
+                    StoredBlockMetadata.fromBlockAndCheckpointEpochs(
+                        block.getBlock(), block.getBlockCheckpoints()),
+                    false));
+    return Optional.of(snapshot.build());
+  }
+
+  private boolean isFirstBlockOfEpoch(final BlockAndCheckpoints block) {
+    final UInt64 epoch = spec.computeEpochAtSlot(block.getSlot());
+    return blockSlot(block.getParentRoot())
+        .map(parentSlot -> spec.computeEpochAtSlot(parentSlot).isLessThan(epoch))
+        .orElse(true);
+  }
+
   private StoreTransactionUpdates createStoreTransactionUpdates(
       final Optional<FinalizedChainData> finalizedChainData,
       final boolean optimisticTransitionBlockRootSet,
@@ -240,6 +276,7 @@ class StoreTransactionUpdatesFactory {
         prunedHotBlockRoots,
         stateRoots,
         optimisticTransitionBlockRootSet,
-        optimisticTransitionBlockRoot);
+        optimisticTransitionBlockRoot,
+        createForkChoiceSnapshot(finalizedChainData));
   }
 }
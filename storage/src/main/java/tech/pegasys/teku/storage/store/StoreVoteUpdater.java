@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.storage.store;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,8 +46,7 @@ public class StoreVoteUpdater implements VoteUpdater {
     if (txVote != null) {
       return txVote;
     } else {
-      VoteTracker storeVote = store.getVote(validatorIndex);
-      return storeVote != null ? storeVote : VoteTracker.DEFAULT;
+      return store.getVote(validatorIndex);
     }
   }
 
@@ -76,10 +74,11 @@ public class StoreVoteUpdater implements VoteUpdater {
     // store lock.
     lock.writeLock().lock();
     try {
+      applyVotesToStore();
       return store
           .getForkChoiceStrategy()
           .applyPendingVotes(
-              this,
+              store.votes,
               proposerBoostRoot,
               finalizedCheckpoint,
               justifiedCheckpoint,
@@ -94,18 +93,18 @@ public class StoreVoteUpdater implements VoteUpdater {
   public void commit() {
     // Votes are applied to the store immediately since the changes to the in-memory ProtoArray
     // can't be rolled back.
-
-    store.highestVotedValidatorIndex = getHighestVotedValidatorIndex();
-
-    if (store.highestVotedValidatorIndex.intValue() >= store.votes.length) {
-      store.votes =
-          Arrays.copyOf(
-              store.votes,
-              store.highestVotedValidatorIndex.intValue() + Store.VOTE_TRACKER_SPARE_CAPACITY);
+    lock.writeLock().lock();
+    try {
+      applyVotesToStore();
+      // Only votes which actually changed since the last commit need to be persisted.
+      voteUpdateChannel.onVotesUpdated(store.votes.drainDirtyVotes());
+    } finally {
+      lock.writeLock().unlock();
     }
+  }
 
-    votes.forEach((key, value) -> store.votes[key.intValue()] = value);
-
-    voteUpdateChannel.onVotesUpdated(votes);
+  private void applyVotesToStore() {
+    store.votes.putAll(votes);
+    votes.clear();
   }
 }
@@ -581,6 +581,45 @@ public class ProtoArrayScoreCalculatorTest {
     }
   }
 
+  @Test
+  void computeDeltas_acrossParallelChunks() {
+    final UInt64 balance = UInt64.valueOf(42);
+    final int validatorCount = ProtoArrayScoreCalculator.PARALLEL_CHUNK_SIZE * 2 + 5;
+    final int rootCount = 4;
+
+    for (int i = 0; i < rootCount; i++) {
+      indices.put(getHash(i), i);
+    }
+    for (int i = 0; i < validatorCount; i++) {
+      VoteTracker vote = store.getVote(UInt64.valueOf(i));
+      VoteTracker newVote =
+          new VoteTracker(vote.getCurrentRoot(), getHash(i % rootCount), vote.getNextEpoch());
+      store.putVote(UInt64.valueOf(i), newVote);
+      oldBalances.add(balance);
+      newBalances.add(balance);
+    }
+
+    List<Long> deltas =
+        computeDeltas(
+            store,
+            indices.size(),
+            this::getIndex,
+            oldBalances,
+            newBalances,
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+    assertThat(deltas).hasSize(rootCount);
+
+    for (int i = 0; i < rootCount; i++) {
+      final long votesForRoot = (validatorCount - i + rootCount - 1) / rootCount;
+      assertThat(deltas.get(i)).isEqualTo(balance.longValue() * votesForRoot);
+    }
+
+    votesShouldBeUpdated(store);
+  }
+
   private void votesShouldBeUpdated(VoteUpdater store) {
     UInt64.rangeClosed(ZERO, store.getHighestVotedValidatorIndex())
         .forEach(
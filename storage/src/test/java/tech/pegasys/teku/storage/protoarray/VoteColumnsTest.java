@@ -0,0 +1,83 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class VoteColumnsTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+
+  @Test
+  void shouldLoadInitialVotesWithoutMarkingThemDirty() {
+    final VoteTracker vote = dataStructureUtil.randomVoteTracker();
+    final VoteColumns votes = VoteColumns.create(Map.of(UInt64.valueOf(5), vote));
+
+    assertThat(votes.getVote(5)).isEqualTo(vote);
+    assertThat(votes.getVote(4)).isEqualTo(VoteTracker.DEFAULT);
+    assertThat(votes.getHighestVotedValidatorIndex()).isEqualTo(UInt64.valueOf(5));
+    assertThat(votes.drainDirtyVotes()).isEmpty();
+  }
+
+  @Test
+  void shouldReturnOnlyChangedVotesWhenDrained() {
+    final VoteColumns votes = VoteColumns.create(Map.of());
+    final VoteTracker vote1 = dataStructureUtil.randomVoteTracker();
+    final VoteTracker vote2 = dataStructureUtil.randomVoteTracker();
+    votes.putVote(1, vote1);
+    votes.putVote(130, vote2);
+
+    assertThat(votes.drainDirtyVotes())
+        .isEqualTo(Map.of(UInt64.ONE, vote1, UInt64.valueOf(130), vote2));
+    assertThat(votes.drainDirtyVotes()).isEmpty();
+  }
+
+  @Test
+  void shouldGrowWhenVoteIsBeyondCapacity() {
+    final VoteColumns votes = VoteColumns.create(Map.of());
+    final int validatorIndex = votes.getCapacity() + 10;
+    final VoteTracker vote = dataStructureUtil.randomVoteTracker();
+    votes.putVote(validatorIndex, vote);
+
+    assertThat(votes.getCapacity()).isGreaterThan(validatorIndex);
+    assertThat(votes.getVote(validatorIndex)).isEqualTo(vote);
+    assertThat(votes.getHighestVotedValidatorIndex()).isEqualTo(UInt64.valueOf(validatorIndex));
+    assertThat(votes.drainDirtyVotes()).containsOnlyKeys(UInt64.valueOf(validatorIndex));
+  }
+
+  @Test
+  void shouldDropUnreferencedRootsWhenCompacting() {
+    final VoteColumns votes = VoteColumns.create(Map.of());
+    final Bytes32 finalRoot = dataStructureUtil.randomBytes32();
+    for (int i = 0; i < 5000; i++) {
+      final Bytes32 root = dataStructureUtil.randomBytes32();
+      votes.putVote(0, new VoteTracker(root, root, UInt64.valueOf(i)));
+    }
+    final VoteTracker latestVote = new VoteTracker(finalRoot, finalRoot, UInt64.ONE, true, false);
+    votes.putVote(0, latestVote);
+
+    votes.compactRootsIfRequired();
+
+    assertThat(votes.getRootCount()).isEqualTo(2);
+    assertThat(votes.getVote(0)).isEqualTo(latestVote);
+  }
+}
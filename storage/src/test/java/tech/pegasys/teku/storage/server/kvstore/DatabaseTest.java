@@ -1057,6 +1057,43 @@ public class DatabaseTest {
     assertStoresMatch(memoryStore, store);
   }
 
+  @TestTemplate
+  public void shouldRecreateStoreOnRestartFromForkChoiceSnapshot(final DatabaseContext context)
+      throws IOException {
+    initialize(context);
+
+    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(UInt64.valueOf(2));
+    chainBuilder.generateBlocksUpToSlot(epochStartSlot);
+    add(chainBuilder.streamBlocksAndStates(1, epochStartSlot.longValue() - 1).collect(toList()));
+    final Bytes32 validatedRoot = chainBuilder.getBlockAtSlot(epochStartSlot.minus(2)).getRoot();
+    final Bytes32 optimisticRoot = chainBuilder.getBlockAtSlot(epochStartSlot.minus(1)).getRoot();
+    recentChainData
+        .getUpdatableForkChoiceStrategy()
+        .orElseThrow()
+        .onExecutionPayloadResult(validatedRoot, PayloadStatus.VALID, false);
+    assertThat(store.getForkChoiceStrategy().isFullyValidated(validatedRoot)).isTrue();
+    assertThat(store.getForkChoiceStrategy().isFullyValidated(optimisticRoot)).isFalse();
+
+    // Importing the first block of an epoch writes a fork choice snapshot, which includes the
+    // validation status of the blocks imported by earlier transactions
+    add(List.of(chainBuilder.getBlockAndStateAtSlot(epochStartSlot)));
+    assertThat(((KvStoreDatabase<?, ?, ?, ?>) database).dao.getForkChoiceSnapshot()).isPresent();
+
+    // Validated roots are only loaded from the snapshot, so their presence shows it was used
+    final OnDiskStoreData storeData = database.createMemoryStore().orElseThrow();
+    assertThat(storeData.getFullyValidatedBlockRoots())
+        .contains(validatedRoot)
+        .doesNotContain(optimisticRoot);
+
+    // Shutdown and restart
+    restartStorage();
+
+    final UpdatableStore memoryStore = recreateStore();
+    assertStoresMatch(memoryStore, store);
+    assertThat(memoryStore.getForkChoiceStrategy().isFullyValidated(validatedRoot)).isTrue();
+    assertThat(memoryStore.getForkChoiceStrategy().isFullyValidated(optimisticRoot)).isFalse();
+  }
+
   @TestTemplate
   public void shouldPersistOnDisk_pruneMode(final DatabaseContext context) throws Exception {
     testShouldPersistOnDisk(context, StateStorageMode.PRUNE);
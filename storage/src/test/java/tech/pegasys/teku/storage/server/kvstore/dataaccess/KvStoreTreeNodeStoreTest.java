@@ -19,10 +19,16 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.google.common.collect.Sets;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -147,4 +153,52 @@ class KvStoreTreeNodeStoreTest {
     assertThat(store.getStoredBranchNodeCount()).isEqualTo(3);
     assertThat(store.getStoredBranchRoots()).containsExactlyInAnyOrder(root1, root2, root3);
   }
+
+  @Test
+  void canSkipBranch_shouldSkipKnownNodeInstanceWithoutCheckingRoot() {
+    final Set<TreeNode> knownNodes = Sets.newIdentityHashSet();
+    final KvStoreTreeNodeStore incrementalStore =
+        new KvStoreTreeNodeStore(knownBranchCache, Optional.of(knownNodes), transaction, schema);
+    final TreeNode node = randomBranchNode();
+    knownNodes.add(node);
+
+    assertThat(incrementalStore.canSkipBranch(node, 3)).isTrue();
+    assertThat(incrementalStore.getSkippedBranchNodeCount()).isEqualTo(1);
+    assertThat(incrementalStore.getStoredNodes()).isEmpty();
+  }
+
+  @Test
+  void canSkipBranch_shouldTrackNodeInstancesWhichAreNotSkipped() {
+    final Set<TreeNode> knownNodes = Sets.newIdentityHashSet();
+    final KvStoreTreeNodeStore incrementalStore =
+        new KvStoreTreeNodeStore(knownBranchCache, Optional.of(knownNodes), transaction, schema);
+    final TreeNode node = randomBranchNode();
+
+    assertThat(incrementalStore.canSkipBranch(node, 3)).isFalse();
+    assertThat(incrementalStore.getStoredNodes()).containsExactly(node);
+    // An equal but different instance still has to be checked by root
+    assertThat(incrementalStore.canSkipBranch(copyOf(node), 3)).isFalse();
+    assertThat(incrementalStore.canSkipBranch(node, 3)).isTrue();
+  }
+
+  @Test
+  void canSkipBranch_shouldNotTrackNodeInstancesWhenNotEnabled() {
+    final TreeNode node = randomBranchNode();
+
+    assertThat(store.canSkipBranch(node, 3)).isFalse();
+    assertThat(store.canSkipBranch(node, 3)).isFalse();
+    assertThat(store.getStoredNodes()).isEmpty();
+  }
+
+  private TreeNode randomBranchNode() {
+    return BranchNode.create(
+        LeafNode.create(dataStructureUtil.randomBytes32()),
+        LeafNode.create(dataStructureUtil.randomBytes32()));
+  }
+
+  private TreeNode copyOf(final TreeNode node) {
+    return BranchNode.create(
+        LeafNode.create(node.get(GIndexUtil.LEFT_CHILD_G_INDEX).hashTreeRoot()),
+        LeafNode.create(node.get(GIndexUtil.RIGHT_CHILD_G_INDEX).hashTreeRoot()));
+  }
 }
@@ -78,6 +78,25 @@ class V4FinalizedStateTreeStorageLogicTest {
     assertStateReloads(state4);
   }
 
+  @Test
+  void shouldStoreAndLoadStatesSharingNodesWhenIncrementalStorageEnabled() {
+    final V4FinalizedStateTreeStorageLogic incrementalLogic =
+        new V4FinalizedStateTreeStorageLogic(new NoOpMetricsSystem(), spec, 0, true);
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    final BeaconState state2 =
+        state1.updated(
+            state -> {
+              state.setSlot(UInt64.valueOf(5));
+              state.getBalances().setElement(1, UInt64.valueOf(1234));
+            });
+
+    storeState(incrementalLogic, state1);
+    storeState(incrementalLogic, state2);
+
+    assertStateReloads(state1);
+    assertStateReloads(state2);
+  }
+
   private void assertStateReloads(final BeaconState state) {
     assertStateReloads(state, state.getSlot());
   }
@@ -89,9 +108,16 @@ class V4FinalizedStateTreeStorageLogicTest {
   }
 
   private void storeState(final BeaconState state) {
+    storeState(logic, state);
+  }
+
+  private void storeState(
+      final V4FinalizedStateTreeStorageLogic storageLogic, final BeaconState state) {
     try (final KvStoreTransaction transaction = db.startTransaction()) {
-      logic.updater().addFinalizedState(db, transaction, schema, state);
+      final FinalizedStateUpdater<SchemaCombinedTreeState> updater = storageLogic.updater();
+      updater.addFinalizedState(db, transaction, schema, state);
       transaction.commit();
+      updater.commit();
     }
   }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.ForkChoiceSnapshot;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
+
+class ForkChoiceSnapshotSerializerTest {
+  private final ForkChoiceSnapshotSerializer serializer = new ForkChoiceSnapshotSerializer();
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+
+  @Test
+  void shouldRoundTripSnapshot() {
+    final ForkChoiceSnapshot original =
+        ForkChoiceSnapshot.builder()
+            .finalizedCheckpoint(dataStructureUtil.randomCheckpoint())
+            .block(randomBlockMetadata(Optional.of(dataStructureUtil.randomBytes32())), true)
+            .block(randomBlockMetadata(Optional.empty()), false)
+            .block(randomBlockMetadata(Optional.of(Bytes32.ZERO)), true)
+            .build();
+
+    final ForkChoiceSnapshot restored = serializer.deserialize(serializer.serialize(original));
+
+    assertThat(restored).isEqualTo(original);
+    assertThat(restored.getBlocks().keySet())
+        .containsExactlyElementsOf(original.getBlocks().keySet());
+  }
+
+  @Test
+  void shouldRoundTripEmptySnapshot() {
+    final ForkChoiceSnapshot original =
+        ForkChoiceSnapshot.builder()
+            .finalizedCheckpoint(dataStructureUtil.randomCheckpoint())
+            .build();
+
+    assertThat(serializer.deserialize(serializer.serialize(original))).isEqualTo(original);
+  }
+
+  @Test
+  void shouldRejectUnknownVersion() {
+    final ForkChoiceSnapshot original =
+        ForkChoiceSnapshot.builder()
+            .finalizedCheckpoint(dataStructureUtil.randomCheckpoint())
+            .build();
+    final byte[] data = serializer.serialize(original);
+    data[0] = (byte) (ForkChoiceSnapshotSerializer.VERSION + 1);
+
+    assertThatThrownBy(() -> serializer.deserialize(data))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private StoredBlockMetadata randomBlockMetadata(final Optional<Bytes32> executionBlockHash) {
+    return new StoredBlockMetadata(
+        dataStructureUtil.randomUInt64(),
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        executionBlockHash,
+        Optional.of(
+            new BlockCheckpoints(
+                dataStructureUtil.randomCheckpoint(),
+                dataStructureUtil.randomCheckpoint(),
+                dataStructureUtil.randomCheckpoint(),
+                dataStructureUtil.randomCheckpoint())));
+  }
+}
@@ -87,6 +87,24 @@ class DatabaseMetadataTest {
         .isEqualToComparingFieldByField(defaultConfiguration);
   }
 
+  @Test
+  void shouldEnableColumnProfilesOnlyForNewDatabases(@TempDir final File tempDir) throws Exception {
+    final File existingMetadataFile = new File(tempDir, "existing.yml");
+    writeMetaData(
+        ImmutableMap.of(HOT_DB_CONFIGURATION_KEY, Collections.emptyMap()), existingMetadataFile);
+    final V5DatabaseMetadata existing =
+        V5DatabaseMetadata.init(existingMetadataFile, V5DatabaseMetadata.v5Defaults());
+    assertThat(existing.getHotDbConfiguration().isColumnProfilesEnabled()).isFalse();
+    assertThat(existing.getArchiveDbConfiguration().isColumnProfilesEnabled()).isFalse();
+
+    final File newMetadataFile = new File(tempDir, "new.yml");
+    V5DatabaseMetadata.init(newMetadataFile, V5DatabaseMetadata.v5Defaults());
+    final V5DatabaseMetadata reloaded =
+        V5DatabaseMetadata.init(newMetadataFile, new V5DatabaseMetadata());
+    assertThat(reloaded.getHotDbConfiguration().isColumnProfilesEnabled()).isTrue();
+    assertThat(reloaded.getArchiveDbConfiguration().isColumnProfilesEnabled()).isTrue();
+  }
+
   @Test
   void shouldCreateV6SingleMetadataFile(@TempDir final File tempDir) throws Exception {
     final File metadataFile = new File(tempDir, "metadata.yml");
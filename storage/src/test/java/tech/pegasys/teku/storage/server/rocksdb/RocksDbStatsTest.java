@@ -14,12 +14,14 @@
 package tech.pegasys.teku.storage.server.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
@@ -27,6 +29,7 @@ import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
@@ -55,4 +58,27 @@ class RocksDbStatsTest {
         metricsSystem.streamObservations().collect(Collectors.toList());
     assertThat(metrics).isNotEmpty();
   }
+
+  @Test
+  void shouldReportPropertiesForEachColumn() throws Exception {
+    final ObservableMetricsSystem metricsSystem =
+        new PrometheusMetricsSystem(Set.of(TekuMetricCategory.STORAGE_HOT_DB), true);
+    final ColumnFamilyHandle blocksHandle = mock(ColumnFamilyHandle.class);
+    final ColumnFamilyHandle votesHandle = mock(ColumnFamilyHandle.class);
+    when(database.getLongProperty(blocksHandle, "rocksdb.estimate-num-keys")).thenReturn(10L);
+    when(database.getLongProperty(votesHandle, "rocksdb.estimate-num-keys")).thenReturn(20L);
+
+    try (RocksDbStats stats = new RocksDbStats(metricsSystem, TekuMetricCategory.STORAGE_HOT_DB)) {
+      stats.registerColumnMetrics(database, Map.of("BLOCKS", blocksHandle, "VOTES", votesHandle));
+
+      final Map<List<String>, Object> numKeysByLabels =
+          metricsSystem
+              .streamObservations(TekuMetricCategory.STORAGE_HOT_DB)
+              .filter(
+                  observation -> observation.getMetricName().equals("column_estimated_num_keys"))
+              .collect(Collectors.toMap(Observation::getLabels, Observation::getValue));
+      assertThat(numKeysByLabels)
+          .containsOnly(entry(List.of("BLOCKS"), 10d), entry(List.of("VOTES"), 20d));
+    }
+  }
 }
@@ -65,6 +65,7 @@ class StoreTest extends AbstractStoreTest {
                     genesisCheckpoint,
                     genesisCheckpoint,
                     Collections.emptyMap(),
+                    Collections.emptySet(),
                     Collections.emptyMap(),
                     StoreConfig.createDefault()))
         .isInstanceOf(IllegalArgumentException.class)
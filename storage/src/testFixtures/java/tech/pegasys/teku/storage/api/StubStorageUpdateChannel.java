@@ -36,6 +36,11 @@ public class StubStorageUpdateChannel implements StorageUpdateChannel {
     return SafeFuture.COMPLETE;
   }
 
+  @Override
+  public SafeFuture<Void> onFinalizedStates(final Collection<BeaconState> finalizedStates) {
+    return SafeFuture.COMPLETE;
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(WeakSubjectivityUpdate weakSubjectivityUpdate) {
     return SafeFuture.COMPLETE;
@@ -42,6 +42,11 @@ public class StubStorageUpdateChannelWithDelays implements StorageUpdateChannel
     return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
   }
 
+  @Override
+  public SafeFuture<Void> onFinalizedStates(final Collection<BeaconState> finalizedStates) {
+    return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(WeakSubjectivityUpdate weakSubjectivityUpdate) {
     return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
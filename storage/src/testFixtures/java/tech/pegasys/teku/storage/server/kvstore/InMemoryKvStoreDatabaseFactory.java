@@ -104,6 +104,7 @@ public class InMemoryKvStoreDatabaseFactory {
         BLOCK_MIGRATION_BATCH_SIZE,
         BLOCK_MIGRATION_BATCH_DELAY,
         1000,
+        true,
         asyncRunner,
         spec);
   }
@@ -235,6 +235,7 @@ public class FileBackedStorageSystemBuilder {
         blockMigrationBatchSize,
         blockMigrationBatchDelay,
         10_000,
+        true,
         storeVotesEquivocation,
         asyncRunner,
         spec);
@@ -112,6 +112,19 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       hidden = true)
   private int maxKnownNodeCacheSize = StorageConfiguration.DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-incremental-state-tree-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Skip storing state tree nodes already written for an earlier finalized state, "
+              + "without rehashing them, when using tree storage",
+      arity = "0..1",
+      fallbackValue = "true",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private boolean incrementalStateTreeStorageEnabled =
+      StorageConfiguration.DEFAULT_INCREMENTAL_STATE_TREE_STORAGE_ENABLED;
+
   @CommandLine.Option(
       names = {"--Xreconstruct-historic-states"},
       paramLabel = "<BOOLEAN>",
@@ -140,7 +153,8 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .storeBlockExecutionPayloadSeparately(storeBlockExecutionPayloadSeparately)
                 .blockMigrationBatchSize(blockMigrationBatchSize)
                 .blockMigrationBatchDelay(blockMigrationBatchDelayMillis)
-                .maxKnownNodeCacheSize(maxKnownNodeCacheSize));
+                .maxKnownNodeCacheSize(maxKnownNodeCacheSize)
+                .incrementalStateTreeStorageEnabled(incrementalStateTreeStorageEnabled));
     builder.sync(b -> b.isReconstructHistoricStatesEnabled(reconstructHistoricStates));
   }
 
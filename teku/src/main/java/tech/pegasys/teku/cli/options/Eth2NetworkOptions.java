@@ -148,6 +148,15 @@ public class Eth2NetworkOptions {
       hidden = true)
   private ProgressiveBalancesMode progressiveBalancesMode = null;
 
+  @Option(
+      names = {"--Xepoch-processing-threads"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of threads used to process validators in parallel during epoch transitions.",
+      arity = "1",
+      hidden = true)
+  private int epochProcessingThreads = Eth2NetworkConfiguration.DEFAULT_EPOCH_PROCESSING_THREADS;
+
   @Option(
       names = {"--Xfork-choice-equivocating-indices-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -169,6 +178,18 @@ public class Eth2NetworkOptions {
       hidden = true)
   private Boolean forkChoiceBeforeProposingEnabled = null;
 
+  @Option(
+      names = {"--Xevent-ring-buffer-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Whether to deliver slot events to each subscriber via its own bounded ring buffer.",
+      arity = "0..1",
+      fallbackValue = "true",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private Boolean eventRingBufferEnabled =
+      Eth2NetworkConfiguration.DEFAULT_EVENT_RING_BUFFER_ENABLED;
+
   public Eth2NetworkConfiguration getNetworkConfiguration() {
     return createEth2NetworkConfig();
   }
@@ -224,6 +245,8 @@ public class Eth2NetworkOptions {
     builder
         .safeSlotsToImportOptimistically(safeSlotsToImportOptimistically)
         .equivocatingIndicesEnabled(equivocatingIndicesEnabled)
+        .epochProcessingThreads(epochProcessingThreads)
+        .eventRingBufferEnabled(eventRingBufferEnabled)
         .proposerBoostEnabled(proposerBoostEnabled);
   }
 
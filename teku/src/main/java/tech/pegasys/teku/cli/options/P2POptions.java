@@ -159,6 +159,17 @@ public class P2POptions {
       arity = "1")
   private boolean multiPeerSyncEnabled = SyncConfig.DEFAULT_MULTI_PEER_SYNC_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-historical-sync-max-concurrent-batches"},
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Maximum number of historical block batches to request from different peers at once",
+      hidden = true,
+      arity = "1")
+  private int historicalSyncMaxConcurrentBatches =
+      SyncConfig.DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES;
+
   @Option(
       names = {"--p2p-subscribe-all-subnets-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -243,6 +254,27 @@ public class P2POptions {
   private boolean batchVerifyStrictThreadLimitEnabled =
       P2PConfig.DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-gossip-scheduler-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "When enabled, gossip messages are queued by type and processed in order of priority, dropping messages when queues are full or they can no longer be valid",
+      arity = "0..1",
+      hidden = true,
+      fallbackValue = "true")
+  private boolean gossipSchedulerEnabled = P2PConfig.DEFAULT_GOSSIP_SCHEDULER_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-gossip-scheduler-max-concurrent-tasks"},
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description = "Maximum number of gossip messages to process at once",
+      hidden = true,
+      arity = "1")
+  private int gossipSchedulerMaxConcurrentTasks =
+      P2PConfig.DEFAULT_GOSSIP_SCHEDULER_MAX_CONCURRENT_TASKS;
+
   private int getP2pLowerBound() {
     if (p2pLowerBound > p2pUpperBound) {
       STATUS_LOG.adjustingP2pLowerBoundToUpperBound(p2pUpperBound);
@@ -271,6 +303,8 @@ public class P2POptions {
                     .batchVerifyQueueCapacity(batchVerifyQueueCapacity)
                     .batchVerifyMaxBatchSize(batchVerifyMaxBatchSize)
                     .batchVerifyStrictThreadLimitEnabled(batchVerifyStrictThreadLimitEnabled)
+                    .gossipSchedulerEnabled(gossipSchedulerEnabled)
+                    .gossipSchedulerMaxConcurrentTasks(gossipSchedulerMaxConcurrentTasks)
                     .targetSubnetSubscriberCount(p2pTargetSubnetSubscriberCount)
                     .isGossipScoringEnabled(gossipScoringEnabled)
                     .peerRateLimit(peerRateLimit)
@@ -307,7 +341,10 @@ public class P2POptions {
                   .listenPort(p2pPort)
                   .advertisedIp(Optional.ofNullable(p2pAdvertisedIp));
             })
-        .sync(s -> s.isMultiPeerSyncEnabled(multiPeerSyncEnabled));
+        .sync(
+            s ->
+                s.isMultiPeerSyncEnabled(multiPeerSyncEnabled)
+                    .historicalSyncMaxConcurrentBatches(historicalSyncMaxConcurrentBatches));
     natOptions.configure(builder);
   }
 }
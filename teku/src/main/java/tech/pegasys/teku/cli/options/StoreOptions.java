@@ -18,6 +18,8 @@ import tech.pegasys.teku.config.TekuConfiguration;
 import tech.pegasys.teku.storage.store.StoreConfig;
 
 public class StoreOptions {
+  private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
   @Option(
       hidden = true,
       names = {"--Xhot-state-persistence-frequency"},
@@ -52,12 +54,54 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-concurrent-transition-caches-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Use lock-free caches for committees, shufflings and other state transition caches",
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean concurrentTransitionCachesEnabled =
+      StoreConfig.DEFAULT_CONCURRENT_TRANSITION_CACHES_ENABLED;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-cache-memory-limit-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum estimated memory in megabytes retained by cached states. 0 to only limit the number of states",
+      arity = "1")
+  private long stateCacheMemoryLimitMb =
+      toMegabytes(StoreConfig.DEFAULT_STATE_CACHE_MAX_RETAINED_BYTES);
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-checkpoint-state-cache-memory-limit-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum estimated memory in megabytes retained by cached checkpoint states. 0 to only limit the number of states",
+      arity = "1")
+  private long checkpointStateCacheMemoryLimitMb =
+      toMegabytes(StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_MAX_RETAINED_BYTES);
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.store(
         b ->
             b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs)
                 .blockCacheSize(blockCacheSize)
                 .stateCacheSize(stateCacheSize)
-                .checkpointStateCacheSize(checkpointStateCacheSize));
+                .checkpointStateCacheSize(checkpointStateCacheSize)
+                .concurrentTransitionCachesEnabled(concurrentTransitionCachesEnabled)
+                .stateCacheMaxRetainedBytes(toBytes(stateCacheMemoryLimitMb))
+                .checkpointStateCacheMaxRetainedBytes(toBytes(checkpointStateCacheMemoryLimitMb)));
+  }
+
+  private static long toMegabytes(final long bytes) {
+    return bytes / BYTES_PER_MEGABYTE;
+  }
+
+  private static long toBytes(final long megabytes) {
+    return Math.multiplyExact(megabytes, BYTES_PER_MEGABYTE);
   }
 }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.cli.options;
 
+import static tech.pegasys.teku.validator.api.ValidatorConfig.DEFAULT_VALIDATOR_CLIENT_SSZ_ATTESTATIONS_ENABLED;
 import static tech.pegasys.teku.validator.api.ValidatorConfig.DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
 
 import java.net.URI;
@@ -77,6 +78,17 @@ public class ValidatorClientOptions {
       fallbackValue = "true")
   private boolean validatorClientSszBlocksEnabled = DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
 
+  @Option(
+      names = {"--Xbeacon-node-ssz-attestations-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Use SSZ encoding for API attestation data, attestation and aggregate requests",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean validatorClientSszAttestationsEnabled =
+      DEFAULT_VALIDATOR_CLIENT_SSZ_ATTESTATIONS_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -84,6 +96,7 @@ public class ValidatorClientOptions {
                 .beaconNodeApiEndpoint(getBeaconNodeApiEndpoint())
                 .beaconNodeApiEndpoints(getBeaconNodeApiEndpoints())
                 .validatorClientUseSszBlocksEnabled(validatorClientSszBlocksEnabled)
+                .validatorClientUseSszAttestationsEnabled(validatorClientSszAttestationsEnabled)
                 .failoversSendSubnetSubscriptionsEnabled(failoversSendSubnetSubscriptionsEnabled)
                 .primaryBeaconNodeEventStreamReconnectAttemptPeriod(
                     Duration.ofMillis(primaryBeaconNodeEventStreamReconnectAttemptPeriod)));
@@ -98,12 +98,44 @@ public class ValidatorKeysOptions {
   @CommandLine.Option(
       names = {"--Xvalidators-external-signer-concurrent-limit"},
       paramLabel = "<INTEGER>",
-      description = "The maximum number of concurrent background requests to make to the signer.",
+      description =
+          "The maximum number of concurrent background requests to make to the signer. Not used when the in-flight limit or batch signing is enabled.",
       hidden = true,
       arity = "1")
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-in-flight-limit"},
+      paramLabel = "<INTEGER>",
+      description =
+          "The maximum number of signing requests in flight to the signer, reduced automatically while signer latency is elevated. 0 for no limit.",
+      hidden = true,
+      arity = "1")
+  private int validatorExternalSignerInFlightRequestLimit =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_IN_FLIGHT_REQUEST_LIMIT;
+
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-http2-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Use HTTP/2 to multiplex requests to the signer over a single connection.",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorExternalSignerHttp2Enabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-batch-signing-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Send queued signing requests to the signer in batches, falling back to individual requests if unsupported.",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorExternalSignerBatchSigningEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCH_SIGNING_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -113,6 +145,11 @@ public class ValidatorKeysOptions {
                 .validatorExternalSignerUrl(parseValidatorExternalSignerUrl())
                 .validatorExternalSignerConcurrentRequestLimit(
                     validatorExternalSignerConcurrentRequestLimit)
+                .validatorExternalSignerInFlightRequestLimit(
+                    validatorExternalSignerInFlightRequestLimit)
+                .validatorExternalSignerHttp2Enabled(validatorExternalSignerHttp2Enabled)
+                .validatorExternalSignerBatchSigningEnabled(
+                    validatorExternalSignerBatchSigningEnabled)
                 .validatorExternalSignerTimeout(Duration.ofMillis(validatorExternalSignerTimeout))
                 .validatorExternalSignerKeystore(convertToPath(validatorExternalSignerKeystore))
                 .validatorExternalSignerKeystorePasswordFile(
@@ -100,6 +100,18 @@ public class ValidatorOptions {
       arity = "1")
   private int executorMaxQueueSize = ValidatorConfig.DEFAULT_EXECUTOR_MAX_QUEUE_SIZE;
 
+  @Option(
+      names = {"--Xvalidators-slashing-protection-journal-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Record slashing protection decisions in a group-committed journal instead of syncing a file per signature",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean slashingProtectionJournalEnabled =
+      ValidatorConfig.DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -112,7 +124,8 @@ public class ValidatorOptions {
                     new FileBackedGraffitiProvider(
                         Optional.ofNullable(graffiti), Optional.ofNullable(graffitiFile)))
                 .generateEarlyAttestations(generateEarlyAttestations)
-                .executorMaxQueueSize(executorMaxQueueSize));
+                .executorMaxQueueSize(executorMaxQueueSize)
+                .slashingProtectionJournalEnabled(slashingProtectionJournalEnabled));
     validatorProposerOptions.configure(builder);
     validatorKeysOptions.configure(builder);
   }
@@ -212,6 +212,21 @@ class Eth2NetworkOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(networkConfig.isEquivocatingIndicesEnabled()).isFalse();
   }
 
+  @Test
+  void shouldDisableEventRingBufferByDefault() {
+    final Eth2NetworkConfiguration networkConfig =
+        getTekuConfigurationFromArguments().eth2NetworkConfiguration();
+    assertThat(networkConfig.isEventRingBufferEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldEnableEventRingBuffer() {
+    final Eth2NetworkConfiguration networkConfig =
+        getTekuConfigurationFromArguments("--Xevent-ring-buffer-enabled")
+            .eth2NetworkConfiguration();
+    assertThat(networkConfig.isEventRingBufferEnabled()).isTrue();
+  }
+
   @Test
   void shouldEnableProposerBoost() {
     final Eth2NetworkConfiguration networkConfig =
@@ -263,4 +263,36 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
         .usingRecursiveComparison()
         .isEqualTo(tekuConfiguration);
   }
+
+  @Test
+  public void historicalSyncMaxConcurrentBatches_shouldDefaultToSingleBatch() {
+    final TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.sync().getHistoricalSyncMaxConcurrentBatches()).isEqualTo(1);
+  }
+
+  @Test
+  public void historicalSyncMaxConcurrentBatches_canBeOverridden() {
+    final TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-historical-sync-max-concurrent-batches", "4");
+    assertThat(tekuConfiguration.sync().getHistoricalSyncMaxConcurrentBatches()).isEqualTo(4);
+    assertThat(createConfigBuilder().sync(b -> b.historicalSyncMaxConcurrentBatches(4)).build())
+        .usingRecursiveComparison()
+        .isEqualTo(tekuConfiguration);
+  }
+
+  @Test
+  public void gossipScheduler_shouldBeDisabledByDefault() {
+    final TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.p2p().isGossipSchedulerEnabled()).isFalse();
+    assertThat(tekuConfiguration.p2p().getGossipSchedulerMaxConcurrentTasks()).isEqualTo(10);
+  }
+
+  @Test
+  public void gossipScheduler_canBeEnabled() {
+    final TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-gossip-scheduler-enabled", "--Xp2p-gossip-scheduler-max-concurrent-tasks", "4");
+    assertThat(tekuConfiguration.p2p().isGossipSchedulerEnabled()).isTrue();
+    assertThat(tekuConfiguration.p2p().getGossipSchedulerMaxConcurrentTasks()).isEqualTo(4);
+  }
 }
@@ -66,4 +66,43 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(output).isNotEmpty();
     assertThat(output).contains("Invalid value");
   }
+
+  @Test
+  public void concurrentTransitionCaches_shouldBeDisabledByDefault() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.isConcurrentTransitionCachesEnabled()).isFalse();
+  }
+
+  @Test
+  public void concurrentTransitionCaches_shouldRespectCLIArg() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments("--Xstore-concurrent-transition-caches-enabled")
+            .beaconChain()
+            .storeConfig();
+    assertThat(globalConfiguration.isConcurrentTransitionCachesEnabled()).isTrue();
+  }
+
+  @Test
+  public void stateCacheMemoryLimit_shouldBeDisabledByDefault() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.getStateCacheMaxRetainedBytes()).isZero();
+    assertThat(globalConfiguration.getCheckpointStateCacheMaxRetainedBytes()).isZero();
+  }
+
+  @Test
+  public void stateCacheMemoryLimit_shouldRespectCLIArgs() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments(
+                "--Xstore-state-cache-memory-limit-mb",
+                "512",
+                "--Xstore-checkpoint-state-cache-memory-limit-mb",
+                "64")
+            .beaconChain()
+            .storeConfig();
+    assertThat(globalConfiguration.getStateCacheMaxRetainedBytes()).isEqualTo(512L * 1024 * 1024);
+    assertThat(globalConfiguration.getCheckpointStateCacheMaxRetainedBytes())
+        .isEqualTo(64L * 1024 * 1024);
+  }
 }
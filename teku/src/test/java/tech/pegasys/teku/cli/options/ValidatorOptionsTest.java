@@ -60,6 +60,20 @@ public class ValidatorOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.getValidatorExternalSignerConcurrentRequestLimit()).isEqualTo(123);
   }
 
+  @Test
+  public void shouldReadValidatorExternalSignerClientOptions() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments(
+                "--Xvalidators-external-signer-in-flight-limit=64",
+                "--Xvalidators-external-signer-http2-enabled",
+                "--Xvalidators-external-signer-batch-signing-enabled=true")
+            .validatorClient()
+            .getValidatorConfig();
+    assertThat(config.getValidatorExternalSignerInFlightRequestLimit()).isEqualTo(64);
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isTrue();
+    assertThat(config.isValidatorExternalSignerBatchSigningEnabled()).isTrue();
+  }
+
   @Test
   public void graffiti_shouldBeEmptyByDefault() {
     final ValidatorConfig config =
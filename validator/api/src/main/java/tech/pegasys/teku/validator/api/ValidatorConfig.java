@@ -39,9 +39,13 @@ public class ValidatorConfig {
   public static final List<String> DEFAULT_BEACON_NODE_API_ENDPOINTS = List.of();
   public static final boolean DEFAULT_FAILOVERS_SEND_SUBNET_SUBSCRIPTIONS_ENABLED = true;
   public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED = false;
+  public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_ATTESTATIONS_ENABLED = false;
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE = 20_000;
   public static final Duration DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT = Duration.ofSeconds(5);
   public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT = 32;
+  public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_IN_FLIGHT_REQUEST_LIMIT = 0;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED = false;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCH_SIGNING_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED = true;
   public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_SLASHING_PROTECTION_ENABLED = true;
   public static final boolean DEFAULT_GENERATE_EARLY_ATTESTATIONS = true;
@@ -53,6 +57,7 @@ public class ValidatorConfig {
   public static final UInt64 DEFAULT_BUILDER_REGISTRATION_GAS_LIMIT = UInt64.valueOf(30_000_000);
   public static final Duration DEFAULT_PRIMARY_BEACON_NODE_EVENT_STREAM_RECONNECT_ATTEMPT_PERIOD =
       Duration.ofSeconds(30);
+  public static final boolean DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED = false;
 
   private final List<String> validatorKeys;
   private final List<String> validatorExternalSignerPublicKeySources;
@@ -69,6 +74,9 @@ public class ValidatorConfig {
   private final Optional<URI> beaconNodeApiEndpoint;
   private final List<URI> beaconNodeApiEndpoints;
   private final int validatorExternalSignerConcurrentRequestLimit;
+  private final int validatorExternalSignerInFlightRequestLimit;
+  private final boolean validatorExternalSignerHttp2Enabled;
+  private final boolean validatorExternalSignerBatchSigningEnabled;
   private final boolean generateEarlyAttestations;
   private final Optional<Eth1Address> proposerDefaultFeeRecipient;
   private final Optional<String> proposerConfigSource;
@@ -76,12 +84,14 @@ public class ValidatorConfig {
   private final boolean blindedBeaconBlocksEnabled;
   private final boolean builderRegistrationDefaultEnabled;
   private final boolean validatorClientUseSszBlocksEnabled;
+  private final boolean validatorClientUseSszAttestationsEnabled;
   private final boolean failoversSendSubnetSubscriptionsEnabled;
   private final UInt64 builderRegistrationDefaultGasLimit;
   private final int builderRegistrationSendingBatchSize;
   private final Optional<UInt64> builderRegistrationTimestampOverride;
   private final int executorMaxQueueSize;
   private final Duration primaryBeaconNodeEventStreamReconnectAttemptPeriod;
+  private final boolean slashingProtectionJournalEnabled;
 
   private ValidatorConfig(
       final List<String> validatorKeys,
@@ -99,6 +109,9 @@ public class ValidatorConfig {
       final boolean validatorKeystoreLockingEnabled,
       final boolean validatorExternalSignerSlashingProtectionEnabled,
       final int validatorExternalSignerConcurrentRequestLimit,
+      final int validatorExternalSignerInFlightRequestLimit,
+      final boolean validatorExternalSignerHttp2Enabled,
+      final boolean validatorExternalSignerBatchSigningEnabled,
       final boolean generateEarlyAttestations,
       final Optional<Eth1Address> proposerDefaultFeeRecipient,
       final Optional<String> proposerConfigSource,
@@ -106,12 +119,14 @@ public class ValidatorConfig {
       final boolean builderRegistrationDefaultEnabled,
       final boolean blindedBeaconBlocksEnabled,
       final boolean validatorClientUseSszBlocksEnabled,
+      final boolean validatorClientUseSszAttestationsEnabled,
       final boolean failoversSendSubnetSubscriptionsEnabled,
       final UInt64 builderRegistrationDefaultGasLimit,
       final int builderRegistrationSendingBatchSize,
       final Optional<UInt64> builderRegistrationTimestampOverride,
       final int executorMaxQueueSize,
-      final Duration primaryBeaconNodeEventStreamReconnectAttemptPeriod) {
+      final Duration primaryBeaconNodeEventStreamReconnectAttemptPeriod,
+      final boolean slashingProtectionJournalEnabled) {
     this.validatorKeys = validatorKeys;
     this.validatorExternalSignerPublicKeySources = validatorExternalSignerPublicKeySources;
     this.validatorExternalSignerUrl = validatorExternalSignerUrl;
@@ -130,6 +145,9 @@ public class ValidatorConfig {
         validatorExternalSignerSlashingProtectionEnabled;
     this.validatorExternalSignerConcurrentRequestLimit =
         validatorExternalSignerConcurrentRequestLimit;
+    this.validatorExternalSignerInFlightRequestLimit = validatorExternalSignerInFlightRequestLimit;
+    this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
+    this.validatorExternalSignerBatchSigningEnabled = validatorExternalSignerBatchSigningEnabled;
     this.generateEarlyAttestations = generateEarlyAttestations;
     this.proposerDefaultFeeRecipient = proposerDefaultFeeRecipient;
     this.proposerConfigSource = proposerConfigSource;
@@ -137,6 +155,7 @@ public class ValidatorConfig {
     this.blindedBeaconBlocksEnabled = blindedBeaconBlocksEnabled;
     this.builderRegistrationDefaultEnabled = builderRegistrationDefaultEnabled;
     this.validatorClientUseSszBlocksEnabled = validatorClientUseSszBlocksEnabled;
+    this.validatorClientUseSszAttestationsEnabled = validatorClientUseSszAttestationsEnabled;
     this.failoversSendSubnetSubscriptionsEnabled = failoversSendSubnetSubscriptionsEnabled;
     this.builderRegistrationDefaultGasLimit = builderRegistrationDefaultGasLimit;
     this.builderRegistrationSendingBatchSize = builderRegistrationSendingBatchSize;
@@ -144,6 +163,7 @@ public class ValidatorConfig {
     this.executorMaxQueueSize = executorMaxQueueSize;
     this.primaryBeaconNodeEventStreamReconnectAttemptPeriod =
         primaryBeaconNodeEventStreamReconnectAttemptPeriod;
+    this.slashingProtectionJournalEnabled = slashingProtectionJournalEnabled;
   }
 
   public static Builder builder() {
@@ -178,6 +198,18 @@ public class ValidatorConfig {
     return validatorExternalSignerConcurrentRequestLimit;
   }
 
+  public int getValidatorExternalSignerInFlightRequestLimit() {
+    return validatorExternalSignerInFlightRequestLimit;
+  }
+
+  public boolean isValidatorExternalSignerHttp2Enabled() {
+    return validatorExternalSignerHttp2Enabled;
+  }
+
+  public boolean isValidatorExternalSignerBatchSigningEnabled() {
+    return validatorExternalSignerBatchSigningEnabled;
+  }
+
   public Pair<Path, Path> getValidatorExternalSignerKeystorePasswordFilePair() {
     return Pair.of(validatorExternalSignerKeystore, validatorExternalSignerKeystorePasswordFile);
   }
@@ -241,6 +273,10 @@ public class ValidatorConfig {
     return validatorClientUseSszBlocksEnabled;
   }
 
+  public boolean isValidatorClientUseSszAttestationsEnabled() {
+    return validatorClientUseSszAttestationsEnabled;
+  }
+
   public boolean isFailoversSendSubnetSubscriptionsEnabled() {
     return failoversSendSubnetSubscriptionsEnabled;
   }
@@ -257,6 +293,10 @@ public class ValidatorConfig {
     return primaryBeaconNodeEventStreamReconnectAttemptPeriod;
   }
 
+  public boolean isSlashingProtectionJournalEnabled() {
+    return slashingProtectionJournalEnabled;
+  }
+
   private void validateProposerDefaultFeeRecipientOrProposerConfigSource() {
     if (proposerDefaultFeeRecipient.isEmpty()
         && proposerConfigSource.isEmpty()
@@ -272,6 +312,12 @@ public class ValidatorConfig {
     private URL validatorExternalSignerUrl;
     private int validatorExternalSignerConcurrentRequestLimit =
         DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
+    private int validatorExternalSignerInFlightRequestLimit =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_IN_FLIGHT_REQUEST_LIMIT;
+    private boolean validatorExternalSignerHttp2Enabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
+    private boolean validatorExternalSignerBatchSigningEnabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCH_SIGNING_ENABLED;
     private Duration validatorExternalSignerTimeout = DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT;
     private Path validatorExternalSignerKeystore;
     private Path validatorExternalSignerKeystorePasswordFile;
@@ -295,6 +341,8 @@ public class ValidatorConfig {
         DEFAULT_BUILDER_REGISTRATION_DEFAULT_ENABLED;
     private boolean blindedBlocksEnabled = DEFAULT_VALIDATOR_BLINDED_BLOCKS_ENABLED;
     private boolean validatorClientSszBlocksEnabled = DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
+    private boolean validatorClientSszAttestationsEnabled =
+        DEFAULT_VALIDATOR_CLIENT_SSZ_ATTESTATIONS_ENABLED;
     private boolean failoversSendSubnetSubscriptionsEnabled =
         DEFAULT_FAILOVERS_SEND_SUBNET_SUBSCRIPTIONS_ENABLED;
     private UInt64 builderRegistrationDefaultGasLimit = DEFAULT_BUILDER_REGISTRATION_GAS_LIMIT;
@@ -304,6 +352,7 @@ public class ValidatorConfig {
     private int executorMaxQueueSize = DEFAULT_EXECUTOR_MAX_QUEUE_SIZE;
     private Duration primaryBeaconNodeEventStreamReconnectAttemptPeriod =
         DEFAULT_PRIMARY_BEACON_NODE_EVENT_STREAM_RECONNECT_ATTEMPT_PERIOD;
+    private boolean slashingProtectionJournalEnabled = DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED;
 
     private Builder() {}
 
@@ -354,6 +403,31 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorExternalSignerInFlightRequestLimit(
+        final int validatorExternalSignerInFlightRequestLimit) {
+      if (validatorExternalSignerInFlightRequestLimit < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid validatorExternalSignerInFlightRequestLimit: %s",
+                validatorExternalSignerInFlightRequestLimit));
+      }
+      this.validatorExternalSignerInFlightRequestLimit =
+          validatorExternalSignerInFlightRequestLimit;
+      return this;
+    }
+
+    public Builder validatorExternalSignerHttp2Enabled(
+        final boolean validatorExternalSignerHttp2Enabled) {
+      this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
+      return this;
+    }
+
+    public Builder validatorExternalSignerBatchSigningEnabled(
+        final boolean validatorExternalSignerBatchSigningEnabled) {
+      this.validatorExternalSignerBatchSigningEnabled = validatorExternalSignerBatchSigningEnabled;
+      return this;
+    }
+
     public Builder validatorExternalSignerKeystore(final Path validatorExternalSignerKeystore) {
       this.validatorExternalSignerKeystore = validatorExternalSignerKeystore;
       return this;
@@ -446,6 +520,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorClientUseSszAttestationsEnabled(
+        final boolean validatorClientUseSszAttestationsEnabled) {
+      this.validatorClientSszAttestationsEnabled = validatorClientUseSszAttestationsEnabled;
+      return this;
+    }
+
     public Builder failoversSendSubnetSubscriptionsEnabled(
         final boolean failoversSendSubnetSubscriptionsEnabled) {
       this.failoversSendSubnetSubscriptionsEnabled = failoversSendSubnetSubscriptionsEnabled;
@@ -483,6 +563,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder slashingProtectionJournalEnabled(
+        final boolean slashingProtectionJournalEnabled) {
+      this.slashingProtectionJournalEnabled = slashingProtectionJournalEnabled;
+      return this;
+    }
+
     public ValidatorConfig build() {
       validateExternalSignerUrlAndPublicKeys();
       validateExternalSignerKeystoreAndPasswordFileConfig();
@@ -506,6 +592,9 @@ public class ValidatorConfig {
           validatorKeystoreLockingEnabled,
           validatorExternalSignerSlashingProtectionEnabled,
           validatorExternalSignerConcurrentRequestLimit,
+          validatorExternalSignerInFlightRequestLimit,
+          validatorExternalSignerHttp2Enabled,
+          validatorExternalSignerBatchSigningEnabled,
           generateEarlyAttestations,
           proposerDefaultFeeRecipient,
           proposerConfigSource,
@@ -513,12 +602,14 @@ public class ValidatorConfig {
           validatorsRegistrationDefaultEnabled,
           blindedBlocksEnabled,
           validatorClientSszBlocksEnabled,
+          validatorClientSszAttestationsEnabled,
           failoversSendSubnetSubscriptionsEnabled,
           builderRegistrationDefaultGasLimit,
           builderRegistrationSendingBatchSize,
           builderRegistrationTimestampOverride,
           executorMaxQueueSize,
-          primaryBeaconNodeEventStreamReconnectAttemptPeriod);
+          primaryBeaconNodeEventStreamReconnectAttemptPeriod,
+          slashingProtectionJournalEnabled);
     }
 
     private void validateExternalSignerUrlAndPublicKeys() {
@@ -39,6 +39,7 @@ import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -103,10 +104,15 @@ public class ExternalSignerAltairIntegrationTest {
     externalSigner =
         new ExternalSigner(
             spec,
-            httpClientExternalSignerFactory.get(),
+            new ExternalSignerClient(
+                httpClientExternalSignerFactory.get(),
+                TIMEOUT,
+                0,
+                false,
+                SyncAsyncRunner.SYNC_RUNNER,
+                metricsSystem),
             config.getValidatorExternalSignerUrl(),
             KEYPAIR.getPublicKey(),
-            TIMEOUT,
             queue,
             metricsSystem);
   }
@@ -35,6 +35,7 @@ import org.mockserver.junit.jupiter.MockServerExtension;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -78,10 +79,15 @@ public class ExternalSignerBellatrixBlockSigningIntegrationTest {
     externalSigner =
         new ExternalSigner(
             spec,
-            httpClientExternalSignerFactory.get(),
+            new ExternalSignerClient(
+                httpClientExternalSignerFactory.get(),
+                TIMEOUT,
+                0,
+                false,
+                SyncAsyncRunner.SYNC_RUNNER,
+                metricsSystem),
             config.getValidatorExternalSignerUrl(),
             KEYPAIR.getPublicKey(),
-            TIMEOUT,
             queue,
             metricsSystem);
   }
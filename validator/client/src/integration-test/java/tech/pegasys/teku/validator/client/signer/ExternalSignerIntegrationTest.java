@@ -43,6 +43,7 @@ import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -90,10 +91,15 @@ public class ExternalSignerIntegrationTest {
     externalSigner =
         new ExternalSigner(
             spec,
-            httpClientExternalSignerFactory.get(),
+            new ExternalSignerClient(
+                httpClientExternalSignerFactory.get(),
+                TIMEOUT,
+                0,
+                false,
+                SyncAsyncRunner.SYNC_RUNNER,
+                metricsSystem),
             config.getValidatorExternalSignerUrl(),
             KEYPAIR.getPublicKey(),
-            TIMEOUT,
             queue,
             metricsSystem);
   }
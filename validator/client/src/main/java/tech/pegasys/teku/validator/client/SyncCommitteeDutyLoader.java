@@ -18,9 +18,11 @@ import java.util.Optional;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuties;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuty;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
+import tech.pegasys.teku.validator.client.duties.attestations.SendingStrategy;
 import tech.pegasys.teku.validator.client.duties.synccommittee.ChainHeadTracker;
 import tech.pegasys.teku.validator.client.duties.synccommittee.SyncCommitteeScheduledDuties;
 import tech.pegasys.teku.validator.client.loader.OwnedValidators;
@@ -32,6 +34,7 @@ public class SyncCommitteeDutyLoader
   private final ValidatorApiChannel validatorApiChannel;
   private final ChainHeadTracker chainHeadTracker;
   private final ForkProvider forkProvider;
+  private final SendingStrategy<SyncCommitteeMessage> messageSendingStrategy;
 
   public SyncCommitteeDutyLoader(
       final OwnedValidators validators,
@@ -39,12 +42,14 @@ public class SyncCommitteeDutyLoader
       final Spec spec,
       final ValidatorApiChannel validatorApiChannel,
       final ChainHeadTracker chainHeadTracker,
-      final ForkProvider forkProvider) {
+      final ForkProvider forkProvider,
+      final SendingStrategy<SyncCommitteeMessage> messageSendingStrategy) {
     super(validators, validatorIndexProvider);
     this.spec = spec;
     this.validatorApiChannel = validatorApiChannel;
     this.chainHeadTracker = chainHeadTracker;
     this.forkProvider = forkProvider;
+    this.messageSendingStrategy = messageSendingStrategy;
   }
 
   @Override
@@ -61,6 +66,7 @@ public class SyncCommitteeDutyLoader
             .forkProvider(forkProvider)
             .validatorApiChannel(validatorApiChannel)
             .chainHeadTracker(chainHeadTracker)
+            .messageSendingStrategy(messageSendingStrategy)
             .spec(spec)
             .lastEpochInCommitteePeriod(
                 spec.getSyncCommitteeUtilRequired(spec.computeStartSlotAtEpoch(epoch))
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.validator.client;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -29,14 +31,17 @@ import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.io.SystemSignalListener;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.restapi.RestApi;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.signatures.JournaledSlashingProtector;
 import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
@@ -48,6 +53,7 @@ import tech.pegasys.teku.validator.client.duties.BeaconCommitteeSubscriptions;
 import tech.pegasys.teku.validator.client.duties.BlockDutyFactory;
 import tech.pegasys.teku.validator.client.duties.SlotBasedScheduledDuties;
 import tech.pegasys.teku.validator.client.duties.attestations.AttestationDutyFactory;
+import tech.pegasys.teku.validator.client.duties.attestations.StreamingSendingStrategy;
 import tech.pegasys.teku.validator.client.duties.synccommittee.ChainHeadTracker;
 import tech.pegasys.teku.validator.client.duties.synccommittee.SyncCommitteeScheduledDuties;
 import tech.pegasys.teku.validator.client.loader.OwnedValidators;
@@ -114,6 +120,8 @@ public class ValidatorClientService extends Service {
             "validator", validatorConfig.getExecutorMaxQueueSize());
     final boolean generateEarlyAttestations = validatorConfig.generateEarlyAttestations();
     final boolean preferSszBlockEncoding = validatorConfig.isValidatorClientUseSszBlocksEnabled();
+    final boolean preferSszAttestationEncoding =
+        validatorConfig.isValidatorClientUseSszAttestationsEnabled();
     final boolean failoversSendSubnetSubscriptions =
         validatorConfig.isFailoversSendSubnetSubscriptionsEnabled();
     final Duration primaryBeaconNodeEventStreamReconnectAttemptPeriod =
@@ -134,6 +142,7 @@ public class ValidatorClientService extends Service {
                           config.getSpec(),
                           generateEarlyAttestations,
                           preferSszBlockEncoding,
+                          preferSszAttestationEncoding,
                           failoversSendSubnetSubscriptions,
                           primaryBeaconNodeEventStreamReconnectAttemptPeriod))
               .orElseGet(
@@ -149,6 +158,7 @@ public class ValidatorClientService extends Service {
               config.getSpec(),
               generateEarlyAttestations,
               preferSszBlockEncoding,
+              preferSszAttestationEncoding,
               failoversSendSubnetSubscriptions,
               primaryBeaconNodeEventStreamReconnectAttemptPeriod);
     }
@@ -229,7 +239,7 @@ public class ValidatorClientService extends Service {
         .runAsync(
             () ->
                 validatorClientService.initializeValidators(
-                    config, validatorApiChannel, asyncRunner))
+                    config, validatorApiChannel, asyncRunner, services.getTimeProvider()))
         .propagateTo(validatorClientService.initializationComplete);
     return validatorClientService;
   }
@@ -240,8 +250,7 @@ public class ValidatorClientService extends Service {
       final ServiceConfig services) {
     final Path slashingProtectionPath = getSlashingProtectionPath(services.getDataDirLayout());
     final SlashingProtector slashingProtector =
-        new LocalSlashingProtector(
-            SyncDataAccessor.create(slashingProtectionPath), slashingProtectionPath);
+        createSlashingProtector(config, services, slashingProtectionPath);
     final SlashingProtectionLogger slashingProtectionLogger =
         new SlashingProtectionLogger(
             slashingProtector, config.getSpec(), asyncRunner, ValidatorLogger.VALIDATOR_LOGGER);
@@ -259,10 +268,29 @@ public class ValidatorClientService extends Service {
             : Optional.empty());
   }
 
+  private static SlashingProtector createSlashingProtector(
+      final ValidatorClientConfiguration config,
+      final ServiceConfig services,
+      final Path slashingProtectionPath) {
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(slashingProtectionPath);
+    if (!config.getValidatorConfig().isSlashingProtectionJournalEnabled()) {
+      return new LocalSlashingProtector(dataAccessor, slashingProtectionPath);
+    }
+    try {
+      return JournaledSlashingProtector.create(
+          dataAccessor,
+          slashingProtectionPath,
+          services.createAsyncRunner("slashingProtectionJournal", 2));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to open slashing protection journal", e);
+    }
+  }
+
   private void initializeValidators(
       ValidatorClientConfiguration config,
       ValidatorApiChannel validatorApiChannel,
-      AsyncRunner asyncRunner) {
+      AsyncRunner asyncRunner,
+      TimeProvider timeProvider) {
     validatorLoader.loadValidators();
     final OwnedValidators validators = validatorLoader.getOwnedValidators();
 
@@ -274,8 +302,25 @@ public class ValidatorClientService extends Service {
             validatorApiChannel,
             config.getValidatorConfig().isBlindedBeaconBlocksEnabled(),
             spec);
+    final MetricsHistogram submissionDelayHistogram =
+        StreamingSendingStrategy.createSubmissionDelayHistogram(metricsSystem);
     final AttestationDutyFactory attestationDutyFactory =
-        new AttestationDutyFactory(spec, forkProvider, validatorApiChannel);
+        new AttestationDutyFactory(
+            spec,
+            forkProvider,
+            validatorApiChannel,
+            new StreamingSendingStrategy<>(
+                asyncRunner,
+                timeProvider,
+                submissionDelayHistogram,
+                "attestation",
+                validatorApiChannel::sendSignedAttestations),
+            new StreamingSendingStrategy<>(
+                asyncRunner,
+                timeProvider,
+                submissionDelayHistogram,
+                "aggregate",
+                validatorApiChannel::sendAggregateAndProofs));
     final BeaconCommitteeSubscriptions beaconCommitteeSubscriptions =
         new BeaconCommitteeSubscriptions(validatorApiChannel);
     final DutyLoader<?> attestationDutyLoader =
@@ -315,7 +360,13 @@ public class ValidatorClientService extends Service {
                   spec,
                   validatorApiChannel,
                   chainHeadTracker,
-                  forkProvider));
+                  forkProvider,
+                  new StreamingSendingStrategy<>(
+                      asyncRunner,
+                      timeProvider,
+                      submissionDelayHistogram,
+                      "sync_committee_message",
+                      validatorApiChannel::sendSyncCommitteeMessages)));
       validatorTimingChannels.add(
           new SyncCommitteeScheduler(
               metricsSystem, spec, syncCommitteeDutyLoader, new Random()::nextInt));
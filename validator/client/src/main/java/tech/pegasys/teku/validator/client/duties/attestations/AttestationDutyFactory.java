@@ -17,6 +17,8 @@ import static tech.pegasys.teku.infrastructure.logging.ValidatorLogger.VALIDATOR
 
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.ForkProvider;
 import tech.pegasys.teku.validator.client.Validator;
@@ -28,36 +30,33 @@ public class AttestationDutyFactory
   private final Spec spec;
   private final ForkProvider forkProvider;
   private final ValidatorApiChannel validatorApiChannel;
+  private final SendingStrategy<Attestation> attestationSendingStrategy;
+  private final SendingStrategy<SignedAggregateAndProof> aggregateSendingStrategy;
 
   public AttestationDutyFactory(
       final Spec spec,
       final ForkProvider forkProvider,
-      final ValidatorApiChannel validatorApiChannel) {
+      final ValidatorApiChannel validatorApiChannel,
+      final SendingStrategy<Attestation> attestationSendingStrategy,
+      final SendingStrategy<SignedAggregateAndProof> aggregateSendingStrategy) {
     this.spec = spec;
     this.forkProvider = forkProvider;
     this.validatorApiChannel = validatorApiChannel;
+    this.attestationSendingStrategy = attestationSendingStrategy;
+    this.aggregateSendingStrategy = aggregateSendingStrategy;
   }
 
   @Override
   public AttestationProductionDuty createProductionDuty(
       final UInt64 slot, final Validator validator) {
     return new AttestationProductionDuty(
-        spec,
-        slot,
-        forkProvider,
-        validatorApiChannel,
-        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations));
+        spec, slot, forkProvider, validatorApiChannel, attestationSendingStrategy);
   }
 
   @Override
   public AggregationDuty createAggregationDuty(final UInt64 slot, final Validator validator) {
     return new AggregationDuty(
-        spec,
-        slot,
-        validatorApiChannel,
-        forkProvider,
-        VALIDATOR_LOGGER,
-        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendAggregateAndProofs));
+        spec, slot, validatorApiChannel, forkProvider, VALIDATOR_LOGGER, aggregateSendingStrategy);
   }
 
   @Override
@@ -0,0 +1,179 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.duties.attestations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.validator.api.SubmitDataError;
+import tech.pegasys.teku.validator.client.duties.DutyResult;
+import tech.pegasys.teku.validator.client.duties.ProductionResult;
+
+/**
+ * Sends messages to the beacon node as they are produced rather than waiting for every validator.
+ *
+ * <p>The first message produced starts a new batch, which is sent once the batch window has
+ * elapsed or it reaches the maximum batch size, whichever happens first. Any remaining messages are
+ * sent as soon as the last one is produced. Batches are submitted without waiting for earlier
+ * submissions to complete, so a slow signature only delays the messages in its own batch.
+ */
+public class StreamingSendingStrategy<T> implements SendingStrategy<T> {
+  static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(50);
+  static final int DEFAULT_MAX_BATCH_SIZE = 128;
+
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram submissionDelayHistogram;
+  private final String messageType;
+  private final Duration batchWindow;
+  private final int maxBatchSize;
+  private final Function<List<T>, SafeFuture<List<SubmitDataError>>> sendFunction;
+
+  public StreamingSendingStrategy(
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsHistogram submissionDelayHistogram,
+      final String messageType,
+      final Function<List<T>, SafeFuture<List<SubmitDataError>>> sendFunction) {
+    this(
+        asyncRunner,
+        timeProvider,
+        submissionDelayHistogram,
+        messageType,
+        DEFAULT_BATCH_WINDOW,
+        DEFAULT_MAX_BATCH_SIZE,
+        sendFunction);
+  }
+
+  StreamingSendingStrategy(
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsHistogram submissionDelayHistogram,
+      final String messageType,
+      final Duration batchWindow,
+      final int maxBatchSize,
+      final Function<List<T>, SafeFuture<List<SubmitDataError>>> sendFunction) {
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.submissionDelayHistogram = submissionDelayHistogram;
+    this.messageType = messageType;
+    this.batchWindow = batchWindow;
+    this.maxBatchSize = maxBatchSize;
+    this.sendFunction = sendFunction;
+  }
+
+  /**
+   * Creates the histogram recording the delay from starting to produce each message until the
+   * beacon node has accepted it, labelled by message type. Must only be created once per metrics
+   * system.
+   */
+  public static MetricsHistogram createSubmissionDelayHistogram(final MetricsSystem metricsSystem) {
+    return MetricsHistogram.create(
+        TekuMetricCategory.VALIDATOR,
+        metricsSystem,
+        "duty_submission_delay",
+        "Delay in milliseconds from starting to produce a message until it is submitted",
+        1,
+        List.of("type"));
+  }
+
+  @Override
+  public SafeFuture<DutyResult> send(final Stream<SafeFuture<ProductionResult<T>>> messages) {
+    final MessageBatcher batcher = new MessageBatcher(timeProvider.getTimeInMillis());
+    final SafeFuture<?>[] productions =
+        messages
+            .map(
+                message ->
+                    message
+                        .thenAccept(batcher::onMessageProduced)
+                        .exceptionally(
+                            error -> {
+                              batcher.onProductionFailed(error);
+                              return null;
+                            }))
+            .toArray(SafeFuture[]::new);
+    return SafeFuture.allOf(productions).thenCompose(__ -> batcher.complete());
+  }
+
+  private class MessageBatcher {
+    private final UInt64 startTimeMillis;
+    private final List<SafeFuture<DutyResult>> results = new ArrayList<>();
+    private List<ProductionResult<T>> currentBatch = new ArrayList<>();
+    private int batchNumber = 0;
+
+    private MessageBatcher(final UInt64 startTimeMillis) {
+      this.startTimeMillis = startTimeMillis;
+    }
+
+    private synchronized void onMessageProduced(final ProductionResult<T> result) {
+      if (result.failedToProduceMessage()) {
+        results.add(SafeFuture.completedFuture(result.getResult()));
+        return;
+      }
+      currentBatch.add(result);
+      if (currentBatch.size() >= maxBatchSize) {
+        sendCurrentBatch();
+      } else if (currentBatch.size() == 1) {
+        final int windowBatchNumber = batchNumber;
+        asyncRunner
+            .runAfterDelay(() -> sendBatchIfPending(windowBatchNumber), batchWindow)
+            .ifExceptionGetsHereRaiseABug();
+      }
+    }
+
+    private synchronized void onProductionFailed(final Throwable error) {
+      results.add(SafeFuture.completedFuture(DutyResult.forError(error)));
+    }
+
+    private synchronized void sendBatchIfPending(final int windowBatchNumber) {
+      if (windowBatchNumber == batchNumber) {
+        sendCurrentBatch();
+      }
+    }
+
+    private synchronized SafeFuture<DutyResult> complete() {
+      sendCurrentBatch();
+      return DutyResult.combine(List.copyOf(results));
+    }
+
+    private void sendCurrentBatch() {
+      if (currentBatch.isEmpty()) {
+        return;
+      }
+      final List<ProductionResult<T>> batch = currentBatch;
+      currentBatch = new ArrayList<>();
+      batchNumber++;
+      results.add(
+          ProductionResult.send(batch, sendFunction)
+              .thenPeek(__ -> recordSubmissionDelay(batch.size())));
+    }
+
+    private void recordSubmissionDelay(final int messageCount) {
+      final long delayMillis =
+          timeProvider.getTimeInMillis().minusMinZero(startTimeMillis).longValue();
+      for (int i = 0; i < messageCount; i++) {
+        submissionDelayHistogram.recordValue(delayMillis, messageType);
+      }
+    }
+  }
+}
@@ -14,7 +14,6 @@
 package tech.pegasys.teku.validator.client.duties.synccommittee;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -25,27 +24,27 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
-import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.ForkProvider;
 import tech.pegasys.teku.validator.client.duties.DutyResult;
 import tech.pegasys.teku.validator.client.duties.ProductionResult;
+import tech.pegasys.teku.validator.client.duties.attestations.SendingStrategy;
 
 public class SyncCommitteeProductionDuty {
   private final ForkProvider forkProvider;
   private final Collection<ValidatorAndCommitteeIndices> assignments;
 
   private final Spec spec;
-  private final ValidatorApiChannel validatorApiChannel;
+  private final SendingStrategy<SyncCommitteeMessage> sendingStrategy;
 
   public SyncCommitteeProductionDuty(
       final Spec spec,
       final ForkProvider forkProvider,
-      final ValidatorApiChannel validatorApiChannel,
+      final SendingStrategy<SyncCommitteeMessage> sendingStrategy,
       final Collection<ValidatorAndCommitteeIndices> assignments) {
     this.forkProvider = forkProvider;
     this.assignments = assignments;
     this.spec = spec;
-    this.validatorApiChannel = validatorApiChannel;
+    this.sendingStrategy = sendingStrategy;
   }
 
   public SafeFuture<DutyResult> produceMessages(final UInt64 slot, final Bytes32 blockRoot) {
@@ -66,15 +65,9 @@ public class SyncCommitteeProductionDuty {
 
   private SafeFuture<DutyResult> produceMessages(
       final ForkInfo forkInfo, final UInt64 slot, final Bytes32 blockRoot) {
-    return SafeFuture.collectAll(
-            assignments.stream()
-                .map(assignment -> produceMessage(forkInfo, slot, blockRoot, assignment)))
-        .thenCompose(this::sendSignatures);
-  }
-
-  private SafeFuture<DutyResult> sendSignatures(
-      final List<ProductionResult<SyncCommitteeMessage>> results) {
-    return ProductionResult.send(results, validatorApiChannel::sendSyncCommitteeMessages);
+    return sendingStrategy.send(
+        assignments.stream()
+            .map(assignment -> produceMessage(forkInfo, slot, blockRoot, assignment)));
   }
 
   private SafeFuture<ProductionResult<SyncCommitteeMessage>> produceMessage(
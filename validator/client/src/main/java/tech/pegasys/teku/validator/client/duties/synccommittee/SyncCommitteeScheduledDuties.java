@@ -31,12 +31,15 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.validator.api.SyncCommitteeSubnetSubscription;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.ForkProvider;
 import tech.pegasys.teku.validator.client.Validator;
 import tech.pegasys.teku.validator.client.duties.DutyResult;
 import tech.pegasys.teku.validator.client.duties.ScheduledDuties;
+import tech.pegasys.teku.validator.client.duties.attestations.BatchAttestationSendingStrategy;
+import tech.pegasys.teku.validator.client.duties.attestations.SendingStrategy;
 
 public class SyncCommitteeScheduledDuties implements ScheduledDuties {
   private static final Logger LOG = LogManager.getLogger();
@@ -164,6 +167,7 @@ public class SyncCommitteeScheduledDuties implements ScheduledDuties {
     private Spec spec;
     private ChainHeadTracker chainHeadTracker;
     private UInt64 lastEpochInCommitteePeriod;
+    private SendingStrategy<SyncCommitteeMessage> messageSendingStrategy;
 
     public Builder validatorLogger(final ValidatorLogger validatorLogger) {
       this.validatorLogger = validatorLogger;
@@ -190,6 +194,12 @@ public class SyncCommitteeScheduledDuties implements ScheduledDuties {
       return this;
     }
 
+    public Builder messageSendingStrategy(
+        final SendingStrategy<SyncCommitteeMessage> messageSendingStrategy) {
+      this.messageSendingStrategy = messageSendingStrategy;
+      return this;
+    }
+
     public Builder committeeAssignment(
         final Validator validator, final int validatorIndex, final int committeeIndex) {
       assignments
@@ -219,9 +229,13 @@ public class SyncCommitteeScheduledDuties implements ScheduledDuties {
       checkNotNull(chainHeadTracker, "Must provide a chainHeadTracker");
       checkNotNull(forkProvider, "Must provide a forkProvider");
       checkNotNull(lastEpochInCommitteePeriod, "Must provide lastEpochInCommitteePeriod");
+      if (messageSendingStrategy == null) {
+        messageSendingStrategy =
+            new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSyncCommitteeMessages);
+      }
       final SyncCommitteeProductionDuty productionDuty =
           new SyncCommitteeProductionDuty(
-              spec, forkProvider, validatorApiChannel, assignments.values());
+              spec, forkProvider, messageSendingStrategy, assignments.values());
       final SyncCommitteeAggregationDuty aggregationDuty =
           new SyncCommitteeAggregationDuty(
               spec, forkProvider, validatorApiChannel, validatorLogger, assignments.values());
@@ -15,41 +15,36 @@ package tech.pegasys.teku.validator.client.loader;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.net.URL;
-import java.net.http.HttpClient;
-import java.time.Duration;
-import java.util.function.Supplier;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.Signer;
 import tech.pegasys.teku.validator.client.signer.ExternalSigner;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerClient;
 
 class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
 
   private final Spec spec;
-  private final Supplier<HttpClient> externalSignerHttpClientFactory;
+  private final ExternalSignerClient externalSignerClient;
   private final URL externalSignerUrl;
   private final BLSPublicKey publicKey;
-  private final Duration externalSignerTimeout;
   private final ThrottlingTaskQueue externalSignerTaskQueue;
   private final MetricsSystem metricsSystem;
   private final boolean readOnly;
 
   ExternalValidatorProvider(
       final Spec spec,
-      final Supplier<HttpClient> externalSignerHttpClientFactory,
+      final ExternalSignerClient externalSignerClient,
       final URL externalSignerUrl,
       final BLSPublicKey publicKey,
-      final Duration externalSignerTimeout,
       final ThrottlingTaskQueue externalSignerTaskQueue,
       final MetricsSystem metricsSystem,
       final boolean readOnly) {
     this.spec = spec;
-    this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
+    this.externalSignerClient = externalSignerClient;
     this.externalSignerUrl = externalSignerUrl;
     this.publicKey = publicKey;
-    this.externalSignerTimeout = externalSignerTimeout;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
     this.metricsSystem = metricsSystem;
     this.readOnly = readOnly;
@@ -69,10 +64,9 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
   public Signer createSigner() {
     return new ExternalSigner(
         spec,
-        externalSignerHttpClientFactory.get(),
+        externalSignerClient,
         externalSignerUrl,
         publicKey,
-        externalSignerTimeout,
         externalSignerTaskQueue,
         metricsSystem);
   }
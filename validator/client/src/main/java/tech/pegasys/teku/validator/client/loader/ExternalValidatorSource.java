@@ -45,6 +45,7 @@ import tech.pegasys.teku.validator.client.restapi.ValidatorTypes;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ExternalValidator;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.PostKeyResult;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerClient;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerStatusLogger;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerUpcheck;
 
@@ -52,7 +53,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
 
   private final Spec spec;
   private final ValidatorConfig config;
-  private final Supplier<HttpClient> externalSignerHttpClientFactory;
+  private final ExternalSignerClient externalSignerClient;
   private final PublicKeyLoader publicKeyLoader;
   private final ThrottlingTaskQueue externalSignerTaskQueue;
   private final MetricsSystem metricsSystem;
@@ -61,7 +62,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
   private ExternalValidatorSource(
       final Spec spec,
       final ValidatorConfig config,
-      final Supplier<HttpClient> externalSignerHttpClientFactory,
+      final ExternalSignerClient externalSignerClient,
       final PublicKeyLoader publicKeyLoader,
       final ThrottlingTaskQueue externalSignerTaskQueue,
       final MetricsSystem metricsSystem,
@@ -70,7 +71,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
     super(readOnly, maybeDataDirLayout);
     this.spec = spec;
     this.config = config;
-    this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
+    this.externalSignerClient = externalSignerClient;
     this.publicKeyLoader = publicKeyLoader;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
     this.metricsSystem = metricsSystem;
@@ -85,12 +86,13 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final AsyncRunner asyncRunner,
       final boolean readOnly,
       final ThrottlingTaskQueue externalSignerTaskQueue,
+      final ExternalSignerClient externalSignerClient,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     setupExternalSignerStatusLogging(config, externalSignerHttpClientFactory, asyncRunner);
     return new ExternalValidatorSource(
         spec,
         config,
-        externalSignerHttpClientFactory,
+        externalSignerClient,
         publicKeyLoader,
         externalSignerTaskQueue,
         metricsSystem,
@@ -117,10 +119,9 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
             key ->
                 new ExternalValidatorProvider(
                     spec,
-                    externalSignerHttpClientFactory,
+                    externalSignerClient,
                     config.getValidatorExternalSignerUrl(),
                     key,
-                    config.getValidatorExternalSignerTimeout(),
                     externalSignerTaskQueue,
                     metricsSystem,
                     readOnly))
@@ -150,10 +151,9 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       externalValidatorSourceMap.put(externalValidator.getPublicKey(), externalSignerUrl);
       return new ExternalValidatorProvider(
           spec,
-          externalSignerHttpClientFactory,
+          externalSignerClient,
           externalSignerUrl,
           externalValidator.getPublicKey(),
-          config.getValidatorExternalSignerTimeout(),
           externalSignerTaskQueue,
           metricsSystem,
           readOnly);
@@ -230,10 +230,9 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final ValidatorProvider provider =
           new ExternalValidatorProvider(
               spec,
-              externalSignerHttpClientFactory,
+              externalSignerClient,
               url,
               publicKey,
-              config.getValidatorExternalSignerTimeout(),
               externalSignerTaskQueue,
               metricsSystem,
               readOnly);
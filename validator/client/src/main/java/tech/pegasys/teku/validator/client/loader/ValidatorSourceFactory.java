@@ -33,6 +33,7 @@ import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.api.KeyStoreFilesLocator;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerClient;
 
 /**
  * ValidatorSourceFactory creates the validator sources that control loading, and sometimes removal,
@@ -74,6 +75,7 @@ public class ValidatorSourceFactory {
   private Optional<ValidatorSource> mutableLocalValidatorSource = Optional.empty();
   private Optional<ValidatorSource> mutableExternalValidatorSource = Optional.empty();
   private ThrottlingTaskQueue externalSignerTaskQueue;
+  private ExternalSignerClient externalSignerClient;
 
   public ValidatorSourceFactory(
       final Spec spec,
@@ -164,6 +166,7 @@ public class ValidatorSourceFactory {
             asyncRunner,
             false,
             initializeExternalSignerTaskQueue(),
+            initializeExternalSignerClient(),
             maybeDataDir);
     mutableExternalValidatorSource = Optional.of(slashingProtected(externalValidatorSource));
     return mutableExternalValidatorSource;
@@ -206,6 +209,7 @@ public class ValidatorSourceFactory {
             asyncRunner,
             true,
             initializeExternalSignerTaskQueue(),
+            initializeExternalSignerClient(),
             maybeDataDir);
     return Optional.of(
         config.isValidatorExternalSignerSlashingProtectionEnabled()
@@ -229,4 +233,19 @@ public class ValidatorSourceFactory {
 
     return externalSignerTaskQueue;
   }
+
+  private ExternalSignerClient initializeExternalSignerClient() {
+    if (externalSignerClient == null) {
+      externalSignerClient =
+          new ExternalSignerClient(
+              externalSignerHttpClientFactory.get(),
+              config.getValidatorExternalSignerTimeout(),
+              config.getValidatorExternalSignerInFlightRequestLimit(),
+              config.isValidatorExternalSignerBatchSigningEnabled(),
+              asyncRunner,
+              metricsSystem);
+    }
+
+    return externalSignerClient;
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Limits the number of requests in flight to an external signer, adjusting the limit between one
+ * and a configured maximum based on observed latency.
+ *
+ * <p>The limit grows by one request per limit's worth of completed requests while the signer
+ * responds close to the lowest latency recently observed and requests are actually being held back
+ * by the limit. When latency rises above {@link #LATENCY_TOLERANCE} times that baseline, or a
+ * request fails to get a response, the limit is reduced by {@link #BACKOFF_RATIO}. Requests which
+ * were sent before the last reduction don't reduce it again, so a single burst of slow responses
+ * only backs off once.
+ */
+class AdaptiveConcurrencyLimit {
+  static final double BACKOFF_RATIO = 0.9;
+  static final double LATENCY_TOLERANCE = 2.0;
+  // Avoid backing off on jitter when the signer responds within a few milliseconds
+  static final long MIN_BASELINE_LATENCY_MILLIS = 5;
+  static final int BASELINE_WINDOW_SAMPLES = 1000;
+
+  private final int maxLimit;
+  private double limit;
+  private int inFlightCount = 0;
+
+  private long windowMinLatency = Long.MAX_VALUE;
+  private long previousWindowMinLatency = Long.MAX_VALUE;
+  private int windowSampleCount = 0;
+  private long lastBackoffTimeMillis = Long.MIN_VALUE;
+
+  AdaptiveConcurrencyLimit(final int maxLimit) {
+    checkArgument(maxLimit > 0, "Max limit must be positive");
+    this.maxLimit = maxLimit;
+    this.limit = maxLimit;
+  }
+
+  synchronized boolean tryAcquire() {
+    if (inFlightCount >= getLimit()) {
+      return false;
+    }
+    inFlightCount++;
+    return true;
+  }
+
+  /**
+   * Releases a request acquired with {@link #tryAcquire()} and updates the limit.
+   *
+   * @param sentTimeMillis the time the request was sent
+   * @param completedTimeMillis the time the request completed
+   * @param dropped true if no response was received, for example because the request timed out
+   */
+  synchronized void release(
+      final long sentTimeMillis, final long completedTimeMillis, final boolean dropped) {
+    final boolean wasLimited = inFlightCount >= getLimit();
+    inFlightCount--;
+    if (dropped) {
+      backoff(sentTimeMillis, completedTimeMillis);
+      return;
+    }
+    final long latency = Math.max(1, completedTimeMillis - sentTimeMillis);
+    recordLatency(latency);
+    final long baseline = Math.max(MIN_BASELINE_LATENCY_MILLIS, getBaselineLatency());
+    if (latency > baseline * LATENCY_TOLERANCE) {
+      backoff(sentTimeMillis, completedTimeMillis);
+    } else if (wasLimited) {
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+  }
+
+  synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  synchronized int getInFlightCount() {
+    return inFlightCount;
+  }
+
+  private void backoff(final long sentTimeMillis, final long completedTimeMillis) {
+    if (sentTimeMillis <= lastBackoffTimeMillis) {
+      return;
+    }
+    limit = Math.max(1, limit * BACKOFF_RATIO);
+    lastBackoffTimeMillis = completedTimeMillis;
+  }
+
+  private void recordLatency(final long latency) {
+    windowMinLatency = Math.min(windowMinLatency, latency);
+    windowSampleCount++;
+    if (windowSampleCount >= BASELINE_WINDOW_SAMPLES) {
+      // Keep the previous window so the baseline doesn't jump as soon as a new window starts
+      previousWindowMinLatency = windowMinLatency;
+      windowMinLatency = Long.MAX_VALUE;
+      windowSampleCount = 0;
+    }
+  }
+
+  private long getBaselineLatency() {
+    return Math.min(windowMinLatency, previousWindowMinLatency);
+  }
+}
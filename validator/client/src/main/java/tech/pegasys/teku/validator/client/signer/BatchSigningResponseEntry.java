@@ -0,0 +1,41 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Optional;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BatchSigningResponseEntry {
+  private final int status;
+  private final Optional<String> signature;
+
+  @JsonCreator
+  public BatchSigningResponseEntry(
+      @JsonProperty(value = "status", required = true) final int status,
+      @JsonProperty(value = "signature") final String signature) {
+    this.status = status;
+    this.signature = Optional.ofNullable(signature);
+  }
+
+  public int getStatus() {
+    return status;
+  }
+
+  public Optional<String> getSignature() {
+    return signature;
+  }
+}
@@ -13,21 +13,11 @@
 
 package tech.pegasys.teku.validator.client.signer;
 
-import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
-import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
-
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
-import java.net.URI;
 import java.net.URL;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpRequest.BodyPublishers;
-import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpTimeoutException;
-import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -64,9 +54,8 @@ public class ExternalSigner implements Signer {
   private final JsonProvider jsonProvider = new JsonProvider();
   private final URL signingServiceUrl;
   private final BLSPublicKey blsPublicKey;
-  private final Duration timeout;
   private final Spec spec;
-  private final HttpClient httpClient;
+  private final ExternalSignerClient externalSignerClient;
   private final ThrottlingTaskQueue taskQueue;
   private final SigningRootUtil signingRootUtil;
 
@@ -76,17 +65,15 @@ public class ExternalSigner implements Signer {
 
   public ExternalSigner(
       final Spec spec,
-      final HttpClient httpClient,
+      final ExternalSignerClient externalSignerClient,
       final URL signingServiceUrl,
       final BLSPublicKey blsPublicKey,
-      final Duration timeout,
       final ThrottlingTaskQueue taskQueue,
       final MetricsSystem metricsSystem) {
     this.spec = spec;
-    this.httpClient = httpClient;
+    this.externalSignerClient = externalSignerClient;
     this.signingServiceUrl = signingServiceUrl;
     this.blsPublicKey = blsPublicKey;
-    this.timeout = timeout;
     this.taskQueue = taskQueue;
     this.signingRootUtil = new SigningRootUtil(spec);
 
@@ -153,13 +140,17 @@ public class ExternalSigner implements Signer {
 
   @Override
   public SafeFuture<BLSSignature> signAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
-    return taskQueue.queueTask(
+    final Supplier<SafeFuture<BLSSignature>> request =
         () ->
             sign(
                 signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo),
                 SignType.AGGREGATION_SLOT,
                 Map.of("aggregation_slot", Map.of("slot", slot), FORK_INFO, forkInfo(forkInfo)),
-                slashableGenericMessage("aggregation slot")));
+                slashableGenericMessage("aggregation slot"));
+    // Queuing here as well would cap the requests in flight and prevent full batches being formed
+    return externalSignerClient.isThrottlingRequests()
+        ? request.get()
+        : taskQueue.queueTask(request);
   }
 
   @Override
@@ -299,22 +290,13 @@ public class ExternalSigner implements Signer {
       final Supplier<String> slashableMessage) {
     final String publicKey = blsPublicKey.toBytesCompressed().toString();
     return SafeFuture.of(
-            () -> {
-              final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
-              final URI uri =
-                  signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
-              final HttpRequest request =
-                  HttpRequest.newBuilder()
-                      .uri(uri)
-                      .timeout(timeout)
-                      .header("Content-Type", "application/json")
-                      .POST(BodyPublishers.ofString(requestBody))
-                      .build();
-              return httpClient
-                  .sendAsync(request, BodyHandlers.ofString())
-                  .handleAsync(
-                      (response, error) -> this.getBlsSignature(response, error, slashableMessage));
-            })
+            () ->
+                externalSignerClient.sign(
+                    signingServiceUrl,
+                    publicKey,
+                    type,
+                    createSigningRequestBody(signingRoot, type, metadata),
+                    slashableMessage))
         .whenComplete(this::recordMetrics);
   }
 
@@ -327,43 +309,6 @@ public class ExternalSigner implements Signer {
     }
   }
 
-  private BLSSignature getBlsSignature(
-      final HttpResponse<String> response,
-      final Throwable throwable,
-      final Supplier<String> slashableMessage) {
-    if (throwable != null) {
-      final String url =
-          getSigningServiceUrl().isEmpty() ? "UNKNOWN" : getSigningServiceUrl().get().toString();
-      throw new ExternalSignerException(
-          "External signer (" + url + ") failed to sign due to " + throwable.getMessage(),
-          throwable);
-    }
-
-    if (response.statusCode() == SC_PRECONDITION_FAILED) {
-      throw new ExternalSignerException(slashableMessage.get());
-    }
-
-    if (response.statusCode() != SC_OK) {
-      throw new ExternalSignerException(
-          "External signer failed to sign and returned invalid response status code: "
-              + response.statusCode());
-    }
-
-    try {
-      final String returnedContentType = response.headers().firstValue("Content-Type").orElse("");
-      final String signatureHexStr =
-          returnedContentType.startsWith("application/json")
-              ? jsonProvider.jsonToObject(response.body(), SigningResponseBody.class).getSignature()
-              : response.body();
-
-      final Bytes signature = Bytes.fromHexString(signatureHexStr);
-      return BLSSignature.fromBytesCompressed(signature);
-    } catch (final IllegalArgumentException | JsonProcessingException e) {
-      throw new ExternalSignerException(
-          "External signer returned an invalid signature: " + e.getMessage(), e);
-    }
-  }
-
   @VisibleForTesting
   static Supplier<String> slashableBlockMessage(final UInt64 slot) {
     return () ->
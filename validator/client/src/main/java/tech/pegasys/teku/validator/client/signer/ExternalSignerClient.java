@@ -0,0 +1,466 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_METHOD_NOT_ALLOWED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_IMPLEMENTED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
+import static tech.pegasys.teku.validator.client.signer.ExternalSigner.EXTERNAL_SIGNER_ENDPOINT;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.provider.JsonProvider;
+
+/**
+ * Sends signing requests to external signers on behalf of every {@link ExternalSigner}, so that
+ * the HTTP client, the limit on requests in flight and the latency metrics are shared across all
+ * validators.
+ *
+ * <p>When an in flight request limit is configured, requests beyond the current limit are queued
+ * and the limit is adapted to the signer's latency by an {@link AdaptiveConcurrencyLimit}.
+ *
+ * <p>When batch signing is enabled, dispatching is deferred to the async runner so that requests
+ * created together, such as the attestations for every validator at the start of a slot, are
+ * queued together. Queued requests for the same signer are then sent as a single request to {@link
+ * #BATCH_SIGN_ENDPOINT}, with a JSON array body of objects containing the signer {@code
+ * identifier} and the usual signing {@code request}. The signer responds with a JSON array of
+ * {@link BatchSigningResponseEntry} in the same order. If the signer doesn't support the endpoint,
+ * batching is disabled and the requests are sent individually.
+ */
+public class ExternalSignerClient {
+  private static final Logger LOG = LogManager.getLogger();
+  public static final String BATCH_SIGN_ENDPOINT = "/api/v1/eth2/batch_sign";
+  static final int MAX_BATCH_SIZE = 256;
+  private static final Set<Integer> BATCH_UNSUPPORTED_STATUS_CODES =
+      Set.of(SC_NOT_FOUND, SC_METHOD_NOT_ALLOWED, SC_NOT_IMPLEMENTED);
+
+  private final JsonProvider jsonProvider = new JsonProvider();
+  private final HttpClient httpClient;
+  private final Duration timeout;
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final Optional<AdaptiveConcurrencyLimit> concurrencyLimit;
+  private final boolean batchSigningEnabled;
+  private final Deque<SigningRequest> pendingRequests = new ArrayDeque<>();
+  private volatile boolean batchSigningSupported = true;
+  private boolean dispatchScheduled = false;
+
+  private final MetricsHistogram signingLatency;
+  private final Counter singleRequestCounter;
+  private final Counter batchRequestCounter;
+
+  public ExternalSignerClient(
+      final HttpClient httpClient,
+      final Duration timeout,
+      final int inFlightRequestLimit,
+      final boolean batchSigningEnabled,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem) {
+    this(
+        httpClient,
+        timeout,
+        inFlightRequestLimit,
+        batchSigningEnabled,
+        asyncRunner,
+        metricsSystem,
+        new SystemTimeProvider());
+  }
+
+  @VisibleForTesting
+  ExternalSignerClient(
+      final HttpClient httpClient,
+      final Duration timeout,
+      final int inFlightRequestLimit,
+      final boolean batchSigningEnabled,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
+    this.httpClient = httpClient;
+    this.timeout = timeout;
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.concurrencyLimit =
+        inFlightRequestLimit > 0
+            ? Optional.of(new AdaptiveConcurrencyLimit(inFlightRequestLimit))
+            : Optional.empty();
+    this.batchSigningEnabled = batchSigningEnabled;
+
+    this.signingLatency =
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "external_signer_signing_latency",
+            "Milliseconds from requesting a signature from the external signer until it completes",
+            1,
+            List.of("type"));
+    final LabelledMetric<Counter> httpRequestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_http_requests",
+            "Number of HTTP requests sent to the external signer",
+            "mode");
+    singleRequestCounter = httpRequestCounter.labels("single");
+    batchRequestCounter = httpRequestCounter.labels("batch");
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.VALIDATOR,
+        "external_signer_pending_requests",
+        "Number of signing requests waiting to be sent to the external signer",
+        this::getPendingRequestCount);
+    concurrencyLimit.ifPresent(
+        limit ->
+            metricsSystem.createIntegerGauge(
+                TekuMetricCategory.VALIDATOR,
+                "external_signer_in_flight_limit",
+                "Current limit on signing requests in flight to the external signer",
+                limit::getLimit));
+  }
+
+  /**
+   * Whether this client controls how many requests are in flight, either with an in-flight limit or
+   * by sending queued requests in batches. Callers shouldn't throttle requests further if it does.
+   */
+  public boolean isThrottlingRequests() {
+    return concurrencyLimit.isPresent() || batchSigningEnabled;
+  }
+
+  public SafeFuture<BLSSignature> sign(
+      final URL signingServiceUrl,
+      final String identifier,
+      final SignType type,
+      final String requestBody,
+      final Supplier<String> slashableMessage) {
+    final SigningRequest request =
+        new SigningRequest(
+            signingServiceUrl,
+            identifier,
+            type,
+            requestBody,
+            slashableMessage,
+            getCurrentTimeMillis());
+    synchronized (this) {
+      pendingRequests.add(request);
+    }
+    if (isBatching()) {
+      scheduleDispatch();
+    } else {
+      dispatchPendingRequests();
+    }
+    return request.result;
+  }
+
+  private boolean isBatching() {
+    return batchSigningEnabled && batchSigningSupported;
+  }
+
+  private void scheduleDispatch() {
+    synchronized (this) {
+      if (dispatchScheduled) {
+        return;
+      }
+      dispatchScheduled = true;
+    }
+    asyncRunner
+        .runAsync(
+            () -> {
+              synchronized (this) {
+                dispatchScheduled = false;
+              }
+              dispatchPendingRequests();
+            })
+        .ifExceptionGetsHereRaiseABug();
+  }
+
+  private void dispatchPendingRequests() {
+    final List<List<SigningRequest>> requestsToSend = new ArrayList<>();
+    synchronized (this) {
+      while (!pendingRequests.isEmpty() && tryAcquire()) {
+        requestsToSend.add(takeNextRequests());
+      }
+    }
+    requestsToSend.forEach(this::send);
+  }
+
+  private boolean tryAcquire() {
+    return concurrencyLimit.map(AdaptiveConcurrencyLimit::tryAcquire).orElse(true);
+  }
+
+  private List<SigningRequest> takeNextRequests() {
+    final SigningRequest first = pendingRequests.remove();
+    if (!isBatching()) {
+      return List.of(first);
+    }
+    final List<SigningRequest> batch = new ArrayList<>();
+    batch.add(first);
+    final Iterator<SigningRequest> iterator = pendingRequests.iterator();
+    while (iterator.hasNext() && batch.size() < MAX_BATCH_SIZE) {
+      final SigningRequest request = iterator.next();
+      if (request.signingServiceKey.equals(first.signingServiceKey)) {
+        batch.add(request);
+        iterator.remove();
+      }
+    }
+    return batch;
+  }
+
+  private void send(final List<SigningRequest> requests) {
+    final long sentTimeMillis = getCurrentTimeMillis();
+    final boolean isBatch = requests.size() > 1;
+    if (isBatch) {
+      batchRequestCounter.inc();
+    } else {
+      singleRequestCounter.inc();
+    }
+    // Handle responses off the HTTP client's threads, as decompressing signatures is expensive
+    SafeFuture.of(
+            SafeFuture.of(
+                    () -> isBatch ? createBatchRequest(requests) : createRequest(requests.get(0)))
+                .thenCompose(
+                    httpRequest -> httpClient.sendAsync(httpRequest, BodyHandlers.ofString()))
+                .handleAsync(
+                    (response, error) -> {
+                      handleResponse(requests, sentTimeMillis, response, error);
+                      return null;
+                    }))
+        .ifExceptionGetsHereRaiseABug();
+  }
+
+  private void handleResponse(
+      final List<SigningRequest> requests,
+      final long sentTimeMillis,
+      final HttpResponse<String> response,
+      final Throwable error) {
+    concurrencyLimit.ifPresent(
+        limit -> limit.release(sentTimeMillis, getCurrentTimeMillis(), error != null));
+    if (error != null) {
+      final ExternalSignerException exception =
+          new ExternalSignerException(
+              "External signer ("
+                  + requests.get(0).signingServiceUrl
+                  + ") failed to sign due to "
+                  + error.getMessage(),
+              error);
+      requests.forEach(request -> complete(request, SafeFuture.failedFuture(exception)));
+    } else if (requests.size() > 1) {
+      handleBatchResponse(requests, response);
+    } else {
+      final SigningRequest request = requests.get(0);
+      complete(
+          request,
+          SafeFuture.of(
+              () ->
+                  parseSignature(
+                      response.statusCode(),
+                      response.headers().firstValue("Content-Type").orElse(""),
+                      response.body(),
+                      request.slashableMessage)));
+    }
+    dispatchPendingRequests();
+  }
+
+  private void handleBatchResponse(
+      final List<SigningRequest> requests, final HttpResponse<String> response) {
+    if (BATCH_UNSUPPORTED_STATUS_CODES.contains(response.statusCode())) {
+      if (batchSigningSupported) {
+        LOG.warn(
+            "External signer returned status code {} for batch signing, sending requests individually",
+            response.statusCode());
+        batchSigningSupported = false;
+      }
+      synchronized (this) {
+        for (int i = requests.size() - 1; i >= 0; i--) {
+          pendingRequests.addFirst(requests.get(i));
+        }
+      }
+      return;
+    }
+    final BatchSigningResponseEntry[] entries;
+    try {
+      if (response.statusCode() != SC_OK) {
+        throw new ExternalSignerException(
+            "External signer failed to sign and returned invalid response status code: "
+                + response.statusCode());
+      }
+      entries = jsonProvider.jsonToObject(response.body(), BatchSigningResponseEntry[].class);
+      if (entries.length != requests.size()) {
+        throw new ExternalSignerException(
+            "External signer returned "
+                + entries.length
+                + " signatures for a batch of "
+                + requests.size());
+      }
+    } catch (final JsonProcessingException | ExternalSignerException e) {
+      final ExternalSignerException error =
+          e instanceof ExternalSignerException
+              ? (ExternalSignerException) e
+              : new ExternalSignerException(
+                  "External signer returned an invalid batch response: " + e.getMessage(), e);
+      requests.forEach(request -> complete(request, SafeFuture.failedFuture(error)));
+      return;
+    }
+    for (int i = 0; i < entries.length; i++) {
+      final SigningRequest request = requests.get(i);
+      final BatchSigningResponseEntry entry = entries[i];
+      complete(
+          request,
+          SafeFuture.of(
+              () ->
+                  parseSignature(
+                      entry.getStatus(),
+                      "",
+                      entry.getSignature().orElse(""),
+                      request.slashableMessage)));
+    }
+  }
+
+  private void complete(final SigningRequest request, final SafeFuture<BLSSignature> result) {
+    signingLatency.recordValue(
+        getCurrentTimeMillis() - request.queuedTimeMillis,
+        request.type.name().toLowerCase(Locale.ROOT));
+    result.propagateTo(request.result);
+  }
+
+  private HttpRequest createRequest(final SigningRequest request) throws Exception {
+    final URI uri =
+        request
+            .signingServiceUrl
+            .toURI()
+            .resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + request.identifier);
+    return createHttpRequest(uri, request.requestBody);
+  }
+
+  private HttpRequest createBatchRequest(final List<SigningRequest> requests) throws Exception {
+    final URI uri = requests.get(0).signingServiceUrl.toURI().resolve(BATCH_SIGN_ENDPOINT);
+    // Request bodies are already serialized JSON, so can be embedded as is
+    final StringBuilder body = new StringBuilder("[");
+    for (int i = 0; i < requests.size(); i++) {
+      final SigningRequest request = requests.get(i);
+      if (i > 0) {
+        body.append(',');
+      }
+      body.append("{\"identifier\":\"")
+          .append(request.identifier)
+          .append("\",\"request\":")
+          .append(request.requestBody)
+          .append('}');
+    }
+    body.append(']');
+    return createHttpRequest(uri, body.toString());
+  }
+
+  private HttpRequest createHttpRequest(final URI uri, final String body) {
+    return HttpRequest.newBuilder()
+        .uri(uri)
+        .timeout(timeout)
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private BLSSignature parseSignature(
+      final int statusCode,
+      final String contentType,
+      final String body,
+      final Supplier<String> slashableMessage) {
+    if (statusCode == SC_PRECONDITION_FAILED) {
+      throw new ExternalSignerException(slashableMessage.get());
+    }
+
+    if (statusCode != SC_OK) {
+      throw new ExternalSignerException(
+          "External signer failed to sign and returned invalid response status code: "
+              + statusCode);
+    }
+
+    try {
+      final String signatureHexStr =
+          contentType.startsWith("application/json")
+              ? jsonProvider.jsonToObject(body, SigningResponseBody.class).getSignature()
+              : body;
+
+      final Bytes signature = Bytes.fromHexString(signatureHexStr);
+      return BLSSignature.fromBytesCompressed(signature);
+    } catch (final IllegalArgumentException | JsonProcessingException e) {
+      throw new ExternalSignerException(
+          "External signer returned an invalid signature: " + e.getMessage(), e);
+    }
+  }
+
+  private synchronized int getPendingRequestCount() {
+    return pendingRequests.size();
+  }
+
+  private long getCurrentTimeMillis() {
+    return timeProvider.getTimeInMillis().longValue();
+  }
+
+  private static class SigningRequest {
+    private final URL signingServiceUrl;
+    // URL.equals resolves host names, so group batches by the string form instead
+    private final String signingServiceKey;
+    private final String identifier;
+    private final SignType type;
+    private final String requestBody;
+    private final Supplier<String> slashableMessage;
+    private final long queuedTimeMillis;
+    private final SafeFuture<BLSSignature> result = new SafeFuture<>();
+
+    private SigningRequest(
+        final URL signingServiceUrl,
+        final String identifier,
+        final SignType type,
+        final String requestBody,
+        final Supplier<String> slashableMessage,
+        final long queuedTimeMillis) {
+      this.signingServiceUrl = signingServiceUrl;
+      this.signingServiceKey = signingServiceUrl.toExternalForm();
+      this.identifier = identifier;
+      this.type = type;
+      this.requestBody = requestBody;
+      this.slashableMessage = slashableMessage;
+      this.queuedTimeMillis = queuedTimeMillis;
+    }
+  }
+}
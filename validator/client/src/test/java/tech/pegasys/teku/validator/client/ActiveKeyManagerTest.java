@@ -21,6 +21,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 import static tech.pegasys.teku.spec.generator.signatures.NoOpLocalSigner.NO_OP_SIGNER;
 import static tech.pegasys.teku.spec.generator.signatures.NoOpRemoteSigner.NO_OP_REMOTE_SIGNER;
 
@@ -39,13 +40,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.io.IOUtils;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.data.SlashingProtectionIncrementalExporter;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.signatures.JournaledSlashingProtector;
 import tech.pegasys.teku.spec.signatures.Signer;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
@@ -173,6 +178,43 @@ class ActiveKeyManagerTest {
     verify(channel, never()).onValidatorsAdded();
   }
 
+  @Test
+  void deleteValidators_shouldExportJournaledSigningRecords(@TempDir final Path tempDir)
+      throws IOException {
+    final JournaledSlashingProtector slashingProtector =
+        JournaledSlashingProtector.create(SyncDataAccessor.create(tempDir), tempDir, SYNC_RUNNER);
+    final Bytes32 genesisValidatorsRoot = dataStructureUtil.randomBytes32();
+    assertThat(
+            slashingProtector.maySignAttestation(
+                publicKey, genesisValidatorsRoot, UInt64.valueOf(51), UInt64.valueOf(1741)))
+        .isCompletedWithValue(true);
+    assertThat(
+            slashingProtector.maySignBlock(publicKey, genesisValidatorsRoot, UInt64.valueOf(327)))
+        .isCompletedWithValue(true);
+    // Only the journal has the record until it is compacted.
+    assertThat(tempDir.resolve(publicKey.toBytesCompressed().toUnprefixedHexString() + ".yml"))
+        .doesNotExist();
+
+    final Validator activeValidator = mock(Validator.class);
+    when(activeValidator.getPublicKey()).thenReturn(publicKey);
+    when(activeValidator.isReadOnly()).thenReturn(false);
+    when(activeValidator.getSigner()).thenReturn(signer);
+    when(validatorLoader.getOwnedValidators())
+        .thenReturn(new OwnedValidators(Map.of(publicKey, activeValidator)));
+    when(validatorLoader.deleteLocalMutableValidator(publicKey))
+        .thenReturn(DeleteKeyResult.success());
+
+    final DeleteKeysResponse response = keyManager.deleteValidators(List.of(publicKey), tempDir);
+    slashingProtector.close();
+
+    assertThat(response.getData().get(0).getStatus()).isEqualTo(DeletionStatus.DELETED);
+    assertThat(response.getSlashingProtection())
+        .contains(publicKey.toString())
+        .contains("\"signed_blocks\":[{\"slot\":\"327\"}]")
+        .contains(
+            "\"signed_attestations\":[{\"source_epoch\":\"51\",\"target_epoch\":\"1741\"}]");
+  }
+
   @Test
   void deleteValidators_shouldRejectRequestToDeleteReadOnlyValidator(@TempDir final Path tempDir) {
     final Validator activeValidator = mock(Validator.class);
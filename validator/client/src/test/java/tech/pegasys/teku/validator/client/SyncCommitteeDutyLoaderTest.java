@@ -37,6 +37,7 @@ import tech.pegasys.teku.validator.api.SyncCommitteeDuties;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuty;
 import tech.pegasys.teku.validator.api.SyncCommitteeSubnetSubscription;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
+import tech.pegasys.teku.validator.client.duties.attestations.BatchAttestationSendingStrategy;
 import tech.pegasys.teku.validator.client.duties.synccommittee.ChainHeadTracker;
 import tech.pegasys.teku.validator.client.duties.synccommittee.SyncCommitteeScheduledDuties;
 import tech.pegasys.teku.validator.client.loader.OwnedValidators;
@@ -67,7 +68,8 @@ class SyncCommitteeDutyLoaderTest {
           spec,
           validatorApiChannel,
           chainHeadTracker,
-          forkProvider);
+          forkProvider,
+          new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSyncCommitteeMessages));
 
   @BeforeEach
   void setUp() {
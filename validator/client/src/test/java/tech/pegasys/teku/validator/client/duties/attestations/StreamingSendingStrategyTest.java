@@ -0,0 +1,147 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.duties.attestations;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.api.SubmitDataError;
+import tech.pegasys.teku.validator.api.ValidatorApiChannel;
+import tech.pegasys.teku.validator.client.duties.DutyResult;
+import tech.pegasys.teku.validator.client.duties.ProductionResult;
+
+class StreamingSendingStrategyTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ValidatorApiChannel validatorApiChannel = mock(ValidatorApiChannel.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+
+  private final StreamingSendingStrategy<Attestation> strategy =
+      new StreamingSendingStrategy<>(
+          asyncRunner,
+          StubTimeProvider.withTimeInSeconds(1000),
+          StreamingSendingStrategy.createSubmissionDelayHistogram(new StubMetricsSystem()),
+          "attestation",
+          Duration.ofMillis(50),
+          2,
+          validatorApiChannel::sendSignedAttestations);
+
+  private final SafeFuture<ProductionResult<Attestation>> future1 = new SafeFuture<>();
+  private final SafeFuture<ProductionResult<Attestation>> future2 = new SafeFuture<>();
+  private final SafeFuture<ProductionResult<Attestation>> future3 = new SafeFuture<>();
+  private final Attestation attestation1 = dataStructureUtil.randomAttestation();
+  private final Attestation attestation2 = dataStructureUtil.randomAttestation();
+  private final Attestation attestation3 = dataStructureUtil.randomAttestation();
+
+  @BeforeEach
+  void setUp() {
+    when(validatorApiChannel.sendSignedAttestations(anyList()))
+        .thenReturn(SafeFuture.completedFuture(emptyList()));
+  }
+
+  @Test
+  void shouldSendPartialBatchWhenWindowElapses() {
+    final SafeFuture<DutyResult> result = strategy.send(Stream.of(future1, future2, future3));
+
+    future2.complete(success(attestation2));
+    verifyNoInteractions(validatorApiChannel);
+
+    asyncRunner.executeQueuedActions();
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation2));
+    assertThat(result).isNotDone();
+
+    future1.complete(success(attestation1));
+    future3.complete(success(attestation3));
+    assertThat(result).isCompleted();
+    assertThat(result.join().getSuccessCount()).isEqualTo(3);
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation1, attestation3));
+  }
+
+  @Test
+  void shouldSendBatchAsSoonAsMaxSizeReached() {
+    final SafeFuture<DutyResult> result = strategy.send(Stream.of(future1, future2, future3));
+
+    future3.complete(success(attestation3));
+    future1.complete(success(attestation1));
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation3, attestation1));
+
+    future2.complete(success(attestation2));
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation2));
+    assertThat(result).isCompleted();
+    assertThat(result.join().getSuccessCount()).isEqualTo(3);
+
+    // The window for the first batch expiring later doesn't send anything else
+    asyncRunner.executeQueuedActions();
+    verify(validatorApiChannel, times(2)).sendSignedAttestations(anyList());
+  }
+
+  @Test
+  void shouldNotWaitForEarlierSubmissionsToComplete() {
+    final SafeFuture<List<SubmitDataError>> firstSubmission = new SafeFuture<>();
+    when(validatorApiChannel.sendSignedAttestations(List.of(attestation1)))
+        .thenReturn(firstSubmission);
+    final SafeFuture<DutyResult> result = strategy.send(Stream.of(future1, future2));
+
+    future1.complete(success(attestation1));
+    asyncRunner.executeQueuedActions();
+    future2.complete(success(attestation2));
+
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation2));
+    assertThat(result).isNotDone();
+
+    firstSubmission.complete(emptyList());
+    assertThat(result).isCompleted();
+    assertThat(result.join().getSuccessCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReportMessagesWhichFailedToProduce() {
+    final SafeFuture<DutyResult> result = strategy.send(Stream.of(future1, future2));
+
+    future1.complete(success(attestation1));
+    future2.complete(
+        ProductionResult.failure(
+            dataStructureUtil.randomPublicKey(), new IllegalStateException("Oops")));
+
+    assertThat(result).isCompleted();
+    assertThat(result.join().getSuccessCount()).isEqualTo(1);
+    assertThat(result.join().getFailureCount()).isEqualTo(1);
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation1));
+  }
+
+  private ProductionResult<Attestation> success(final Attestation attestation) {
+    return ProductionResult.success(
+        dataStructureUtil.randomPublicKey(), dataStructureUtil.randomBytes32(), attestation);
+  }
+}
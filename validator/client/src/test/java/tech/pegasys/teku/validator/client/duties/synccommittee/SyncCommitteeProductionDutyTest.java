@@ -49,6 +49,7 @@ import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.ForkProvider;
 import tech.pegasys.teku.validator.client.Validator;
 import tech.pegasys.teku.validator.client.duties.DutyResult;
+import tech.pegasys.teku.validator.client.duties.attestations.BatchAttestationSendingStrategy;
 
 class SyncCommitteeProductionDutyTest {
 
@@ -235,7 +236,10 @@ class SyncCommitteeProductionDutyTest {
   private SyncCommitteeProductionDuty createDuty(
       final ValidatorAndCommitteeIndices... assignments) {
     return new SyncCommitteeProductionDuty(
-        spec, forkProvider, validatorApiChannel, asList(assignments));
+        spec,
+        forkProvider,
+        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSyncCommitteeMessages),
+        asList(assignments));
   }
 
   private Validator createValidator() {
@@ -55,6 +55,7 @@ import tech.pegasys.teku.validator.client.ValidatorClientService;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeletionStatus;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ImportStatus;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerClient;
 
 public class ExternalValidatorSourceTest {
   private final DataStructureUtil dataStructureUtil =
@@ -66,6 +67,7 @@ public class ExternalValidatorSourceTest {
   private final MetricsSystem metricsSystem = new StubMetricsSystem();
   private final AsyncRunner asyncRunner = new StubAsyncRunner();
   private ThrottlingTaskQueue externalSignerTaskQueue;
+  private ExternalSignerClient externalSignerClient;
 
   private final Supplier<HttpClient> httpClientFactory = () -> httpClient;
 
@@ -89,6 +91,14 @@ public class ExternalValidatorSourceTest {
             metricsSystem,
             TekuMetricCategory.VALIDATOR,
             "external_signer_request_queue_size");
+    externalSignerClient =
+        new ExternalSignerClient(
+            httpClient,
+            config.getValidatorExternalSignerTimeout(),
+            config.getValidatorExternalSignerInFlightRequestLimit(),
+            config.isValidatorExternalSignerBatchSigningEnabled(),
+            asyncRunner,
+            metricsSystem);
     when(httpResponse.statusCode()).thenReturn(SC_OK);
     when(httpClient.send(any(), ArgumentMatchers.<HttpResponse.BodyHandler<Void>>any()))
         .thenReturn(httpResponse);
@@ -269,6 +279,7 @@ public class ExternalValidatorSourceTest {
         asyncRunner,
         readOnly,
         externalSignerTaskQueue,
+        externalSignerClient,
         Optional.of(new SimpleDataDirLayout(tempDir)));
   }
 
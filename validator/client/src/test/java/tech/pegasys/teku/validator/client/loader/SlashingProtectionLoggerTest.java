@@ -23,8 +23,6 @@ import static org.mockito.Mockito.when;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.net.http.HttpClient;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -50,9 +48,9 @@ import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.GraffitiProvider;
 import tech.pegasys.teku.validator.client.Validator;
 import tech.pegasys.teku.validator.client.signer.ExternalSigner;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerClient;
 
 public class SlashingProtectionLoggerTest {
-  private static final Duration TIMEOUT = Duration.ofMillis(500);
   private final SlashingProtector slashingProtector = mock(SlashingProtector.class);
   private final Spec spec = TestSpecFactory.createMinimalAltair();
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
@@ -160,10 +158,9 @@ public class SlashingProtectionLoggerTest {
       externalSigner =
           new ExternalSigner(
               spec,
-              mock(HttpClient.class),
+              mock(ExternalSignerClient.class),
               new URL("http://127.0.0.1/"),
               publicKey,
-              TIMEOUT,
               mock(ThrottlingTaskQueue.class),
               metricsSystem);
     } catch (MalformedURLException e) {
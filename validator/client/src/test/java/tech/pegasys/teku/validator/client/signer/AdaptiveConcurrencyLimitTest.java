@@ -0,0 +1,103 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+  private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10);
+
+  @Test
+  void shouldLimitRequestsInFlight() {
+    acquire(10);
+    assertThat(limit.tryAcquire()).isFalse();
+
+    limit.release(0, 10, false);
+    assertThat(limit.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void shouldBackOffWhenLatencyRisesAboveBaseline() {
+    acquire(2);
+    limit.release(0, 10, false);
+    limit.release(5, 100, false);
+
+    assertThat(limit.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  void shouldBackOffWhenRequestIsDropped() {
+    acquire(1);
+    limit.release(0, 5000, true);
+
+    assertThat(limit.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  void shouldOnlyBackOffOnceForRequestsSentBeforeLastBackOff() {
+    acquire(3);
+    limit.release(0, 5000, true);
+    limit.release(10, 5001, true);
+    assertThat(limit.getLimit()).isEqualTo(9);
+
+    // Sent after the first back off so indicates the signer is still overloaded
+    acquire(1);
+    limit.release(5002, 10000, true);
+    assertThat(limit.getLimit()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldNotBackOffWithinMinimumBaselineLatency() {
+    acquire(2);
+    limit.release(0, 1, false);
+    limit.release(0, AdaptiveConcurrencyLimit.MIN_BASELINE_LATENCY_MILLIS * 2, false);
+
+    assertThat(limit.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldRecoverLimitWhileSaturatedWithHealthyLatency() {
+    acquire(1);
+    limit.release(0, 5000, true);
+    assertThat(limit.getLimit()).isEqualTo(9);
+
+    long time = 6000;
+    while (limit.getLimit() < 10) {
+      acquire(limit.getLimit() - limit.getInFlightCount());
+      limit.release(time, time + 10, false);
+      time += 10;
+    }
+    assertThat(limit.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitWhenNotSaturated() {
+    acquire(1);
+    limit.release(0, 5000, true);
+
+    for (int i = 0; i < 100; i++) {
+      acquire(1);
+      limit.release(6000 + i, 6010 + i, false);
+    }
+    assertThat(limit.getLimit()).isEqualTo(9);
+  }
+
+  private void acquire(final int count) {
+    for (int i = 0; i < count; i++) {
+      assertThat(limit.tryAcquire()).isTrue();
+    }
+  }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ExternalSignerClientTest {
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+  private static final URL SIGNER_URL = createUrl("http://localhost:9000");
+  private static final URL OTHER_SIGNER_URL = createUrl("http://localhost:9001");
+  private static final String IDENTIFIER = "0x1234";
+  private static final int TASK_QUEUE_LIMIT = 32;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final HttpClient httpClient = mock(HttpClient.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+
+  private final List<HttpRequest> sentRequests = new CopyOnWriteArrayList<>();
+  private final List<CompletableFuture<HttpResponse<String>>> responses =
+      new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    when(httpClient.sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<String>>any()))
+        .thenAnswer(
+            invocation -> {
+              final CompletableFuture<HttpResponse<String>> response = new CompletableFuture<>();
+              sentRequests.add(invocation.getArgument(0));
+              responses.add(response);
+              return response;
+            });
+  }
+
+  @Test
+  void shouldSendRequestToSigningEndpoint() {
+    final ExternalSignerClient client = createClient(0, false);
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+
+    final SafeFuture<BLSSignature> result = sign(client, SIGNER_URL);
+
+    assertThat(sentRequests).hasSize(1);
+    assertThat(sentRequests.get(0).uri())
+        .isEqualTo(URI.create("http://localhost:9000/api/v1/eth2/sign/" + IDENTIFIER));
+    responses.get(0).complete(createResponse(SC_OK, signature.toBytesCompressed().toString()));
+    assertThat(result.join()).isEqualTo(signature);
+  }
+
+  @Test
+  void shouldFailWithSlashableMessageWhenSignerRefusesToSign() {
+    final ExternalSignerClient client = createClient(0, false);
+
+    final SafeFuture<BLSSignature> result = sign(client, SIGNER_URL);
+    responses.get(0).complete(createResponse(SC_PRECONDITION_FAILED, ""));
+
+    assertThatThrownBy(result::join)
+        .hasCauseInstanceOf(ExternalSignerException.class)
+        .hasMessageEndingWith("Refused");
+  }
+
+  @Test
+  void shouldQueueRequestsBeyondInFlightLimit() {
+    final ExternalSignerClient client = createClient(1, false);
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+
+    final SafeFuture<BLSSignature> result1 = sign(client, SIGNER_URL);
+    final SafeFuture<BLSSignature> result2 = sign(client, SIGNER_URL);
+    assertThat(sentRequests).hasSize(1);
+
+    responses.get(0).complete(createResponse(SC_OK, signature.toBytesCompressed().toString()));
+    assertThat(result1.join()).isEqualTo(signature);
+    verify(httpClient, timeout(5000).times(2)).sendAsync(any(), any());
+
+    responses.get(1).complete(createResponse(SC_OK, signature.toBytesCompressed().toString()));
+    assertThat(result2.join()).isEqualTo(signature);
+  }
+
+  @Test
+  void shouldSendRequestsQueuedTogetherAsBatchPerSigner() {
+    final ExternalSignerClient client = createClient(0, true);
+    final BLSSignature signature1 = dataStructureUtil.randomSignature();
+    final BLSSignature signature2 = dataStructureUtil.randomSignature();
+
+    final SafeFuture<BLSSignature> result1 = sign(client, SIGNER_URL);
+    final SafeFuture<BLSSignature> otherResult = sign(client, OTHER_SIGNER_URL);
+    final SafeFuture<BLSSignature> result2 = sign(client, SIGNER_URL);
+    final SafeFuture<BLSSignature> result3 = sign(client, SIGNER_URL);
+    assertThat(sentRequests).isEmpty();
+
+    asyncRunner.executeQueuedActions();
+
+    assertThat(sentRequests).hasSize(2);
+    assertThat(sentRequests.get(0).uri())
+        .isEqualTo(URI.create("http://localhost:9000" + ExternalSignerClient.BATCH_SIGN_ENDPOINT));
+    assertThat(sentRequests.get(1).uri())
+        .isEqualTo(URI.create("http://localhost:9001/api/v1/eth2/sign/" + IDENTIFIER));
+
+    responses
+        .get(0)
+        .complete(
+            createResponse(
+                SC_OK,
+                "[{\"status\":200,\"signature\":\""
+                    + signature1.toBytesCompressed()
+                    + "\"},{\"status\":200,\"signature\":\""
+                    + signature2.toBytesCompressed()
+                    + "\"},{\"status\":412}]"));
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+    assertThatThrownBy(result3::join).hasCauseInstanceOf(ExternalSignerException.class);
+    assertThat(otherResult).isNotDone();
+  }
+
+  @Test
+  void shouldFallBackToIndividualRequestsWhenBatchSigningIsUnsupported() {
+    final ExternalSignerClient client = createClient(0, true);
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+
+    final SafeFuture<BLSSignature> result1 = sign(client, SIGNER_URL);
+    final SafeFuture<BLSSignature> result2 = sign(client, SIGNER_URL);
+    asyncRunner.executeQueuedActions();
+    assertThat(sentRequests).hasSize(1);
+
+    responses.get(0).complete(createResponse(SC_NOT_FOUND, ""));
+    verify(httpClient, timeout(5000).times(3)).sendAsync(any(), any());
+    assertThat(sentRequests.subList(1, 3))
+        .allSatisfy(
+            request ->
+                assertThat(request.uri())
+                    .isEqualTo(URI.create("http://localhost:9000/api/v1/eth2/sign/" + IDENTIFIER)));
+    responses.get(1).complete(createResponse(SC_OK, signature.toBytesCompressed().toString()));
+    responses.get(2).complete(createResponse(SC_OK, signature.toBytesCompressed().toString()));
+    assertThat(result1.join()).isEqualTo(signature);
+    assertThat(result2.join()).isEqualTo(signature);
+
+    // Later requests are sent immediately without waiting to form a batch
+    sign(client, SIGNER_URL);
+    assertThat(sentRequests).hasSize(4);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldNotQueueAggregationSlotRequestsBehindTaskQueueWhenInFlightLimitEnabled() {
+    final ExternalSigner signer = createSigner(createClient(64, false));
+
+    signAggregationSlots(signer, 40);
+
+    assertThat(sentRequests).hasSize(40);
+  }
+
+  @Test
+  void shouldSendFullBatchesOfAggregationSlotRequestsWhenBatchingEnabled() {
+    final ExternalSigner signer = createSigner(createClient(0, true));
+
+    signAggregationSlots(signer, 2 * ExternalSignerClient.MAX_BATCH_SIZE);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(sentRequests).hasSize(2);
+    assertThat(sentRequests)
+        .allSatisfy(
+            request ->
+                assertThat(request.uri())
+                    .isEqualTo(
+                        URI.create(
+                            "http://localhost:9000" + ExternalSignerClient.BATCH_SIGN_ENDPOINT)));
+  }
+
+  @Test
+  void shouldQueueAggregationSlotRequestsBehindTaskQueueWhenClientDoesNotThrottle() {
+    final ExternalSigner signer = createSigner(createClient(0, false));
+
+    signAggregationSlots(signer, 40);
+
+    assertThat(sentRequests).hasSize(TASK_QUEUE_LIMIT);
+  }
+
+  private ExternalSigner createSigner(final ExternalSignerClient client) {
+    return new ExternalSigner(
+        spec,
+        client,
+        SIGNER_URL,
+        dataStructureUtil.randomPublicKey(),
+        new ThrottlingTaskQueue(
+            TASK_QUEUE_LIMIT,
+            metricsSystem,
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_request_queue_size"),
+        metricsSystem);
+  }
+
+  private void signAggregationSlots(final ExternalSigner signer, final int count) {
+    final ForkInfo forkInfo = dataStructureUtil.randomForkInfo();
+    for (int i = 0; i < count; i++) {
+      signer.signAggregationSlot(UInt64.valueOf(i), forkInfo);
+    }
+  }
+
+  private ExternalSignerClient createClient(
+      final int inFlightRequestLimit, final boolean batchSigningEnabled) {
+    return new ExternalSignerClient(
+        httpClient,
+        TIMEOUT,
+        inFlightRequestLimit,
+        batchSigningEnabled,
+        asyncRunner,
+        metricsSystem,
+        timeProvider);
+  }
+
+  private SafeFuture<BLSSignature> sign(final ExternalSignerClient client, final URL signerUrl) {
+    return client.sign(signerUrl, IDENTIFIER, SignType.ATTESTATION, "{}", () -> "Refused");
+  }
+
+  private HttpResponse<String> createResponse(final int statusCode, final String body) {
+    @SuppressWarnings("unchecked")
+    final HttpResponse<String> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(statusCode);
+    when(response.body()).thenReturn(body);
+    when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+    return response;
+  }
+
+  private static URL createUrl(final String url) {
+    try {
+      return new URL(url);
+    } catch (final MalformedURLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
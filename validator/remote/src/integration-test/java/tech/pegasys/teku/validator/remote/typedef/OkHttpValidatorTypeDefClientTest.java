@@ -17,10 +17,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
+import okhttp3.Headers;
 import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -37,10 +41,13 @@ import tech.pegasys.teku.spec.TestSpecContext;
 import tech.pegasys.teku.spec.TestSpecInvocationContextProvider.SpecContext;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.execution.SignedValidatorRegistration;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.spec.schemas.ApiSchemas;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.SendSignedBlockResult;
+import tech.pegasys.teku.validator.api.SubmitDataError;
 import tech.pegasys.teku.validator.api.required.SyncingStatus;
 import tech.pegasys.teku.validator.remote.typedef.handlers.RegisterValidatorsRequest;
 
@@ -70,10 +77,10 @@ class OkHttpValidatorTypeDefClientTest {
     mockWebServer.start();
     okHttpValidatorTypeDefClient =
         new OkHttpValidatorTypeDefClient(
-            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), false);
+            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), false, false);
     okHttpValidatorTypeDefClientWithPreferredSsz =
         new OkHttpValidatorTypeDefClient(
-            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), true);
+            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), true, true);
     sszRegisterValidatorsRequest =
         new RegisterValidatorsRequest(mockWebServer.url("/"), okHttpClient, true);
     dataStructureUtil = specContext.getDataStructureUtil();
@@ -265,6 +272,102 @@ class OkHttpValidatorTypeDefClientTest {
     verifyRegisterValidatorsPostRequest(mockWebServer.takeRequest(), JSON_CONTENT_TYPE);
   }
 
+  @TestTemplate
+  void sendSignedAttestations_makesSszRequestIfSszEncodingPreferred() throws InterruptedException {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+    final List<Attestation> attestations =
+        List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+
+    assertThat(okHttpValidatorTypeDefClientWithPreferredSsz.sendSignedAttestations(attestations))
+        .isEmpty();
+
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getPath()).isEqualTo("/eth/v1/beacon/pool/attestations");
+    assertThat(recordedRequest.getHeader("Content-Type")).isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+    assertThat(
+            spec.getGenesisSchemaDefinitions()
+                .getAttestationListSchema()
+                .sszDeserialize(Bytes.wrap(recordedRequest.getBody().readByteArray()))
+                .asList())
+        .isEqualTo(attestations);
+  }
+
+  @TestTemplate
+  void sendSignedAttestations_fallbacksToJsonIfSszNotSupported() throws InterruptedException {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(415));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+    final List<Attestation> attestations = List.of(dataStructureUtil.randomAttestation());
+
+    okHttpValidatorTypeDefClientWithPreferredSsz.sendSignedAttestations(attestations);
+
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type")).isEqualTo(JSON_CONTENT_TYPE);
+
+    // subsequent requests default immediately to json
+    okHttpValidatorTypeDefClientWithPreferredSsz.sendSignedAttestations(attestations);
+
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type")).isEqualTo(JSON_CONTENT_TYPE);
+  }
+
+  @TestTemplate
+  void sendSignedAttestations_returnsFailures() {
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(400)
+            .setBody(
+                "{\"code\":400,\"message\":\"Some items failed to publish\","
+                    + "\"failures\":[{\"index\":\"1\",\"message\":\"Darn\"}]}"));
+
+    final List<Attestation> attestations =
+        List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+
+    assertThat(okHttpValidatorTypeDefClient.sendSignedAttestations(attestations))
+        .containsExactly(new SubmitDataError(UInt64.ONE, "Darn"));
+  }
+
+  @TestTemplate
+  void createAttestationData_readsSszResponse() throws InterruptedException {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .setHeaders(Headers.of("Content-Type", OCTET_STREAM_CONTENT_TYPE))
+            .setBody(new Buffer().write(attestationData.sszSerialize().toArrayUnsafe())));
+
+    final Optional<AttestationData> result =
+        okHttpValidatorTypeDefClientWithPreferredSsz.createAttestationData(UInt64.ONE, 2);
+
+    assertThat(result).contains(attestationData);
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getRequestUrl().encodedPath())
+        .isEqualTo("/eth/v1/validator/attestation_data");
+    assertThat(recordedRequest.getRequestUrl().queryParameter("slot")).isEqualTo("1");
+    assertThat(recordedRequest.getRequestUrl().queryParameter("committee_index")).isEqualTo("2");
+    assertThat(recordedRequest.getHeader("Accept")).startsWith(OCTET_STREAM_CONTENT_TYPE);
+  }
+
+  @TestTemplate
+  void createAttestationData_readsJsonResponse() throws JsonProcessingException {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .setBody(
+                "{\"data\":"
+                    + JsonUtil.serialize(
+                        attestationData, AttestationData.SSZ_SCHEMA.getJsonTypeDefinition())
+                    + "}"));
+
+    assertThat(okHttpValidatorTypeDefClient.createAttestationData(UInt64.ONE, 2))
+        .contains(attestationData);
+  }
+
   private void verifyRegisterValidatorsPostRequest(
       RecordedRequest recordedRequest, String expectedContentType) {
     assertThat(recordedRequest.getPath()).isEqualTo("/eth/v1/validator/register_validator");
@@ -66,6 +66,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
       final Spec spec,
       final boolean generateEarlyAttestations,
       final boolean preferSszBlockEncoding,
+      final boolean preferSszAttestationEncoding,
       final boolean failoversSendSubnetSubscriptions,
       final Duration primaryBeaconNodeEventStreamReconnectAttemptPeriod) {
     Preconditions.checkArgument(
@@ -81,13 +82,23 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
 
     final RemoteValidatorApiChannel primaryValidatorApi =
         createRemoteValidatorApi(
-            primaryEndpoint, okHttpClient, spec, preferSszBlockEncoding, asyncRunner);
+            primaryEndpoint,
+            okHttpClient,
+            spec,
+            preferSszBlockEncoding,
+            preferSszAttestationEncoding,
+            asyncRunner);
     final List<RemoteValidatorApiChannel> failoverValidatorApis =
         failoverEndpoints.stream()
             .map(
                 endpoint ->
                     createRemoteValidatorApi(
-                        endpoint, okHttpClient, spec, preferSszBlockEncoding, asyncRunner))
+                        endpoint,
+                        okHttpClient,
+                        spec,
+                        preferSszBlockEncoding,
+                        preferSszAttestationEncoding,
+                        asyncRunner))
             .collect(Collectors.toList());
 
     final MetricsSystem metricsSystem = serviceConfig.getMetricsSystem();
@@ -185,11 +196,13 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
       final OkHttpClient okHttpClient,
       final Spec spec,
       final boolean preferSszBlockEncoding,
+      final boolean preferSszAttestationEncoding,
       final AsyncRunner asyncRunner) {
     final OkHttpValidatorRestApiClient apiClient =
         new OkHttpValidatorRestApiClient(endpoint, okHttpClient);
     final OkHttpValidatorTypeDefClient typeDefClient =
-        new OkHttpValidatorTypeDefClient(okHttpClient, endpoint, spec, preferSszBlockEncoding);
+        new OkHttpValidatorTypeDefClient(
+            okHttpClient, endpoint, spec, preferSszBlockEncoding, preferSszAttestationEncoding);
     return new RemoteValidatorApiHandler(endpoint, spec, apiClient, typeDefClient, asyncRunner);
   }
 }
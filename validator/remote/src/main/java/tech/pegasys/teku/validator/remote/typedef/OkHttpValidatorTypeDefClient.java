@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.validator.remote.typedef;
 
+import java.util.List;
 import java.util.Optional;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -25,13 +26,21 @@ import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.execution.SignedValidatorRegistration;
 import tech.pegasys.teku.spec.datastructures.genesis.GenesisData;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 import tech.pegasys.teku.validator.api.SendSignedBlockResult;
+import tech.pegasys.teku.validator.api.SubmitDataError;
 import tech.pegasys.teku.validator.api.required.SyncingStatus;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.handlers.CreateAttestationDataRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.CreateBlockRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetGenesisRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetSyncingStatusRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.RegisterValidatorsRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.SendSignedBlockRequest;
+import tech.pegasys.teku.validator.remote.typedef.handlers.SubmitDataRequest;
 
 public class OkHttpValidatorTypeDefClient {
 
@@ -44,12 +53,16 @@ public class OkHttpValidatorTypeDefClient {
   private final GetGenesisRequest getGenesisRequest;
   private final SendSignedBlockRequest sendSignedBlockRequest;
   private final RegisterValidatorsRequest registerValidatorsRequest;
+  private final CreateAttestationDataRequest createAttestationDataRequest;
+  private final SubmitDataRequest<Attestation> sendSignedAttestationsRequest;
+  private final SubmitDataRequest<SignedAggregateAndProof> sendAggregateAndProofsRequest;
 
   public OkHttpValidatorTypeDefClient(
       final OkHttpClient okHttpClient,
       final HttpUrl baseEndpoint,
       final Spec spec,
-      final boolean preferSszBlockEncoding) {
+      final boolean preferSszBlockEncoding,
+      final boolean preferSszAttestationEncoding) {
     this.okHttpClient = okHttpClient;
     this.baseEndpoint = baseEndpoint;
     this.spec = spec;
@@ -60,6 +73,23 @@ public class OkHttpValidatorTypeDefClient {
         new SendSignedBlockRequest(baseEndpoint, okHttpClient, preferSszBlockEncoding);
     this.registerValidatorsRequest =
         new RegisterValidatorsRequest(baseEndpoint, okHttpClient, false);
+    final SchemaDefinitions schemaDefinitions = spec.getGenesisSchemaDefinitions();
+    this.createAttestationDataRequest =
+        new CreateAttestationDataRequest(baseEndpoint, okHttpClient, preferSszAttestationEncoding);
+    this.sendSignedAttestationsRequest =
+        new SubmitDataRequest<>(
+            baseEndpoint,
+            okHttpClient,
+            ValidatorApiMethod.SEND_SIGNED_ATTESTATION,
+            schemaDefinitions.getAttestationListSchema(),
+            preferSszAttestationEncoding);
+    this.sendAggregateAndProofsRequest =
+        new SubmitDataRequest<>(
+            baseEndpoint,
+            okHttpClient,
+            ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOF,
+            schemaDefinitions.getSignedAggregateAndProofListSchema(),
+            preferSszAttestationEncoding);
   }
 
   public SyncingStatus getSyncingStatus() {
@@ -85,6 +115,20 @@ public class OkHttpValidatorTypeDefClient {
     return createBlockRequest.createUnsignedBlock(randaoReveal, graffiti);
   }
 
+  public Optional<AttestationData> createAttestationData(
+      final UInt64 slot, final int committeeIndex) {
+    return createAttestationDataRequest.createAttestationData(slot, committeeIndex);
+  }
+
+  public List<SubmitDataError> sendSignedAttestations(final List<Attestation> attestations) {
+    return sendSignedAttestationsRequest.submit(attestations);
+  }
+
+  public List<SubmitDataError> sendAggregateAndProofs(
+      final List<SignedAggregateAndProof> aggregateAndProofs) {
+    return sendAggregateAndProofsRequest.submit(aggregateAndProofs);
+  }
+
   public void registerValidators(
       final SszList<SignedValidatorRegistration> validatorRegistrations) {
     registerValidatorsRequest.registerValidators(validatorRegistrations);
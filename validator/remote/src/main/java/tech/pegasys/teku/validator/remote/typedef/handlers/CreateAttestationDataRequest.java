@@ -0,0 +1,95 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_ATTESTATION_DATA;
+
+import com.google.common.net.MediaType;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
+
+public class CreateAttestationDataRequest extends AbstractTypeDefRequest {
+
+  private static final DeserializableTypeDefinition<GetAttestationDataResponse>
+      ATTESTATION_DATA_RESPONSE =
+          DeserializableTypeDefinition.object(GetAttestationDataResponse.class)
+              .initializer(GetAttestationDataResponse::new)
+              .withField(
+                  "data",
+                  AttestationData.SSZ_SCHEMA.getJsonTypeDefinition(),
+                  GetAttestationDataResponse::getData,
+                  GetAttestationDataResponse::setData)
+              .build();
+
+  private final boolean preferSszEncoding;
+  private final ResponseHandler<AttestationData> responseHandler =
+      new ResponseHandler<AttestationData>().withHandler(SC_OK, this::handleAttestationDataResult);
+
+  public CreateAttestationDataRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final boolean preferSszEncoding) {
+    super(baseEndpoint, okHttpClient);
+    this.preferSszEncoding = preferSszEncoding;
+  }
+
+  public Optional<AttestationData> createAttestationData(
+      final UInt64 slot, final int committeeIndex) {
+    final Map<String, String> queryParams =
+        Map.of("slot", slot.toString(), "committee_index", String.valueOf(committeeIndex));
+    final Map<String, String> headers = new HashMap<>();
+    if (preferSszEncoding) {
+      // application/octet-stream is preferred, but will accept application/json
+      headers.put("Accept", "application/octet-stream;q=0.9, application/json;q=0.4");
+    }
+    return get(GET_ATTESTATION_DATA, Map.of(), queryParams, headers, responseHandler);
+  }
+
+  private Optional<AttestationData> handleAttestationDataResult(
+      final Request request, final Response response) throws IOException {
+    final String responseContentType = response.header("Content-Type");
+    if (responseContentType != null
+        && MediaType.parse(responseContentType).is(MediaType.OCTET_STREAM)) {
+      return Optional.of(
+          AttestationData.SSZ_SCHEMA.sszDeserialize(Bytes.wrap(response.body().bytes())));
+    }
+    return Optional.of(
+        JsonUtil.parse(response.body().string(), ATTESTATION_DATA_RESPONSE).getData());
+  }
+
+  private static class GetAttestationDataResponse {
+    private AttestationData data;
+
+    public AttestationData getData() {
+      return data;
+    }
+
+    public void setData(final AttestationData data) {
+      this.data = data;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static java.util.Collections.emptyList;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT64_TYPE;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.validator.api.SubmitDataError;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
+
+/**
+ * Submits a list of signed objects to the beacon node, such as attestations or aggregates, and
+ * returns any objects the beacon node rejected.
+ *
+ * <p>When SSZ is preferred the list is sent as {@code application/octet-stream}. If the beacon
+ * node doesn't support that, the request is repeated as JSON and JSON is used from then on.
+ */
+public class SubmitDataRequest<T extends SszData> extends AbstractTypeDefRequest {
+
+  private static final DeserializableTypeDefinition<SubmitDataError> SUBMIT_DATA_ERROR_TYPE =
+      DeserializableTypeDefinition.object(SubmitDataError.class, SubmitDataErrorBuilder.class)
+          .initializer(SubmitDataErrorBuilder::new)
+          .finisher(SubmitDataErrorBuilder::build)
+          .withField("index", UINT64_TYPE, SubmitDataError::getIndex, SubmitDataErrorBuilder::index)
+          .withField(
+              "message", STRING_TYPE, SubmitDataError::getMessage, SubmitDataErrorBuilder::message)
+          .build();
+
+  private static final DeserializableTypeDefinition<FailureResponse> FAILURE_RESPONSE_TYPE =
+      DeserializableTypeDefinition.object(FailureResponse.class)
+          .initializer(FailureResponse::new)
+          .withField(
+              "message", STRING_TYPE, FailureResponse::getMessage, FailureResponse::setMessage)
+          .withOptionalField(
+              "failures",
+              DeserializableTypeDefinition.listOf(SUBMIT_DATA_ERROR_TYPE),
+              FailureResponse::getFailures,
+              FailureResponse::setFailures)
+          .build();
+
+  private final ValidatorApiMethod apiMethod;
+  private final SszListSchema<T, ?> listSchema;
+  private final DeserializableTypeDefinition<List<T>> jsonListType;
+  private final AtomicBoolean preferSszEncoding;
+  private final ResponseHandler<List<SubmitDataError>> jsonResponseHandler =
+      new ResponseHandler<List<SubmitDataError>>()
+          .withHandler(SC_BAD_REQUEST, this::handleSubmitDataFailures);
+  private final ResponseHandler<List<SubmitDataError>> sszResponseHandler =
+      new ResponseHandler<List<SubmitDataError>>()
+          .withHandler(SC_BAD_REQUEST, this::handleSubmitDataFailures)
+          .withHandler(SC_UNSUPPORTED_MEDIA_TYPE, this::handleUnsupportedSszRequest);
+
+  public SubmitDataRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final ValidatorApiMethod apiMethod,
+      final SszListSchema<T, ?> listSchema,
+      final boolean preferSszEncoding) {
+    super(baseEndpoint, okHttpClient);
+    this.apiMethod = apiMethod;
+    this.listSchema = listSchema;
+    this.jsonListType =
+        DeserializableTypeDefinition.listOf(listSchema.getElementSchema().getJsonTypeDefinition());
+    this.preferSszEncoding = new AtomicBoolean(preferSszEncoding);
+  }
+
+  public List<SubmitDataError> submit(final List<T> data) {
+    if (preferSszEncoding.get()) {
+      final Optional<List<SubmitDataError>> result =
+          postOctetStream(
+              apiMethod,
+              Collections.emptyMap(),
+              listSchema.createFromElements(data).sszSerialize().toArrayUnsafe(),
+              sszResponseHandler);
+      if (preferSszEncoding.get()) {
+        return result.orElse(emptyList());
+      }
+    }
+    return postJson(apiMethod, Collections.emptyMap(), data, jsonListType, jsonResponseHandler)
+        .orElse(emptyList());
+  }
+
+  private Optional<List<SubmitDataError>> handleSubmitDataFailures(
+      final Request request, final Response response) throws IOException {
+    final FailureResponse failureResponse =
+        JsonUtil.parse(response.body().string(), FAILURE_RESPONSE_TYPE);
+    if (failureResponse.getFailures().isEmpty()) {
+      throw new IllegalArgumentException(
+          "Invalid params response from Beacon Node API (url = "
+              + request.url()
+              + ", message = "
+              + failureResponse.getMessage()
+              + ")");
+    }
+    return failureResponse.getFailures();
+  }
+
+  private Optional<List<SubmitDataError>> handleUnsupportedSszRequest(
+      final Request request, final Response response) {
+    preferSszEncoding.set(false);
+    return Optional.empty();
+  }
+
+  private static class FailureResponse {
+    private String message;
+    private Optional<List<SubmitDataError>> failures = Optional.empty();
+
+    public String getMessage() {
+      return message;
+    }
+
+    public void setMessage(final String message) {
+      this.message = message;
+    }
+
+    public Optional<List<SubmitDataError>> getFailures() {
+      return failures;
+    }
+
+    public void setFailures(final Optional<List<SubmitDataError>> failures) {
+      this.failures = failures;
+    }
+  }
+
+  private static class SubmitDataErrorBuilder {
+    private UInt64 index;
+    private String message;
+
+    public void index(final UInt64 index) {
+      this.index = index;
+    }
+
+    public void message(final String message) {
+      this.message = message;
+    }
+
+    public SubmitDataError build() {
+      return new SubmitDataError(index, message);
+    }
+  }
+}
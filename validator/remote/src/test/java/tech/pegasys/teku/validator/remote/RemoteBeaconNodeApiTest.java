@@ -42,6 +42,7 @@ class RemoteBeaconNodeApiTest {
                     spec,
                     false,
                     false,
+                    false,
                     true,
                     Duration.ofMillis(1)))
         .hasMessageContaining("Failed to convert remote api endpoint");
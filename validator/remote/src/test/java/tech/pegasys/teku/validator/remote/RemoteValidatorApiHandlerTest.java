@@ -26,7 +26,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
-import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.ssz.SszDataAssert.assertThatSszData;
 import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 import static tech.pegasys.teku.validator.remote.RemoteValidatorApiHandler.MAX_PUBLIC_KEY_BATCH_SIZE;
@@ -44,8 +43,6 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import tech.pegasys.teku.api.response.v1.beacon.PostDataFailure;
-import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.response.v1.validator.GetProposerDutiesResponse;
@@ -330,7 +327,7 @@ class RemoteValidatorApiHandlerTest {
 
   @Test
   public void createAttestationData_WhenNone_ReturnsEmpty() {
-    when(apiClient.createAttestationData(any(), anyInt())).thenReturn(Optional.empty());
+    when(typeDefClient.createAttestationData(any(), anyInt())).thenReturn(Optional.empty());
 
     SafeFuture<Optional<AttestationData>> future = apiHandler.createAttestationData(UInt64.ONE, 0);
 
@@ -340,11 +337,9 @@ class RemoteValidatorApiHandlerTest {
   @Test
   public void createAttestationData_WhenFound_ReturnsAttestation() {
     final Attestation attestation = dataStructureUtil.randomAttestation();
-    final tech.pegasys.teku.api.schema.AttestationData schemaAttestationData =
-        new tech.pegasys.teku.api.schema.AttestationData(attestation.getData());
 
-    when(apiClient.createAttestationData(eq(UInt64.ONE), eq(0)))
-        .thenReturn(Optional.of(schemaAttestationData));
+    when(typeDefClient.createAttestationData(eq(UInt64.ONE), eq(0)))
+        .thenReturn(Optional.of(attestation.getData()));
 
     SafeFuture<Optional<AttestationData>> future = apiHandler.createAttestationData(UInt64.ONE, 0);
 
@@ -354,28 +349,15 @@ class RemoteValidatorApiHandlerTest {
   @Test
   public void sendSignedAttestation_InvokeApiWithCorrectRequest() {
     final Attestation attestation = dataStructureUtil.randomAttestation();
-
-    final PostDataFailureResponse failureResponse =
-        new PostDataFailureResponse(
-            SC_BAD_REQUEST, "Oh no", List.of(new PostDataFailure(UInt64.ZERO, "Bad")));
-    when(apiClient.sendSignedAttestations(any())).thenReturn(Optional.of(failureResponse));
-
-    final tech.pegasys.teku.api.schema.Attestation schemaAttestation =
-        new tech.pegasys.teku.api.schema.Attestation(attestation);
-
-    @SuppressWarnings("unchecked")
-    ArgumentCaptor<List<tech.pegasys.teku.api.schema.Attestation>> argumentCaptor =
-        ArgumentCaptor.forClass(List.class);
+    final List<SubmitDataError> errors = List.of(new SubmitDataError(UInt64.ZERO, "Bad"));
+    when(typeDefClient.sendSignedAttestations(any())).thenReturn(errors);
 
     final SafeFuture<List<SubmitDataError>> result =
         apiHandler.sendSignedAttestations(List.of(attestation));
     asyncRunner.executeQueuedActions();
 
-    verify(apiClient).sendSignedAttestations(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue())
-        .usingRecursiveComparison()
-        .isEqualTo(List.of(schemaAttestation));
-    assertThat(result).isCompletedWithValue(List.of(new SubmitDataError(UInt64.ZERO, "Bad")));
+    verify(typeDefClient).sendSignedAttestations(List.of(attestation));
+    assertThat(result).isCompletedWithValue(errors);
   }
 
   @Test
@@ -455,7 +437,6 @@ class RemoteValidatorApiHandlerTest {
     assertThatSszData(unwrapToValue(future)).isEqualByAllMeansTo(attestation);
   }
 
-  @SuppressWarnings("unchecked")
   @Test
   public void sendsAggregateAndProof_InvokeApiWithCorrectRequest() {
     final AggregateAndProof aggregateAndProof = dataStructureUtil.randomAggregateAndProof();
@@ -464,21 +445,13 @@ class RemoteValidatorApiHandlerTest {
         spec.getGenesisSchemaDefinitions()
             .getSignedAggregateAndProofSchema()
             .create(aggregateAndProof, signature);
-
-    tech.pegasys.teku.api.schema.SignedAggregateAndProof schemaSignedAggAndProof =
-        new tech.pegasys.teku.api.schema.SignedAggregateAndProof(signedAggregateAndProof);
-
-    ArgumentCaptor<List<tech.pegasys.teku.api.schema.SignedAggregateAndProof>> argumentCaptor =
-        ArgumentCaptor.forClass(List.class);
+    when(typeDefClient.sendAggregateAndProofs(any())).thenReturn(emptyList());
 
     final SafeFuture<List<SubmitDataError>> result =
         apiHandler.sendAggregateAndProofs(List.of(signedAggregateAndProof));
     asyncRunner.executeQueuedActions();
 
-    verify(apiClient).sendAggregateAndProofs(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue())
-        .usingRecursiveComparison()
-        .isEqualTo(List.of(schemaSignedAggAndProof));
+    verify(typeDefClient).sendAggregateAndProofs(List.of(signedAggregateAndProof));
     assertThat(result).isCompletedWithValue(emptyList());
   }
 